@@ -0,0 +1,115 @@
+package net.bmahe.genetics4j.benchmarks.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.EASystem;
+import net.bmahe.genetics4j.core.EASystemFactory;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.checkpoint.Checkpoint;
+import net.bmahe.genetics4j.core.chromosomes.DoubleChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.MultiPointArithmetic;
+import net.bmahe.genetics4j.core.spec.mutation.CreepMutation;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+/**
+ * Throughput of a full {@link EASystem} generation: parent selection, combination, mutation, evaluation and
+ * replacement.
+ * <p>
+ * Each invocation resumes the same evaluated population from a {@link Checkpoint} and stops after one generation, so
+ * that neither the initial population creation nor its evaluation are measured. The fitness is a cheap sphere
+ * function so that the operators dominate.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code populationSize}: size of the population</li>
+ * <li>{@code chromosomeLength}: number of alleles of each chromosome</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EASystemGenerationBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int populationSize;
+
+	@Param({ "16", "256" })
+	public int chromosomeLength;
+
+	private EASystem<Double> eaSystem;
+	private Checkpoint<Double> checkpoint;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final DoubleChromosomeSpec chromosomeSpec = DoubleChromosomeSpec.of(chromosomeLength, -10.0d, 10.0d);
+
+		final EAConfiguration<Double> eaConfiguration = new EAConfiguration.Builder<Double>()
+				.chromosomeSpecs(chromosomeSpec)
+				.parentSelectionPolicy(Tournament.of(3))
+				.combinationPolicy(MultiPointArithmetic.of(2))
+				.mutationPolicies(RandomMutation.of(0.1), CreepMutation.ofNormal(0.2, 0.0, 1.0))
+				.fitness(genotype -> {
+					final DoubleChromosome chromosome = genotype.getChromosome(0, DoubleChromosome.class);
+
+					double sum = 0.0d;
+					for (int i = 0; i < chromosome.getNumAlleles(); i++) {
+						final double allele = chromosome.getAllele(i);
+						sum += allele * allele;
+					}
+					return -sum;
+				})
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.randomGenerator(new SplittableRandom(42))
+				.populationSize(populationSize)
+				.build();
+
+		eaSystem = EASystemFactory.from(eaConfiguration, eaExecutionContext);
+
+		final List<Genotype> genotypes = new ArrayList<>(populationSize);
+		final var chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+		for (int i = 0; i < populationSize; i++) {
+			genotypes.add(new Genotype(chromosomeFactory.generate(chromosomeSpec)));
+		}
+		final List<Double> fitnesses = eaSystem.evaluateOnce(0, genotypes);
+
+		checkpoint = new Checkpoint<>(0, genotypes, fitnesses, Optional.empty());
+	}
+
+	@Benchmark
+	public EvolutionResult<Double> generation() {
+		return eaSystem.resume(checkpoint);
+	}
+}
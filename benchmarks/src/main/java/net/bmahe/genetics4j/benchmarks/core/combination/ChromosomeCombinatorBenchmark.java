@@ -0,0 +1,176 @@
+package net.bmahe.genetics4j.benchmarks.core.combination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactory;
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinatorResolver;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.FloatChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.CombinationPolicy;
+import net.bmahe.genetics4j.core.spec.combination.EdgeRecombinationCrossover;
+import net.bmahe.genetics4j.core.spec.combination.MultiPointArithmetic;
+import net.bmahe.genetics4j.core.spec.combination.MultiPointCrossover;
+import net.bmahe.genetics4j.core.spec.combination.OrderCrossover;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointArithmetic;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+/**
+ * Throughput of every {@link ChromosomeCombinator} shipped with core, when combining a full generation worth of
+ * parent pairs.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code combinator}: chromosome type followed by the combination policy. Integer chromosomes are permutations so
+ * that order crossover and edge recombination crossover can be applied to them</li>
+ * <li>{@code populationSize}: number of parents, combined as {@code populationSize / 2} pairs</li>
+ * <li>{@code chromosomeLength}: number of alleles of each chromosome</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChromosomeCombinatorBenchmark {
+
+	@Param({ "bitSinglePointCrossover", "intSinglePointCrossover", "doubleSinglePointCrossover",
+			"floatSinglePointCrossover", "bitMultiPointCrossover", "intMultiPointCrossover", "doubleMultiPointCrossover",
+			"floatMultiPointCrossover", "intSinglePointArithmetic", "doubleSinglePointArithmetic",
+			"floatSinglePointArithmetic", "intMultiPointArithmetic", "doubleMultiPointArithmetic",
+			"floatMultiPointArithmetic", "intOrderCrossover", "intEdgeRecombinationCrossover" })
+	public String combinator;
+
+	@Param({ "100", "1000" })
+	public int populationSize;
+
+	@Param({ "16", "256", "4096" })
+	public int chromosomeLength;
+
+	private EAConfiguration<Double> eaConfiguration;
+	private ChromosomeCombinator<Double> chromosomeCombinator;
+	private List<Chromosome> parents;
+	private List<Double> parentFitnesses;
+
+	private ChromosomeSpec chromosomeSpec() {
+		if (combinator.startsWith("bit")) {
+			return BitChromosomeSpec.of(chromosomeLength);
+		} else if (combinator.startsWith("int")) {
+			return IntChromosomeSpec.of(chromosomeLength, 0, chromosomeLength - 1);
+		} else if (combinator.startsWith("double")) {
+			return DoubleChromosomeSpec.of(chromosomeLength, -10.0d, 10.0d);
+		} else if (combinator.startsWith("float")) {
+			return FloatChromosomeSpec.of(chromosomeLength, -10.0f, 10.0f);
+		}
+		throw new IllegalArgumentException("Unknown chromosome type: " + combinator);
+	}
+
+	private CombinationPolicy combinationPolicy() {
+		if (combinator.endsWith("SinglePointCrossover")) {
+			return SinglePointCrossover.build();
+		} else if (combinator.endsWith("MultiPointCrossover")) {
+			return MultiPointCrossover.of(3);
+		} else if (combinator.endsWith("SinglePointArithmetic")) {
+			return SinglePointArithmetic.build();
+		} else if (combinator.endsWith("MultiPointArithmetic")) {
+			return MultiPointArithmetic.of(3);
+		} else if (combinator.endsWith("OrderCrossover")) {
+			return OrderCrossover.build();
+		} else if (combinator.endsWith("EdgeRecombinationCrossover")) {
+			return EdgeRecombinationCrossover.build();
+		}
+		throw new IllegalArgumentException("Unknown combination policy: " + combinator);
+	}
+
+	private static IntChromosome permutation(final RandomGenerator randomGenerator, final int length) {
+		final int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = i;
+		}
+		for (int i = length - 1; i > 0; i--) {
+			final int j = randomGenerator.nextInt(i + 1);
+			final int tmp = values[i];
+			values[i] = values[j];
+			values[j] = tmp;
+		}
+		return new IntChromosome(length, 0, length - 1, values);
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final ChromosomeSpec chromosomeSpec = chromosomeSpec();
+		final CombinationPolicy combinationPolicy = combinationPolicy();
+
+		eaConfiguration = new EAConfiguration.Builder<Double>().chromosomeSpecs(chromosomeSpec)
+				.parentSelectionPolicy(Tournament.of(3))
+				.combinationPolicy(combinationPolicy)
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.randomGenerator(randomGenerator)
+				.populationSize(populationSize)
+				.build();
+
+		chromosomeCombinator = new ChromosomeCombinatorResolver<>(eaExecutionContext)
+				.resolve(combinationPolicy, chromosomeSpec);
+
+		final ChromosomeFactory<? extends Chromosome> chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+
+		parents = new ArrayList<>(populationSize);
+		parentFitnesses = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			if (chromosomeSpec instanceof IntChromosomeSpec) {
+				parents.add(permutation(randomGenerator, chromosomeLength));
+			} else {
+				parents.add(chromosomeFactory.generate(chromosomeSpec));
+			}
+			parentFitnesses.add(randomGenerator.nextDouble());
+		}
+	}
+
+	@Benchmark
+	public void combine(final Blackhole blackhole) {
+		for (int i = 0; i + 1 < populationSize; i += 2) {
+			blackhole.consume(chromosomeCombinator.combine(eaConfiguration,
+					parents.get(i),
+					parentFitnesses.get(i),
+					parents.get(i + 1),
+					parentFitnesses.get(i + 1)));
+		}
+	}
+}
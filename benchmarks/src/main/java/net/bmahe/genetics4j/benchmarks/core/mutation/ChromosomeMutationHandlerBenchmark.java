@@ -0,0 +1,131 @@
+package net.bmahe.genetics4j.benchmarks.core.mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactory;
+import net.bmahe.genetics4j.core.mutation.chromosome.ChromosomeMutationHandler;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.FloatChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.mutation.CreepMutation;
+import net.bmahe.genetics4j.core.spec.mutation.MutationPolicy;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.mutation.SwapMutation;
+
+/**
+ * Throughput of every {@link ChromosomeMutationHandler} shipped with core, when mutating one chromosome per
+ * individual of a population.
+ * <p>
+ * Handlers are looked up in the default chromosome mutation handlers of the execution context, as the mutation
+ * policy handlers do.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code mutationHandler}: chromosome type followed by the mutation policy</li>
+ * <li>{@code populationSize}: number of chromosomes mutated per invocation</li>
+ * <li>{@code chromosomeLength}: number of alleles of each chromosome</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChromosomeMutationHandlerBenchmark {
+
+	@Param({ "bitRandom", "intRandom", "doubleRandom", "floatRandom", "bitSwap", "intSwap", "doubleSwap", "floatSwap",
+			"intCreep", "doubleCreep", "floatCreep" })
+	public String mutationHandler;
+
+	@Param({ "100", "1000" })
+	public int populationSize;
+
+	@Param({ "16", "256", "4096" })
+	public int chromosomeLength;
+
+	private MutationPolicy mutationPolicy;
+	private ChromosomeMutationHandler<? extends Chromosome> chromosomeMutationHandler;
+	private List<Chromosome> chromosomes;
+
+	private ChromosomeSpec chromosomeSpec() {
+		if (mutationHandler.startsWith("bit")) {
+			return BitChromosomeSpec.of(chromosomeLength);
+		} else if (mutationHandler.startsWith("int")) {
+			return IntChromosomeSpec.of(chromosomeLength, 0, 100);
+		} else if (mutationHandler.startsWith("double")) {
+			return DoubleChromosomeSpec.of(chromosomeLength, -10.0d, 10.0d);
+		} else if (mutationHandler.startsWith("float")) {
+			return FloatChromosomeSpec.of(chromosomeLength, -10.0f, 10.0f);
+		}
+		throw new IllegalArgumentException("Unknown chromosome type: " + mutationHandler);
+	}
+
+	private MutationPolicy mutationPolicy() {
+		if (mutationHandler.endsWith("Random")) {
+			return RandomMutation.of(0.1);
+		} else if (mutationHandler.endsWith("Swap")) {
+			return SwapMutation.of(0.1, 2, false);
+		} else if (mutationHandler.endsWith("Creep")) {
+			return CreepMutation.ofNormal(0.1, 0.0, 1.0);
+		}
+		throw new IllegalArgumentException("Unknown mutation policy: " + mutationHandler);
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ChromosomeSpec chromosomeSpec = chromosomeSpec();
+		mutationPolicy = mutationPolicy();
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.randomGenerator(new SplittableRandom(42))
+				.populationSize(populationSize)
+				.build();
+
+		chromosomeMutationHandler = eaExecutionContext.chromosomeMutationPolicyHandlers()
+				.stream()
+				.filter(handler -> handler.canHandle(mutationPolicy, chromosomeSpec))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException(
+						"Could not find a chromosome mutation handler for " + mutationPolicy + " and " + chromosomeSpec));
+
+		final ChromosomeFactory<? extends Chromosome> chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+
+		chromosomes = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			chromosomes.add(chromosomeFactory.generate(chromosomeSpec));
+		}
+	}
+
+	@Benchmark
+	public void mutate(final Blackhole blackhole) {
+		for (final Chromosome chromosome : chromosomes) {
+			blackhole.consume(chromosomeMutationHandler.mutate(mutationPolicy, chromosome));
+		}
+	}
+}
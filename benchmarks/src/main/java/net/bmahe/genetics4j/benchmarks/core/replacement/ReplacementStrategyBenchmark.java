@@ -0,0 +1,154 @@
+package net.bmahe.genetics4j.benchmarks.core.replacement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactory;
+import net.bmahe.genetics4j.core.replacement.DeleteNLastReplacementStrategyHandler;
+import net.bmahe.genetics4j.core.replacement.ReplacementStrategyImplementor;
+import net.bmahe.genetics4j.core.selection.SelectionPolicyHandlerResolver;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.replacement.DeleteNLast;
+import net.bmahe.genetics4j.core.spec.replacement.Elitism;
+import net.bmahe.genetics4j.core.spec.replacement.GenerationalReplacement;
+import net.bmahe.genetics4j.core.spec.replacement.ReplacementStrategy;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+/**
+ * Throughput of every {@link ReplacementStrategyImplementor} shipped with core, when building the next generation out
+ * of a population and as many offsprings.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code replacementStrategy}: the replacement strategy to resolve an implementor for</li>
+ * <li>{@code populationSize}: size of the population, of the offsprings and of the next generation</li>
+ * <li>{@code chromosomeLength}: number of alleles of each chromosome</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplacementStrategyBenchmark {
+
+	@Param({ "elitism", "generational", "deleteNLast" })
+	public String replacementStrategy;
+
+	@Param({ "1000", "10000", "100000" })
+	public int populationSize;
+
+	@Param({ "16", "256" })
+	public int chromosomeLength;
+
+	private EAConfiguration<Double> eaConfiguration;
+	private ReplacementStrategyImplementor<Double> replacementStrategyImplementor;
+	private List<Genotype> population;
+	private List<Double> populationScores;
+	private List<Genotype> offsprings;
+	private List<Double> offspringScores;
+
+	private ReplacementStrategy replacementStrategy() {
+		return switch (replacementStrategy) {
+			case "elitism" -> Elitism.builder()
+					.offspringRatio(0.95)
+					.offspringSelectionPolicy(Tournament.of(3))
+					.survivorSelectionPolicy(Tournament.of(3))
+					.build();
+			case "generational" -> GenerationalReplacement.builder()
+					.offspringSelectionPolicy(Tournament.of(3))
+					.build();
+			case "deleteNLast" -> DeleteNLast.of(0.05, Tournament.of(3));
+			default -> throw new IllegalArgumentException("Unknown replacement strategy: " + replacementStrategy);
+		};
+	}
+
+	private List<Genotype> generateGenotypes(final ChromosomeFactory<? extends Chromosome> chromosomeFactory,
+			final IntChromosomeSpec chromosomeSpec) {
+		final List<Genotype> genotypes = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			genotypes.add(new Genotype(chromosomeFactory.generate(chromosomeSpec)));
+		}
+		return genotypes;
+	}
+
+	private List<Double> generateScores(final RandomGenerator randomGenerator) {
+		final List<Double> scores = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			scores.add(randomGenerator.nextDouble());
+		}
+		return scores;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final IntChromosomeSpec chromosomeSpec = IntChromosomeSpec.of(chromosomeLength, 0, 100);
+		final ReplacementStrategy strategy = replacementStrategy();
+
+		eaConfiguration = new EAConfiguration.Builder<Double>().chromosomeSpecs(chromosomeSpec)
+				.parentSelectionPolicy(Tournament.of(3))
+				.combinationPolicy(SinglePointCrossover.build())
+				.replacementStrategy(strategy)
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.randomGenerator(randomGenerator)
+				.populationSize(populationSize)
+				// DeleteNLast is not part of the default replacement strategy handlers
+				.addReplacementStrategyHandlerFactories(context -> new DeleteNLastReplacementStrategyHandler<>())
+				.build();
+
+		final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<>(eaExecutionContext);
+		replacementStrategyImplementor = eaExecutionContext.replacementStrategyHandlers()
+				.stream()
+				.filter(handler -> handler.canHandle(strategy))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException(
+						"Could not find a replacement strategy handler for " + strategy))
+				.resolve(eaExecutionContext, eaConfiguration, selectionPolicyHandlerResolver, strategy);
+
+		final ChromosomeFactory<? extends Chromosome> chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+
+		population = generateGenotypes(chromosomeFactory, chromosomeSpec);
+		populationScores = generateScores(randomGenerator);
+		offsprings = generateGenotypes(chromosomeFactory, chromosomeSpec);
+		offspringScores = generateScores(randomGenerator);
+	}
+
+	@Benchmark
+	public Population<Double> select() {
+		return replacementStrategyImplementor
+				.select(eaConfiguration, populationSize, population, populationScores, offsprings, offspringScores);
+	}
+}
@@ -0,0 +1,147 @@
+package net.bmahe.genetics4j.benchmarks.core.selection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.selection.SelectionPolicyHandler;
+import net.bmahe.genetics4j.core.selection.SelectionPolicyHandlerResolver;
+import net.bmahe.genetics4j.core.selection.Selector;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.DoubleTournament;
+import net.bmahe.genetics4j.core.spec.selection.MultiSelections;
+import net.bmahe.genetics4j.core.spec.selection.MultiTournaments;
+import net.bmahe.genetics4j.core.spec.selection.ProportionalTournament;
+import net.bmahe.genetics4j.core.spec.selection.RandomSelection;
+import net.bmahe.genetics4j.core.spec.selection.RouletteWheel;
+import net.bmahe.genetics4j.core.spec.selection.SelectAll;
+import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.core.spec.selection.StochasticUniversalSampling;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+/**
+ * Throughput of the {@link Selector} of every {@link SelectionPolicyHandler} shipped with core, when selecting a full
+ * generation worth of parents.
+ * <p>
+ * Selectors are resolved through the default handlers of the execution context, as {@code EASystemFactory} does.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code selectionPolicy}: the selection policy to resolve a selector for</li>
+ * <li>{@code populationSize}: number of individuals to select from, and to select</li>
+ * <li>{@code chromosomeLength}: length of the chromosome, which only matters to the parsimony comparators</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectionPolicyBenchmark {
+
+	@Param({ "tournament", "doubleTournament", "proportionalTournament", "multiTournaments", "rouletteWheel",
+			"stochasticUniversalSampling", "random", "selectAll", "multiSelections" })
+	public String selectionPolicy;
+
+	@Param({ "1000", "10000", "100000" })
+	public int populationSize;
+
+	@Param({ "16", "256" })
+	public int chromosomeLength;
+
+	private EAConfiguration<Double> eaConfiguration;
+	private Selector<Double> selector;
+	private List<Genotype> population;
+	private List<Double> fitnessScore;
+
+	private SelectionPolicy selectionPolicy() {
+		// Favor individuals with the smallest first allele
+		final Comparator<Individual<Double>> parsimonyComparator = Comparator
+				.comparingInt((Individual<Double> individual) -> individual.genotype()
+						.getChromosome(0, IntChromosome.class)
+						.getAllele(0))
+				.reversed();
+
+		return switch (selectionPolicy) {
+			case "tournament" -> Tournament.of(3);
+			case "doubleTournament" -> DoubleTournament.of(Tournament.of(3), parsimonyComparator, 1.4);
+			case "proportionalTournament" -> ProportionalTournament
+					.of(3, 0.7, Tournament.fitnessComparator(), parsimonyComparator);
+			case "multiTournaments" -> MultiTournaments.<Double>of(Tournament.of(2), Tournament.of(5));
+			case "rouletteWheel" -> RouletteWheel.build();
+			case "stochasticUniversalSampling" -> StochasticUniversalSampling.build();
+			case "random" -> RandomSelection.build();
+			case "selectAll" -> SelectAll.build();
+			case "multiSelections" -> MultiSelections.of(Tournament.of(3), RouletteWheel.build());
+			default -> throw new IllegalArgumentException("Unknown selection policy: " + selectionPolicy);
+		};
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final SelectionPolicy policy = selectionPolicy();
+
+		eaConfiguration = new EAConfiguration.Builder<Double>()
+				.chromosomeSpecs(IntChromosomeSpec.of(chromosomeLength, 0, 100))
+				.parentSelectionPolicy(policy)
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.randomGenerator(randomGenerator)
+				.populationSize(populationSize)
+				.build();
+
+		final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<>(eaExecutionContext);
+		selector = selectionPolicyHandlerResolver.resolve(policy)
+				.resolve(eaExecutionContext, eaConfiguration, selectionPolicyHandlerResolver, policy);
+
+		population = new ArrayList<>(populationSize);
+		fitnessScore = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			final int[] values = new int[chromosomeLength];
+			for (int j = 0; j < chromosomeLength; j++) {
+				values[j] = randomGenerator.nextInt(100);
+			}
+
+			population.add(new Genotype(new IntChromosome(chromosomeLength, 0, 100, values)));
+			fitnessScore.add(randomGenerator.nextDouble());
+		}
+	}
+
+	@Benchmark
+	public Population<Double> select() {
+		return selector.select(eaConfiguration, populationSize, population, fitnessScore);
+	}
+}
@@ -0,0 +1,119 @@
+package net.bmahe.genetics4j.benchmarks.core.selection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.DoubleFitnessList;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.selection.TournamentSelector;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+/**
+ * Throughput of {@link TournamentSelector} when selecting a full generation worth of parents.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code fitnessStorage}: {@code boxed} uses a regular {@code List<Double>} while {@code primitive} uses a
+ * {@link DoubleFitnessList}</li>
+ * <li>{@code comparator}: {@code default} uses the default fitness based comparator, which enables the index based
+ * implementation, while {@code custom} uses an equivalent comparator and goes through {@link Individual}s</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TournamentSelectorBenchmark {
+
+	/**
+	 * Genotypes are shared across the population as the selection never looks at them
+	 */
+	private static final int NUM_DISTINCT_GENOTYPES = 1_024;
+
+	@Param({ "1000", "10000", "100000", "1000000" })
+	public int populationSize;
+
+	@Param({ "3" })
+	public int numCandidates;
+
+	@Param({ "boxed", "primitive" })
+	public String fitnessStorage;
+
+	@Param({ "default", "custom" })
+	public String comparator;
+
+	private EAConfiguration<Double> eaConfiguration;
+	private TournamentSelector<Double> tournamentSelector;
+	private List<Genotype> population;
+	private List<Double> fitnessScore;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+
+		final Tournament<Double> tournament = switch (comparator) {
+			case "default" -> Tournament.of(numCandidates);
+			case "custom" -> Tournament.of(numCandidates,
+					Comparator.comparing((Individual<Double> individual) -> individual.fitness()));
+			default -> throw new IllegalArgumentException("Unknown comparator: " + comparator);
+		};
+
+		eaConfiguration = new EAConfiguration.Builder<Double>().chromosomeSpecs(IntChromosomeSpec.of(4, 0, 100))
+				.parentSelectionPolicy(tournament)
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		tournamentSelector = new TournamentSelector<>(tournament, randomGenerator);
+
+		final List<Genotype> genotypes = new ArrayList<>(NUM_DISTINCT_GENOTYPES);
+		for (int i = 0; i < NUM_DISTINCT_GENOTYPES; i++) {
+			genotypes.add(new Genotype(new IntChromosome(4, 0, 100, new int[] { i % 100, 1, 2, 3 })));
+		}
+
+		population = new ArrayList<>(populationSize);
+		fitnessScore = switch (fitnessStorage) {
+			case "boxed" -> new ArrayList<>(populationSize);
+			case "primitive" -> new DoubleFitnessList(populationSize);
+			default -> throw new IllegalArgumentException("Unknown fitness storage: " + fitnessStorage);
+		};
+		for (int i = 0; i < populationSize; i++) {
+			population.add(genotypes.get(i % NUM_DISTINCT_GENOTYPES));
+			fitnessScore.add(randomGenerator.nextDouble());
+		}
+	}
+
+	@Benchmark
+	public Population<Double> select() {
+		return tournamentSelector.select(eaConfiguration, populationSize, population, fitnessScore);
+	}
+}
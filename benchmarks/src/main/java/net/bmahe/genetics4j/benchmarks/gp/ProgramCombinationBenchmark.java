@@ -0,0 +1,112 @@
+package net.bmahe.genetics4j.benchmarks.gp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactory;
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinatorResolver;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+import net.bmahe.genetics4j.gp.spec.GPEAExecutionContexts;
+import net.bmahe.genetics4j.gp.spec.chromosome.ProgramTreeChromosomeSpec;
+import net.bmahe.genetics4j.gp.spec.combination.ProgramRandomCombine;
+
+/**
+ * Throughput of the {@link ProgramRandomCombine} crossover when combining every consecutive pair of a population.
+ * <p>
+ * The combinator is resolved through the handlers registered by {@link GPEAExecutionContexts} and the parents are
+ * generated by its default ramped half and half chromosome factory.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code depth}: maximum depth of the program</li>
+ * <li>{@code populationSize}: number of parents, half as many pairs being combined per invocation</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgramCombinationBenchmark {
+
+	@Param({ "5", "9", "13", "17" })
+	public int depth;
+
+	@Param({ "100" })
+	public int populationSize;
+
+	private EAConfiguration<Double> eaConfiguration;
+	private ChromosomeCombinator<Double> chromosomeCombinator;
+	private List<Chromosome> parents;
+	private List<Double> parentFitnesses;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final ProgramTreeChromosomeSpec chromosomeSpec = ProgramTreeChromosomeSpec
+				.of(SymbolicRegressionPrograms.of(randomGenerator, depth));
+		final ProgramRandomCombine combinationPolicy = ProgramRandomCombine.build();
+
+		eaConfiguration = new EAConfiguration.Builder<Double>().chromosomeSpecs(chromosomeSpec)
+				.parentSelectionPolicy(Tournament.of(3))
+				.combinationPolicy(combinationPolicy)
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final var eaExecutionContextBuilder = GPEAExecutionContexts.<Double>forGP(randomGenerator);
+		EAExecutionContexts.enrichForScalarFitness(eaExecutionContextBuilder);
+		final EAExecutionContext<Double> eaExecutionContext = eaExecutionContextBuilder.populationSize(populationSize)
+				.build();
+
+		chromosomeCombinator = new ChromosomeCombinatorResolver<>(eaExecutionContext)
+				.resolve(combinationPolicy, chromosomeSpec);
+
+		final ChromosomeFactory<? extends Chromosome> chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+
+		parents = new ArrayList<>(populationSize);
+		parentFitnesses = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			parents.add(chromosomeFactory.generate(chromosomeSpec));
+			parentFitnesses.add(randomGenerator.nextDouble());
+		}
+	}
+
+	@Benchmark
+	public void combine(final Blackhole blackhole) {
+		for (int i = 0; i + 1 < populationSize; i += 2) {
+			blackhole.consume(chromosomeCombinator.combine(eaConfiguration,
+					parents.get(i),
+					parentFitnesses.get(i),
+					parents.get(i + 1),
+					parentFitnesses.get(i + 1)));
+		}
+	}
+}
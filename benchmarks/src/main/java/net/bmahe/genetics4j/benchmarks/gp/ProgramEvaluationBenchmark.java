@@ -0,0 +1,79 @@
+package net.bmahe.genetics4j.benchmarks.gp;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.core.chromosomes.TreeNode;
+import net.bmahe.genetics4j.gp.Operation;
+import net.bmahe.genetics4j.gp.program.FullProgramGenerator;
+import net.bmahe.genetics4j.gp.program.Program;
+import net.bmahe.genetics4j.gp.program.ProgramHelper;
+import net.bmahe.genetics4j.gp.utils.ProgramUtils;
+
+/**
+ * Average time of evaluating a program with {@link ProgramUtils#execute(TreeNode, Object[])} over a whole dataset.
+ * <p>
+ * Trees are generated with a {@link FullProgramGenerator} so that the number of nodes only depends on the depth:
+ * since all the functions are binary, a tree of depth {@code d} has {@code 2^d - 1} nodes.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code depth}: depth of the evaluated tree</li>
+ * <li>{@code datasetSize}: number of inputs the tree is evaluated on</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgramEvaluationBenchmark {
+
+	@Param({ "5", "9", "13", "17" })
+	public int depth;
+
+	@Param({ "10", "100", "1000" })
+	public int datasetSize;
+
+	private TreeNode<Operation<?>> root;
+	private Object[][] inputs;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final Program program = SymbolicRegressionPrograms.of(randomGenerator, depth);
+
+		final FullProgramGenerator fullProgramGenerator = new FullProgramGenerator(new ProgramHelper(randomGenerator));
+		root = fullProgramGenerator.generate(program).freeze();
+
+		inputs = new Object[datasetSize][];
+		for (int i = 0; i < datasetSize; i++) {
+			inputs[i] = new Object[] { randomGenerator.nextDouble(-100.0d, 100.0d) };
+		}
+	}
+
+	@Benchmark
+	public void execute(final Blackhole blackhole) {
+		for (final Object[] input : inputs) {
+			blackhole.consume(ProgramUtils.execute(root, input));
+		}
+	}
+}
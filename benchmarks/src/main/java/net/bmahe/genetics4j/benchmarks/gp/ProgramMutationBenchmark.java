@@ -0,0 +1,130 @@
+package net.bmahe.genetics4j.benchmarks.gp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactory;
+import net.bmahe.genetics4j.core.mutation.MutationPolicyHandlerResolver;
+import net.bmahe.genetics4j.core.mutation.Mutator;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.mutation.MutationPolicy;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+import net.bmahe.genetics4j.gp.math.SimplificationRules;
+import net.bmahe.genetics4j.gp.spec.GPEAExecutionContexts;
+import net.bmahe.genetics4j.gp.spec.chromosome.ProgramTreeChromosomeSpec;
+import net.bmahe.genetics4j.gp.spec.combination.ProgramRandomCombine;
+import net.bmahe.genetics4j.gp.spec.mutation.NodeReplacement;
+import net.bmahe.genetics4j.gp.spec.mutation.ProgramApplyRules;
+import net.bmahe.genetics4j.gp.spec.mutation.ProgramRandomMutate;
+import net.bmahe.genetics4j.gp.spec.mutation.TrimTree;
+
+/**
+ * Throughput of the GP mutators when mutating every individual of a population.
+ * <p>
+ * Mutators are resolved through the handlers registered by {@link GPEAExecutionContexts} and the population is
+ * generated by its default ramped half and half chromosome factory. Mutation probabilities are set to 1 so that
+ * every individual is actually mutated.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code mutationPolicy}: the mutation policy to resolve a mutator for. {@code trimTree} trims trees deeper than
+ * half the program depth</li>
+ * <li>{@code depth}: maximum depth of the program</li>
+ * <li>{@code populationSize}: number of individuals mutated per invocation</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgramMutationBenchmark {
+
+	@Param({ "programRandomMutate", "nodeReplacement", "trimTree", "programApplyRules" })
+	public String mutationPolicy;
+
+	@Param({ "5", "9", "13", "17" })
+	public int depth;
+
+	@Param({ "100" })
+	public int populationSize;
+
+	private Mutator mutator;
+	private List<Genotype> population;
+
+	private MutationPolicy mutationPolicy() {
+		return switch (mutationPolicy) {
+			case "programRandomMutate" -> ProgramRandomMutate.of(1.0d);
+			case "nodeReplacement" -> NodeReplacement.of(1.0d);
+			case "trimTree" -> TrimTree.of(Math.max(1, depth / 2));
+			case "programApplyRules" -> ProgramApplyRules.of(SimplificationRules.SIMPLIFY_RULES);
+			default -> throw new IllegalArgumentException("Unknown mutation policy: " + mutationPolicy);
+		};
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final ProgramTreeChromosomeSpec chromosomeSpec = ProgramTreeChromosomeSpec
+				.of(SymbolicRegressionPrograms.of(randomGenerator, depth));
+		final MutationPolicy policy = mutationPolicy();
+
+		final EAConfiguration<Double> eaConfiguration = new EAConfiguration.Builder<Double>()
+				.chromosomeSpecs(chromosomeSpec)
+				.parentSelectionPolicy(Tournament.of(3))
+				.combinationPolicy(ProgramRandomCombine.build())
+				.mutationPolicies(policy)
+				.fitness(genotype -> 0.0d)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final var eaExecutionContextBuilder = GPEAExecutionContexts.<Double>forGP(randomGenerator);
+		EAExecutionContexts.enrichForScalarFitness(eaExecutionContextBuilder);
+		final EAExecutionContext<Double> eaExecutionContext = eaExecutionContextBuilder.populationSize(populationSize)
+				.build();
+
+		final var mutationPolicyHandlerResolver = new MutationPolicyHandlerResolver<>(eaExecutionContext);
+		mutator = mutationPolicyHandlerResolver.resolve(policy)
+				.createMutator(eaExecutionContext, eaConfiguration, mutationPolicyHandlerResolver, policy);
+
+		final ChromosomeFactory<? extends Chromosome> chromosomeFactory = eaExecutionContext.chromosomeFactoryProvider()
+				.provideChromosomeFactory(chromosomeSpec);
+
+		population = new ArrayList<>(populationSize);
+		for (int i = 0; i < populationSize; i++) {
+			population.add(new Genotype(chromosomeFactory.generate(chromosomeSpec)));
+		}
+	}
+
+	@Benchmark
+	public void mutate(final Blackhole blackhole) {
+		for (final Genotype genotype : population) {
+			blackhole.consume(mutator.mutate(genotype));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.benchmarks.gp;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.chromosomes.TreeNode;
+import net.bmahe.genetics4j.gp.Operation;
+import net.bmahe.genetics4j.gp.program.Program;
+import net.bmahe.genetics4j.gp.program.ProgramHelper;
+import net.bmahe.genetics4j.gp.program.RampedHalfAndHalfProgramGenerator;
+
+/**
+ * Throughput of the initialization of individuals with a {@link RampedHalfAndHalfProgramGenerator}, which is the
+ * default program generator of {@code GPEAExecutionContexts}.
+ * <p>
+ * Each invocation generates a single tree, which is as likely to come from the full as from the grow method.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code depth}: maximum depth of the program</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RampedHalfAndHalfBenchmark {
+
+	@Param({ "5", "9", "13", "17" })
+	public int depth;
+
+	private Program program;
+	private RampedHalfAndHalfProgramGenerator rampedHalfAndHalfProgramGenerator;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+
+		program = SymbolicRegressionPrograms.of(randomGenerator, depth);
+		rampedHalfAndHalfProgramGenerator = new RampedHalfAndHalfProgramGenerator(randomGenerator,
+				new ProgramHelper(randomGenerator));
+	}
+
+	@Benchmark
+	public TreeNode<Operation<?>> generate() {
+		return rampedHalfAndHalfProgramGenerator.generate(program);
+	}
+}
@@ -0,0 +1,43 @@
+package net.bmahe.genetics4j.benchmarks.gp;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.gp.ImmutableInputSpec;
+import net.bmahe.genetics4j.gp.math.Functions;
+import net.bmahe.genetics4j.gp.math.Terminals;
+import net.bmahe.genetics4j.gp.program.ImmutableProgram;
+import net.bmahe.genetics4j.gp.program.Program;
+
+/**
+ * Builds the programs shared by the GP benchmarks.
+ * <p>
+ * They mirror the symbolic regression sample: a single double input, the arithmetic functions and rounded
+ * coefficients in [-10, 10].
+ */
+public final class SymbolicRegressionPrograms {
+
+	private SymbolicRegressionPrograms() {
+	}
+
+	/**
+	 * Build a symbolic regression program
+	 *
+	 * @param randomGenerator random generator used by the terminals
+	 * @param maxDepth        maximum depth of the generated trees
+	 * @return the program
+	 */
+	public static Program of(final RandomGenerator randomGenerator, final int maxDepth) {
+		Validate.notNull(randomGenerator);
+		Validate.isTrue(maxDepth > 0);
+
+		return ImmutableProgram.builder()
+				.addFunctions(Functions.ADD, Functions.MUL, Functions.DIV, Functions.SUB, Functions.POW)
+				.addTerminal(Terminals.InputDouble(randomGenerator), Terminals.CoefficientRounded(randomGenerator, -10, 10))
+				.inputSpec(ImmutableInputSpec.of(List.of(Double.class)))
+				.maxDepth(maxDepth)
+				.build();
+	}
+}
@@ -0,0 +1,80 @@
+package net.bmahe.genetics4j.benchmarks.moo;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
+import net.bmahe.genetics4j.moo.FitnessVector;
+
+/**
+ * Average time of comparing every pair of a pool of individuals for Pareto dominance, with either
+ * {@link FitnessVector} or {@link DoubleFitnessVector} holding the same objectives.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code poolSize}: number of individuals, leading to {@code poolSize * poolSize} comparisons</li>
+ * <li>{@code numObjectives}: number of objectives of the fitness vectors</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FitnessVectorDominanceBenchmark {
+
+	@Param({ "1000" })
+	public int poolSize;
+
+	@Param({ "2", "3", "5", "10" })
+	public int numObjectives;
+
+	private List<FitnessVector<Double>> fitnessVectors;
+	private List<DoubleFitnessVector> doubleFitnessVectors;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		fitnessVectors = SyntheticFronts.fitnessVectors(new SplittableRandom(42), "random", poolSize, numObjectives);
+		doubleFitnessVectors = SyntheticFronts
+				.doubleFitnessVectors(new SplittableRandom(42), "random", poolSize, numObjectives);
+	}
+
+	@Benchmark
+	public int fitnessVector() {
+		int dominated = 0;
+		for (final FitnessVector<Double> fv1 : fitnessVectors) {
+			for (final FitnessVector<Double> fv2 : fitnessVectors) {
+				dominated += FitnessVector.compare(fv1, fv2);
+			}
+		}
+		return dominated;
+	}
+
+	@Benchmark
+	public int doubleFitnessVector() {
+		int dominated = 0;
+		for (final DoubleFitnessVector fv1 : doubleFitnessVectors) {
+			for (final DoubleFitnessVector fv2 : doubleFitnessVectors) {
+				dominated += DoubleFitnessVector.compare(fv1, fv2);
+			}
+		}
+		return dominated;
+	}
+}
@@ -0,0 +1,77 @@
+package net.bmahe.genetics4j.benchmarks.moo;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
+import net.bmahe.genetics4j.moo.ParetoArchive;
+
+/**
+ * Average time of offering a stream of individuals to an empty {@link ParetoArchive}.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code streamSize}: number of individuals offered to the archive</li>
+ * <li>{@code capacity}: capacity of the archive</li>
+ * <li>{@code numObjectives}: number of objectives of the fitness vectors</li>
+ * <li>{@code shape}: shape of the fronts, as described in {@link SyntheticFronts}</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParetoArchiveBenchmark {
+
+	@Param({ "10000" })
+	public int streamSize;
+
+	@Param({ "100", "1000", "100000" })
+	public int capacity;
+
+	@Param({ "2", "3" })
+	public int numObjectives;
+
+	@Param({ "random", "concave" })
+	public String shape;
+
+	private Genotype genotype;
+	private List<DoubleFitnessVector> fitnessVectors;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		// Genotypes are never looked at by the archive
+		genotype = new Genotype(new IntChromosome(1, 0, 10, new int[] { 0 }));
+		fitnessVectors = SyntheticFronts
+				.doubleFitnessVectors(new SplittableRandom(42), shape, streamSize, numObjectives);
+	}
+
+	@Benchmark
+	public int insert() {
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(capacity);
+		for (final DoubleFitnessVector fitnessVector : fitnessVectors) {
+			paretoArchive.add(genotype, fitnessVector);
+		}
+		return paretoArchive.size();
+	}
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.benchmarks.moo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.moo.FitnessVector;
+import net.bmahe.genetics4j.moo.ParetoUtils;
+
+/**
+ * Average time of {@link ParetoUtils#rankedPopulation(Comparator, List)} on synthetic fronts.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code populationSize}: number of individuals to rank</li>
+ * <li>{@code numObjectives}: number of objectives of the fitness vectors</li>
+ * <li>{@code shape}: shape of the fronts, as described in {@link SyntheticFronts}</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ParetoUtilsBenchmark {
+
+	@Param({ "1000", "5000", "20000", "50000" })
+	public int populationSize;
+
+	@Param({ "2", "3", "5", "10" })
+	public int numObjectives;
+
+	@Param({ "random", "linear", "concave" })
+	public String shape;
+
+	private List<FitnessVector<Double>> fitnessVectors;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		fitnessVectors = SyntheticFronts
+				.fitnessVectors(new SplittableRandom(42), shape, populationSize, numObjectives);
+	}
+
+	@Benchmark
+	public List<Set<Integer>> rankedPopulation() {
+		return ParetoUtils.rankedPopulation(Comparator.<FitnessVector<Double>>naturalOrder(), fitnessVectors);
+	}
+}
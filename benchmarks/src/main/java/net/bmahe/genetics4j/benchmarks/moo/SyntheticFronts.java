@@ -0,0 +1,155 @@
+package net.bmahe.genetics4j.benchmarks.moo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
+import net.bmahe.genetics4j.moo.FitnessVector;
+
+/**
+ * Generates synthetic multi-objective fitnesses, assuming all the objectives are maximized.
+ * <p>
+ * Supported shapes:
+ * <ul>
+ * <li>{@code random}: objectives drawn uniformly in [0, 1], which yields many small fronts</li>
+ * <li>{@code linear}: points of the simplex where the objectives sum up to 1</li>
+ * <li>{@code concave}: points of the unit hypersphere with non negative objectives</li>
+ * </ul>
+ * For the {@code linear} and {@code concave} shapes, points are spread over {@link #NUM_LAYERS} nested copies of the
+ * shape so that the population spans several fronts.
+ */
+public final class SyntheticFronts {
+
+	/**
+	 * Number of nested fronts for the {@code linear} and {@code concave} shapes
+	 */
+	public static final int NUM_LAYERS = 10;
+
+	private SyntheticFronts() {
+	}
+
+	private static double[] shapePoint(final RandomGenerator randomGenerator, final String shape,
+			final int numObjectives) {
+		final double[] point = new double[numObjectives];
+
+		switch (shape) {
+			case "random" -> {
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] = randomGenerator.nextDouble();
+				}
+			}
+			case "linear" -> {
+				double sum = 0.0d;
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] = -Math.log(1.0d - randomGenerator.nextDouble());
+					sum += point[m];
+				}
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] /= sum;
+				}
+			}
+			case "concave" -> {
+				double sumSquares = 0.0d;
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] = Math.abs(randomGenerator.nextGaussian());
+					sumSquares += point[m] * point[m];
+				}
+				final double norm = Math.sqrt(sumSquares);
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] /= norm;
+				}
+			}
+			default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+		}
+
+		return point;
+	}
+
+	/**
+	 * Generate the objectives of {@code size} individuals
+	 *
+	 * @param randomGenerator random generator
+	 * @param shape           one of {@code random}, {@code linear} or {@code concave}
+	 * @param size            number of individuals
+	 * @param numObjectives   number of objectives
+	 * @return the objectives, indexed by individual first
+	 */
+	public static double[][] objectives(final RandomGenerator randomGenerator, final String shape, final int size,
+			final int numObjectives) {
+		Validate.notNull(randomGenerator);
+		Validate.notBlank(shape);
+		Validate.isTrue(size > 0);
+		Validate.isTrue(numObjectives > 0);
+
+		final boolean isLayered = "random".equals(shape) == false;
+
+		final double[][] objectives = new double[size][];
+		for (int i = 0; i < size; i++) {
+			final double[] point = shapePoint(randomGenerator, shape, numObjectives);
+
+			if (isLayered) {
+				final double scale = 1.0d - (double) randomGenerator.nextInt(NUM_LAYERS) / NUM_LAYERS;
+				for (int m = 0; m < numObjectives; m++) {
+					point[m] *= scale;
+				}
+			}
+
+			objectives[i] = point;
+		}
+
+		return objectives;
+	}
+
+	/**
+	 * Generate the fitness vectors of {@code size} individuals
+	 *
+	 * @param randomGenerator random generator
+	 * @param shape           one of {@code random}, {@code linear} or {@code concave}
+	 * @param size            number of individuals
+	 * @param numObjectives   number of objectives
+	 * @return the fitness vectors
+	 * @see #objectives(RandomGenerator, String, int, int)
+	 */
+	public static List<FitnessVector<Double>> fitnessVectors(final RandomGenerator randomGenerator, final String shape,
+			final int size, final int numObjectives) {
+
+		final double[][] objectives = objectives(randomGenerator, shape, size, numObjectives);
+
+		final List<FitnessVector<Double>> fitnessVectors = new ArrayList<>(size);
+		for (final double[] point : objectives) {
+			final List<Double> values = new ArrayList<>(numObjectives);
+			for (final double value : point) {
+				values.add(value);
+			}
+			fitnessVectors.add(new FitnessVector<>(values));
+		}
+
+		return fitnessVectors;
+	}
+
+	/**
+	 * Generate the double fitness vectors of {@code size} individuals
+	 *
+	 * @param randomGenerator random generator
+	 * @param shape           one of {@code random}, {@code linear} or {@code concave}
+	 * @param size            number of individuals
+	 * @param numObjectives   number of objectives
+	 * @return the double fitness vectors
+	 * @see #objectives(RandomGenerator, String, int, int)
+	 */
+	public static List<DoubleFitnessVector> doubleFitnessVectors(final RandomGenerator randomGenerator,
+			final String shape, final int size, final int numObjectives) {
+
+		final double[][] objectives = objectives(randomGenerator, shape, size, numObjectives);
+
+		final List<DoubleFitnessVector> fitnessVectors = new ArrayList<>(size);
+		for (final double[] point : objectives) {
+			fitnessVectors.add(new DoubleFitnessVector(point));
+		}
+
+		return fitnessVectors;
+	}
+}
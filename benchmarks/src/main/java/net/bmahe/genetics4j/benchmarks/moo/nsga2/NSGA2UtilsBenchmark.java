@@ -0,0 +1,90 @@
+package net.bmahe.genetics4j.benchmarks.moo.nsga2;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.benchmarks.moo.SyntheticFronts;
+import net.bmahe.genetics4j.moo.FitnessVector;
+import net.bmahe.genetics4j.moo.ObjectiveDistance;
+import net.bmahe.genetics4j.moo.ObjectiveValue;
+import net.bmahe.genetics4j.moo.nsga2.impl.NSGA2Utils;
+import net.bmahe.genetics4j.moo.nsga2.spec.NSGA2Selection;
+
+/**
+ * Average time of {@link NSGA2Utils#crowdingDistanceAssignment(int, List, Function, ObjectiveDistance)} on synthetic
+ * fronts, with the objective comparators and distances of {@link NSGA2Selection#ofFitnessVector(int)}.
+ * <p>
+ * The primitive variant, {@link NSGA2Utils#crowdingDistanceAssignment(double[][], boolean)}, is measured including
+ * the extraction of the objective matrix with {@link NSGA2Selection#objectiveValue()}, as the NSGA2 selectors do.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code populationSize}: number of individuals</li>
+ * <li>{@code numObjectives}: number of objectives of the fitness vectors</li>
+ * <li>{@code shape}: shape of the fronts, as described in {@link SyntheticFronts}</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class NSGA2UtilsBenchmark {
+
+	@Param({ "1000", "5000", "20000", "50000" })
+	public int populationSize;
+
+	@Param({ "2", "3", "5", "10" })
+	public int numObjectives;
+
+	@Param({ "random", "linear", "concave" })
+	public String shape;
+
+	private List<FitnessVector<Double>> fitnessVectors;
+	private Function<Integer, Comparator<FitnessVector<Double>>> objectiveComparator;
+	private ObjectiveDistance<FitnessVector<Double>> objectiveDistance;
+	private ObjectiveValue<FitnessVector<Double>> objectiveValue;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		fitnessVectors = SyntheticFronts
+				.fitnessVectors(new SplittableRandom(42), shape, populationSize, numObjectives);
+
+		final NSGA2Selection<FitnessVector<Double>> nsga2Selection = NSGA2Selection.ofFitnessVector(numObjectives);
+		objectiveComparator = nsga2Selection.objectiveComparator();
+		objectiveDistance = nsga2Selection.distance();
+		objectiveValue = nsga2Selection.objectiveValue()
+				.orElseThrow();
+	}
+
+	@Benchmark
+	public double[] crowdingDistanceAssignment() {
+		return NSGA2Utils
+				.crowdingDistanceAssignment(numObjectives, fitnessVectors, objectiveComparator, objectiveDistance);
+	}
+
+	@Benchmark
+	public double[] crowdingDistanceAssignmentPrimitive() {
+		final double[][] objectives = NSGA2Utils.objectiveMatrix(numObjectives, fitnessVectors, objectiveValue);
+		return NSGA2Utils.crowdingDistanceAssignment(objectives, false);
+	}
+}
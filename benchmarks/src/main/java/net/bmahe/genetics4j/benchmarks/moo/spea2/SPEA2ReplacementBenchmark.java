@@ -0,0 +1,106 @@
+package net.bmahe.genetics4j.benchmarks.moo.spea2;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.benchmarks.moo.SyntheticFronts;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+import net.bmahe.genetics4j.moo.FitnessVector;
+import net.bmahe.genetics4j.moo.spea2.replacement.SPEA2ReplacementStrategyImplementor;
+import net.bmahe.genetics4j.moo.spea2.spec.replacement.SPEA2Replacement;
+
+/**
+ * Average time of a {@link SPEA2ReplacementStrategyImplementor} environmental selection on synthetic fronts, using
+ * {@link SPEA2Replacement#ofFitnessVector()}.
+ * <p>
+ * The archive and the offsprings both have {@code populationSize} individuals, so the combined population is twice as
+ * large. Nearest neighbors are searched with a KD-tree for up to
+ * {@link SPEA2ReplacementStrategyImplementor#MAX_KDTREE_DIMENSIONS} objectives, and by evaluating every distance
+ * beyond.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code populationSize}: number of individuals in the archive, in the offsprings and to select</li>
+ * <li>{@code numObjectives}: number of objectives of the fitness vectors</li>
+ * <li>{@code shape}: shape of the fronts, as described in {@link SyntheticFronts}</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SPEA2ReplacementBenchmark {
+
+	@Param({ "1000", "2500", "5000", "10000" })
+	public int populationSize;
+
+	@Param({ "2", "3", "5", "10" })
+	public int numObjectives;
+
+	@Param({ "random", "linear", "concave" })
+	public String shape;
+
+	private EAConfiguration<FitnessVector<Double>> eaConfiguration;
+	private SPEA2ReplacementStrategyImplementor<FitnessVector<Double>> spea2ReplacementStrategyImplementor;
+	private List<Genotype> population;
+	private List<FitnessVector<Double>> populationScores;
+	private List<Genotype> offsprings;
+	private List<FitnessVector<Double>> offspringScores;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+
+		eaConfiguration = new EAConfiguration.Builder<FitnessVector<Double>>()
+				.chromosomeSpecs(IntChromosomeSpec.of(1, 0, 10))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> new FitnessVector<>(0.0d))
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		spea2ReplacementStrategyImplementor = new SPEA2ReplacementStrategyImplementor<>(
+				SPEA2Replacement.ofFitnessVector());
+
+		// Genotypes are never looked at without deduplication
+		final Genotype genotype = new Genotype(new IntChromosome(1, 0, 10, new int[] { 0 }));
+		population = Collections.nCopies(populationSize, genotype);
+		offsprings = Collections.nCopies(populationSize, genotype);
+
+		populationScores = SyntheticFronts.fitnessVectors(randomGenerator, shape, populationSize, numObjectives);
+		offspringScores = SyntheticFronts.fitnessVectors(randomGenerator, shape, populationSize, numObjectives);
+	}
+
+	@Benchmark
+	public Population<FitnessVector<Double>> select() {
+		return spea2ReplacementStrategyImplementor
+				.select(eaConfiguration, populationSize, population, populationScores, offsprings, offspringScores);
+	}
+}
@@ -0,0 +1,71 @@
+package net.bmahe.genetics4j.benchmarks.neat;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.neat.NeatUtils;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+
+/**
+ * Throughput of {@link NeatUtils#compatibilityDistance(List, List, float, float, float)} between every consecutive
+ * pair of a pool of genomes.
+ * <p>
+ * The coefficients are the ones of {@code NeatSelection.ofDefault()}.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code complexity}: number of rounds of structural mutations of the genomes, as described in
+ * {@link NeatGenomes}</li>
+ * <li>{@code poolSize}: number of genomes in the pool, and of distances computed per invocation</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompatibilityDistanceBenchmark {
+
+	@Param({ "0", "10", "50", "200" })
+	public int complexity;
+
+	@Param({ "100" })
+	public int poolSize;
+
+	private List<NeatChromosome> genomes;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		genomes = NeatGenomes.generate(new SplittableRandom(42), poolSize, complexity);
+	}
+
+	@Benchmark
+	public void compatibilityDistance(final Blackhole blackhole) {
+		for (int i = 0; i < poolSize; i++) {
+			final var firstConnections = genomes.get(i)
+					.getConnections();
+			final var secondConnections = genomes.get((i + 1) % poolSize)
+					.getConnections();
+
+			blackhole.consume(NeatUtils.compatibilityDistance(firstConnections, secondConnections, 2, 2, 1f));
+		}
+	}
+}
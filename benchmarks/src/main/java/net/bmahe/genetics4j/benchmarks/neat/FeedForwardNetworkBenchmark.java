@@ -0,0 +1,122 @@
+package net.bmahe.genetics4j.benchmarks.neat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bmahe.genetics4j.neat.Activations;
+import net.bmahe.genetics4j.neat.Connection;
+import net.bmahe.genetics4j.neat.FeedForwardNetwork;
+import net.bmahe.genetics4j.neat.NeatUtils;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+
+/**
+ * Throughput of the construction and of the inference of a {@link FeedForwardNetwork}.
+ * <p>
+ * The construction is measured as a whole as well as through its two steps, namely
+ * {@link NeatUtils#partitionLayersNodes(Set, Set, List)} and
+ * {@link NeatUtils#computeBackwardConnections(List)}. Batched inference evaluates the same network over
+ * {@code batchSize} inputs, as a fitness function going through a dataset would.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code complexity}: number of rounds of structural mutations of the genome, as described in
+ * {@link NeatGenomes}</li>
+ * <li>{@code batchSize}: number of inputs evaluated by the batched inference</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedForwardNetworkBenchmark {
+
+	@Param({ "0", "10", "50", "200" })
+	public int complexity;
+
+	@Param({ "1000" })
+	public int batchSize;
+
+	private NeatChromosome neatChromosome;
+	private FeedForwardNetwork feedForwardNetwork;
+	private Map<Integer, Float> input;
+	private List<Map<Integer, Float>> batch;
+
+	private Map<Integer, Float> generateInput(final RandomGenerator randomGenerator) {
+		final Map<Integer, Float> inputValues = new HashMap<>();
+		for (final Integer inputNodeIndex : neatChromosome.getInputNodeIndices()) {
+			inputValues.put(inputNodeIndex, randomGenerator.nextFloat(-1.0f, 1.0f));
+		}
+		return inputValues;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+
+		neatChromosome = NeatGenomes.generate(randomGenerator, 1, complexity)
+				.get(0);
+		feedForwardNetwork = construct();
+
+		input = generateInput(randomGenerator);
+		batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			batch.add(generateInput(randomGenerator));
+		}
+	}
+
+	@Benchmark
+	public FeedForwardNetwork construct() {
+		return new FeedForwardNetwork(neatChromosome.getInputNodeIndices(),
+				neatChromosome.getOutputNodeIndices(),
+				neatChromosome.getConnections(),
+				Activations.neatPaperFloat);
+	}
+
+	@Benchmark
+	public List<List<Integer>> partitionLayersNodes() {
+		return NeatUtils.partitionLayersNodes(neatChromosome.getInputNodeIndices(),
+				neatChromosome.getOutputNodeIndices(),
+				neatChromosome.getConnections());
+	}
+
+	@Benchmark
+	public Map<Integer, Set<Connection>> computeBackwardConnections() {
+		return NeatUtils.computeBackwardConnections(neatChromosome.getConnections());
+	}
+
+	@Benchmark
+	public Map<Integer, Float> compute() {
+		return feedForwardNetwork.compute(input);
+	}
+
+	@Benchmark
+	public void computeBatch(final Blackhole blackhole) {
+		for (final Map<Integer, Float> inputValues : batch) {
+			blackhole.consume(feedForwardNetwork.compute(inputValues));
+		}
+	}
+}
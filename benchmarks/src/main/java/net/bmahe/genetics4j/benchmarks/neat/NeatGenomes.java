@@ -0,0 +1,70 @@
+package net.bmahe.genetics4j.benchmarks.neat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.neat.InnovationManager;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+import net.bmahe.genetics4j.neat.chromosomes.factory.NeatConnectedChromosomeFactory;
+import net.bmahe.genetics4j.neat.mutation.chromosome.NeatChromosomeAddConnection;
+import net.bmahe.genetics4j.neat.mutation.chromosome.NeatChromosomeAddNodeMutationHandler;
+import net.bmahe.genetics4j.neat.spec.NeatChromosomeSpec;
+import net.bmahe.genetics4j.neat.spec.mutation.AddConnection;
+import net.bmahe.genetics4j.neat.spec.mutation.AddNode;
+
+/**
+ * Generates NEAT genomes of a given complexity for the NEAT benchmarks.
+ * <p>
+ * Genomes start fully connected, as generated by {@link NeatConnectedChromosomeFactory}, and then go through
+ * {@code complexity} rounds of an {@link AddNode} mutation followed by an {@link AddConnection} mutation. All the
+ * genomes share the same {@link InnovationManager}, so that identical structural mutations get the same innovation
+ * number as they would within a generation.
+ */
+public final class NeatGenomes {
+
+	public static final int NUM_INPUTS = 10;
+	public static final int NUM_OUTPUTS = 2;
+
+	public static final NeatChromosomeSpec CHROMOSOME_SPEC = NeatChromosomeSpec.of(NUM_INPUTS, NUM_OUTPUTS, -5.0f, 5.0f);
+
+	private NeatGenomes() {
+	}
+
+	/**
+	 * Generate {@code size} genomes
+	 *
+	 * @param randomGenerator random generator
+	 * @param size            number of genomes
+	 * @param complexity      number of rounds of structural mutations applied to each genome
+	 * @return the genomes
+	 */
+	public static List<NeatChromosome> generate(final RandomGenerator randomGenerator, final int size,
+			final int complexity) {
+		Validate.notNull(randomGenerator);
+		Validate.isTrue(size > 0);
+		Validate.isTrue(complexity >= 0);
+
+		final InnovationManager innovationManager = new InnovationManager();
+		final var chromosomeFactory = new NeatConnectedChromosomeFactory(randomGenerator, innovationManager);
+		final var addNodeMutationHandler = new NeatChromosomeAddNodeMutationHandler(randomGenerator, innovationManager);
+		final var addConnectionMutationHandler = new NeatChromosomeAddConnection(randomGenerator, innovationManager);
+
+		final AddNode addNode = AddNode.of(1.0d);
+		final AddConnection addConnection = AddConnection.of(1.0d);
+
+		final List<NeatChromosome> genomes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			NeatChromosome genome = chromosomeFactory.generate(CHROMOSOME_SPEC);
+			for (int j = 0; j < complexity; j++) {
+				genome = addNodeMutationHandler.mutate(addNode, genome);
+				genome = addConnectionMutationHandler.mutate(addConnection, genome);
+			}
+			genomes.add(genome);
+		}
+
+		return genomes;
+	}
+}
@@ -0,0 +1,91 @@
+package net.bmahe.genetics4j.benchmarks.neat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.neat.NeatUtils;
+import net.bmahe.genetics4j.neat.Species;
+import net.bmahe.genetics4j.neat.SpeciesIdGenerator;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+import net.bmahe.genetics4j.neat.spec.selection.NeatSelection;
+
+/**
+ * Average time of {@link NeatUtils#speciate(RandomGenerator, SpeciesIdGenerator, List, Population, BiPredicate)} with
+ * the species predicate of {@link NeatSelection#ofDefault()}.
+ * <p>
+ * The species of a first speciation of the population are used as seed species, as they would be from one
+ * generation to the next.
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code populationSize}: number of individuals to speciate</li>
+ * <li>{@code complexity}: number of rounds of structural mutations of the genomes, as described in
+ * {@link NeatGenomes}</li>
+ * </ul>
+ * <p>
+ * Allocation rates can be observed by running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpeciationBenchmark {
+
+	@Param({ "150", "500", "1000" })
+	public int populationSize;
+
+	@Param({ "0", "10", "50" })
+	public int complexity;
+
+	private RandomGenerator randomGenerator;
+	private SpeciesIdGenerator speciesIdGenerator;
+	private BiPredicate<Individual<Double>, Individual<Double>> speciesPredicate;
+	private Population<Double> population;
+	private List<Species<Double>> seedSpecies;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		randomGenerator = new SplittableRandom(42);
+		speciesIdGenerator = new SpeciesIdGenerator();
+		speciesPredicate = NeatSelection.<Double>ofDefault()
+				.speciesPredicate();
+
+		final List<NeatChromosome> genomes = NeatGenomes.generate(randomGenerator, populationSize, complexity);
+		final List<Genotype> genotypes = new ArrayList<>(populationSize);
+		final List<Double> fitnesses = new ArrayList<>(populationSize);
+		for (final NeatChromosome genome : genomes) {
+			genotypes.add(new Genotype(genome));
+			fitnesses.add(randomGenerator.nextDouble());
+		}
+		population = Population.of(genotypes, fitnesses);
+
+		seedSpecies = NeatUtils.speciate(randomGenerator, speciesIdGenerator, List.of(), population, speciesPredicate);
+	}
+
+	@Benchmark
+	public List<Species<Double>> speciate() {
+		return NeatUtils.speciate(randomGenerator, speciesIdGenerator, seedSpecies, population, speciesPredicate);
+	}
+}
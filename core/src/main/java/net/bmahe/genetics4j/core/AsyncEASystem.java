@@ -0,0 +1,424 @@
+package net.bmahe.genetics4j.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
+import net.bmahe.genetics4j.core.combination.GenotypeCombinator;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator;
+import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
+import net.bmahe.genetics4j.core.mutation.Mutator;
+import net.bmahe.genetics4j.core.replacement.ReplacementStrategyImplementor;
+import net.bmahe.genetics4j.core.selection.Selector;
+import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.ImmutableEvolutionResult;
+import net.bmahe.genetics4j.core.termination.Termination;
+import net.bmahe.genetics4j.core.util.GenotypeGenerator;
+
+/**
+ * Steady-state evolutionary algorithm which keeps a fixed number of fitness evaluations in flight.
+ *
+ * <p>Unlike {@link EASystem}, which breeds a whole generation and then blocks until every offspring has been
+ * evaluated, AsyncEASystem submits each offspring to the {@link ExecutorService} on its own. As soon as any
+ * evaluation completes, a new offspring is bred from the current population and submitted in its place. This keeps
+ * the executor saturated even when the cost of the fitness function varies a lot between individuals.
+ *
+ * <p>Completed offspring are accumulated and integrated into the population with the configured
+ * {@link ReplacementStrategyImplementor} once {@code populationSize * offspringRatio} of them are available. Each
+ * such replacement step counts as one generation for the purpose of evolution listeners and termination criteria.
+ *
+ * <p>Breeding, selection and replacement all happen on the thread calling {@link #evolve()}, so the genetic
+ * operators do not need to be thread-safe. Parents are selected in batches each time the population changes, rather
+ * than one pair at a time, so selection policies which rank the whole population only do it once per batch.
+ *
+ * <p>Fitness is computed by a {@link FitnessEvaluator}, which brackets the evolution with its
+ * {@link FitnessEvaluator#preEvaluation()} and {@link FitnessEvaluator#postEvaluation()}. Offspring are submitted
+ * through {@link StreamingFitnessEvaluator#evaluateStream(long, List)} when the evaluator supports it, and are
+ * otherwise evaluated on the {@link ExecutorService} as batches of a single individual.
+ *
+ * @param <T> the type of fitness values, must be comparable for selection and ranking
+ * @see EASystemFactory
+ * @see EASystem
+ */
+public class AsyncEASystem<T extends Comparable<T>> {
+	final static public Logger logger = LogManager.getLogger(AsyncEASystem.class);
+
+	private final GenotypeGenerator<T> genotypeGenerator;
+	private final EAConfiguration<T> eaConfiguration;
+	private final AbstractEAExecutionContext<T> eaExecutionContext;
+	private final int populationSize;
+
+	private final List<ChromosomeCombinator<T>> chromosomeCombinators;
+
+	private final ReplacementStrategyImplementor<T> replacementStrategyImplementor;
+
+	private final List<Mutator> mutators;
+
+	private final double offspringRatio;
+
+	private final Selector<T> parentSelector;
+
+	private final FitnessEvaluator<T> fitnessEvaluator;
+
+	private final ExecutorService executorService;
+
+	private final int maxInFlight;
+
+	public AsyncEASystem(final EAConfiguration<T> _eaConfiguration, final long _populationSize,
+			final List<ChromosomeCombinator<T>> _chromosomeCombinators, final double _offspringRatio,
+			final Selector<T> _parentSelectionPolicyHandler, final List<Mutator> _mutators,
+			final ReplacementStrategyImplementor<T> _replacementStrategyImplementor,
+			final AbstractEAExecutionContext<T> _eaExecutionContext, final FitnessEvaluator<T> _fitnessEvaluator,
+			final ExecutorService _executorService, final int _maxInFlight) {
+		Objects.requireNonNull(_eaConfiguration);
+		Validate.isTrue(_populationSize > 0);
+		Objects.requireNonNull(_chromosomeCombinators);
+		Validate.isTrue(_chromosomeCombinators.size() == _eaConfiguration.numChromosomes());
+		Validate.inclusiveBetween(0.0, 1.0, _offspringRatio);
+		Objects.requireNonNull(_parentSelectionPolicyHandler);
+		Objects.requireNonNull(_mutators);
+		Objects.requireNonNull(_replacementStrategyImplementor);
+		Objects.requireNonNull(_eaExecutionContext);
+		Objects.requireNonNull(_fitnessEvaluator);
+		Objects.requireNonNull(_executorService);
+		Validate.isTrue(_maxInFlight > 0);
+
+		this.eaConfiguration = _eaConfiguration;
+		this.eaExecutionContext = _eaExecutionContext;
+		this.populationSize = (int) _populationSize;
+		this.chromosomeCombinators = _chromosomeCombinators;
+		this.offspringRatio = _offspringRatio;
+		this.parentSelector = _parentSelectionPolicyHandler;
+		this.mutators = _mutators;
+		this.replacementStrategyImplementor = _replacementStrategyImplementor;
+		this.fitnessEvaluator = _fitnessEvaluator;
+		this.executorService = _executorService;
+		this.maxInFlight = _maxInFlight;
+
+		this.genotypeGenerator = new GenotypeGenerator<>(eaExecutionContext.chromosomeFactoryProvider(),
+				eaConfiguration);
+	}
+
+	private List<Genotype> initializePopulation() {
+		final int initialPopulationSize = eaExecutionContext.populationSize();
+		logger.info("Generating initial population of {} individuals", initialPopulationSize);
+
+		final List<Genotype> genotypes = new ArrayList<>(initialPopulationSize);
+
+		final var seedPopulation = eaConfiguration.seedPopulation();
+		if (CollectionUtils.isNotEmpty(seedPopulation)) {
+			genotypes.addAll(seedPopulation);
+		}
+		if (genotypes.size() < initialPopulationSize) {
+			final var missingInitialIndividualCount = initialPopulationSize - genotypes.size();
+			final var extraIndividuals = genotypeGenerator.generateGenotypes(missingInitialIndividualCount);
+			genotypes.addAll(extraIndividuals);
+		}
+
+		return genotypes;
+	}
+
+	/**
+	 * Evaluates a batch of genotypes and waits for all of them. This is only used for the initial population and for
+	 * the rare individuals generated to fill up a population after replacement.
+	 */
+	private List<T> evaluateAll(final long generation, final List<Genotype> genotypes) {
+		Validate.isTrue(genotypes.size() > 0);
+
+		return fitnessEvaluator.evaluate(generation, genotypes);
+	}
+
+	private Population<T> postProcess(final List<Genotype> genotypes, final List<T> fitnesses) {
+		return eaConfiguration.postEvaluationProcessor()
+				.map(pep -> pep.apply(Population.of(genotypes, fitnesses)))
+				.orElseGet(() -> Population.of(genotypes, fitnesses));
+	}
+
+	private Genotype mutate(final Genotype genotype) {
+		Genotype mutatedChild = genotype;
+
+		for (final Mutator mutator : mutators) {
+			mutatedChild = mutator.mutate(mutatedChild);
+		}
+
+		return mutatedChild;
+	}
+
+	/**
+	 * Breeds offspring from the next pair of parents. Once they have all been used, a new batch of
+	 * {@code numParents} parents is selected from the current population.
+	 */
+	private List<Genotype> breed(final Population<T> population, final Deque<Individual<T>> selectedParents,
+			final int numParents) {
+		final GenotypeCombinator genotypeCombinator = eaConfiguration.genotypeCombinator();
+
+		if (selectedParents.size() < 2) {
+			selectedParents.clear();
+
+			final Population<T> parents = parentSelector
+					.select(eaConfiguration, numParents, population.getAllGenotypes(), population.getAllFitnesses());
+			Validate.isTrue(parents.size() >= 2);
+			for (int i = 0; i < parents.size(); i++) {
+				selectedParents.add(Individual.of(parents.getGenotype(i), parents.getFitness(i)));
+			}
+		}
+
+		final Individual<T> first = selectedParents.poll();
+		final Genotype firstParent = first.genotype();
+		final T firstParentFitness = first.fitness();
+
+		final Individual<T> second = selectedParents.poll();
+		final Genotype secondParent = second.genotype();
+		final T secondParentFitness = second.fitness();
+
+		final List<List<Chromosome>> chromosomes = new ArrayList<>();
+		for (int chromosomeIndex = 0; chromosomeIndex < eaConfiguration.numChromosomes(); chromosomeIndex++) {
+
+			final Chromosome firstChromosome = firstParent.getChromosome(chromosomeIndex);
+			final Chromosome secondChromosome = secondParent.getChromosome(chromosomeIndex);
+
+			final List<Chromosome> combinedChromosomes = chromosomeCombinators.get(chromosomeIndex)
+					.combine(eaConfiguration, firstChromosome, firstParentFitness, secondChromosome, secondParentFitness);
+
+			chromosomes.add(combinedChromosomes);
+		}
+
+		return genotypeCombinator.combine(eaConfiguration, chromosomes)
+				.stream()
+				.map(this::mutate)
+				.toList();
+	}
+
+	private Individual<T> takeEvaluated(final BlockingQueue<Future<Individual<T>>> completed,
+			final Set<Future<Individual<T>>> inFlight) {
+		try {
+			final Future<Individual<T>> future = completed.take();
+			inFlight.remove(future);
+
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a fitness evaluation", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Fitness evaluation failed", e.getCause());
+		}
+	}
+
+	private void submitOffspring(final long generation, final CompletionService<Individual<T>> completionService,
+			final BlockingQueue<Future<Individual<T>>> completed, final Set<Future<Individual<T>>> inFlight,
+			final Deque<Genotype> pendingOffsprings, final Population<T> population,
+			final Deque<Individual<T>> selectedParents, final int numParents) {
+
+		if (pendingOffsprings.isEmpty()) {
+			pendingOffsprings.addAll(breed(population, selectedParents, numParents));
+		}
+
+		final Genotype offspring = pendingOffsprings.poll();
+		if (fitnessEvaluator instanceof StreamingFitnessEvaluator<T> streamingFitnessEvaluator) {
+			final CompletableFuture<T> fitnessFuture = streamingFitnessEvaluator
+					.evaluateStream(generation, List.of(offspring))
+					.get(0);
+			final CompletableFuture<Individual<T>> individualFuture = fitnessFuture
+					.thenApply(fitness -> Individual.of(offspring, fitness));
+			inFlight.add(individualFuture);
+
+			individualFuture.whenComplete((individual, e) -> {
+				// Let the evaluator know it can skip the evaluation
+				if (individualFuture.isCancelled()) {
+					fitnessFuture.cancel(true);
+				}
+				completed.add(individualFuture);
+			});
+		} else {
+			inFlight.add(completionService.submit(() -> Individual.of(offspring,
+					fitnessEvaluator.evaluate(generation, List.of(offspring))
+							.get(0))));
+		}
+	}
+
+	/**
+	 * Gets the evolutionary algorithm configuration used by this system.
+	 *
+	 * @return the EA configuration
+	 */
+	public EAConfiguration<T> getEAConfiguration() {
+		return eaConfiguration;
+	}
+
+	/**
+	 * Gets the target population size.
+	 *
+	 * @return the population size as configured for this evolutionary system
+	 */
+	public long getPopulationSize() {
+		return populationSize;
+	}
+
+	/**
+	 * Gets the maximum number of fitness evaluations kept in flight.
+	 *
+	 * @return the maximum number of concurrent evaluations
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Executes the steady-state evolution until the termination criteria are met.
+	 *
+	 * <p>Evaluations still in flight when the termination criteria are met, or when an evaluation fails, are cancelled
+	 * and their results discarded.
+	 *
+	 * @return an EvolutionResult containing the final population, fitness values, number of replacement steps and
+	 *         configuration details
+	 * @see Termination
+	 * @see EvolutionResult
+	 */
+	public EvolutionResult<T> evolve() {
+		final Termination<T> termination = eaConfiguration.termination();
+
+		logger.info("Starting asynchronous evolution with up to {} evaluations in flight", maxInFlight);
+
+		fitnessEvaluator.preEvaluation();
+		try {
+			return evolve(termination);
+		} finally {
+			fitnessEvaluator.postEvaluation();
+		}
+	}
+
+	private EvolutionResult<T> evolve(final Termination<T> termination) {
+		long generation = 0;
+		final List<Genotype> genotypes = initializePopulation();
+
+		logger.info("Evaluating initial population");
+		final List<T> fitnessScore = evaluateAll(generation, genotypes);
+		Population<T> population = postProcess(genotypes, fitnessScore);
+
+		final int offspringsPerGeneration = Math.max(1, (int) (populationSize * offspringRatio));
+		final int numParents = Math.max(2, offspringsPerGeneration + offspringsPerGeneration % 2);
+		final BlockingQueue<Future<Individual<T>>> completed = new LinkedBlockingQueue<>();
+		final CompletionService<Individual<T>> completionService = new ExecutorCompletionService<>(executorService,
+				completed);
+		final Set<Future<Individual<T>>> inFlight = new HashSet<>();
+		final Deque<Genotype> pendingOffsprings = new ArrayDeque<>();
+		final Deque<Individual<T>> selectedParents = new ArrayDeque<>(numParents);
+
+		final List<Genotype> offsprings = new ArrayList<>(offspringsPerGeneration);
+		final List<T> offspringScores = new ArrayList<>(offspringsPerGeneration);
+
+		try {
+			boolean isDone = termination
+					.isDone(eaConfiguration, generation, population.getAllGenotypes(), population.getAllFitnesses());
+			if (isDone == false) {
+				for (final EvolutionListener<T> evolutionListener : eaExecutionContext.evolutionListeners()) {
+					evolutionListener
+							.onEvolution(generation, population.getAllGenotypes(), population.getAllFitnesses(), false);
+				}
+
+				while (inFlight.size() < maxInFlight) {
+					submitOffspring(generation,
+							completionService,
+							completed,
+							inFlight,
+							pendingOffsprings,
+							population,
+							selectedParents,
+							numParents);
+				}
+			}
+
+			while (isDone == false) {
+				final Individual<T> evaluated = takeEvaluated(completed, inFlight);
+				offsprings.add(evaluated.genotype());
+				offspringScores.add(evaluated.fitness());
+
+				if (offsprings.size() >= offspringsPerGeneration) {
+					logger.debug("Executing replacement strategy for generation {}", generation);
+
+					final Population<T> childrenPopulation = postProcess(offsprings, offspringScores);
+					final Population<T> newPopulation = replacementStrategyImplementor.select(eaConfiguration,
+							populationSize,
+							population.getAllGenotypes(),
+							population.getAllFitnesses(),
+							childrenPopulation.getAllGenotypes(),
+							childrenPopulation.getAllFitnesses());
+
+					if (newPopulation.size() < populationSize) {
+						logger.info("New population only has {} members. Generating more individuals",
+								newPopulation.size());
+						final List<Genotype> additionalIndividuals = genotypeGenerator
+								.generateGenotypes(populationSize - newPopulation.size());
+						newPopulation.addAll(
+								Population.of(additionalIndividuals, evaluateAll(generation, additionalIndividuals)));
+					}
+
+					offsprings.clear();
+					offspringScores.clear();
+					population = newPopulation;
+					selectedParents.clear();
+					generation++;
+
+					isDone = termination
+							.isDone(eaConfiguration, generation, population.getAllGenotypes(), population.getAllFitnesses());
+					if (isDone == false) {
+						for (final EvolutionListener<T> evolutionListener : eaExecutionContext.evolutionListeners()) {
+							evolutionListener.onEvolution(generation,
+									population.getAllGenotypes(),
+									population.getAllFitnesses(),
+									false);
+						}
+					}
+				}
+
+				if (isDone == false) {
+					submitOffspring(generation,
+							completionService,
+							completed,
+							inFlight,
+							pendingOffsprings,
+							population,
+							selectedParents,
+							numParents);
+				}
+			}
+		} finally {
+			// Also reached when an evaluation fails, so the remaining ones do not keep the executor busy
+			logger.info("Cancelling {} evaluations in flight", inFlight.size());
+			for (final Future<Individual<T>> future : inFlight) {
+				future.cancel(true);
+			}
+		}
+
+		for (final EvolutionListener<T> evolutionListener : eaExecutionContext.evolutionListeners()) {
+			evolutionListener.onEvolution(generation, population.getAllGenotypes(), population.getAllFitnesses(), true);
+		}
+
+		logger.info("Evolution has terminated");
+		return ImmutableEvolutionResult
+				.of(eaConfiguration, generation, population.getAllGenotypes(), population.getAllFitnesses());
+	}
+}
@@ -0,0 +1,155 @@
+package net.bmahe.genetics4j.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * List of fitness values backed by a primitive {@code double[]}.
+ * <p>
+ * This is the storage used by {@link DoublePopulation}. It behaves as a regular {@code List<Double>} so it can be
+ * handed to any component expecting fitness values, while components aware of it can access the values through
+ * {@link #getDouble(int)} without any boxing.
+ * <p>
+ * Null values are not supported.
+ */
+public class DoubleFitnessList extends AbstractList<Double> implements RandomAccess {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private double[] values;
+	private int size;
+
+	public DoubleFitnessList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public DoubleFitnessList(final int initialCapacity) {
+		Validate.isTrue(initialCapacity >= 0);
+
+		this.values = new double[initialCapacity];
+		this.size = 0;
+	}
+
+	public DoubleFitnessList(final double[] _values) {
+		Validate.notNull(_values);
+
+		this.values = Arrays.copyOf(_values, _values.length);
+		this.size = _values.length;
+	}
+
+	private void ensureCapacity(final int capacity) {
+		if (capacity > values.length) {
+			final int newCapacity = Math.max(capacity, Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1)));
+			values = Arrays.copyOf(values, newCapacity);
+		}
+	}
+
+	/**
+	 * Returns the fitness at the given index without boxing it
+	 *
+	 * @param index index of the fitness
+	 * @return fitness value
+	 */
+	public double getDouble(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		return values[index];
+	}
+
+	/**
+	 * Appends a fitness value without boxing it
+	 *
+	 * @param value fitness value
+	 */
+	public void addDouble(final double value) {
+		ensureCapacity(size + 1);
+		values[size++] = value;
+		modCount++;
+	}
+
+	/**
+	 * Returns a copy of the fitness values as a primitive array
+	 *
+	 * @return array of fitness values
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	@Override
+	public Double get(final int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public Double set(final int index, final Double element) {
+		Validate.notNull(element);
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		final double previous = values[index];
+		values[index] = element;
+		return previous;
+	}
+
+	@Override
+	public void add(final int index, final Double element) {
+		Validate.notNull(element);
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = element;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends Double> collection) {
+		Validate.notNull(collection);
+
+		if (collection instanceof DoubleFitnessList other) {
+			ensureCapacity(size + other.size);
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+			modCount++;
+			return other.size > 0;
+		}
+
+		ensureCapacity(size + collection.size());
+		return super.addAll(collection);
+	}
+
+	@Override
+	public Double remove(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		final double previous = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,155 @@
+package net.bmahe.genetics4j.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Population specialized for scalar {@code Double} fitness values.
+ *
+ * <p>Fitness values are stored in a primitive {@code double[]} through a {@link DoubleFitnessList} rather than as
+ * boxed values. Since {@link #getAllFitnesses()} returns that list, selectors and replacement strategies can detect it
+ * and work directly on primitive values, avoiding boxing and the creation of intermediate {@link Individual}s.
+ *
+ * <p>A DoublePopulation is otherwise a regular {@link Population} and can be used anywhere one is expected.
+ *
+ * @see DoubleFitnessList
+ * @see Population#emptyLike(List)
+ */
+public class DoublePopulation extends Population<Double> {
+
+	private final DoubleFitnessList doubleFitnesses;
+
+	private DoublePopulation(final DoubleFitnessList _doubleFitnesses) {
+		super(_doubleFitnesses);
+
+		this.doubleFitnesses = _doubleFitnesses;
+	}
+
+	/**
+	 * Creates an empty population.
+	 */
+	public DoublePopulation() {
+		this(new DoubleFitnessList());
+	}
+
+	/**
+	 * Creates a population with the specified genotypes and fitnesses.
+	 *
+	 * @param _genotypes the list of genotypes for the population
+	 * @param _fitnesses the fitness values corresponding to the genotypes
+	 * @throws IllegalArgumentException if genotypes or fitnesses are null, or if their sizes don't match
+	 */
+	public DoublePopulation(final List<Genotype> _genotypes, final double[] _fitnesses) {
+		this(new DoubleFitnessList(Validate.notNull(_fitnesses).length));
+		Validate.notNull(_genotypes);
+		Validate.isTrue(_genotypes.size() == _fitnesses.length,
+				"Size of genotype (%d) does not match size of fitnesses (%d)",
+				_genotypes.size(),
+				_fitnesses.length);
+
+		for (int i = 0; i < _fitnesses.length; i++) {
+			add(_genotypes.get(i), _fitnesses[i]);
+		}
+	}
+
+	/**
+	 * Adds an individual to the population without boxing its fitness.
+	 *
+	 * @param genotype the genotype of the individual to add
+	 * @param fitness the fitness value of the individual to add
+	 * @throws IllegalArgumentException if genotype is null
+	 */
+	public void add(final Genotype genotype, final double fitness) {
+		Validate.notNull(genotype);
+
+		getAllGenotypes().add(genotype);
+		doubleFitnesses.addDouble(fitness);
+	}
+
+	/**
+	 * Returns the fitness value at the specified index without boxing it.
+	 *
+	 * @param index the index of the fitness value to retrieve
+	 * @return the fitness value at the specified index
+	 * @throws IllegalArgumentException if index is out of bounds
+	 */
+	public double getDoubleFitness(final int index) {
+		Validate.inclusiveBetween(0, doubleFitnesses.size() - 1, index);
+
+		return doubleFitnesses.getDouble(index);
+	}
+
+	/**
+	 * Returns a copy of all the fitness values as a primitive array.
+	 *
+	 * @return array of fitness values
+	 */
+	public double[] getAllDoubleFitnesses() {
+		return doubleFitnesses.toDoubleArray();
+	}
+
+	@Override
+	public DoubleFitnessList getAllFitnesses() {
+		return doubleFitnesses;
+	}
+
+	@Override
+	public String toString() {
+		return "DoublePopulation [genotypes=" + getAllGenotypes() + ", fitnesses="
+				+ Arrays.toString(doubleFitnesses.toDoubleArray()) + "]";
+	}
+
+	/**
+	 * Creates a DoublePopulation from boxed fitness values.
+	 *
+	 * @param genotypes the list of genotypes for the population
+	 * @param fitnesses the list of fitness values corresponding to the genotypes
+	 * @return a new DoublePopulation
+	 * @throws IllegalArgumentException if genotypes or fitnesses are null, or if their sizes don't match
+	 * @throws NullPointerException if any of the fitness values is null
+	 */
+	public static DoublePopulation from(final List<Genotype> genotypes, final List<Double> fitnesses) {
+		Validate.notNull(genotypes);
+		Validate.notNull(fitnesses);
+
+		if (fitnesses instanceof DoubleFitnessList doubleFitnessList) {
+			return new DoublePopulation(genotypes, doubleFitnessList.toDoubleArray());
+		}
+
+		final double[] values = new double[fitnesses.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = fitnesses.get(i);
+		}
+
+		return new DoublePopulation(genotypes, values);
+	}
+
+	/**
+	 * Returns whether the fitness values can be stored in a DoublePopulation, ie. all of them are non-null
+	 * {@link Double}.
+	 *
+	 * @param fitnesses fitness values
+	 * @return true if all the fitness values are non-null {@code Double}
+	 */
+	public static boolean isDoubleFitness(final List<?> fitnesses) {
+		Validate.notNull(fitnesses);
+
+		if (fitnesses instanceof DoubleFitnessList) {
+			return true;
+		}
+
+		if (fitnesses.isEmpty()) {
+			return false;
+		}
+
+		for (final Object fitness : fitnesses) {
+			if (fitness instanceof Double == false) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
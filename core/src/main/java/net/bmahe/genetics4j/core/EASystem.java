@@ -4,17 +4,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import net.bmahe.genetics4j.core.checkpoint.Checkpoint;
 import net.bmahe.genetics4j.core.chromosomes.Chromosome;
 import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactoryProvider;
 import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
 import net.bmahe.genetics4j.core.combination.GenotypeCombinator;
 import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator;
 import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
 import net.bmahe.genetics4j.core.mutation.Mutator;
 import net.bmahe.genetics4j.core.replacement.ReplacementStrategyImplementor;
@@ -161,11 +166,58 @@ public class EASystem<T extends Comparable<T>> {
 
 	private Selector<T> parentSelector;
 
+	private final ExecutorService executorService;
+
+	private final List<OffspringOperators<T>> offspringPartitionOperators;
+
+	/**
+	 * Fitness evaluator as a streaming evaluator, or null if it does not support streaming
+	 */
+	private final StreamingFitnessEvaluator<T> streamingFitnessEvaluator;
+
+	/**
+	 * Whether offsprings are submitted for evaluation as they are created
+	 */
+	private final boolean pipelinedEvaluation;
+
+	private record OffspringBatch<U extends Comparable<U>>(List<Genotype> offsprings,
+			List<CompletableFuture<U>> fitnesses) {
+	}
+
 	public EASystem(final AbstractEAConfiguration<T> _eaConfiguration, final long _populationSize,
 			final List<ChromosomeCombinator<T>> _chromosomeCombinators, final double _offspringRatio,
 			final Selector<T> _parentSelectionPolicyHandler, final List<Mutator> _mutators,
 			final ReplacementStrategyImplementor<T> _replacementStrategyImplementor,
 			final AbstractEAExecutionContext<T> _eaExecutionContext, final FitnessEvaluator<T> _fitnessEvaluator) {
+		this(_eaConfiguration,
+				_populationSize,
+				_chromosomeCombinators,
+				_offspringRatio,
+				_parentSelectionPolicyHandler,
+				_mutators,
+				_replacementStrategyImplementor,
+				_eaExecutionContext,
+				_fitnessEvaluator,
+				ForkJoinPool.commonPool(),
+				List.of());
+	}
+
+	/**
+	 * Create an EASystem which splits the creation of offsprings across multiple partitions.
+	 * <p>
+	 * Selected parent pairs are split into as many contiguous chunks as there are partitions. Each chunk is combined
+	 * and mutated on the executor service with the operators of its partition. Since each partition owns its
+	 * operators, and thus their random generators, the resulting offsprings do not depend on thread scheduling. The
+	 * offsprings are returned in the same order as their parents.
+	 * <p>
+	 * With less than two partitions, offsprings are created sequentially with the main operators.
+	 */
+	public EASystem(final AbstractEAConfiguration<T> _eaConfiguration, final long _populationSize,
+			final List<ChromosomeCombinator<T>> _chromosomeCombinators, final double _offspringRatio,
+			final Selector<T> _parentSelectionPolicyHandler, final List<Mutator> _mutators,
+			final ReplacementStrategyImplementor<T> _replacementStrategyImplementor,
+			final AbstractEAExecutionContext<T> _eaExecutionContext, final FitnessEvaluator<T> _fitnessEvaluator,
+			final ExecutorService _executorService, final List<OffspringOperators<T>> _offspringPartitionOperators) {
 		Objects.requireNonNull(_eaConfiguration);
 		Validate.isTrue(_populationSize > 0);
 		Objects.requireNonNull(_chromosomeCombinators);
@@ -175,6 +227,13 @@ public class EASystem<T extends Comparable<T>> {
 		Objects.requireNonNull(_replacementStrategyImplementor);
 		Objects.requireNonNull(_eaExecutionContext);
 		Objects.requireNonNull(_fitnessEvaluator);
+		Objects.requireNonNull(_executorService);
+		Objects.requireNonNull(_offspringPartitionOperators);
+		Validate.isTrue(_eaExecutionContext.pipelineBatchSize() > 0);
+		for (final OffspringOperators<T> offspringOperators : _offspringPartitionOperators) {
+			Validate.isTrue(offspringOperators.chromosomeCombinators()
+					.size() == _eaConfiguration.numChromosomes());
+		}
 
 		this.eaConfiguration = _eaConfiguration;
 		this.eaExecutionContext = _eaExecutionContext;
@@ -189,6 +248,19 @@ public class EASystem<T extends Comparable<T>> {
 
 		this.replacementStrategyImplementor = _replacementStrategyImplementor;
 		this.genotypeGenerator = new GenotypeGenerator<>(chromosomeFactoryProvider, eaConfiguration);
+
+		this.executorService = _executorService;
+		this.offspringPartitionOperators = List.copyOf(_offspringPartitionOperators);
+
+		this.streamingFitnessEvaluator = _fitnessEvaluator instanceof StreamingFitnessEvaluator<T> streaming ? streaming
+				: null;
+		this.pipelinedEvaluation = _eaExecutionContext.pipelinedEvaluation() && streamingFitnessEvaluator != null;
+		if (_eaExecutionContext.pipelinedEvaluation() && streamingFitnessEvaluator == null) {
+			logger.warn("Pipelined evaluation requires a {} but {} was provided. Offsprings will be evaluated once created",
+					StreamingFitnessEvaluator.class.getSimpleName(),
+					_fitnessEvaluator.getClass()
+							.getSimpleName());
+		}
 	}
 
 	private List<T> evaluate(final long generation, final List<Genotype> population) {
@@ -203,6 +275,19 @@ public class EASystem<T extends Comparable<T>> {
 		return fitnesses;
 	}
 
+	/**
+	 * Build a population out of evaluated genotypes. Scalar {@code Double} fitness values are stored in a
+	 * {@link DoublePopulation} so selectors and replacement strategies can use their primitive fast paths.
+	 */
+	@SuppressWarnings("unchecked")
+	private Population<T> toPopulation(final List<Genotype> genotypes, final List<T> fitnesses) {
+		if (DoublePopulation.isDoubleFitness(fitnesses)) {
+			return (Population<T>) DoublePopulation.from(genotypes, (List<Double>) fitnesses);
+		}
+
+		return Population.of(genotypes, fitnesses);
+	}
+
 	private List<Genotype> initializePopulation() {
 		final int initialPopulationSize = eaExecutionContext.populationSize();
 		logger.info("Generating initial population of {} individuals", initialPopulationSize);
@@ -228,8 +313,9 @@ public class EASystem<T extends Comparable<T>> {
 		return genotypes;
 	}
 
-	private List<Genotype> mutateGenotypes(final List<Genotype> genotypes) {
+	private List<Genotype> mutateGenotypes(final List<Genotype> genotypes, final List<Mutator> mutators) {
 		Objects.requireNonNull(genotypes);
+		Objects.requireNonNull(mutators);
 
 		return genotypes.stream()
 				.map(child -> {
@@ -244,13 +330,18 @@ public class EASystem<T extends Comparable<T>> {
 				.toList();
 	}
 
-	private List<Genotype> combineParents(final Population<T> parents, final GenotypeCombinator genotypeCombinator) {
+	private List<Genotype> combineParents(final Population<T> parents, final GenotypeCombinator genotypeCombinator,
+			final List<ChromosomeCombinator<T>> chromosomeCombinators, final int fromParentIndex,
+			final int toParentIndex) {
 		Objects.requireNonNull(parents);
 		Objects.requireNonNull(genotypeCombinator);
+		Objects.requireNonNull(chromosomeCombinators);
+		Validate.isTrue(fromParentIndex >= 0);
+		Validate.isTrue(toParentIndex <= parents.size());
 
 		final List<Genotype> children = new ArrayList<>();
-		int parentIndex = 0;
-		while (parentIndex + 1 < parents.size()) {
+		int parentIndex = fromParentIndex;
+		while (parentIndex + 1 < toParentIndex) {
 			final Genotype firstParent = parents.getGenotype(parentIndex);
 			final T firstParentFitness = parents.getFitness(parentIndex);
 
@@ -279,6 +370,17 @@ public class EASystem<T extends Comparable<T>> {
 		return children;
 	}
 
+	private Population<T> selectParents(final Population<T> population, final int offspringsNeeded) {
+		final int parentsNeeded = (int) (offspringsNeeded * 2);
+		logger.info("Selecting {} parents as we expect to generate {} offsprings", parentsNeeded, offspringsNeeded);
+		final Population<T> selectedParents = parentSelector
+				.select(eaConfiguration, parentsNeeded, population.getAllGenotypes(), population.getAllFitnesses());
+		logger.trace("Selected parents: {}", selectedParents);
+		Validate.isTrue(selectedParents.size() % 2 == 0);
+
+		return selectedParents;
+	}
+
 	/**
 	 * Create offsprings without mutation
 	 *
@@ -292,19 +394,225 @@ public class EASystem<T extends Comparable<T>> {
 
 		final GenotypeCombinator genotypeCombinator = eaConfiguration.genotypeCombinator();
 
-		final int parentsNeeded = (int) (offspringsNeeded * 2);
-		logger.info("Selecting {} parents as we expect to generate {} offsprings", parentsNeeded, offspringsNeeded);
-		final Population<T> selectedParents = parentSelector
-				.select(eaConfiguration, parentsNeeded, population.getAllGenotypes(), population.getAllFitnesses());
-		logger.trace("Selected parents: {}", selectedParents);
-		Validate.isTrue(selectedParents.size() % 2 == 0);
+		final Population<T> selectedParents = selectParents(population, offspringsNeeded);
 
 		logger.info("Combining parents into offsprings");
-		final List<Genotype> offsprings = combineParents(selectedParents, genotypeCombinator);
+		final List<Genotype> offsprings = combineParents(selectedParents,
+				genotypeCombinator,
+				chromosomeCombinators,
+				0,
+				selectedParents.size());
 
 		return offsprings;
 	}
 
+	/**
+	 * Create mutated offsprings by splitting the selected parent pairs across the offspring partitions
+	 *
+	 * @param population
+	 * @param offspringsNeeded
+	 * @return
+	 */
+	private List<Genotype> createPartitionedOffsprings(final Population<T> population, final int offspringsNeeded) {
+		Objects.requireNonNull(population);
+		Validate.isTrue(offspringsNeeded > 0);
+
+		final GenotypeCombinator genotypeCombinator = eaConfiguration.genotypeCombinator();
+
+		final Population<T> selectedParents = selectParents(population, offspringsNeeded);
+
+		final int numPairs = selectedParents.size() / 2;
+		final int numPartitions = offspringPartitionOperators.size();
+		logger.info("Combining and mutating {} parent pairs over {} partitions", numPairs, numPartitions);
+
+		final List<CompletableFuture<List<Genotype>>> tasks = new ArrayList<>(numPartitions);
+		for (int partition = 0; partition < numPartitions; partition++) {
+			final int fromPair = (int) ((long) numPairs * partition / numPartitions);
+			final int toPair = (int) ((long) numPairs * (partition + 1) / numPartitions);
+
+			if (toPair > fromPair) {
+				final OffspringOperators<T> offspringOperators = offspringPartitionOperators.get(partition);
+
+				tasks.add(CompletableFuture.supplyAsync(() -> {
+					final List<Genotype> offsprings = combineParents(selectedParents,
+							genotypeCombinator,
+							offspringOperators.chromosomeCombinators(),
+							fromPair * 2,
+							toPair * 2);
+
+					return mutateGenotypes(offsprings, offspringOperators.mutators());
+				}, executorService));
+			}
+		}
+
+		final List<Genotype> mutatedOffsprings = new ArrayList<>(offspringsNeeded);
+		for (final CompletableFuture<List<Genotype>> task : tasks) {
+			mutatedOffsprings.addAll(task.join());
+		}
+
+		return mutatedOffsprings;
+	}
+
+	/**
+	 * Submit offsprings to the streaming evaluator. The early termination future completes with the first of them
+	 * satisfying {@link Termination#isDoneWithIndividual}
+	 */
+	private OffspringBatch<T> submitOffsprings(final long generation, final List<Genotype> offsprings,
+			final CompletableFuture<Individual<T>> earlyTermination) {
+		final Termination<T> termination = eaConfiguration.termination();
+
+		logger.trace("Submitting {} offsprings for evaluation", offsprings.size());
+		final List<CompletableFuture<T>> fitnesses = streamingFitnessEvaluator.evaluateStream(generation, offsprings);
+		for (int i = 0; i < offsprings.size(); i++) {
+			final Genotype offspring = offsprings.get(i);
+			fitnesses.get(i)
+					.thenAccept(fitness -> {
+						if (termination.isDoneWithIndividual(eaConfiguration, generation, offspring, fitness)) {
+							earlyTermination.complete(Individual.of(offspring, fitness));
+						}
+					});
+		}
+
+		return new OffspringBatch<>(offsprings, fitnesses);
+	}
+
+	/**
+	 * Wait for the evaluation of the offsprings.
+	 * <p>
+	 * If an offspring satisfies {@link Termination#isDoneWithIndividual} first, the evaluation of the remaining
+	 * offsprings is cancelled and only the offsprings evaluated so far are kept. Failed evaluations are propagated
+	 * either way.
+	 */
+	private Population<T> awaitOffsprings(final List<OffspringBatch<T>> offspringBatches,
+			final CompletableFuture<Individual<T>> earlyTermination) {
+		final List<CompletableFuture<T>> allFitnesses = new ArrayList<>();
+		for (final OffspringBatch<T> offspringBatch : offspringBatches) {
+			allFitnesses.addAll(offspringBatch.fitnesses());
+		}
+
+		CompletableFuture.anyOf(CompletableFuture.allOf(allFitnesses.toArray(new CompletableFuture[allFitnesses.size()])),
+				earlyTermination)
+				.join();
+
+		final boolean isEarlyTermination = earlyTermination.isDone();
+		if (isEarlyTermination) {
+			final long numCancelled = allFitnesses.stream()
+					.filter(fitness -> fitness.cancel(false))
+					.count();
+			logger.info("Found an offspring satisfying the termination criteria, cancelled {} evaluations", numCancelled);
+		}
+
+		final List<Genotype> offsprings = new ArrayList<>(allFitnesses.size());
+		final List<T> fitnesses = new ArrayList<>(allFitnesses.size());
+		for (final OffspringBatch<T> offspringBatch : offspringBatches) {
+			for (int i = 0; i < offspringBatch.offsprings()
+					.size(); i++) {
+				final CompletableFuture<T> fitness = offspringBatch.fitnesses()
+						.get(i);
+
+				// join() rethrows the failure of an evaluation which was not cancelled
+				if (fitness.isCancelled() == false) {
+					offsprings.add(offspringBatch.offsprings()
+							.get(i));
+					fitnesses.add(fitness.join());
+				}
+			}
+		}
+		logger.info("Evaluated {} offsprings", offsprings.size());
+
+		return toPopulation(offsprings, fitnesses);
+	}
+
+	/**
+	 * Combine and mutate the parent pairs in [fromPair, toPair) in micro-batches, each of them being submitted for
+	 * evaluation as soon as it is created. Stops creating offsprings once the early termination future is completed.
+	 */
+	private List<OffspringBatch<T>> createAndSubmitOffsprings(final long generation, final Population<T> selectedParents,
+			final GenotypeCombinator genotypeCombinator, final List<ChromosomeCombinator<T>> chromosomeCombinators,
+			final List<Mutator> mutators, final int fromPair, final int toPair,
+			final CompletableFuture<Individual<T>> earlyTermination) {
+		final int pairsPerBatch = Math.max(1, eaExecutionContext.pipelineBatchSize() / 2);
+
+		final List<OffspringBatch<T>> offspringBatches = new ArrayList<>();
+		for (int batchFromPair = fromPair; batchFromPair < toPair
+				&& earlyTermination.isDone() == false; batchFromPair += pairsPerBatch) {
+			final int batchToPair = Math.min(toPair, batchFromPair + pairsPerBatch);
+
+			final List<Genotype> offsprings = combineParents(selectedParents,
+					genotypeCombinator,
+					chromosomeCombinators,
+					batchFromPair * 2,
+					batchToPair * 2);
+			final List<Genotype> mutatedOffsprings = mutateGenotypes(offsprings, mutators);
+
+			if (mutatedOffsprings.isEmpty() == false) {
+				offspringBatches.add(submitOffsprings(generation, mutatedOffsprings, earlyTermination));
+			}
+		}
+
+		return offspringBatches;
+	}
+
+	/**
+	 * Create and evaluate offsprings, overlapping the creation of each micro-batch of offsprings with the evaluation
+	 * of the previous ones.
+	 * <p>
+	 * The parents are selected upfront and the offsprings are returned in the same order as their parents. With
+	 * offspring partitions, each partition creates and submits its own micro-batches concurrently.
+	 */
+	private Population<T> createAndEvaluateOffsprings(final long generation, final Population<T> population,
+			final int offspringsNeeded, final CompletableFuture<Individual<T>> earlyTermination) {
+		Objects.requireNonNull(population);
+		Validate.isTrue(offspringsNeeded > 0);
+
+		final GenotypeCombinator genotypeCombinator = eaConfiguration.genotypeCombinator();
+		final Population<T> selectedParents = selectParents(population, offspringsNeeded);
+		final int numPairs = selectedParents.size() / 2;
+
+		final List<OffspringBatch<T>> offspringBatches = new ArrayList<>();
+		if (offspringPartitionOperators.size() > 1) {
+			final int numPartitions = offspringPartitionOperators.size();
+			logger.info("Creating and evaluating offsprings of {} parent pairs over {} partitions",
+					numPairs,
+					numPartitions);
+
+			final List<CompletableFuture<List<OffspringBatch<T>>>> tasks = new ArrayList<>(numPartitions);
+			for (int partition = 0; partition < numPartitions; partition++) {
+				final int fromPair = (int) ((long) numPairs * partition / numPartitions);
+				final int toPair = (int) ((long) numPairs * (partition + 1) / numPartitions);
+
+				if (toPair > fromPair) {
+					final OffspringOperators<T> offspringOperators = offspringPartitionOperators.get(partition);
+
+					tasks.add(CompletableFuture.supplyAsync(() -> createAndSubmitOffsprings(generation,
+							selectedParents,
+							genotypeCombinator,
+							offspringOperators.chromosomeCombinators(),
+							offspringOperators.mutators(),
+							fromPair,
+							toPair,
+							earlyTermination), executorService));
+				}
+			}
+
+			for (final CompletableFuture<List<OffspringBatch<T>>> task : tasks) {
+				offspringBatches.addAll(task.join());
+			}
+		} else {
+			logger.info("Creating and evaluating offsprings of {} parent pairs", numPairs);
+			offspringBatches.addAll(createAndSubmitOffsprings(generation,
+					selectedParents,
+					genotypeCombinator,
+					chromosomeCombinators,
+					mutators,
+					0,
+					numPairs,
+					earlyTermination));
+		}
+
+		return awaitOffsprings(offspringBatches, earlyTermination);
+	}
+
 	/**
 	 * Gets the evolutionary algorithm configuration used by this system.
 	 * 
@@ -324,6 +632,16 @@ public class EASystem<T extends Comparable<T>> {
 		return populationSize;
 	}
 
+	/**
+	 * Gets the fitness evaluator used to evaluate the population.
+	 * 
+	 * @return the fitness evaluator, which can be used to inspect metrics such as the ones from
+	 *         {@link net.bmahe.genetics4j.core.evaluation.FitnessEvaluatorCached}
+	 */
+	public FitnessEvaluator<T> getFitnessEvaluator() {
+		return fitnessEvaluator;
+	}
+
 	/**
 	 * Creates offspring from the given population through selection, crossover, and
 	 * mutation.
@@ -347,11 +665,17 @@ public class EASystem<T extends Comparable<T>> {
 		Objects.requireNonNull(population);
 		Validate.isTrue(offspringsNeeded > 0);
 
+		if (offspringPartitionOperators.size() > 1) {
+			final List<Genotype> mutatedOffsprings = createPartitionedOffsprings(population, offspringsNeeded);
+			logger.info("Generated {} offsprings", mutatedOffsprings.size());
+			return mutatedOffsprings;
+		}
+
 		final List<Genotype> offpsrings = createBasicOffsprings(population, offspringsNeeded);
 		logger.info("Generated {} offsprings", offpsrings.size());
 
 		logger.info("Mutating offsprigns");
-		final List<Genotype> mutatedOffsprings = mutateGenotypes(offpsrings);
+		final List<Genotype> mutatedOffsprings = mutateGenotypes(offpsrings, mutators);
 
 		return mutatedOffsprings;
 	}
@@ -374,6 +698,9 @@ public class EASystem<T extends Comparable<T>> {
 	 * <p>
 	 * The evolution process continues until the configured termination criteria
 	 * (e.g., maximum generations, target fitness, convergence) are satisfied.
+	 * When the fitness evaluator streams its results, the evolution also stops
+	 * once an offspring satisfies {@link Termination#isDoneWithIndividual}. That
+	 * offspring is then part of the final population.
 	 * 
 	 * @return an EvolutionResult containing the final population, fitness values,
 	 *         generation count, and configuration details
@@ -381,21 +708,55 @@ public class EASystem<T extends Comparable<T>> {
 	 * @see EvolutionResult
 	 */
 	public EvolutionResult<T> evolve() {
-		final Termination<T> termination = eaConfiguration.termination();
-
 		logger.info("Starting evolution");
 
 		fitnessEvaluator.preEvaluation();
 
-		long generation = 0;
+		final long generation = 0;
 		final List<Genotype> genotypes = initializePopulation();
 
 		logger.info("Evaluating initial population");
 		final List<T> fitnessScore = evaluate(generation, genotypes);
 
-		Population<T> population = eaConfiguration.postEvaluationProcessor()
-				.map(pep -> pep.apply(Population.of(genotypes, fitnessScore)))
-				.orElseGet(() -> Population.of(genotypes, fitnessScore));
+		final Population<T> population = eaConfiguration.postEvaluationProcessor()
+				.map(pep -> pep.apply(toPopulation(genotypes, fitnessScore)))
+				.orElseGet(() -> toPopulation(genotypes, fitnessScore));
+
+		return evolveFrom(generation, population);
+	}
+
+	/**
+	 * Resumes an evolution from a checkpoint until the termination criteria are met.
+	 * 
+	 * <p>
+	 * The population of the checkpoint is used as is, without being evaluated again, and the evolution carries on
+	 * from the generation of the checkpoint. For the run to continue as if it had never been interrupted, the random
+	 * generator of the checkpoint, if present, should be used as the random generator of the execution context this
+	 * system was built with.
+	 * 
+	 * @param checkpoint checkpoint to resume from
+	 * @return an EvolutionResult containing the final population, fitness values,
+	 *         generation count, and configuration details
+	 * @throws NullPointerException if checkpoint is null
+	 * @see net.bmahe.genetics4j.core.checkpoint.CheckpointEvolutionListener
+	 * @see #evolve()
+	 */
+	public EvolutionResult<T> resume(final Checkpoint<T> checkpoint) {
+		Objects.requireNonNull(checkpoint);
+
+		logger.info("Resuming evolution from generation {}", checkpoint.generation());
+
+		fitnessEvaluator.preEvaluation();
+
+		final Population<T> population = toPopulation(checkpoint.genotypes(), checkpoint.fitnesses());
+		return evolveFrom(checkpoint.generation(), population);
+	}
+
+	private EvolutionResult<T> evolveFrom(final long startGeneration, final Population<T> initialPopulation) {
+		final Termination<T> termination = eaConfiguration.termination();
+
+		long generation = startGeneration;
+		Population<T> population = initialPopulation;
 
 		while (termination
 				.isDone(eaConfiguration, generation, population.getAllGenotypes(), population.getAllFitnesses()) == false) {
@@ -407,14 +768,27 @@ public class EASystem<T extends Comparable<T>> {
 			}
 
 			final int offspringsNeeded = (int) (populationSize * offspringRatio);
-			final List<Genotype> offsprings = createOffsprings(population, offspringsNeeded);
-
-			logger.info("Evaluating offsprings");
-			final List<T> offspringScores = evaluate(generation, offsprings);
+			final CompletableFuture<Individual<T>> earlyTermination = new CompletableFuture<>();
+			final Population<T> evaluatedOffsprings;
+			if (pipelinedEvaluation) {
+				evaluatedOffsprings = createAndEvaluateOffsprings(generation, population, offspringsNeeded, earlyTermination);
+			} else if (streamingFitnessEvaluator != null) {
+				final List<Genotype> offsprings = createOffsprings(population, offspringsNeeded);
+
+				logger.info("Evaluating offsprings");
+				final OffspringBatch<T> offspringBatch = submitOffsprings(generation, offsprings, earlyTermination);
+				evaluatedOffsprings = awaitOffsprings(List.of(offspringBatch), earlyTermination);
+			} else {
+				final List<Genotype> offsprings = createOffsprings(population, offspringsNeeded);
+
+				logger.info("Evaluating offsprings");
+				final List<T> offspringScores = evaluate(generation, offsprings);
+				evaluatedOffsprings = toPopulation(offsprings, offspringScores);
+			}
 
 			final Population<T> childrenPopulation = eaConfiguration.postEvaluationProcessor()
-					.map(pep -> pep.apply(Population.of(offsprings, offspringScores)))
-					.orElseGet(() -> Population.of(offsprings, offspringScores));
+					.map(pep -> pep.apply(evaluatedOffsprings))
+					.orElse(evaluatedOffsprings);
 
 			logger.info("Executing replacement strategy");
 			final int nextGenerationPopulationSize = eaExecutionContext.populationSize();
@@ -438,11 +812,25 @@ public class EASystem<T extends Comparable<T>> {
 				}
 			}
 
+			if (earlyTermination.isDone()) {
+				final Individual<T> terminatingIndividual = earlyTermination.join();
+				if (newPopulation.getAllGenotypes()
+						.contains(terminatingIndividual.genotype()) == false) {
+					logger.info("Adding the offspring satisfying the termination criteria back to the population");
+					newPopulation.add(terminatingIndividual);
+				}
+			}
+
 			if (logger.isTraceEnabled()) {
 				logger.trace("[Generation {}] New population: {}", generation, Arrays.asList(newPopulation));
 			}
 			population = newPopulation;
 			generation++;
+
+			if (earlyTermination.isDone()) {
+				logger.info("An offspring satisfied the termination criteria");
+				break;
+			}
 		}
 
 		logger.info("Evolution has terminated");
@@ -3,28 +3,44 @@ package net.bmahe.genetics4j.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.Validate;
 
+import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactoryProvider;
+import net.bmahe.genetics4j.core.chromosomes.factory.ImmutableChromosomeFactoryProvider;
 import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
 import net.bmahe.genetics4j.core.combination.ChromosomeCombinatorResolver;
 import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
 import net.bmahe.genetics4j.core.evaluation.FitnessEvaluatorBulkAsync;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluatorCached;
 import net.bmahe.genetics4j.core.evaluation.FitnessEvaluatorSync;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluatorVirtualThread;
+import net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator;
+import net.bmahe.genetics4j.core.island.EmigrationListener;
+import net.bmahe.genetics4j.core.island.ImmigrationProcessor;
+import net.bmahe.genetics4j.core.island.IslandEASystem;
 import net.bmahe.genetics4j.core.mutation.MutationPolicyHandlerResolver;
 import net.bmahe.genetics4j.core.mutation.Mutator;
 import net.bmahe.genetics4j.core.replacement.ReplacementStrategyHandler;
+import net.bmahe.genetics4j.core.replacement.ReplacementStrategyImplementor;
 import net.bmahe.genetics4j.core.selection.SelectionPolicyHandlerResolver;
+import net.bmahe.genetics4j.core.selection.Selector;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
 import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
 import net.bmahe.genetics4j.core.spec.EAConfiguration;
 import net.bmahe.genetics4j.core.spec.EAConfigurationBulkAsync;
 import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.ImmutableEAExecutionContext;
 import net.bmahe.genetics4j.core.spec.combination.CombinationPolicy;
+import net.bmahe.genetics4j.core.spec.island.Migration;
 import net.bmahe.genetics4j.core.spec.mutation.MutationPolicy;
+import net.bmahe.genetics4j.core.util.RandomGeneratorUtils;
 
 /**
  * Factory class providing convenient methods for creating properly configured {@link EASystem} instances.
@@ -47,6 +63,9 @@ import net.bmahe.genetics4j.core.spec.mutation.MutationPolicy;
  * <li><strong>Synchronous evaluation</strong>: Traditional single-threaded or parallel evaluation using {@link EAConfiguration}</li>
  * <li><strong>Bulk asynchronous evaluation</strong>: Batch processing for external services or GPU acceleration using {@link EAConfigurationBulkAsync}</li>
  * <li><strong>Custom evaluation</strong>: User-provided {@link FitnessEvaluator} implementations</li>
+ * <li><strong>Cached evaluation</strong>: Synchronous evaluation memoizing the fitness of already seen genotypes</li>
+ * <li><strong>Steady-state evaluation</strong>: {@link AsyncEASystem} keeping a bounded number of evaluations in flight</li>
+ * <li><strong>Island model</strong>: {@link IslandEASystem} evolving several sub-populations exchanging migrants</li>
  * </ul>
  * 
  * <p>Common usage patterns:
@@ -81,7 +100,7 @@ import net.bmahe.genetics4j.core.spec.mutation.MutationPolicy;
  * EASystem<Double> asyncSystem = EASystemFactory.from(asyncConfig, context);
  * 
  * // Custom evaluation strategy
- * FitnessEvaluator<Double> customEvaluator = new CachedFitnessEvaluator<>(baseFitness, cacheSize);
+ * FitnessEvaluator<Double> customEvaluator = new FitnessEvaluatorCached<>(baseEvaluator, cacheSize);
  * EASystem<Double> customSystem = EASystemFactory.from(config, context, executorService, customEvaluator);
  * }</pre>
  * 
@@ -115,55 +134,37 @@ public class EASystemFactory {
 	private EASystemFactory() {
 	}
 
-	/**
-	 * Creates an {@link EASystem} with a custom fitness evaluator and explicit thread pool.
-	 * 
-	 * <p>This is the most flexible factory method that allows complete control over all components
-	 * of the evolutionary algorithm system. It assembles and wires all necessary components including
-	 * selection strategies, mutation operators, chromosome combinators, and replacement strategies.
-	 * 
-	 * <p>This method is primarily used internally by other factory methods, but can be used directly
-	 * when you need to provide a custom {@link FitnessEvaluator} implementation such as cached,
-	 * distributed, or specialized evaluation strategies.
-	 * 
-	 * @param <T> the type of fitness values, must be comparable for selection operations
-	 * @param eaConfiguration the evolutionary algorithm configuration specifying genetic operators and strategies
-	 * @param eaExecutionContext the execution context containing population parameters and fitness functions
-	 * @param executorService the thread pool for parallel operations (caller responsible for shutdown)
-	 * @param fitnessEvaluator the fitness evaluator implementation to use for population evaluation
-	 * @return a fully configured {@link EASystem} ready for evolution execution
-	 * @throws IllegalArgumentException if any parameter is null
-	 * @throws IllegalStateException if no suitable replacement strategy handler can be found
-	 */
-	public static <T extends Comparable<T>> EASystem<T> from(final AbstractEAConfiguration<T> eaConfiguration,
-			final AbstractEAExecutionContext<T> eaExecutionContext, final ExecutorService executorService,
-			final FitnessEvaluator<T> fitnessEvaluator) {
-		Validate.notNull(eaConfiguration);
-		Validate.notNull(eaExecutionContext);
-		Validate.notNull(executorService);
-		Validate.notNull(fitnessEvaluator);
-
-		final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<T>(eaExecutionContext);
+	private static <T extends Comparable<T>> Selector<T> resolveParentSelector(
+			final AbstractEAConfiguration<T> eaConfiguration, final AbstractEAExecutionContext<T> eaExecutionContext,
+			final SelectionPolicyHandlerResolver<T> selectionPolicyHandlerResolver) {
 
 		final var parentSelectionPolicyHandler = selectionPolicyHandlerResolver
 				.resolve(eaConfiguration.parentSelectionPolicy());
 
-		final var parentSelector = parentSelectionPolicyHandler.resolve(eaExecutionContext,
+		return parentSelectionPolicyHandler.resolve(eaExecutionContext,
 				eaConfiguration,
 				selectionPolicyHandlerResolver,
 				eaConfiguration.parentSelectionPolicy());
+	}
 
-		final var mutationPolicyHandlerResolver = new MutationPolicyHandlerResolver<T>(eaExecutionContext);
+	private static <T extends Comparable<T>> List<ChromosomeCombinator<T>> resolveChromosomeCombinators(
+			final AbstractEAConfiguration<T> eaConfiguration, final AbstractEAExecutionContext<T> eaExecutionContext) {
 
 		final var chromosomeCombinatorResolver = new ChromosomeCombinatorResolver<T>(eaExecutionContext);
 
 		final CombinationPolicy combinationPolicy = eaConfiguration.combinationPolicy();
-		final List<ChromosomeCombinator<T>> chromosomeCombinators = eaConfiguration.chromosomeSpecs()
+		return eaConfiguration.chromosomeSpecs()
 				.stream()
 				.map((chromosome) -> {
 					return chromosomeCombinatorResolver.resolve(combinationPolicy, chromosome);
 				})
 				.collect(Collectors.toList());
+	}
+
+	private static <T extends Comparable<T>> List<Mutator> resolveMutators(
+			final AbstractEAConfiguration<T> eaConfiguration, final AbstractEAExecutionContext<T> eaExecutionContext) {
+
+		final var mutationPolicyHandlerResolver = new MutationPolicyHandlerResolver<T>(eaExecutionContext);
 
 		final List<Mutator> mutators = new ArrayList<>();
 		final List<MutationPolicy> mutationPolicies = eaConfiguration.mutationPolicies();
@@ -178,6 +179,103 @@ public class EASystemFactory {
 
 		}
 
+		return mutators;
+	}
+
+	/**
+	 * Whether two handler lists hold the same kinds of handlers, in the same order.
+	 */
+	private static boolean sameHandlerClasses(final List<?> handlers, final List<?> otherHandlers) {
+		if (handlers.size() != otherHandlers.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < handlers.size(); i++) {
+			if (handlers.get(i).getClass() != otherHandlers.get(i).getClass()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Resolve one set of offspring operators per offspring partition.
+	 * <p>
+	 * Operators capture their random generator when they are created. Each partition therefore gets a copy of the
+	 * execution context with its own random generator, split from the original one. The default handlers and chromosome
+	 * factory provider are re-derived from that random generator. Since overridden ones cannot be re-created, they are
+	 * rejected when more than one offspring partition is requested.
+	 */
+	private static <T extends Comparable<T>> List<OffspringOperators<T>> resolveOffspringPartitionOperators(
+			final AbstractEAConfiguration<T> eaConfiguration, final AbstractEAExecutionContext<T> eaExecutionContext) {
+
+		if (eaExecutionContext instanceof EAExecutionContext<T> == false) {
+			return List.of();
+		}
+
+		final EAExecutionContext<T> executionContext = (EAExecutionContext<T>) eaExecutionContext;
+		if (executionContext.numberOfOffspringPartitions() < 2) {
+			return List.of();
+		}
+
+		final EAExecutionContext<T> defaultExecutionContext = EAExecutionContext.<T>builder()
+				.randomGenerator(executionContext.randomGenerator())
+				.build();
+		Validate.isTrue(
+				sameHandlerClasses(executionContext.defaultChromosomeCombinatorHandlers(),
+						defaultExecutionContext.defaultChromosomeCombinatorHandlers()),
+				"Overridden default chromosome combinator handlers cannot be used with offspring partitions");
+		Validate.isTrue(
+				sameHandlerClasses(executionContext.defaultMutationPolicyHandlers(),
+						defaultExecutionContext.defaultMutationPolicyHandlers()),
+				"Overridden default mutation policy handlers cannot be used with offspring partitions");
+		Validate.isTrue(
+				sameHandlerClasses(executionContext.defaultChromosomeMutationPolicyHandlers(),
+						defaultExecutionContext.defaultChromosomeMutationPolicyHandlers()),
+				"Overridden default chromosome mutation policy handlers cannot be used with offspring partitions");
+
+		final ChromosomeFactoryProvider chromosomeFactoryProvider = executionContext.chromosomeFactoryProvider();
+		Validate.isTrue(
+				chromosomeFactoryProvider.randomGenerator() == executionContext.randomGenerator()
+						&& sameHandlerClasses(chromosomeFactoryProvider.defaultChromosomeFactories(),
+								defaultExecutionContext.chromosomeFactoryProvider().defaultChromosomeFactories()),
+				"An overridden chromosome factory provider cannot be used with offspring partitions");
+
+		final int numberOfOffspringPartitions = executionContext.numberOfOffspringPartitions();
+		final List<RandomGenerator> randomGenerators = RandomGeneratorUtils.split(executionContext.randomGenerator(),
+				numberOfOffspringPartitions);
+
+		final List<OffspringOperators<T>> offspringPartitionOperators = new ArrayList<>(numberOfOffspringPartitions);
+		for (final RandomGenerator randomGenerator : randomGenerators) {
+			final EAExecutionContext<T> partitionDefaults = EAExecutionContext.<T>builder()
+					.randomGenerator(randomGenerator)
+					.build();
+
+			final EAExecutionContext<T> partitionExecutionContext = ImmutableEAExecutionContext.<T>builder()
+					.from(executionContext)
+					.randomGenerator(randomGenerator)
+					.defaultChromosomeCombinatorHandlers(partitionDefaults.defaultChromosomeCombinatorHandlers())
+					.defaultMutationPolicyHandlers(partitionDefaults.defaultMutationPolicyHandlers())
+					.defaultChromosomeMutationPolicyHandlers(partitionDefaults.defaultChromosomeMutationPolicyHandlers())
+					.chromosomeFactoryProvider(ImmutableChromosomeFactoryProvider.copyOf(chromosomeFactoryProvider)
+							.withRandomGenerator(randomGenerator)
+							.withDefaultChromosomeFactories(
+									partitionDefaults.chromosomeFactoryProvider().defaultChromosomeFactories()))
+					.build();
+
+			offspringPartitionOperators.add(
+					new OffspringOperators<>(resolveChromosomeCombinators(eaConfiguration, partitionExecutionContext),
+							resolveMutators(eaConfiguration, partitionExecutionContext)));
+		}
+
+		return offspringPartitionOperators;
+	}
+
+	private static <T extends Comparable<T>> ReplacementStrategyImplementor<T> resolveReplacementStrategyImplementor(
+			final AbstractEAConfiguration<T> eaConfiguration, final AbstractEAExecutionContext<T> eaExecutionContext,
+			final SelectionPolicyHandlerResolver<T> selectionPolicyHandlerResolver) {
+
 		final var replacementStrategyHandlers = eaExecutionContext.replacementStrategyHandlers();
 		final var replacementStrategy = eaConfiguration.replacementStrategy();
 
@@ -188,8 +286,52 @@ public class EASystemFactory {
 		final ReplacementStrategyHandler<T> replacementStrategyHandler = replacementStrategyHandlerOpt
 				.orElseThrow(() -> new IllegalStateException(
 						"Could not find an implementation to handle the replacement strategy " + replacementStrategy));
-		final var replacementStrategyImplementor = replacementStrategyHandler
+		return replacementStrategyHandler
 				.resolve(eaExecutionContext, eaConfiguration, selectionPolicyHandlerResolver, replacementStrategy);
+	}
+
+	/**
+	 * Creates an {@link EASystem} with a custom fitness evaluator and explicit thread pool.
+	 * 
+	 * <p>This is the most flexible factory method that allows complete control over all components
+	 * of the evolutionary algorithm system. It assembles and wires all necessary components including
+	 * selection strategies, mutation operators, chromosome combinators, and replacement strategies.
+	 * 
+	 * <p>This method is primarily used internally by other factory methods, but can be used directly
+	 * when you need to provide a custom {@link FitnessEvaluator} implementation such as cached,
+	 * distributed, or specialized evaluation strategies.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfiguration the evolutionary algorithm configuration specifying genetic operators and strategies
+	 * @param eaExecutionContext the execution context containing population parameters and fitness functions
+	 * @param executorService the thread pool for parallel operations (caller responsible for shutdown)
+	 * @param fitnessEvaluator the fitness evaluator implementation to use for population evaluation
+	 * @return a fully configured {@link EASystem} ready for evolution execution
+	 * @throws IllegalArgumentException if any parameter is null
+	 * @throws IllegalStateException if no suitable replacement strategy handler can be found
+	 */
+	public static <T extends Comparable<T>> EASystem<T> from(final AbstractEAConfiguration<T> eaConfiguration,
+			final AbstractEAExecutionContext<T> eaExecutionContext, final ExecutorService executorService,
+			final FitnessEvaluator<T> fitnessEvaluator) {
+		Validate.notNull(eaConfiguration);
+		Validate.notNull(eaExecutionContext);
+		Validate.notNull(executorService);
+		Validate.notNull(fitnessEvaluator);
+
+		final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<T>(eaExecutionContext);
+		final var parentSelector = resolveParentSelector(eaConfiguration,
+				eaExecutionContext,
+				selectionPolicyHandlerResolver);
+		final List<ChromosomeCombinator<T>> chromosomeCombinators = resolveChromosomeCombinators(eaConfiguration,
+				eaExecutionContext);
+		final List<Mutator> mutators = resolveMutators(eaConfiguration, eaExecutionContext);
+		final var replacementStrategyImplementor = resolveReplacementStrategyImplementor(eaConfiguration,
+				eaExecutionContext,
+				selectionPolicyHandlerResolver);
+
+		final List<OffspringOperators<T>> offspringPartitionOperators = resolveOffspringPartitionOperators(
+				eaConfiguration,
+				eaExecutionContext);
 
 		final long populationSize = eaExecutionContext.populationSize();
 
@@ -201,7 +343,9 @@ public class EASystemFactory {
 				mutators,
 				replacementStrategyImplementor,
 				eaExecutionContext,
-				fitnessEvaluator);
+				fitnessEvaluator,
+				executorService,
+				offspringPartitionOperators);
 	}
 
 	/**
@@ -315,4 +459,305 @@ public class EASystemFactory {
 		final ExecutorService executorService = ForkJoinPool.commonPool();
 		return from(eaConfigurationBulkAsync, eaExecutionContext, executorService);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Creates an {@link EASystem} with synchronous fitness evaluation memoized by a bounded cache.
+	 * 
+	 * <p>Genotypes already evaluated, such as elites carried over or clones produced by identical parents, are served
+	 * from a {@link FitnessEvaluatorCached} instead of being evaluated again. The cache keeps up to
+	 * {@code maximumCacheSize} genotypes and evicts the least recently used ones.
+	 * 
+	 * <p>Only use this method when the fitness of a genotype does not change across generations.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param executorService the thread pool for parallel fitness evaluation (caller responsible for shutdown)
+	 * @param maximumCacheSize maximum number of genotypes kept in the cache
+	 * @return a configured {@link EASystem} using cached synchronous fitness evaluation
+	 * @throws IllegalArgumentException if any parameter is null or if maximumCacheSize is not positive
+	 */
+	public static <T extends Comparable<T>> EASystem<T> cachedFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final ExecutorService executorService,
+			final int maximumCacheSize) {
+
+		final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext, eaConfigurationSync, executorService);
+		final var cachedFitnessEvaluator = new FitnessEvaluatorCached<>(fitnessEvaluator, maximumCacheSize);
+		return from(eaConfigurationSync, eaExecutionContext, executorService, cachedFitnessEvaluator);
+	}
+
+	/**
+	 * Creates an {@link EASystem} with synchronous fitness evaluation memoized by a bounded cache, using the common
+	 * thread pool.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param maximumCacheSize maximum number of genotypes kept in the cache
+	 * @return a configured {@link EASystem} using cached synchronous fitness evaluation with common thread pool
+	 * @throws IllegalArgumentException if any parameter is null or if maximumCacheSize is not positive
+	 * @see #cachedFrom(EAConfiguration, EAExecutionContext, ExecutorService, int)
+	 */
+	public static <T extends Comparable<T>> EASystem<T> cachedFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final int maximumCacheSize) {
+		final ExecutorService executorService = ForkJoinPool.commonPool();
+		return cachedFrom(eaConfigurationSync, eaExecutionContext, executorService, maximumCacheSize);
+	}
+
+	/**
+	 * Creates an {@link EASystem} evaluating the fitness of each batch of individuals in its own virtual thread.
+	 * 
+	 * <p>This method is designed for I/O bound fitness functions, such as ones calling a remote service or a simulator
+	 * over the network. Rather than being capped by the number of platform threads, up to {@code maxConcurrency}
+	 * evaluations are kept in flight through a {@link FitnessEvaluatorVirtualThread}.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param executorService the thread pool for the other parallel operations (caller responsible for shutdown)
+	 * @param maxConcurrency maximum number of evaluations running concurrently
+	 * @param batchSize number of individuals evaluated by each virtual thread
+	 * @return a configured {@link EASystem} evaluating fitness with virtual threads
+	 * @throws IllegalArgumentException if any parameter is null or if maxConcurrency or batchSize is not positive
+	 */
+	public static <T extends Comparable<T>> EASystem<T> virtualThreadsFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final ExecutorService executorService, final int maxConcurrency,
+			final int batchSize) {
+
+		final var fitnessEvaluator = new FitnessEvaluatorVirtualThread<>(eaConfigurationSync, maxConcurrency, batchSize);
+		return from(eaConfigurationSync, eaExecutionContext, executorService, fitnessEvaluator);
+	}
+
+	/**
+	 * Creates an {@link EASystem} evaluating the fitness of each individual in its own virtual thread, using the common
+	 * thread pool for the other parallel operations.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param maxConcurrency maximum number of evaluations running concurrently
+	 * @return a configured {@link EASystem} evaluating fitness with virtual threads
+	 * @throws IllegalArgumentException if any parameter is null or if maxConcurrency is not positive
+	 * @see #virtualThreadsFrom(EAConfiguration, EAExecutionContext, ExecutorService, int, int)
+	 */
+	public static <T extends Comparable<T>> EASystem<T> virtualThreadsFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final int maxConcurrency) {
+		final ExecutorService executorService = ForkJoinPool.commonPool();
+		return virtualThreadsFrom(eaConfigurationSync,
+				eaExecutionContext,
+				executorService,
+				maxConcurrency,
+				FitnessEvaluatorVirtualThread.DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates an {@link AsyncEASystem} performing steady-state evolution with a bounded number of evaluations in
+	 * flight.
+	 * 
+	 * <p>This method is ideal when the cost of the fitness function varies a lot between individuals. Rather than
+	 * waiting for the slowest individual of each generation, a new offspring is bred and submitted as soon as any
+	 * evaluation completes, keeping the thread pool busy.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param executorService the thread pool used for fitness evaluations (caller responsible for shutdown)
+	 * @param maxInFlight the maximum number of fitness evaluations running concurrently
+	 * @return a configured {@link AsyncEASystem}
+	 * @throws IllegalArgumentException if any parameter is null or if maxInFlight is not positive
+	 * @throws IllegalStateException if no suitable replacement strategy handler can be found
+	 */
+	public static <T extends Comparable<T>> AsyncEASystem<T> asyncFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final ExecutorService executorService,
+			final int maxInFlight) {
+		Validate.notNull(eaConfigurationSync);
+		Validate.notNull(eaExecutionContext);
+		Validate.notNull(executorService);
+
+		final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext, eaConfigurationSync, executorService);
+		return asyncFrom(eaConfigurationSync, eaExecutionContext, executorService, maxInFlight, fitnessEvaluator);
+	}
+
+	/**
+	 * Creates an {@link AsyncEASystem} performing steady-state evolution with a bounded number of evaluations in
+	 * flight, using a custom fitness evaluator.
+	 * 
+	 * <p>Offspring are submitted one at a time. A {@link StreamingFitnessEvaluator} receives them through
+	 * {@link StreamingFitnessEvaluator#evaluateStream(long, List)}, while any other evaluator is called on the executor
+	 * service with batches of a single individual.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param executorService the thread pool used for evaluations by non streaming evaluators (caller responsible for
+	 *                        shutdown)
+	 * @param maxInFlight the maximum number of fitness evaluations running concurrently
+	 * @param fitnessEvaluator the fitness evaluator
+	 * @return a configured {@link AsyncEASystem}
+	 * @throws IllegalArgumentException if any parameter is null or if maxInFlight is not positive
+	 * @throws IllegalStateException if no suitable replacement strategy handler can be found
+	 */
+	public static <T extends Comparable<T>> AsyncEASystem<T> asyncFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final ExecutorService executorService,
+			final int maxInFlight, final FitnessEvaluator<T> fitnessEvaluator) {
+		Validate.notNull(eaConfigurationSync);
+		Validate.notNull(eaExecutionContext);
+		Validate.notNull(executorService);
+		Validate.isTrue(maxInFlight > 0);
+		Validate.notNull(fitnessEvaluator);
+
+		final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<T>(eaExecutionContext);
+		final var parentSelector = resolveParentSelector(eaConfigurationSync,
+				eaExecutionContext,
+				selectionPolicyHandlerResolver);
+		final List<ChromosomeCombinator<T>> chromosomeCombinators = resolveChromosomeCombinators(eaConfigurationSync,
+				eaExecutionContext);
+		final List<Mutator> mutators = resolveMutators(eaConfigurationSync, eaExecutionContext);
+		final var replacementStrategyImplementor = resolveReplacementStrategyImplementor(eaConfigurationSync,
+				eaExecutionContext,
+				selectionPolicyHandlerResolver);
+
+		return new AsyncEASystem<>(eaConfigurationSync,
+				eaExecutionContext.populationSize(),
+				chromosomeCombinators,
+				eaConfigurationSync.offspringGeneratedRatio(),
+				parentSelector,
+				mutators,
+				replacementStrategyImplementor,
+				eaExecutionContext,
+				fitnessEvaluator,
+				executorService,
+				maxInFlight);
+	}
+
+	/**
+	 * Creates an {@link AsyncEASystem} keeping {@link EAExecutionContext#numberOfPartitions()} evaluations in flight.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @param executorService the thread pool used for fitness evaluations (caller responsible for shutdown)
+	 * @return a configured {@link AsyncEASystem}
+	 * @throws IllegalArgumentException if any parameter is null
+	 */
+	public static <T extends Comparable<T>> AsyncEASystem<T> asyncFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext, final ExecutorService executorService) {
+		Validate.notNull(eaExecutionContext);
+
+		return asyncFrom(eaConfigurationSync, eaExecutionContext, executorService, eaExecutionContext.numberOfPartitions());
+	}
+
+	/**
+	 * Creates an {@link AsyncEASystem} using the common thread pool and keeping
+	 * {@link EAExecutionContext#numberOfPartitions()} evaluations in flight.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration with a simple fitness function
+	 * @param eaExecutionContext the execution context containing population and termination parameters
+	 * @return a configured {@link AsyncEASystem} using the common thread pool
+	 * @throws IllegalArgumentException if any parameter is null
+	 */
+	public static <T extends Comparable<T>> AsyncEASystem<T> asyncFrom(final EAConfiguration<T> eaConfigurationSync,
+			final EAExecutionContext<T> eaExecutionContext) {
+		final ExecutorService executorService = ForkJoinPool.commonPool();
+		return asyncFrom(eaConfigurationSync, eaExecutionContext, executorService);
+	}
+
+	/**
+	 * Creates an {@link IslandEASystem} evolving one sub-population per execution context and exchanging migrants
+	 * between them.
+	 * 
+	 * <p>Each island gets its own {@link EASystem} built from the shared configuration and its own execution context.
+	 * Since every island runs on its own thread, each execution context should carry its own
+	 * {@link java.util.random.RandomGenerator}.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration shared by all the islands
+	 * @param islandExecutionContexts one execution context per island
+	 * @param migration how and when individuals migrate between islands
+	 * @param executorService the thread pool for parallel fitness evaluation (caller responsible for shutdown)
+	 * @return a configured {@link IslandEASystem}
+	 * @throws IllegalArgumentException if any parameter is null or if no execution context is provided
+	 */
+	public static <T extends Comparable<T>> IslandEASystem<T> islandsFrom(final EAConfiguration<T> eaConfigurationSync,
+			final List<EAExecutionContext<T>> islandExecutionContexts, final Migration migration,
+			final ExecutorService executorService) {
+		Validate.notNull(eaConfigurationSync);
+		Validate.notNull(islandExecutionContexts);
+		Validate.isTrue(islandExecutionContexts.isEmpty() == false);
+		Validate.notNull(migration);
+		Validate.notNull(executorService);
+
+		final int numIslands = islandExecutionContexts.size();
+
+		final List<Queue<Individual<T>>> inboxes = new ArrayList<>(numIslands);
+		for (int i = 0; i < numIslands; i++) {
+			inboxes.add(new ConcurrentLinkedQueue<>());
+		}
+
+		final List<List<Queue<Individual<T>>>> destinations = new ArrayList<>(numIslands);
+		final int[] numSources = new int[numIslands];
+		for (int i = 0; i < numIslands; i++) {
+			final int[] islandDestinations = migration.topology()
+					.destinations(i, numIslands);
+
+			final List<Queue<Individual<T>>> islandInboxes = new ArrayList<>(islandDestinations.length);
+			for (final int destination : islandDestinations) {
+				Validate.inclusiveBetween(0, numIslands - 1, destination);
+				Validate.isTrue(destination != i, "Island %d cannot send migrants to itself", i);
+
+				islandInboxes.add(inboxes.get(destination));
+				numSources[destination]++;
+			}
+			destinations.add(islandInboxes);
+		}
+
+		final List<EASystem<T>> islands = new ArrayList<>(numIslands);
+		for (int i = 0; i < numIslands; i++) {
+			final EAExecutionContext<T> eaExecutionContext = islandExecutionContexts.get(i);
+
+			final var selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<T>(eaExecutionContext);
+			final var migrantSelector = selectionPolicyHandlerResolver.resolve(migration.migrantSelectionPolicy())
+					.resolve(eaExecutionContext,
+							eaConfigurationSync,
+							selectionPolicyHandlerResolver,
+							migration.migrantSelectionPolicy());
+
+			final var emigrationListener = new EmigrationListener<T>(eaConfigurationSync,
+					migration,
+					migrantSelector,
+					destinations.get(i));
+			final var immigrationProcessor = new ImmigrationProcessor<T>(eaConfigurationSync.postEvaluationProcessor(),
+					inboxes.get(i),
+					migration.numMigrants() * numSources[i]);
+
+			final EAConfiguration<T> islandConfiguration = new EAConfiguration.Builder<T>().from(eaConfigurationSync)
+					.postEvaluationProcessor(immigrationProcessor)
+					.build();
+			final EAExecutionContext<T> islandExecutionContext = EAExecutionContext.<T>builder()
+					.from(eaExecutionContext)
+					.addEvolutionListeners(emigrationListener, immigrationProcessor)
+					.build();
+
+			islands.add(from(islandConfiguration, islandExecutionContext, executorService));
+		}
+
+		return new IslandEASystem<>(islands, migration);
+	}
+
+	/**
+	 * Creates an {@link IslandEASystem} using the common thread pool for fitness evaluation.
+	 * 
+	 * @param <T> the type of fitness values, must be comparable for selection operations
+	 * @param eaConfigurationSync the synchronous EA configuration shared by all the islands
+	 * @param islandExecutionContexts one execution context per island
+	 * @param migration how and when individuals migrate between islands
+	 * @return a configured {@link IslandEASystem}
+	 * @throws IllegalArgumentException if any parameter is null or if no execution context is provided
+	 */
+	public static <T extends Comparable<T>> IslandEASystem<T> islandsFrom(final EAConfiguration<T> eaConfigurationSync,
+			final List<EAExecutionContext<T>> islandExecutionContexts, final Migration migration) {
+		final ExecutorService executorService = ForkJoinPool.commonPool();
+		return islandsFrom(eaConfigurationSync, islandExecutionContexts, migration, executorService);
+	}
+}
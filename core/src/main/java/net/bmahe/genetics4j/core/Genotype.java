@@ -23,6 +23,8 @@ public class Genotype {
 
 	private final Chromosome[] chromosomes;
 
+	private final int hashCode;
+
 	/**
 	 * Creates a new genotype with the specified chromosomes.
 	 * 
@@ -34,6 +36,7 @@ public class Genotype {
 		Validate.isTrue(_chromosomes.length > 0);
 
 		this.chromosomes = _chromosomes;
+		this.hashCode = computeHashCode();
 	}
 
 	/**
@@ -49,6 +52,7 @@ public class Genotype {
 		final Chromosome[] chromosomesArray = _chromosomes.toArray(new Chromosome[_chromosomes.size()]);
 
 		this.chromosomes = chromosomesArray;
+		this.hashCode = computeHashCode();
 	}
 
 	/**
@@ -104,14 +108,18 @@ public class Genotype {
 		return clazz.cast(chromosomes[index]);
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + Arrays.hashCode(chromosomes);
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -121,6 +129,8 @@ public class Genotype {
 		if (getClass() != obj.getClass())
 			return false;
 		Genotype other = (Genotype) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		if (!Arrays.equals(chromosomes, other.chromosomes))
 			return false;
 		return true;
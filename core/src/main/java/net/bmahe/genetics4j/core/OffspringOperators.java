@@ -0,0 +1,32 @@
+package net.bmahe.genetics4j.core;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.combination.ChromosomeCombinator;
+import net.bmahe.genetics4j.core.mutation.Mutator;
+
+/**
+ * Set of genetic operators used to create offsprings for one partition of the parents.
+ * <p>
+ * When offspring creation is split across multiple partitions, each partition gets its own set of operators
+ * bound to its own random generator so the result does not depend on thread scheduling.
+ *
+ * @param <T>                   Type of the fitness measurement
+ * @param chromosomeCombinators one combinator per chromosome
+ * @param mutators              mutators applied in order to each offspring
+ */
+public record OffspringOperators<T extends Comparable<T>>(List<ChromosomeCombinator<T>> chromosomeCombinators,
+		List<Mutator> mutators) {
+
+	public OffspringOperators {
+		Validate.isTrue(CollectionUtils.isNotEmpty(chromosomeCombinators));
+		Objects.requireNonNull(mutators);
+
+		chromosomeCombinators = List.copyOf(chromosomeCombinators);
+		mutators = List.copyOf(mutators);
+	}
+}
@@ -51,6 +51,23 @@ public class Population<T extends Comparable<T>> implements Iterable<Individual<
 		this.fitnesses = new ArrayList<>(_fitnesses);
 	}
 
+	/**
+	 * Creates an empty population storing its fitness values in the provided list.
+	 * 
+	 * <p>The list is used as is, without being copied. This allows subclasses such as {@link DoublePopulation} to
+	 * provide specialized storage.
+	 * 
+	 * @param _fitnessStorage the empty list used to store the fitness values
+	 * @throws IllegalArgumentException if the list is null or not empty
+	 */
+	protected Population(final List<T> _fitnessStorage) {
+		Validate.notNull(_fitnessStorage);
+		Validate.isTrue(_fitnessStorage.isEmpty());
+
+		this.genotypes = new ArrayList<>();
+		this.fitnesses = _fitnessStorage;
+	}
+
 	/**
 	 * Adds an individual to the population by specifying its genotype and fitness separately.
 	 * 
@@ -243,6 +260,27 @@ public class Population<T extends Comparable<T>> implements Iterable<Individual<
 		return new Population<U>(genotypes, fitnesses);
 	}
 
+	/**
+	 * Creates an empty population whose storage matches the one of the provided fitness values.
+	 * 
+	 * <p>If the fitness values come from a {@link DoublePopulation}, the returned population is also a
+	 * {@link DoublePopulation}. This lets selectors and replacement strategies preserve the primitive storage.
+	 * 
+	 * @param <U> the type of fitness values
+	 * @param fitnesses the fitness values whose storage should be matched
+	 * @return an empty population
+	 */
+	@SuppressWarnings("unchecked")
+	public static <U extends Comparable<U>> Population<U> emptyLike(final List<U> fitnesses) {
+		Validate.notNull(fitnesses);
+
+		if (fitnesses instanceof DoubleFitnessList) {
+			return (Population<U>) new DoublePopulation();
+		}
+
+		return new Population<>();
+	}
+
 	/**
 	 * Creates an empty population.
 	 * 
@@ -0,0 +1,42 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.Genotype;
+
+/**
+ * Snapshot of an evolution at the beginning of a generation, from which it can be resumed with
+ * {@link net.bmahe.genetics4j.core.EASystem#resume(Checkpoint)}
+ * <p>
+ * The state of the random generator is only captured when it is {@link java.io.Serializable}, such as
+ * {@link java.util.Random}. When present, it should be used as the random generator of the execution context of the
+ * resumed system for the run to continue as if it had never been interrupted.
+ *
+ * @param <T>             Type of the fitness measurement
+ * @param generation      generation of the population
+ * @param genotypes       genotypes of the population
+ * @param fitnesses       fitness of each genotype
+ * @param randomGenerator copy of the random generator, if it could be captured
+ */
+public record Checkpoint<T extends Comparable<T>>(long generation, List<Genotype> genotypes, List<T> fitnesses,
+		Optional<RandomGenerator> randomGenerator) {
+
+	public Checkpoint {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(genotypes);
+		Validate.notNull(fitnesses);
+		Validate.isTrue(genotypes.isEmpty() == false);
+		Validate.isTrue(genotypes.size() == fitnesses.size(),
+				"Size of genotypes (%d) does not match size of fitnesses (%d)",
+				genotypes.size(),
+				fitnesses.size());
+		Validate.notNull(randomGenerator);
+
+		genotypes = List.copyOf(genotypes);
+		fitnesses = List.copyOf(fitnesses);
+	}
+}
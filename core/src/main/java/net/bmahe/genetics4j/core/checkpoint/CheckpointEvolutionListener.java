@@ -0,0 +1,145 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
+
+/**
+ * Evolution listener periodically writing a {@link Checkpoint} of the population
+ * <p>
+ * The population is captured on the thread running the evolution, but encoded and written by a background thread so
+ * the generation loop is not stalled by the I/O. If the previous checkpoint is still being written when a new one is
+ * due, the new one is skipped. The last checkpoint, once the evolution is done, is always written and waited for.
+ * <p>
+ * Checkpoints are written atomically, so the file always contains a complete checkpoint.
+ * <p>
+ * The random generator used by the execution context can be provided to be captured along with the population, as
+ * long as it is {@link java.io.Serializable}.
+ *
+ * @param <T> Type of the fitness measurement
+ * @see net.bmahe.genetics4j.core.EASystem#resume(Checkpoint)
+ */
+public class CheckpointEvolutionListener<T extends Comparable<T>> implements EvolutionListener<T>, AutoCloseable {
+	public static final Logger logger = LogManager.getLogger(CheckpointEvolutionListener.class);
+
+	private final CheckpointSerializer<T> checkpointSerializer;
+	private final Path path;
+	private final int interval;
+	private final RandomGenerator randomGenerator;
+
+	private final ExecutorService executorService;
+
+	private Future<?> pendingWrite = null;
+
+	/**
+	 * Creates a checkpoint listener
+	 *
+	 * @param _checkpointSerializer serializer used to write the checkpoints
+	 * @param _path                 file to write the checkpoints to
+	 * @param _interval             number of generations between checkpoints
+	 * @param _randomGenerator      random generator to capture, or null
+	 */
+	public CheckpointEvolutionListener(final CheckpointSerializer<T> _checkpointSerializer, final Path _path,
+			final int _interval, final RandomGenerator _randomGenerator) {
+		Validate.notNull(_checkpointSerializer);
+		Validate.notNull(_path);
+		Validate.isTrue(_interval > 0);
+
+		this.checkpointSerializer = _checkpointSerializer;
+		this.path = _path;
+		this.interval = _interval;
+		this.randomGenerator = _randomGenerator;
+
+		this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "checkpoint-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public CheckpointEvolutionListener(final CheckpointSerializer<T> _checkpointSerializer, final Path _path,
+			final int _interval) {
+		this(_checkpointSerializer, _path, _interval, null);
+	}
+
+	private void waitForPendingWrite() {
+		if (pendingWrite == null) {
+			return;
+		}
+
+		try {
+			pendingWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+		} catch (ExecutionException e) {
+			// Already logged by the writer
+		}
+		pendingWrite = null;
+	}
+
+	@Override
+	public void onEvolution(final long generation, final List<Genotype> population, final List<T> fitness,
+			final boolean isDone) {
+
+		if (isDone == false && generation % interval != 0) {
+			return;
+		}
+
+		if (pendingWrite != null && pendingWrite.isDone() == false) {
+			if (isDone == false) {
+				logger.warn("Previous checkpoint is still being written, skipping checkpoint of generation {}",
+						generation);
+				return;
+			}
+			waitForPendingWrite();
+		}
+
+		final Optional<RandomGenerator> randomGeneratorCopy = Optional.ofNullable(randomGenerator)
+				.flatMap(CheckpointSerializer::copyOf);
+		final Checkpoint<T> checkpoint = new Checkpoint<>(generation, population, fitness, randomGeneratorCopy);
+
+		pendingWrite = executorService.submit(() -> {
+			try {
+				checkpointSerializer.write(path, checkpoint);
+				logger.debug("Checkpoint of generation {} written to {}", generation, path);
+			} catch (Exception e) {
+				logger.error("Could not write checkpoint of generation {} to {}", generation, path, e);
+				throw e;
+			}
+			return null;
+		});
+
+		if (isDone) {
+			waitForPendingWrite();
+		}
+	}
+
+	/**
+	 * Waits for the checkpoint being written, if any, and stops the background thread
+	 */
+	@Override
+	public void close() {
+		waitForPendingWrite();
+		executorService.shutdown();
+		try {
+			executorService.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+		}
+	}
+}
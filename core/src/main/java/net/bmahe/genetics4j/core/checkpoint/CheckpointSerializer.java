@@ -0,0 +1,291 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.codec.GenotypeCodec;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+
+/**
+ * Writes and reads {@link Checkpoint} in a compact binary format
+ * <p>
+ * Genotypes are encoded with a {@link GenotypeCodec}, and fitness values with a {@link FitnessSerializer}. Since the
+ * genotype codec relies on the chromosome specs, a checkpoint must be read with the same configuration as the one it
+ * was written with. The layout is:
+ * <ul>
+ * <li>a magic number and the version of the format</li>
+ * <li>the generation</li>
+ * <li>the number of chromosomes per genotype</li>
+ * <li>the population, each genotype being prefixed by its encoded length and followed by its fitness</li>
+ * <li>the random generator, serialized with Java serialization when present</li>
+ * </ul>
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class CheckpointSerializer<T extends Comparable<T>> {
+	public static final Logger logger = LogManager.getLogger(CheckpointSerializer.class);
+
+	public static final int MAGIC = 0x47344A43; // G4JC
+	public static final int VERSION = 2;
+
+	private final GenotypeCodec genotypeCodec;
+	private final FitnessSerializer<T> fitnessSerializer;
+
+	public CheckpointSerializer(final GenotypeCodec _genotypeCodec, final FitnessSerializer<T> _fitnessSerializer) {
+		Validate.notNull(_genotypeCodec);
+		Validate.notNull(_fitnessSerializer);
+
+		this.genotypeCodec = _genotypeCodec;
+		this.fitnessSerializer = _fitnessSerializer;
+	}
+
+	/**
+	 * Creates a serializer for the genotypes of a configuration, using the chromosome codecs registered as services
+	 *
+	 * @param <U>               Type of the fitness measurement
+	 * @param eaConfiguration   configuration of the evolution
+	 * @param fitnessSerializer serializer for the fitness values
+	 * @return checkpoint serializer
+	 */
+	public static <U extends Comparable<U>> CheckpointSerializer<U> of(final AbstractEAConfiguration<U> eaConfiguration,
+			final FitnessSerializer<U> fitnessSerializer) {
+		return new CheckpointSerializer<>(GenotypeCodec.of(eaConfiguration), fitnessSerializer);
+	}
+
+	/**
+	 * Returns a copy of the random generator if its state can be captured, ie. if it is {@link Serializable}
+	 *
+	 * @param randomGenerator random generator to copy
+	 * @return copy of the random generator, or an empty optional if its state cannot be captured
+	 */
+	public static Optional<RandomGenerator> copyOf(final RandomGenerator randomGenerator) {
+		Validate.notNull(randomGenerator);
+
+		if (randomGenerator instanceof Serializable == false) {
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.of(deserializeRandomGenerator(serializeRandomGenerator(randomGenerator)));
+		} catch (IOException e) {
+			logger.warn("Could not copy random generator {}", randomGenerator, e);
+			return Optional.empty();
+		}
+	}
+
+	private static byte[] serializeRandomGenerator(final RandomGenerator randomGenerator) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(randomGenerator);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static RandomGenerator deserializeRandomGenerator(final byte[] bytes) throws IOException {
+		try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return (RandomGenerator) objectInputStream.readObject();
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Could not read random generator", e);
+		}
+	}
+
+	/**
+	 * Writes a checkpoint. The output stream is flushed but not closed.
+	 *
+	 * @param outputStream destination
+	 * @param checkpoint   checkpoint to write
+	 * @throws IOException if the checkpoint could not be written
+	 */
+	public void write(final OutputStream outputStream, final Checkpoint<T> checkpoint) throws IOException {
+		Validate.notNull(outputStream);
+		Validate.notNull(checkpoint);
+
+		final List<Genotype> genotypes = checkpoint.genotypes();
+		final List<T> fitnesses = checkpoint.fitnesses();
+
+		final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+		dataOutputStream.writeInt(MAGIC);
+		dataOutputStream.writeInt(VERSION);
+		dataOutputStream.writeLong(checkpoint.generation());
+		dataOutputStream.writeInt(genotypeCodec.chromosomeSpecs()
+				.size());
+
+		dataOutputStream.writeInt(genotypes.size());
+		ByteBuffer byteBuffer = ByteBuffer.allocate(0);
+		for (int i = 0; i < genotypes.size(); i++) {
+			final Genotype genotype = genotypes.get(i);
+
+			final int maxEncodedSize = genotypeCodec.maxEncodedSize(genotype);
+			if (byteBuffer.capacity() < maxEncodedSize) {
+				byteBuffer = ByteBuffer.allocate(Math.max(maxEncodedSize, 2 * byteBuffer.capacity()));
+			}
+			byteBuffer.clear();
+			genotypeCodec.encode(genotype, byteBuffer);
+
+			dataOutputStream.writeInt(byteBuffer.position());
+			dataOutputStream.write(byteBuffer.array(), 0, byteBuffer.position());
+			fitnessSerializer.write(dataOutputStream, fitnesses.get(i));
+		}
+
+		final Optional<RandomGenerator> randomGenerator = checkpoint.randomGenerator();
+		dataOutputStream.writeBoolean(randomGenerator.isPresent());
+		if (randomGenerator.isPresent()) {
+			final byte[] randomGeneratorBytes = serializeRandomGenerator(randomGenerator.get());
+			dataOutputStream.writeInt(randomGeneratorBytes.length);
+			dataOutputStream.write(randomGeneratorBytes);
+		}
+
+		dataOutputStream.flush();
+	}
+
+	/**
+	 * Reads a checkpoint previously written with {@link #write(OutputStream, Checkpoint)}
+	 *
+	 * @param inputStream source
+	 * @return checkpoint read
+	 * @throws IOException if the checkpoint could not be read or is not a valid checkpoint
+	 */
+	public Checkpoint<T> read(final InputStream inputStream) throws IOException {
+		Validate.notNull(inputStream);
+
+		final DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+		if (dataInputStream.readInt() != MAGIC) {
+			throw new IOException("Not a checkpoint");
+		}
+		final int version = dataInputStream.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported checkpoint version " + version);
+		}
+
+		final long generation = dataInputStream.readLong();
+
+		final int numChromosomes = dataInputStream.readInt();
+		if (numChromosomes != genotypeCodec.chromosomeSpecs()
+				.size()) {
+			throw new IOException("Checkpoint has " + numChromosomes + " chromosomes per genotype but the configuration "
+					+ genotypeCodec.chromosomeSpecs()
+							.size());
+		}
+
+		final int populationSize = dataInputStream.readInt();
+		if (populationSize < 0) {
+			throw new IOException("Invalid population size " + populationSize);
+		}
+
+		final List<Genotype> genotypes = new ArrayList<>(populationSize);
+		final List<T> fitnesses = new ArrayList<>(populationSize);
+		byte[] bytes = new byte[0];
+		for (int i = 0; i < populationSize; i++) {
+			final int length = dataInputStream.readInt();
+			if (length < 0) {
+				throw new IOException("Invalid genotype length " + length);
+			}
+			if (bytes.length < length) {
+				bytes = new byte[Math.max(length, 2 * bytes.length)];
+			}
+			dataInputStream.readFully(bytes, 0, length);
+
+			final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 0, length);
+			try {
+				genotypes.add(genotypeCodec.decode(byteBuffer));
+			} catch (IllegalArgumentException | BufferUnderflowException e) {
+				throw new IOException("Invalid genotype " + i, e);
+			}
+			if (byteBuffer.hasRemaining()) {
+				throw new IOException("Invalid genotype " + i + ": " + byteBuffer.remaining() + " bytes left");
+			}
+
+			fitnesses.add(fitnessSerializer.read(dataInputStream));
+		}
+
+		Optional<RandomGenerator> randomGenerator = Optional.empty();
+		if (dataInputStream.readBoolean()) {
+			final byte[] randomGeneratorBytes = new byte[dataInputStream.readInt()];
+			dataInputStream.readFully(randomGeneratorBytes);
+			randomGenerator = Optional.of(deserializeRandomGenerator(randomGeneratorBytes));
+		}
+
+		return new Checkpoint<>(generation, genotypes, fitnesses, randomGenerator);
+	}
+
+	/**
+	 * Writes a checkpoint to a file atomically.
+	 * <p>
+	 * The checkpoint is first written and synced to a temporary file in the same directory, which is then renamed to
+	 * the destination. Readers thus either see the previous checkpoint or the new one, never a partially written one.
+	 *
+	 * @param path       destination file
+	 * @param checkpoint checkpoint to write
+	 * @throws IOException if the checkpoint could not be written
+	 */
+	public void write(final Path path, final Checkpoint<T> checkpoint) throws IOException {
+		Validate.notNull(path);
+		Validate.notNull(checkpoint);
+
+		final Path absolutePath = path.toAbsolutePath();
+		final Path temporaryPath = Files.createTempFile(absolutePath.getParent(),
+				absolutePath.getFileName()
+						.toString(),
+				".tmp");
+		try {
+			try (final FileOutputStream fileOutputStream = new FileOutputStream(temporaryPath.toFile())) {
+				write(fileOutputStream, checkpoint);
+				fileOutputStream.getFD()
+						.sync();
+			}
+
+			try {
+				Files.move(temporaryPath,
+						absolutePath,
+						StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				logger.warn("Atomic move not supported for {}, falling back to a regular move", absolutePath);
+				Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	/**
+	 * Reads a checkpoint from a file
+	 *
+	 * @param path file to read
+	 * @return checkpoint read
+	 * @throws IOException if the checkpoint could not be read or is not a valid checkpoint
+	 */
+	public Checkpoint<T> read(final Path path) throws IOException {
+		Validate.notNull(path);
+
+		try (final InputStream inputStream = Files.newInputStream(path)) {
+			return read(inputStream);
+		}
+	}
+}
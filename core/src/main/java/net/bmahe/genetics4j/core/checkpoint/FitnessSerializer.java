@@ -0,0 +1,32 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads fitness values in a compact binary form
+ *
+ * @param <T> Type of the fitness measurement
+ * @see FitnessSerializers
+ */
+public interface FitnessSerializer<T> {
+
+	/**
+	 * Writes a fitness value
+	 *
+	 * @param dataOutput destination
+	 * @param fitness    fitness value to write
+	 * @throws IOException if the fitness could not be written
+	 */
+	void write(DataOutput dataOutput, T fitness) throws IOException;
+
+	/**
+	 * Reads a fitness value previously written with {@link #write(DataOutput, Object)}
+	 *
+	 * @param dataInput source
+	 * @return fitness value read
+	 * @throws IOException if the fitness could not be read
+	 */
+	T read(DataInput dataInput) throws IOException;
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Fitness serializers for the common scalar fitness types
+ */
+public class FitnessSerializers {
+
+	private FitnessSerializers() {
+	}
+
+	public static final FitnessSerializer<Double> DOUBLE = new FitnessSerializer<>() {
+
+		@Override
+		public void write(final DataOutput dataOutput, final Double fitness) throws IOException {
+			dataOutput.writeDouble(fitness);
+		}
+
+		@Override
+		public Double read(final DataInput dataInput) throws IOException {
+			return dataInput.readDouble();
+		}
+	};
+
+	public static final FitnessSerializer<Float> FLOAT = new FitnessSerializer<>() {
+
+		@Override
+		public void write(final DataOutput dataOutput, final Float fitness) throws IOException {
+			dataOutput.writeFloat(fitness);
+		}
+
+		@Override
+		public Float read(final DataInput dataInput) throws IOException {
+			return dataInput.readFloat();
+		}
+	};
+
+	public static final FitnessSerializer<Integer> INTEGER = new FitnessSerializer<>() {
+
+		@Override
+		public void write(final DataOutput dataOutput, final Integer fitness) throws IOException {
+			dataOutput.writeInt(fitness);
+		}
+
+		@Override
+		public Integer read(final DataInput dataInput) throws IOException {
+			return dataInput.readInt();
+		}
+	};
+
+	public static final FitnessSerializer<Long> LONG = new FitnessSerializer<>() {
+
+		@Override
+		public void write(final DataOutput dataOutput, final Long fitness) throws IOException {
+			dataOutput.writeLong(fitness);
+		}
+
+		@Override
+		public Long read(final DataInput dataInput) throws IOException {
+			return dataInput.readLong();
+		}
+	};
+}
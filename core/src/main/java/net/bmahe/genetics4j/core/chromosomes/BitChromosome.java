@@ -30,6 +30,8 @@ public class BitChromosome implements Chromosome {
 	private final int numBits;
 	private final BitSet bitSet;
 
+	private final int hashCode;
+
 	/**
 	 * Creates a new bit chromosome with the specified number of bits and initial values.
 	 * 
@@ -46,6 +48,7 @@ public class BitChromosome implements Chromosome {
 		this.numBits = _numBits;
 		this.bitSet = new BitSet(numBits);
 		this.bitSet.or(_bitSet);
+		this.hashCode = computeHashCode();
 	}
 
 	@Override
@@ -78,8 +81,7 @@ public class BitChromosome implements Chromosome {
 		return bitSet;
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((bitSet == null) ? 0 : bitSet.hashCode());
@@ -87,6 +89,11 @@ public class BitChromosome implements Chromosome {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -96,6 +103,8 @@ public class BitChromosome implements Chromosome {
 		if (getClass() != obj.getClass())
 			return false;
 		BitChromosome other = (BitChromosome) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		if (bitSet == null) {
 			if (other.bitSet != null)
 				return false;
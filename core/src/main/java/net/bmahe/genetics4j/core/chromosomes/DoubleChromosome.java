@@ -59,6 +59,8 @@ public class DoubleChromosome implements Chromosome {
 	private final double maxValue;
 	private final double[] values;
 
+	private final int hashCode;
+
 	/**
 	 * Creates a new double chromosome with the specified parameters and values.
 	 * 
@@ -80,6 +82,7 @@ public class DoubleChromosome implements Chromosome {
 		this.minValue = _minValue;
 		this.maxValue = _maxValue;
 		this.values = Arrays.copyOf(_values, _size);
+		this.hashCode = computeHashCode();
 	}
 
 	@Override
@@ -139,8 +142,7 @@ public class DoubleChromosome implements Chromosome {
 		return values;
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + Arrays.hashCode(values);
@@ -148,6 +150,11 @@ public class DoubleChromosome implements Chromosome {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -157,6 +164,8 @@ public class DoubleChromosome implements Chromosome {
 		if (getClass() != obj.getClass())
 			return false;
 		DoubleChromosome other = (DoubleChromosome) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		return Double.doubleToLongBits(maxValue) == Double.doubleToLongBits(other.maxValue)
 				&& Double.doubleToLongBits(minValue) == Double.doubleToLongBits(other.minValue) && size == other.size
 				&& Arrays.equals(values, other.values);
@@ -65,6 +65,8 @@ public class FloatChromosome implements Chromosome {
 	private final float maxValue;
 	private final float[] values;
 
+	private final int hashCode;
+
 	/**
 	 * Creates a new float chromosome with the specified parameters and values.
 	 * 
@@ -86,6 +88,7 @@ public class FloatChromosome implements Chromosome {
 		this.minValue = _minValue;
 		this.maxValue = _maxValue;
 		this.values = Arrays.copyOf(_values, _size);
+		this.hashCode = computeHashCode();
 	}
 
 	@Override
@@ -145,8 +148,7 @@ public class FloatChromosome implements Chromosome {
 		return values;
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + Arrays.hashCode(values);
@@ -154,6 +156,11 @@ public class FloatChromosome implements Chromosome {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -163,6 +170,8 @@ public class FloatChromosome implements Chromosome {
 		if (getClass() != obj.getClass())
 			return false;
 		FloatChromosome other = (FloatChromosome) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		return Float.floatToIntBits(maxValue) == Float.floatToIntBits(other.maxValue)
 				&& Float.floatToIntBits(minValue) == Float.floatToIntBits(other.minValue) && size == other.size
 				&& Arrays.equals(values, other.values);
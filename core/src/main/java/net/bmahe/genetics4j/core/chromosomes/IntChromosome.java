@@ -43,6 +43,8 @@ public class IntChromosome implements Chromosome {
 	private final int maxValue;
 	private final int[] values;
 
+	private final int hashCode;
+
 	/**
 	 * Creates a new integer chromosome with the specified parameters and values.
 	 * 
@@ -64,6 +66,7 @@ public class IntChromosome implements Chromosome {
 		this.minValue = _minValue;
 		this.maxValue = _maxValue;
 		this.values = Arrays.copyOf(_values, _size);
+		this.hashCode = computeHashCode();
 	}
 
 	@Override
@@ -123,8 +126,7 @@ public class IntChromosome implements Chromosome {
 		return values;
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + maxValue;
@@ -134,6 +136,11 @@ public class IntChromosome implements Chromosome {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -143,6 +150,8 @@ public class IntChromosome implements Chromosome {
 		if (getClass() != obj.getClass())
 			return false;
 		IntChromosome other = (IntChromosome) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		if (maxValue != other.maxValue)
 			return false;
 		if (minValue != other.minValue)
@@ -34,7 +34,7 @@ import org.apache.commons.lang3.Validate;
  * 
  * <p>Tree structure characteristics:
  * <ul>
- * <li><strong>Mutable structure</strong>: Children can be added, removed, or replaced during evolution</li>
+ * <li><strong>Mutable structure</strong>: Children can be added, removed, or replaced during evolution, until the node is frozen</li>
  * <li><strong>Type safety</strong>: Generic parameterization ensures consistent data types</li>
  * <li><strong>Recursive operations</strong>: Size and depth calculations traverse the entire subtree</li>
  * <li><strong>Equality semantics</strong>: Two trees are equal if their structure and data match</li>
@@ -92,7 +92,10 @@ public class TreeNode<T> {
 
 	private final T data;
 
-	private ArrayList<TreeNode<T>> children;
+	private List<TreeNode<T>> children;
+
+	private boolean frozen = false;
+	private int hashCode;
 
 	/**
 	 * Constructs a new tree node with the specified data and no children.
@@ -124,8 +127,10 @@ public class TreeNode<T> {
 	 * 
 	 * <p>The returned list is the actual internal list used by this node.
 	 * Modifications to the returned list will affect this node's structure.
+	 * Once the node is frozen, the returned list is unmodifiable.
 	 * 
-	 * @return the mutable list of child nodes
+	 * @return the list of child nodes
+	 * @see #freeze()
 	 */
 	public List<TreeNode<T>> getChildren() {
 		return children;
@@ -155,9 +160,11 @@ public class TreeNode<T> {
 	 * @param childData the new child node to set at the specified index
 	 * @throws IllegalArgumentException if childIndex is negative
 	 * @throws IndexOutOfBoundsException if childIndex is >= number of children
+	 * @throws IllegalStateException if this node is frozen
 	 */
 	public void setChild(final int childIndex, final TreeNode<T> childData) {
 		Validate.isTrue(childIndex >= 0);
+		Validate.validState(frozen == false, "Frozen nodes cannot be modified");
 
 		children.set(childIndex, childData);
 	}
@@ -170,9 +177,11 @@ public class TreeNode<T> {
 	 * 
 	 * @param childData the child node to add
 	 * @throws IllegalArgumentException if childData is null
+	 * @throws IllegalStateException if this node is frozen
 	 */
 	public void addChild(final TreeNode<T> childData) {
 		Validate.notNull(childData);
+		Validate.validState(frozen == false, "Frozen nodes cannot be modified");
 
 		children.add(childData);
 	}
@@ -185,14 +194,54 @@ public class TreeNode<T> {
 	 * 
 	 * @param childrenNodes the collection of child nodes to add
 	 * @throws IllegalArgumentException if childrenNodes is null or empty
+	 * @throws IllegalStateException if this node is frozen
 	 */
 	public void addChildren(final Collection<TreeNode<T>> childrenNodes) {
 		Validate.notNull(childrenNodes);
 		Validate.isTrue(childrenNodes.isEmpty() == false);
+		Validate.validState(frozen == false, "Frozen nodes cannot be modified");
 
 		children.addAll(childrenNodes);
 	}
 
+	/**
+	 * Freezes the subtree rooted at this node, making it immutable.
+	 * 
+	 * <p>Once frozen, neither this node nor any of its descendants can be modified and
+	 * their hash code is computed once and cached. This makes hash based lookups and
+	 * equality checks on large trees cheap, as {@link #equals(Object)} can fail fast on
+	 * a hash code mismatch between frozen nodes.
+	 * 
+	 * <p>Freezing an already frozen node has no effect.
+	 * 
+	 * @return this node, for convenience
+	 */
+	public TreeNode<T> freeze() {
+		if (frozen) {
+			return this;
+		}
+
+		for (final TreeNode<T> child : children) {
+			child.freeze();
+		}
+
+		this.children = List.copyOf(children);
+		this.hashCode = computeHashCode();
+		this.frozen = true;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the subtree rooted at this node is frozen.
+	 * 
+	 * @return true if this node can no longer be modified
+	 * @see #freeze()
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
 	/**
 	 * Returns the total number of nodes in the subtree rooted at this node.
 	 * 
@@ -218,8 +267,7 @@ public class TreeNode<T> {
 		return 1 + children.stream().map(TreeNode::getDepth).max(Comparator.naturalOrder()).orElse(0);
 	}
 
-	@Override
-	public int hashCode() {
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((children == null) ? 0 : children.hashCode());
@@ -227,6 +275,15 @@ public class TreeNode<T> {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		if (frozen) {
+			return hashCode;
+		}
+
+		return computeHashCode();
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -236,6 +293,8 @@ public class TreeNode<T> {
 		if (getClass() != obj.getClass())
 			return false;
 		TreeNode other = (TreeNode) obj;
+		if (frozen && other.frozen && hashCode != other.hashCode)
+			return false;
 		if (data == null) {
 			if (other.data != null)
 				return false;
@@ -0,0 +1,77 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+
+/**
+ * Encodes the bits as packed long words
+ */
+public class BitChromosomeCodec implements ChromosomeCodec<BitChromosome> {
+
+	private static int numWords(final int numBits) {
+		return (numBits + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof BitChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final BitChromosome chromosome) {
+		Validate.isInstanceOf(BitChromosomeSpec.class, chromosomeSpec);
+
+		final BitChromosomeSpec bitChromosomeSpec = (BitChromosomeSpec) chromosomeSpec;
+		return numWords(bitChromosomeSpec.numBits()) * Long.BYTES;
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final BitChromosome chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(BitChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		final BitChromosomeSpec bitChromosomeSpec = (BitChromosomeSpec) chromosomeSpec;
+		Validate.isTrue(chromosome.getNumAlleles() == bitChromosomeSpec.numBits());
+
+		// toLongArray() drops the trailing empty words
+		final long[] words = chromosome.getBitSet()
+				.toLongArray();
+		final int numWords = numWords(bitChromosomeSpec.numBits());
+		for (int i = 0; i < numWords; i++) {
+			byteBuffer.putLong(i < words.length ? words[i] : 0L);
+		}
+	}
+
+	@Override
+	public BitChromosome decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(BitChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final BitChromosomeSpec bitChromosomeSpec = (BitChromosomeSpec) chromosomeSpec;
+		final long[] words = new long[numWords(bitChromosomeSpec.numBits())];
+		for (int i = 0; i < words.length; i++) {
+			words[i] = byteBuffer.getLong();
+		}
+
+		final BitSet decodedBits = BitSet.valueOf(words);
+		if (decodedBits.length() > bitChromosomeSpec.numBits()) {
+			throw new IllegalArgumentException("Bits set beyond the size of the chromosome");
+		}
+
+		// valueOf() drops the trailing empty words, which BitChromosome would reject as too small
+		final BitSet bitSet = new BitSet(bitChromosomeSpec.numBits());
+		bitSet.or(decodedBits);
+
+		return new BitChromosome(bitChromosomeSpec.numBits(), bitSet);
+	}
+}
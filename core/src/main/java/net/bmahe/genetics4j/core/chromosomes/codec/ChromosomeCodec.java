@@ -0,0 +1,61 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+
+/**
+ * Encodes and decodes a type of {@link Chromosome} to and from a compact binary form.
+ * <p>
+ * Codecs work alongside the {@link ChromosomeSpec} the chromosome was generated from: anything the spec already
+ * defines, such as the size or the bounds of the values, is not written. The same spec must therefore be used to
+ * decode a chromosome as the one used to encode it.
+ * <p>
+ * Implementations must be stateless or thread safe, and provide a public no-arg constructor when registered as a
+ * service in {@code META-INF/services/net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodec} so they can be
+ * discovered by {@link ChromosomeCodecProvider#load()}.
+ *
+ * @param <T> Type of chromosome handled by this codec
+ * @see ChromosomeCodecProvider
+ * @see GenotypeCodec
+ */
+public interface ChromosomeCodec<T extends Chromosome> {
+
+	/**
+	 * Whether this codec can encode and decode chromosomes generated from the given spec
+	 *
+	 * @param chromosomeSpec chromosome spec
+	 * @return true if this codec can handle the chromosomes of this spec
+	 */
+	boolean canHandle(final ChromosomeSpec chromosomeSpec);
+
+	/**
+	 * Upper bound of the number of bytes needed to encode a chromosome
+	 *
+	 * @param chromosomeSpec spec of the chromosome
+	 * @param chromosome     chromosome to encode
+	 * @return maximum number of bytes written by {@link #encode(ChromosomeSpec, Chromosome, ByteBuffer)}
+	 */
+	int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final T chromosome);
+
+	/**
+	 * Encodes a chromosome at the current position of the buffer, which is advanced past the encoded chromosome
+	 *
+	 * @param chromosomeSpec spec of the chromosome
+	 * @param chromosome     chromosome to encode
+	 * @param byteBuffer     destination, with at least {@link #maxEncodedSize(ChromosomeSpec, Chromosome)} bytes
+	 *                       remaining
+	 */
+	void encode(final ChromosomeSpec chromosomeSpec, final T chromosome, final ByteBuffer byteBuffer);
+
+	/**
+	 * Decodes a chromosome from the current position of the buffer, which is advanced past the decoded chromosome
+	 *
+	 * @param chromosomeSpec spec of the chromosome
+	 * @param byteBuffer     source
+	 * @return decoded chromosome
+	 * @throws IllegalArgumentException if the content of the buffer is not a valid encoded chromosome
+	 */
+	T decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer);
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+
+/**
+ * Provides the {@link ChromosomeCodec} able to handle a given {@link ChromosomeSpec}
+ * <p>
+ * Codecs are looked up in order, the first one able to handle the spec being selected.
+ */
+public class ChromosomeCodecProvider {
+	final static public Logger logger = LogManager.getLogger(ChromosomeCodecProvider.class);
+
+	private final List<ChromosomeCodec<? extends Chromosome>> chromosomeCodecs;
+
+	public ChromosomeCodecProvider(final List<ChromosomeCodec<? extends Chromosome>> _chromosomeCodecs) {
+		Validate.notNull(_chromosomeCodecs);
+		Validate.noNullElements(_chromosomeCodecs);
+
+		this.chromosomeCodecs = Collections.unmodifiableList(new ArrayList<>(_chromosomeCodecs));
+	}
+
+	/**
+	 * Creates a provider with the codecs registered as services, ie. the ones of the core module along with the ones
+	 * of the other modules present on the classpath
+	 *
+	 * @return provider of the registered codecs
+	 */
+	@SuppressWarnings("rawtypes")
+	public static ChromosomeCodecProvider load() {
+		final List<ChromosomeCodec<? extends Chromosome>> chromosomeCodecs = new ArrayList<>();
+
+		final ServiceLoader<ChromosomeCodec> serviceLoader = ServiceLoader.load(ChromosomeCodec.class);
+		serviceLoader.stream()
+				.map(provider -> provider.get())
+				.forEach(chromosomeCodec -> chromosomeCodecs.add(chromosomeCodec));
+
+		return new ChromosomeCodecProvider(chromosomeCodecs);
+	}
+
+	public List<ChromosomeCodec<? extends Chromosome>> chromosomeCodecs() {
+		return chromosomeCodecs;
+	}
+
+	public ChromosomeCodec<? extends Chromosome> provideChromosomeCodec(final ChromosomeSpec chromosomeSpec) {
+		Objects.requireNonNull(chromosomeSpec);
+
+		logger.trace("Known chromosome codecs: {}", chromosomeCodecs);
+
+		return chromosomeCodecs.stream()
+				.dropWhile((chromosomeCodec) -> chromosomeCodec.canHandle(chromosomeSpec) == false)
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException(
+						"Could not find a chromosome codec for chromosome spec: " + chromosomeSpec));
+	}
+}
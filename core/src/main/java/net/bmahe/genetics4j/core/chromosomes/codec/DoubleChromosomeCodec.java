@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.DoubleChromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+
+/**
+ * Encodes the values in their IEEE 754 representation so they are restored exactly
+ */
+public class DoubleChromosomeCodec implements ChromosomeCodec<DoubleChromosome> {
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof DoubleChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final DoubleChromosome chromosome) {
+		Validate.isInstanceOf(DoubleChromosomeSpec.class, chromosomeSpec);
+
+		final DoubleChromosomeSpec doubleChromosomeSpec = (DoubleChromosomeSpec) chromosomeSpec;
+		return doubleChromosomeSpec.size() * Double.BYTES;
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final DoubleChromosome chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(DoubleChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		final DoubleChromosomeSpec doubleChromosomeSpec = (DoubleChromosomeSpec) chromosomeSpec;
+		Validate.isTrue(chromosome.getSize() == doubleChromosomeSpec.size());
+		Validate.isTrue(chromosome.getMinValue() == doubleChromosomeSpec.minValue());
+		Validate.isTrue(chromosome.getMaxValue() == doubleChromosomeSpec.maxValue());
+
+		final double[] values = chromosome.getValues();
+		for (int i = 0; i < values.length; i++) {
+			byteBuffer.putDouble(values[i]);
+		}
+	}
+
+	@Override
+	public DoubleChromosome decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(DoubleChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final DoubleChromosomeSpec doubleChromosomeSpec = (DoubleChromosomeSpec) chromosomeSpec;
+
+		final double[] values = new double[doubleChromosomeSpec.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = byteBuffer.getDouble();
+		}
+
+		return new DoubleChromosome(doubleChromosomeSpec.size(),
+				doubleChromosomeSpec.minValue(),
+				doubleChromosomeSpec.maxValue(),
+				values);
+	}
+}
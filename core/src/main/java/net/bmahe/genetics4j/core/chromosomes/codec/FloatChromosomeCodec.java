@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.FloatChromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.FloatChromosomeSpec;
+
+/**
+ * Encodes the values in their IEEE 754 representation so they are restored exactly
+ */
+public class FloatChromosomeCodec implements ChromosomeCodec<FloatChromosome> {
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof FloatChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final FloatChromosome chromosome) {
+		Validate.isInstanceOf(FloatChromosomeSpec.class, chromosomeSpec);
+
+		final FloatChromosomeSpec floatChromosomeSpec = (FloatChromosomeSpec) chromosomeSpec;
+		return floatChromosomeSpec.size() * Float.BYTES;
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final FloatChromosome chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(FloatChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		final FloatChromosomeSpec floatChromosomeSpec = (FloatChromosomeSpec) chromosomeSpec;
+		Validate.isTrue(chromosome.getSize() == floatChromosomeSpec.size());
+		Validate.isTrue(chromosome.getMinValue() == floatChromosomeSpec.minValue());
+		Validate.isTrue(chromosome.getMaxValue() == floatChromosomeSpec.maxValue());
+
+		final float[] values = chromosome.getValues();
+		for (int i = 0; i < values.length; i++) {
+			byteBuffer.putFloat(values[i]);
+		}
+	}
+
+	@Override
+	public FloatChromosome decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(FloatChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final FloatChromosomeSpec floatChromosomeSpec = (FloatChromosomeSpec) chromosomeSpec;
+
+		final float[] values = new float[floatChromosomeSpec.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = byteBuffer.getFloat();
+		}
+
+		return new FloatChromosome(floatChromosomeSpec.size(),
+				floatChromosomeSpec.minValue(),
+				floatChromosomeSpec.maxValue(),
+				values);
+	}
+}
@@ -0,0 +1,109 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+
+/**
+ * Encodes and decodes whole genotypes of a given configuration
+ * <p>
+ * The chromosomes are written one after the other, each one with the codec resolved for its spec. Since the specs
+ * are known on both ends, no type nor length information is written.
+ */
+public class GenotypeCodec {
+
+	private final List<ChromosomeSpec> chromosomeSpecs;
+	private final List<ChromosomeCodec<Chromosome>> chromosomeCodecs;
+
+	@SuppressWarnings("unchecked")
+	public GenotypeCodec(final List<ChromosomeSpec> _chromosomeSpecs,
+			final ChromosomeCodecProvider _chromosomeCodecProvider) {
+		Validate.notNull(_chromosomeSpecs);
+		Validate.isTrue(_chromosomeSpecs.isEmpty() == false);
+		Validate.notNull(_chromosomeCodecProvider);
+
+		this.chromosomeSpecs = List.copyOf(_chromosomeSpecs);
+
+		final List<ChromosomeCodec<Chromosome>> codecs = new ArrayList<>(chromosomeSpecs.size());
+		for (final ChromosomeSpec chromosomeSpec : chromosomeSpecs) {
+			codecs.add((ChromosomeCodec<Chromosome>) _chromosomeCodecProvider.provideChromosomeCodec(chromosomeSpec));
+		}
+		this.chromosomeCodecs = Collections.unmodifiableList(codecs);
+	}
+
+	/**
+	 * Creates a codec for the genotypes of a configuration, using the codecs registered as services
+	 *
+	 * @param eaConfiguration configuration
+	 * @return genotype codec
+	 */
+	public static GenotypeCodec of(final AbstractEAConfiguration<?> eaConfiguration) {
+		Validate.notNull(eaConfiguration);
+
+		return new GenotypeCodec(eaConfiguration.chromosomeSpecs(), ChromosomeCodecProvider.load());
+	}
+
+	public List<ChromosomeSpec> chromosomeSpecs() {
+		return chromosomeSpecs;
+	}
+
+	/**
+	 * Upper bound of the number of bytes needed to encode a genotype
+	 *
+	 * @param genotype genotype to encode
+	 * @return maximum number of bytes written by {@link #encode(Genotype, ByteBuffer)}
+	 */
+	public int maxEncodedSize(final Genotype genotype) {
+		Validate.notNull(genotype);
+		Validate.isTrue(genotype.getSize() == chromosomeSpecs.size());
+
+		int size = 0;
+		for (int i = 0; i < chromosomeSpecs.size(); i++) {
+			size += chromosomeCodecs.get(i)
+					.maxEncodedSize(chromosomeSpecs.get(i), genotype.getChromosome(i));
+		}
+		return size;
+	}
+
+	public void encode(final Genotype genotype, final ByteBuffer byteBuffer) {
+		Validate.notNull(genotype);
+		Validate.notNull(byteBuffer);
+		Validate.isTrue(genotype.getSize() == chromosomeSpecs.size());
+
+		for (int i = 0; i < chromosomeSpecs.size(); i++) {
+			chromosomeCodecs.get(i)
+					.encode(chromosomeSpecs.get(i), genotype.getChromosome(i), byteBuffer);
+		}
+	}
+
+	/**
+	 * Encodes a genotype into a new buffer
+	 *
+	 * @param genotype genotype to encode
+	 * @return buffer ready to be read, containing the encoded genotype
+	 */
+	public ByteBuffer encode(final Genotype genotype) {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(maxEncodedSize(genotype));
+		encode(genotype, byteBuffer);
+		return byteBuffer.flip();
+	}
+
+	public Genotype decode(final ByteBuffer byteBuffer) {
+		Validate.notNull(byteBuffer);
+
+		final Chromosome[] chromosomes = new Chromosome[chromosomeSpecs.size()];
+		for (int i = 0; i < chromosomeSpecs.size(); i++) {
+			chromosomes[i] = chromosomeCodecs.get(i)
+					.decode(chromosomeSpecs.get(i), byteBuffer);
+		}
+		return new Genotype(chromosomes);
+	}
+}
@@ -0,0 +1,78 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+
+/**
+ * Encodes each value as a variable length offset from the minimum value of the spec, so values of small ranges take
+ * a single byte
+ */
+public class IntChromosomeCodec implements ChromosomeCodec<IntChromosome> {
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof IntChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final IntChromosome chromosome) {
+		Validate.isInstanceOf(IntChromosomeSpec.class, chromosomeSpec);
+
+		Validate.notNull(chromosome);
+
+		final int minValue = ((IntChromosomeSpec) chromosomeSpec).minValue();
+		final int[] values = chromosome.getValues();
+
+		int size = 0;
+		for (int i = 0; i < values.length; i++) {
+			size += VarInts.sizeOfVarLong(VarInts.zigZag((long) values[i] - minValue));
+		}
+		return size;
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final IntChromosome chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(IntChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		final IntChromosomeSpec intChromosomeSpec = (IntChromosomeSpec) chromosomeSpec;
+		Validate.isTrue(chromosome.getSize() == intChromosomeSpec.size());
+		Validate.isTrue(chromosome.getMinValue() == intChromosomeSpec.minValue());
+		Validate.isTrue(chromosome.getMaxValue() == intChromosomeSpec.maxValue());
+
+		final int minValue = intChromosomeSpec.minValue();
+		final int[] values = chromosome.getValues();
+		for (int i = 0; i < values.length; i++) {
+			// Zigzag keeps out of range values encodable
+			VarInts.putSignedVarLong(byteBuffer, (long) values[i] - minValue);
+		}
+	}
+
+	@Override
+	public IntChromosome decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(IntChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final IntChromosomeSpec intChromosomeSpec = (IntChromosomeSpec) chromosomeSpec;
+		final int minValue = intChromosomeSpec.minValue();
+
+		final int[] values = new int[intChromosomeSpec.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (int) (VarInts.getSignedVarLong(byteBuffer) + minValue);
+		}
+
+		return new IntChromosome(intChromosomeSpec.size(),
+				intChromosomeSpec.minValue(),
+				intChromosomeSpec.maxValue(),
+				values);
+	}
+}
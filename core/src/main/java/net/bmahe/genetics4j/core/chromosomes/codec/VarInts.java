@@ -0,0 +1,131 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Variable length encoding of integers, as used by the chromosome codecs
+ * <p>
+ * Values are written 7 bits at a time, least significant group first, with the high bit of each byte set when more
+ * bytes follow. Small values thus only take a single byte. Signed values are first zigzag encoded so small negative
+ * values remain small.
+ */
+public final class VarInts {
+
+	public static final int MAX_VAR_INT_SIZE = 5;
+	public static final int MAX_VAR_LONG_SIZE = 10;
+
+	private VarInts() {
+	}
+
+	public static int sizeOfVarInt(final int value) {
+		// Number of significant bits, rounded up to groups of 7
+		return Math.max(1, (38 - Integer.numberOfLeadingZeros(value)) / 7);
+	}
+
+	public static int sizeOfVarLong(final long value) {
+		return Math.max(1, (70 - Long.numberOfLeadingZeros(value)) / 7);
+	}
+
+	public static void putVarInt(final ByteBuffer byteBuffer, final int value) {
+		int remaining = value;
+		while ((remaining & ~0x7F) != 0) {
+			byteBuffer.put((byte) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		byteBuffer.put((byte) remaining);
+	}
+
+	public static int getVarInt(final ByteBuffer byteBuffer) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			final byte b = byteBuffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed variable length int");
+	}
+
+	public static void putVarLong(final ByteBuffer byteBuffer, final long value) {
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) {
+			byteBuffer.put((byte) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		byteBuffer.put((byte) remaining);
+	}
+
+	public static long getVarLong(final ByteBuffer byteBuffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			final byte b = byteBuffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed variable length long");
+	}
+
+	public static long zigZag(final long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	public static long unZigZag(final long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public static void putSignedVarLong(final ByteBuffer byteBuffer, final long value) {
+		putVarLong(byteBuffer, zigZag(value));
+	}
+
+	public static long getSignedVarLong(final ByteBuffer byteBuffer) {
+		return unZigZag(getVarLong(byteBuffer));
+	}
+
+	/**
+	 * Upper bound of the size of a string written with {@link #putString(ByteBuffer, String)}
+	 *
+	 * @param value string
+	 * @return maximum number of bytes needed to write the string
+	 */
+	public static int maxSizeOfString(final String value) {
+		Validate.notNull(value);
+
+		// UTF-8 takes at most 3 bytes per UTF-16 char
+		return MAX_VAR_INT_SIZE + 3 * value.length();
+	}
+
+	public static void putString(final ByteBuffer byteBuffer, final String value) {
+		Validate.notNull(value);
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		putVarInt(byteBuffer, bytes.length);
+		byteBuffer.put(bytes);
+	}
+
+	public static String getString(final ByteBuffer byteBuffer) {
+		final int length = getVarInt(byteBuffer);
+		if (length < 0 || length > byteBuffer.remaining()) {
+			throw new IllegalArgumentException("Invalid string length " + length);
+		}
+
+		final String value;
+		if (byteBuffer.hasArray()) {
+			value = new String(byteBuffer.array(),
+					byteBuffer.arrayOffset() + byteBuffer.position(),
+					length,
+					StandardCharsets.UTF_8);
+			byteBuffer.position(byteBuffer.position() + length);
+		} else {
+			final byte[] bytes = new byte[length];
+			byteBuffer.get(bytes);
+			value = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return value;
+	}
+}
@@ -15,10 +15,13 @@ import net.bmahe.genetics4j.core.spec.EAConfigurationBulkAsync;
 /**
  * Wrapper around {@link net.bmahe.genetics4j.core.FitnessBulkAsync} for
  * computing the fitness of a population
+ * <p>
+ * Since a {@link net.bmahe.genetics4j.core.FitnessBulkAsync} only reports the fitness of whole batches, the futures
+ * returned by {@link #evaluateStream(long, List)} of a given batch all complete together.
  *
  * @param <T>
  */
-public class FitnessEvaluatorBulkAsync<T extends Comparable<T>> implements FitnessEvaluator<T> {
+public class FitnessEvaluatorBulkAsync<T extends Comparable<T>> implements StreamingFitnessEvaluator<T> {
 
 	public static final Logger logger = LogManager.getLogger(FitnessEvaluatorBulkAsync.class);
 
@@ -36,7 +39,7 @@ public class FitnessEvaluatorBulkAsync<T extends Comparable<T>> implements Fitne
 	}
 
 	@Override
-	public List<T> evaluate(final long generation, final List<Genotype> genotypes) {
+	public CompletableFuture<List<T>> evaluateAsync(final long generation, final List<Genotype> genotypes) {
 		Validate.isTrue(generation >= 0);
 		Validate.notNull(genotypes);
 		Validate.isTrue(genotypes.size() > 0);
@@ -44,8 +47,6 @@ public class FitnessEvaluatorBulkAsync<T extends Comparable<T>> implements Fitne
 		final FitnessBulkAsync<T> fitnessBulkAsync = eaConfigurationBulkAsync.fitness();
 
 		logger.trace("Submitting fitness computation task");
-		final CompletableFuture<List<T>> fitnessesCF = fitnessBulkAsync.compute(executorService, genotypes);
-
-		return fitnessesCF.join();
+		return fitnessBulkAsync.compute(executorService, genotypes);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+
+/**
+ * Decorator around a {@link FitnessEvaluator} which memoizes the fitness of previously evaluated genotypes
+ * <p>
+ * Elitism and survivor selection carry many identical genotypes across generations, and the combination of
+ * identical parents often produce exact clones. This evaluator only forwards the genotypes it has not seen yet to the
+ * underlying evaluator. Genotypes are looked up based on {@link Genotype#equals(Object)} and
+ * {@link Genotype#hashCode()}. Identical genotypes within the same batch are also only evaluated once.
+ * <p>
+ * The cache is bounded and evicts the least recently used genotypes once it reaches its maximum size.
+ * <p>
+ * This evaluator assumes the fitness of a genotype does not depend on the generation nor on the rest of the
+ * population. It should not be used with fitness functions which are adaptive or noisy.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class FitnessEvaluatorCached<T extends Comparable<T>> implements FitnessEvaluator<T> {
+	public static final Logger logger = LogManager.getLogger(FitnessEvaluatorCached.class);
+
+	private final FitnessEvaluator<T> fitnessEvaluator;
+	private final int maximumSize;
+
+	private final Map<Genotype, T> cache;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public FitnessEvaluatorCached(final FitnessEvaluator<T> _fitnessEvaluator, final int _maximumSize) {
+		Validate.notNull(_fitnessEvaluator);
+		Validate.isTrue(_maximumSize > 0);
+
+		this.fitnessEvaluator = _fitnessEvaluator;
+		this.maximumSize = _maximumSize;
+
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Genotype, T> eldest) {
+				final boolean shouldEvict = size() > maximumSize;
+				if (shouldEvict) {
+					evictionCount.incrementAndGet();
+				}
+				return shouldEvict;
+			}
+		};
+	}
+
+	@Override
+	public void preEvaluation() {
+		fitnessEvaluator.preEvaluation();
+	}
+
+	@Override
+	public void postEvaluation() {
+		fitnessEvaluator.postEvaluation();
+
+		logger.debug("Fitness cache - size: {}, hits: {}, misses: {}, evictions: {}, hit rate: {}",
+				size(),
+				getHitCount(),
+				getMissCount(),
+				getEvictionCount(),
+				getHitRate());
+	}
+
+	@Override
+	public List<T> evaluate(final long generation, final List<Genotype> genotypes) {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(genotypes);
+
+		final List<T> fitnessScores = new ArrayList<>(genotypes.size());
+
+		/**
+		 * Genotypes to evaluate, along with the position of the first occurrence of each of them within the
+		 * results
+		 */
+		final Map<Genotype, Integer> missIndex = new HashMap<>();
+		final List<Genotype> misses = new ArrayList<>();
+		final int[] missOf = new int[genotypes.size()];
+
+		synchronized (cache) {
+			for (int i = 0; i < genotypes.size(); i++) {
+				final Genotype genotype = genotypes.get(i);
+				final T cachedFitness = cache.get(genotype);
+
+				if (cachedFitness != null) {
+					fitnessScores.add(cachedFitness);
+					missOf[i] = -1;
+				} else {
+					final Integer existingMiss = missIndex.get(genotype);
+					if (existingMiss != null) {
+						missOf[i] = existingMiss;
+					} else {
+						missOf[i] = misses.size();
+						missIndex.put(genotype, misses.size());
+						misses.add(genotype);
+					}
+					fitnessScores.add(null);
+				}
+			}
+		}
+
+		hitCount.addAndGet(genotypes.size() - misses.size());
+		missCount.addAndGet(misses.size());
+		logger.debug("Generation {}: {} cache hits and {} genotypes to evaluate",
+				generation,
+				genotypes.size() - misses.size(),
+				misses.size());
+
+		if (misses.isEmpty()) {
+			return fitnessScores;
+		}
+
+		final List<T> missFitnesses = fitnessEvaluator.evaluate(generation, misses);
+		Validate.isTrue(missFitnesses.size() == misses.size());
+
+		synchronized (cache) {
+			for (int i = 0; i < misses.size(); i++) {
+				cache.put(misses.get(i), missFitnesses.get(i));
+			}
+		}
+
+		for (int i = 0; i < genotypes.size(); i++) {
+			if (missOf[i] >= 0) {
+				fitnessScores.set(i, missFitnesses.get(missOf[i]));
+			}
+		}
+
+		return fitnessScores;
+	}
+
+	/**
+	 * Returns the underlying fitness evaluator
+	 *
+	 * @return the decorated fitness evaluator
+	 */
+	public FitnessEvaluator<T> getFitnessEvaluator() {
+		return fitnessEvaluator;
+	}
+
+	/**
+	 * Returns the maximum number of genotypes kept in the cache
+	 *
+	 * @return maximum number of cached genotypes
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the current number of genotypes kept in the cache
+	 *
+	 * @return current number of cached genotypes
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the number of genotypes whose fitness was served from the cache, including duplicates within the same
+	 * batch
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of genotypes forwarded to the underlying fitness evaluator
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of genotypes evicted from the cache
+	 *
+	 * @return number of evictions
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Returns the ratio of genotypes served from the cache
+	 *
+	 * @return hit rate between 0 and 1, or 0 if nothing has been evaluated yet
+	 */
+	public double getHitRate() {
+		final long hits = hitCount.get();
+		final long total = hits + missCount.get();
+
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+
+	/**
+	 * Removes all the genotypes from the cache. Metrics are left untouched.
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+}
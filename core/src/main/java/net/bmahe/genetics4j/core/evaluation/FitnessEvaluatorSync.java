@@ -1,10 +1,13 @@
 package net.bmahe.genetics4j.core.evaluation;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.logging.log4j.LogManager;
@@ -23,12 +26,25 @@ import net.bmahe.genetics4j.core.spec.EAExecutionContext;
  * population will be split according to the number of partitions defined in
  * {@link net.bmahe.genetics4j.core.EASystemnet.bmahe.genetics4j.core.spec.EAExecutionContext#numberOfPartitions()}
  * and processed concurrently
+ * <p>
+ * When {@link net.bmahe.genetics4j.core.spec.EAExecutionContext#workStealingEvaluation()} is enabled, the workers
+ * instead claim small chunks of individuals from a shared index until the whole population is evaluated. This keeps
+ * all the workers busy when the cost of the fitness function varies between individuals.
+ * <p>
+ * Batches submitted through {@link #evaluateAsync(long, List)} are split into static partitions, since they are
+ * typically small and several of them are in flight at once. {@link #evaluateStream(long, List)} completes the
+ * future of each individual as soon as it is evaluated and skips the individuals whose future has been cancelled.
  * 
  * @param <T>
  */
-public class FitnessEvaluatorSync<T extends Comparable<T>> implements FitnessEvaluator<T> {
+public class FitnessEvaluatorSync<T extends Comparable<T>> implements StreamingFitnessEvaluator<T> {
 	public static final Logger logger = LogManager.getLogger(FitnessEvaluatorSync.class);
 
+	/**
+	 * Targeted duration of the evaluation of a chunk when using work stealing
+	 */
+	static final long TARGET_CHUNK_NANOS = 1_000_000L;
+
 	private final EAExecutionContext<T> eaExecutionContext;
 	private final EAConfiguration<T> eaConfigurationSync;
 
@@ -45,46 +61,186 @@ public class FitnessEvaluatorSync<T extends Comparable<T>> implements FitnessEva
 		this.executorService = _executorService;
 	}
 
+	/**
+	 * Computes how many individuals a worker should claim next.
+	 * <p>
+	 * Chunks start with a single individual and then target {@link #TARGET_CHUNK_NANOS} based on the average
+	 * evaluation latency measured so far, which amortizes the coordination cost for cheap fitness functions. They are
+	 * also capped to half of an even share of the remaining individuals, so chunks shrink towards the end of the
+	 * generation and no worker is left with a large amount of work while the others are idle.
+	 * 
+	 * @param remaining    number of individuals not claimed yet
+	 * @param numWorkers   number of workers
+	 * @param numEvaluated number of individuals evaluated so far
+	 * @param totalNanos   total time spent evaluating these individuals, in nanoseconds
+	 * @return number of individuals to claim, always at least 1
+	 */
+	static int chunkSize(final int remaining, final int numWorkers, final long numEvaluated, final long totalNanos) {
+		Validate.isTrue(numWorkers > 0);
+
+		if (remaining <= 0 || numEvaluated <= 0) {
+			return 1;
+		}
+
+		final int guidedChunkSize = Math.max(1, remaining / (2 * numWorkers));
+
+		final double nanosPerIndividual = Math.max(1.0, (double) totalNanos / numEvaluated);
+		final int latencyChunkSize = (int) Math.max(1, Math.min(Integer.MAX_VALUE, TARGET_CHUNK_NANOS / nanosPerIndividual));
+
+		return Math.min(guidedChunkSize, latencyChunkSize);
+	}
+
+	/**
+	 * Evaluate individuals of the static partitions, one task per partition
+	 */
+	private CompletableFuture<Void> staticPartitions(final int populationSize, final IntConsumer evaluateIndividual) {
+		final int numPartitions = eaExecutionContext.numberOfPartitions();
+		final int partitionSize = Math.max(1, (populationSize + numPartitions - 1) / numPartitions);
+
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for (int from = 0; from < populationSize; from += partitionSize) {
+			final int partitionStart = from;
+			final int partitionEnd = Math.min(populationSize, from + partitionSize);
+			tasks.add(CompletableFuture.runAsync(() -> {
+				for (int i = partitionStart; i < partitionEnd; i++) {
+					evaluateIndividual.accept(i);
+				}
+			}, executorService));
+		}
+
+		return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()]));
+	}
+
+	/**
+	 * Evaluate individuals with workers claiming chunks of adaptive size from a shared index
+	 */
+	private CompletableFuture<Void> workStealing(final int populationSize, final IntConsumer evaluateIndividual) {
+		final int numWorkers = Math.min(eaExecutionContext.numberOfPartitions(), populationSize);
+
+		final AtomicInteger nextIndex = new AtomicInteger();
+		final LongAdder numEvaluated = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+
+		final Runnable worker = () -> {
+			while (true) {
+				final int chunkSize = chunkSize(populationSize - nextIndex.get(),
+						numWorkers,
+						numEvaluated.sum(),
+						totalNanos.sum());
+
+				final int from = nextIndex.getAndAdd(chunkSize);
+				if (from >= populationSize) {
+					return;
+				}
+				final int to = Math.min(populationSize, from + chunkSize);
+
+				final long startNanos = System.nanoTime();
+				for (int i = from; i < to; i++) {
+					evaluateIndividual.accept(i);
+				}
+				totalNanos.add(System.nanoTime() - startNanos);
+				numEvaluated.add(to - from);
+			}
+		};
+
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>(numWorkers);
+		for (int i = 0; i < numWorkers; i++) {
+			tasks.add(CompletableFuture.runAsync(worker, executorService));
+		}
+		return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()]));
+	}
+
+	/**
+	 * Evaluate the fitness of all the genotypes, either with static partitions or work stealing
+	 */
+	private CompletableFuture<List<T>> evaluatePartitions(final List<Genotype> genotypes,
+			final boolean workStealingEvaluation) {
+		final Fitness<T> fitness = eaConfigurationSync.fitness();
+		final int populationSize = genotypes.size();
+
+		final Object[] fitnessScores = new Object[populationSize];
+		final IntConsumer evaluateIndividual = i -> fitnessScores[i] = fitness.compute(genotypes.get(i));
+
+		final CompletableFuture<Void> evaluation = workStealingEvaluation
+				? workStealing(populationSize, evaluateIndividual)
+				: staticPartitions(populationSize, evaluateIndividual);
+
+		return evaluation.thenApply(v -> {
+			final List<T> results = new ArrayList<>(populationSize);
+			for (final Object fitnessScore : fitnessScores) {
+				@SuppressWarnings("unchecked")
+				final T fitnessValue = (T) fitnessScore;
+				results.add(fitnessValue);
+			}
+			return results;
+		});
+	}
+
 	@Override
 	public List<T> evaluate(final long generation, final List<Genotype> population) {
 		Validate.isTrue(generation >= 0);
 		Validate.notNull(population);
 		Validate.isTrue(population.size() > 0);
 
+		return evaluatePartitions(population, eaExecutionContext.workStealingEvaluation()).join();
+	}
+
+	@Override
+	public CompletableFuture<List<T>> evaluateAsync(final long generation, final List<Genotype> genotypes) {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(genotypes);
+		Validate.isTrue(genotypes.size() > 0);
+
+		return evaluatePartitions(genotypes, false);
+	}
+
+	@Override
+	public List<CompletableFuture<T>> evaluateStream(final long generation, final List<Genotype> genotypes) {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(genotypes);
+		Validate.isTrue(genotypes.size() > 0);
+
 		final Fitness<T> fitness = eaConfigurationSync.fitness();
-		final int numPartitions = eaExecutionContext.numberOfPartitions();
-		final int partitionSize = Math.max(1, (int) Math.ceil(population.size() / numPartitions));
-
-		final List<CompletableFuture<TaskResult<T>>> tasks = new ArrayList<>();
-		for (int i = 0; i < population.size();) {
-			final int numSubPopulation = population.size() - i > partitionSize ? partitionSize : population.size() - i;
-			final int partitionStart = i;
-			final int partitionEnd = partitionStart + numSubPopulation;
-			final List<Genotype> partition = population.subList(partitionStart, partitionEnd);
-			final CompletableFuture<TaskResult<T>> asyncFitnessCompute = CompletableFuture.supplyAsync(() -> {
-				final List<T> fitnessPartition = new ArrayList<>(numSubPopulation);
-				for (int j = 0; j < partition.size(); j++) {
-					final T fitnessIndividual = fitness.compute(partition.get(j));
-					fitnessPartition.add(fitnessIndividual);
-				}
-				final var taskResult = new TaskResult<>(partitionStart, fitnessPartition);
-				return taskResult;
-			}, executorService);
-			tasks.add(asyncFitnessCompute);
 
-			i += numSubPopulation;
+		final List<CompletableFuture<T>> fitnessFutures = new ArrayList<>(genotypes.size());
+		for (int i = 0; i < genotypes.size(); i++) {
+			fitnessFutures.add(new CompletableFuture<>());
 		}
 
-		CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()]));
+		final IntConsumer evaluateIndividual = i -> {
+			final CompletableFuture<T> fitnessFuture = fitnessFutures.get(i);
+			if (fitnessFuture.isDone()) {
+				return;
+			}
+
+			try {
+				fitnessFuture.complete(fitness.compute(genotypes.get(i)));
+			} catch (Throwable e) {
+				fitnessFuture.completeExceptionally(e);
+			}
+		};
+
+		// Any failure outside of the fitness computation would otherwise leave the remaining futures pending forever
+		final Consumer<Throwable> failPendingFutures = e -> {
+			for (final CompletableFuture<T> fitnessFuture : fitnessFutures) {
+				fitnessFuture.completeExceptionally(e);
+			}
+		};
 
-		final List<T> fitnessScores = new ArrayList<>(population.size());
-		tasks.stream()
-				.map(CompletableFuture::join)
-				.sorted(Comparator.comparingInt(TaskResult::from))
-				.forEach(taskResult -> {
-					fitnessScores.addAll(taskResult.fitness());
-				});
+		try {
+			final CompletableFuture<Void> evaluation = eaExecutionContext.workStealingEvaluation()
+					? workStealing(genotypes.size(), evaluateIndividual)
+					: staticPartitions(genotypes.size(), evaluateIndividual);
+
+			evaluation.whenComplete((result, e) -> {
+				if (e != null) {
+					failPendingFutures.accept(e);
+				}
+			});
+		} catch (Throwable e) {
+			failPendingFutures.accept(e);
+		}
 
-		return fitnessScores;
+		return fitnessFutures;
 	}
-}
\ No newline at end of file
+}
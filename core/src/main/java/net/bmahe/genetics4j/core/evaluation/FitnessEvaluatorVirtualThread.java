@@ -0,0 +1,133 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Fitness;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+
+/**
+ * Wrapper around {@link net.bmahe.genetics4j.core.Fitness} computing the fitness of a population with virtual threads
+ * <p>
+ * Each genotype, or each batch of {@code batchSize} genotypes, is evaluated in its own virtual thread. This is suited
+ * to I/O bound fitness functions, such as ones calling remote services or simulators, as thousands of evaluations can
+ * be kept in flight without sizing a pool of platform threads.
+ * <p>
+ * The number of evaluations running concurrently is capped by {@code maxConcurrency}. The limit is shared across all
+ * the calls to {@link #evaluate(long, List)}, so it also holds when the same evaluator is used by multiple systems.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class FitnessEvaluatorVirtualThread<T extends Comparable<T>> implements FitnessEvaluator<T> {
+	public static final Logger logger = LogManager.getLogger(FitnessEvaluatorVirtualThread.class);
+
+	public static final int DEFAULT_BATCH_SIZE = 1;
+
+	private final EAConfiguration<T> eaConfigurationSync;
+	private final int maxConcurrency;
+	private final int batchSize;
+
+	private final Semaphore semaphore;
+
+	public FitnessEvaluatorVirtualThread(final EAConfiguration<T> _eaConfigurationSync, final int _maxConcurrency,
+			final int _batchSize) {
+		Validate.notNull(_eaConfigurationSync);
+		Validate.isTrue(_maxConcurrency > 0);
+		Validate.isTrue(_batchSize > 0);
+
+		this.eaConfigurationSync = _eaConfigurationSync;
+		this.maxConcurrency = _maxConcurrency;
+		this.batchSize = _batchSize;
+
+		this.semaphore = new Semaphore(_maxConcurrency, true);
+	}
+
+	public FitnessEvaluatorVirtualThread(final EAConfiguration<T> _eaConfigurationSync, final int _maxConcurrency) {
+		this(_eaConfigurationSync, _maxConcurrency, DEFAULT_BATCH_SIZE);
+	}
+
+	private void evaluateBatch(final Fitness<T> fitness, final List<Genotype> population, final Object[] fitnessScores,
+			final int from, final int to) {
+		try {
+			semaphore.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw new CompletionException(e);
+		}
+
+		try {
+			for (int i = from; i < to; i++) {
+				fitnessScores[i] = fitness.compute(population.get(i));
+			}
+		} finally {
+			semaphore.release();
+		}
+	}
+
+	@Override
+	public List<T> evaluate(final long generation, final List<Genotype> population) {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(population);
+		Validate.isTrue(population.size() > 0);
+
+		final Fitness<T> fitness = eaConfigurationSync.fitness();
+		final Object[] fitnessScores = new Object[population.size()];
+
+		logger.debug("Generation {}: evaluating {} genotypes in batches of {} with up to {} concurrent evaluations",
+				generation,
+				population.size(),
+				batchSize,
+				maxConcurrency);
+
+		try (final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+			final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+			for (int i = 0; i < population.size(); i += batchSize) {
+				final int from = i;
+				final int to = Math.min(population.size(), i + batchSize);
+
+				tasks.add(CompletableFuture.runAsync(() -> evaluateBatch(fitness, population, fitnessScores, from, to),
+						executorService));
+			}
+
+			CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()]))
+					.join();
+		}
+
+		final List<T> results = new ArrayList<>(fitnessScores.length);
+		for (final Object fitnessScore : fitnessScores) {
+			@SuppressWarnings("unchecked")
+			final T fitnessValue = (T) fitnessScore;
+			results.add(fitnessValue);
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the maximum number of evaluations running concurrently
+	 *
+	 * @return maximum number of concurrent evaluations
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * Returns the number of genotypes evaluated by each virtual thread
+	 *
+	 * @return batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import net.bmahe.genetics4j.core.Genotype;
+
+/**
+ * Fitness evaluator accepting a generation as a stream of micro-batches.
+ *
+ * <p>Batches are submitted without waiting for the evaluation of the previous ones, which lets callers keep producing
+ * individuals while the earlier ones are being evaluated. This is what
+ * {@link net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext#pipelinedEvaluation() pipelined evaluation} relies
+ * on to overlap the creation of offsprings with their evaluation.
+ *
+ * <p>Results can also be consumed individually through {@link #evaluateStream(long, List)}, which lets callers act on
+ * partial results, such as stopping a generation as soon as an individual satisfies the
+ * {@link net.bmahe.genetics4j.core.termination.Termination#isDoneWithIndividual termination criteria}.
+ * 
+ * <p>Implementations must accept batches submitted concurrently from several threads, and
+ * {@link #preEvaluation()} and {@link #postEvaluation()} still bracket whole evolutions.
+ *
+ * @param <T> the type of fitness values produced, must be comparable for selection operations
+ * @see FitnessEvaluator
+ */
+public interface StreamingFitnessEvaluator<T extends Comparable<T>> extends FitnessEvaluator<T> {
+
+	/**
+	 * Submits a batch of genotypes for evaluation and returns without waiting for it.
+	 *
+	 * @param generation the current generation number
+	 * @param genotypes  the genotypes of the batch
+	 * @return a future completing with the fitness values, in the same order as the genotypes
+	 */
+	CompletableFuture<List<T>> evaluateAsync(long generation, List<Genotype> genotypes);
+
+	/**
+	 * Submits a batch of genotypes for evaluation and returns one future per genotype.
+	 *
+	 * <p>Each future completes as soon as the fitness of its genotype is known. Cancelling a future tells the
+	 * evaluator the fitness is no longer needed, which implementations may use to skip its evaluation.
+	 *
+	 * <p>The default implementation completes all the futures at once, when {@link #evaluateAsync(long, List)}
+	 * completes.
+	 *
+	 * @param generation the current generation number
+	 * @param genotypes  the genotypes of the batch
+	 * @return the futures of the fitness values, in the same order as the genotypes
+	 */
+	default List<CompletableFuture<T>> evaluateStream(final long generation, final List<Genotype> genotypes) {
+		final CompletableFuture<List<T>> fitnessesFuture = evaluateAsync(generation, genotypes);
+
+		final List<CompletableFuture<T>> fitnessFutures = new ArrayList<>(genotypes.size());
+		for (int i = 0; i < genotypes.size(); i++) {
+			final int index = i;
+			fitnessFutures.add(fitnessesFuture.thenApply(fitnesses -> fitnesses.get(index)));
+		}
+		return fitnessFutures;
+	}
+
+	@Override
+	default List<T> evaluate(final long generation, final List<Genotype> genotypes) {
+		return evaluateAsync(generation, genotypes).join();
+	}
+}
@@ -0,0 +1,136 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.Validate;
+import org.immutables.value.Value;
+
+/**
+ * Settings of a {@link FitnessEvaluatorDistributed}
+ */
+@Value.Immutable
+public abstract class DistributedEvaluationSettings {
+
+	/**
+	 * Number of workers to wait for before starting to evaluate a generation
+	 *
+	 * @return minimum number of workers
+	 */
+	@Value.Default
+	public int minWorkers() {
+		return 1;
+	}
+
+	/**
+	 * How long to wait for workers, either to reach {@link #minWorkers()} or when none is left, before failing
+	 *
+	 * @return maximum waiting time for workers
+	 */
+	@Value.Default
+	public Duration workerWaitTimeout() {
+		return Duration.ofMinutes(1);
+	}
+
+	/**
+	 * Interval at which workers send heartbeats
+	 *
+	 * @return heartbeat interval
+	 */
+	@Value.Default
+	public Duration heartbeatInterval() {
+		return Duration.ofSeconds(1);
+	}
+
+	/**
+	 * Workers not heard from for that long are considered lost and their batch is resubmitted
+	 *
+	 * @return heartbeat timeout
+	 */
+	@Value.Default
+	public Duration heartbeatTimeout() {
+		return Duration.ofSeconds(10);
+	}
+
+	/**
+	 * Targeted duration of a batch, used with the measured throughput of each worker to size its batches
+	 *
+	 * @return targeted duration of a batch
+	 */
+	@Value.Default
+	public Duration targetBatchDuration() {
+		return Duration.ofMillis(200);
+	}
+
+	/**
+	 * Size of the batches sent to a worker per unit of parallelism, until its throughput is known
+	 *
+	 * @return initial batch size
+	 */
+	@Value.Default
+	public int initialBatchSize() {
+		return 4;
+	}
+
+	@Value.Default
+	public int maxBatchSize() {
+		return 4096;
+	}
+
+	/**
+	 * Once no new batch is left, a batch running longer than this factor times its expected duration is resubmitted to
+	 * an idle worker. The first result to come back is used.
+	 *
+	 * @return straggler factor
+	 */
+	@Value.Default
+	public double stragglerFactor() {
+		return 3.0;
+	}
+
+	/**
+	 * Minimum time before a batch can be considered a straggler
+	 *
+	 * @return minimum straggler delay
+	 */
+	@Value.Default
+	public Duration minStragglerDelay() {
+		return Duration.ofSeconds(1);
+	}
+
+	/**
+	 * Total number of attempts at evaluating a batch. Losing the worker of a batch counts as a failed attempt and the
+	 * evaluation fails once a batch has failed that many times
+	 *
+	 * @return maximum number of attempts per batch
+	 */
+	@Value.Default
+	public int maxAttempts() {
+		return 3;
+	}
+
+	@Value.Check
+	protected void check() {
+		Validate.isTrue(minWorkers() > 0);
+		Validate.isTrue(workerWaitTimeout().isNegative() == false);
+		Validate.isTrue(heartbeatInterval().isPositive());
+		Validate.isTrue(heartbeatTimeout().compareTo(heartbeatInterval()) > 0,
+				"The heartbeat timeout must be greater than the heartbeat interval");
+		Validate.isTrue(targetBatchDuration().isPositive());
+		Validate.isTrue(initialBatchSize() > 0);
+		Validate.isTrue(maxBatchSize() >= initialBatchSize());
+		Validate.isTrue(stragglerFactor() >= 1.0);
+		Validate.isTrue(minStragglerDelay().isNegative() == false);
+		Validate.isTrue(maxAttempts() > 0);
+	}
+
+	public static class Builder extends ImmutableDistributedEvaluationSettings.Builder {
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static DistributedEvaluationSettings ofDefaults() {
+		return builder().build();
+	}
+}
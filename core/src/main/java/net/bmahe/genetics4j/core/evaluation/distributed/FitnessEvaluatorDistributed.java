@@ -0,0 +1,598 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.checkpoint.FitnessSerializer;
+import net.bmahe.genetics4j.core.chromosomes.codec.GenotypeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.VarInts;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+
+/**
+ * Fitness evaluator shipping the genotypes to remote workers
+ * <p>
+ * The evaluator listens on a TCP or Unix domain socket address and {@link FitnessWorker}s, typically started with
+ * {@link FitnessWorkerMain} on other machines, connect to it. Each generation is split into batches which are sent to
+ * idle workers:
+ * <ul>
+ * <li>Batches are sized from the throughput measured for each worker so a batch takes about
+ * {@link DistributedEvaluationSettings#targetBatchDuration()}</li>
+ * <li>Workers which stop sending heartbeats or disconnect have their batch resubmitted to another worker</li>
+ * <li>Once all batches have been sent, batches running much longer than expected are resubmitted to idle workers and
+ * the first result to come back is used</li>
+ * </ul>
+ * Workers can join or leave at any time. Since the evaluator is a regular {@link FitnessEvaluator}, it can be used
+ * with {@link net.bmahe.genetics4j.core.EASystemFactory} without changing the rest of the configuration.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class FitnessEvaluatorDistributed<T extends Comparable<T>> implements FitnessEvaluator<T>, AutoCloseable {
+	public static final Logger logger = LogManager.getLogger(FitnessEvaluatorDistributed.class);
+
+	private static final long POLL_INTERVAL_MILLIS = 50;
+
+	private sealed interface Event {
+	}
+
+	private record ResultEvent(WorkerConnection worker, long batchId, ByteBuffer payload, long receivedNanos)
+			implements Event {
+	}
+
+	private record FailureEvent(WorkerConnection worker, long batchId, String message) implements Event {
+	}
+
+	private record DisconnectedEvent(WorkerConnection worker) implements Event {
+	}
+
+	/**
+	 * Contiguous range of the population being evaluated
+	 */
+	private static final class Range {
+		private final long evaluationId;
+		private final int from;
+		private final int to;
+
+		private int attempts = 0;
+		private int inFlight = 0;
+		private boolean completed = false;
+		private ByteBuffer encoded = null;
+
+		private Range(final long _evaluationId, final int _from, final int _to) {
+			this.evaluationId = _evaluationId;
+			this.from = _from;
+			this.to = _to;
+		}
+
+		private int size() {
+			return to - from;
+		}
+	}
+
+	private record Assignment(long batchId, Range range, WorkerConnection worker, long sentNanos) {
+	}
+
+	private final GenotypeCodec genotypeCodec;
+	private final FitnessSerializer<T> fitnessSerializer;
+	private final DistributedEvaluationSettings settings;
+
+	private final ServerSocketChannel serverSocketChannel;
+	private final SocketAddress localAddress;
+	private final Thread acceptorThread;
+
+	private final Set<WorkerConnection> workers = ConcurrentHashMap.newKeySet();
+	private final Object workersLock = new Object();
+	private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+	// Only accessed from the evaluating thread. Assignments outlive their generation so a worker still busy with a
+	// superseded batch is not considered idle
+	private final Map<Long, Assignment> assignments = new HashMap<>();
+	private final Map<WorkerConnection, Assignment> workerAssignments = new HashMap<>();
+	private long nextBatchId = 0;
+	private long evaluationId = 0;
+
+	private volatile boolean closed = false;
+
+	public FitnessEvaluatorDistributed(final SocketAddress _bindAddress, final GenotypeCodec _genotypeCodec,
+			final FitnessSerializer<T> _fitnessSerializer, final DistributedEvaluationSettings _settings)
+			throws IOException {
+		Validate.notNull(_bindAddress);
+		Validate.notNull(_genotypeCodec);
+		Validate.notNull(_fitnessSerializer);
+		Validate.notNull(_settings);
+
+		this.genotypeCodec = _genotypeCodec;
+		this.fitnessSerializer = _fitnessSerializer;
+		this.settings = _settings;
+
+		this.serverSocketChannel = _bindAddress instanceof UnixDomainSocketAddress
+				? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+				: ServerSocketChannel.open();
+		this.serverSocketChannel.bind(_bindAddress);
+		this.localAddress = serverSocketChannel.getLocalAddress();
+
+		this.acceptorThread = new Thread(this::acceptWorkers, "fitness-evaluator-distributed-acceptor");
+		this.acceptorThread.setDaemon(true);
+		this.acceptorThread.start();
+
+		logger.info("Waiting for workers on {}", localAddress);
+	}
+
+	public FitnessEvaluatorDistributed(final SocketAddress _bindAddress,
+			final AbstractEAConfiguration<T> _eaConfiguration, final FitnessSerializer<T> _fitnessSerializer)
+			throws IOException {
+		this(_bindAddress,
+				GenotypeCodec.of(_eaConfiguration),
+				_fitnessSerializer,
+				DistributedEvaluationSettings.ofDefaults());
+	}
+
+	/**
+	 * Address workers must connect to. Useful when binding to an ephemeral port.
+	 *
+	 * @return address the evaluator listens on
+	 */
+	public SocketAddress getLocalAddress() {
+		return localAddress;
+	}
+
+	public int getNumWorkers() {
+		return workers.size();
+	}
+
+	/**
+	 * Computes the size of the next batch for a worker
+	 *
+	 * @param nanosPerIndividual measured round trip time per individual of the worker, or NaN if unknown
+	 * @param parallelism        parallelism of the worker
+	 * @param remaining          number of individuals not sent yet
+	 * @param numWorkers         number of connected workers
+	 * @param settings           settings
+	 * @return number of individuals to send
+	 */
+	static int batchSize(final double nanosPerIndividual, final int parallelism, final int remaining,
+			final int numWorkers, final DistributedEvaluationSettings settings) {
+		Validate.isTrue(parallelism > 0);
+		Validate.isTrue(remaining > 0);
+		Validate.isTrue(numWorkers > 0);
+		Validate.notNull(settings);
+
+		final long targetSize;
+		if (Double.isNaN(nanosPerIndividual)) {
+			targetSize = (long) settings.initialBatchSize() * parallelism;
+		} else {
+			targetSize = (long) (settings.targetBatchDuration()
+					.toNanos() / Math.max(nanosPerIndividual, 1.0));
+		}
+
+		// Leave work for the other workers rather than handing everything to the first idle one
+		final int fairShare = (remaining + numWorkers - 1) / numWorkers;
+
+		final long size = Math.max(1, Math.min(Math.min(targetSize, settings.maxBatchSize()), fairShare));
+		return (int) size;
+	}
+
+	private void acceptWorkers() {
+		while (closed == false) {
+			try {
+				final SocketChannel socketChannel = serverSocketChannel.accept();
+				if (socketChannel.supportedOptions()
+						.contains(StandardSocketOptions.TCP_NODELAY)) {
+					socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+				}
+
+				final Thread readerThread = new Thread(() -> readWorker(socketChannel),
+						"fitness-evaluator-distributed-reader");
+				readerThread.setDaemon(true);
+				readerThread.start();
+			} catch (IOException e) {
+				if (closed == false) {
+					logger.error("Failed to accept worker connection", e);
+				}
+			}
+		}
+	}
+
+	private void readWorker(final SocketChannel socketChannel) {
+		WorkerConnection worker = null;
+		try {
+			final Protocol.Frame hello = Protocol.read(socketChannel);
+			if (hello.type() != Protocol.HELLO) {
+				throw new IOException("Unexpected frame type " + hello.type() + " during handshake");
+			}
+			final int version = VarInts.getVarInt(hello.payload());
+			if (version != Protocol.VERSION) {
+				throw new IOException("Unsupported protocol version " + version);
+			}
+			final String name = VarInts.getString(hello.payload());
+			final int parallelism = VarInts.getVarInt(hello.payload());
+			if (parallelism < 1) {
+				throw new IOException("Invalid parallelism " + parallelism);
+			}
+
+			worker = new WorkerConnection(socketChannel, name, parallelism);
+
+			final ByteBuffer welcome = ByteBuffer.allocate(VarInts.MAX_VAR_LONG_SIZE);
+			VarInts.putVarLong(welcome,
+					settings.heartbeatInterval()
+							.toMillis());
+			worker.send(Protocol.WELCOME, welcome.flip());
+
+			synchronized (workersLock) {
+				workers.add(worker);
+				workersLock.notifyAll();
+			}
+			logger.info("Worker {} connected with a parallelism of {}", name, parallelism);
+
+			while (true) {
+				final Protocol.Frame frame = Protocol.read(socketChannel);
+				worker.seen();
+
+				final ByteBuffer payload = frame.payload();
+				switch (frame.type()) {
+					case Protocol.HEARTBEAT -> {
+					}
+					case Protocol.RESULT -> events
+							.add(new ResultEvent(worker, VarInts.getVarLong(payload), payload, System.nanoTime()));
+					case Protocol.ERROR -> {
+						final long batchId = VarInts.getVarLong(payload);
+						events.add(new FailureEvent(worker, batchId, VarInts.getString(payload)));
+					}
+					default -> throw new IOException("Unexpected frame type " + frame.type());
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			if (closed == false) {
+				logger.warn("Lost connection to worker {}", worker, e);
+			}
+		} finally {
+			if (worker != null) {
+				worker.close();
+				synchronized (workersLock) {
+					workers.remove(worker);
+					workersLock.notifyAll();
+				}
+				events.add(new DisconnectedEvent(worker));
+			} else {
+				try {
+					socketChannel.close();
+				} catch (IOException e) {
+					logger.debug("Could not close connection", e);
+				}
+			}
+		}
+	}
+
+	private void awaitWorkers(final int minWorkers) {
+		final long deadline = System.nanoTime() + settings.workerWaitTimeout()
+				.toNanos();
+
+		synchronized (workersLock) {
+			while (workers.size() < minWorkers) {
+				final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remainingMillis <= 0) {
+					throw new IllegalStateException(
+							"Only " + workers.size() + " workers connected out of the " + minWorkers + " required");
+				}
+
+				try {
+					workersLock.wait(remainingMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread()
+							.interrupt();
+					throw new IllegalStateException("Interrupted while waiting for workers", e);
+				}
+			}
+		}
+	}
+
+	private ByteBuffer encode(final List<Genotype> genotypes, final Range range) {
+		if (range.encoded == null) {
+			int size = 0;
+			for (int i = range.from; i < range.to; i++) {
+				size += genotypeCodec.maxEncodedSize(genotypes.get(i));
+			}
+
+			final ByteBuffer encoded = ByteBuffer.allocate(size);
+			for (int i = range.from; i < range.to; i++) {
+				genotypeCodec.encode(genotypes.get(i), encoded);
+			}
+			range.encoded = encoded.flip();
+		}
+		return range.encoded.duplicate();
+	}
+
+	private void dispatch(final long generation, final List<Genotype> genotypes, final WorkerConnection worker,
+			final Range range) {
+		final long batchId = nextBatchId++;
+
+		final ByteBuffer header = ByteBuffer.allocate(2 * VarInts.MAX_VAR_LONG_SIZE + VarInts.MAX_VAR_INT_SIZE);
+		VarInts.putVarLong(header, batchId);
+		VarInts.putVarLong(header, generation);
+		VarInts.putVarInt(header, range.size());
+		final ByteBuffer body = encode(genotypes, range);
+
+		// Registered before sending so a failed send is handled like any lost worker once its reader notices
+		final Assignment assignment = new Assignment(batchId, range, worker, System.nanoTime());
+		assignments.put(batchId, assignment);
+		workerAssignments.put(worker, assignment);
+		range.inFlight++;
+
+		logger.trace("Sending batch {} [{}, {}) to {}", batchId, range.from, range.to, worker);
+		try {
+			worker.send(Protocol.BATCH, header.flip(), body);
+		} catch (IOException e) {
+			logger.warn("Could not send batch {} to {}", batchId, worker, e);
+			worker.close();
+		}
+	}
+
+	private Range findStraggler(final WorkerConnection idleWorker, final long now) {
+		Range straggler = null;
+		long stragglerSentNanos = Long.MAX_VALUE;
+
+		for (final Assignment assignment : assignments.values()) {
+			final Range range = assignment.range();
+			if (range.evaluationId != evaluationId || range.completed || range.inFlight > 1
+					|| assignment.worker() == idleWorker) {
+				continue;
+			}
+
+			final double nanosPerIndividual = assignment.worker()
+					.nanosPerIndividual();
+			final double expectedNanos = Double.isNaN(nanosPerIndividual) ? settings.targetBatchDuration()
+					.toNanos() : nanosPerIndividual * range.size();
+			final double thresholdNanos = Math.max(settings.minStragglerDelay()
+					.toNanos(), settings.stragglerFactor() * expectedNanos);
+
+			if (now - assignment.sentNanos() > thresholdNanos && assignment.sentNanos() < stragglerSentNanos) {
+				straggler = range;
+				stragglerSentNanos = assignment.sentNanos();
+			}
+		}
+
+		return straggler;
+	}
+
+	private void failAttempt(final Range range, final Deque<Range> requeued, final String reason) {
+		range.inFlight--;
+		if (range.completed) {
+			return;
+		}
+		range.attempts++;
+
+		if (range.attempts >= settings.maxAttempts()) {
+			throw new IllegalStateException("Evaluation of individuals [" + range.from + ", " + range.to + ") failed "
+					+ range.attempts + " times. Last failure: " + reason);
+		}
+
+		if (range.inFlight == 0) {
+			requeued.add(range);
+		}
+	}
+
+	private void readFitnesses(final ByteBuffer payload, final Range range, final List<T> fitnesses)
+			throws IOException {
+		final var dataInputStream = new DataInputStream(
+				new ByteArrayInputStream(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining()));
+
+		final List<T> rangeFitnesses = new ArrayList<>(range.size());
+		for (int i = 0; i < range.size(); i++) {
+			rangeFitnesses.add(fitnessSerializer.read(dataInputStream));
+		}
+		if (dataInputStream.available() > 0) {
+			throw new IOException("Unexpected trailing bytes in result");
+		}
+
+		for (int i = 0; i < range.size(); i++) {
+			fitnesses.set(range.from + i, rangeFitnesses.get(i));
+		}
+	}
+
+	@Override
+	public List<T> evaluate(final long generation, final List<Genotype> genotypes) {
+		Validate.isTrue(generation >= 0);
+		Validate.notNull(genotypes);
+		Validate.validState(closed == false, "Evaluator is closed");
+
+		if (genotypes.isEmpty()) {
+			return List.of();
+		}
+
+		awaitWorkers(settings.minWorkers());
+
+		evaluationId++;
+		final int populationSize = genotypes.size();
+		final List<T> fitnesses = new ArrayList<>(Collections.nCopies(populationSize, null));
+		final Deque<Range> requeued = new ArrayDeque<>();
+		int nextIndex = 0;
+		int numCompleted = 0;
+		long noWorkerSinceNanos = -1;
+
+		logger.debug("Generation {}: evaluating {} genotypes over {} workers", generation, populationSize, workers.size());
+
+		while (numCompleted < populationSize) {
+			final long now = System.nanoTime();
+
+			// Dispatch work to the idle workers
+			for (final WorkerConnection worker : workers) {
+				if (workerAssignments.containsKey(worker) || worker.isOpen() == false) {
+					continue;
+				}
+
+				Range range = null;
+				while (range == null && requeued.isEmpty() == false) {
+					final Range candidate = requeued.poll();
+					if (candidate.completed == false) {
+						range = candidate;
+					}
+				}
+
+				if (range == null && nextIndex < populationSize) {
+					final int batchSize = batchSize(worker.nanosPerIndividual(),
+							worker.parallelism(),
+							populationSize - nextIndex,
+							workers.size(),
+							settings);
+					range = new Range(evaluationId, nextIndex, nextIndex + batchSize);
+					nextIndex += batchSize;
+				}
+
+				if (range == null) {
+					range = findStraggler(worker, now);
+					if (range != null) {
+						logger.debug("Resubmitting straggling individuals [{}, {}) to {}", range.from, range.to, worker);
+					}
+				}
+
+				if (range != null) {
+					dispatch(generation, genotypes, worker, range);
+				}
+			}
+
+			// Detect lost workers. Closing the connection makes its reader report the disconnection
+			for (final WorkerConnection worker : workers) {
+				if (now - worker.lastSeenNanos() > settings.heartbeatTimeout()
+						.toNanos() && worker.isOpen()) {
+					logger.warn("No heartbeat from worker {} since {} ms",
+							worker,
+							TimeUnit.NANOSECONDS.toMillis(now - worker.lastSeenNanos()));
+					worker.close();
+				}
+			}
+
+			if (workers.isEmpty()) {
+				if (noWorkerSinceNanos < 0) {
+					noWorkerSinceNanos = now;
+				} else if (now - noWorkerSinceNanos > settings.workerWaitTimeout()
+						.toNanos()) {
+					throw new IllegalStateException("No worker available to evaluate generation " + generation);
+				}
+			} else {
+				noWorkerSinceNanos = -1;
+			}
+
+			final Event event;
+			try {
+				event = events.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+						.interrupt();
+				throw new IllegalStateException("Interrupted while evaluating generation " + generation, e);
+			}
+
+			switch (event) {
+				case null -> {
+				}
+				case ResultEvent resultEvent -> {
+					final Assignment assignment = assignments.remove(resultEvent.batchId());
+					if (assignment == null) {
+						logger.warn("Ignoring result for unknown batch {}", resultEvent.batchId());
+						break;
+					}
+					workerAssignments.remove(assignment.worker());
+
+					final Range range = assignment.range();
+					resultEvent.worker()
+							.recordRoundTrip(resultEvent.receivedNanos() - assignment.sentNanos(), range.size());
+
+					if (range.evaluationId != evaluationId || range.completed) {
+						logger.trace("Ignoring superseded result for batch {}", assignment.batchId());
+						break;
+					}
+
+					try {
+						readFitnesses(resultEvent.payload(), range, fitnesses);
+					} catch (IOException e) {
+						logger.warn("Invalid result for batch {} from {}", assignment.batchId(), assignment.worker(), e);
+						failAttempt(range, requeued, e.toString());
+						break;
+					}
+
+					range.inFlight--;
+					range.completed = true;
+					range.encoded = null;
+					numCompleted += range.size();
+				}
+				case FailureEvent failureEvent -> {
+					final Assignment assignment = assignments.remove(failureEvent.batchId());
+					if (assignment == null) {
+						break;
+					}
+					workerAssignments.remove(assignment.worker());
+
+					logger.warn("Worker {} failed to evaluate batch {}: {}",
+							failureEvent.worker(),
+							failureEvent.batchId(),
+							failureEvent.message());
+					if (assignment.range().evaluationId == evaluationId) {
+						failAttempt(assignment.range(), requeued, failureEvent.message());
+					}
+				}
+				case DisconnectedEvent disconnectedEvent -> {
+					final Assignment assignment = workerAssignments.remove(disconnectedEvent.worker());
+					if (assignment == null) {
+						break;
+					}
+					assignments.remove(assignment.batchId());
+
+					if (assignment.range().evaluationId == evaluationId) {
+						failAttempt(assignment.range(), requeued, "lost worker " + disconnectedEvent.worker());
+					}
+				}
+			}
+		}
+
+		return fitnesses;
+	}
+
+	/**
+	 * Asks the workers to shut down and stops listening for new ones
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+
+		for (final WorkerConnection worker : workers) {
+			try {
+				worker.send(Protocol.SHUTDOWN);
+			} catch (IOException e) {
+				logger.debug("Could not send shutdown to {}", worker, e);
+			}
+			worker.close();
+		}
+
+		serverSocketChannel.close();
+		acceptorThread.interrupt();
+
+		if (localAddress instanceof UnixDomainSocketAddress unixDomainSocketAddress) {
+			Files.deleteIfExists(unixDomainSocketAddress.getPath());
+		}
+	}
+}
@@ -0,0 +1,250 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Fitness;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.checkpoint.FitnessSerializer;
+import net.bmahe.genetics4j.core.chromosomes.codec.GenotypeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.VarInts;
+
+/**
+ * Worker evaluating the batches sent by a {@link FitnessEvaluatorDistributed}
+ * <p>
+ * The worker connects to the evaluator, then evaluates the batches it receives until it is told to shut down or the
+ * connection is lost. Heartbeats are sent from a separate thread so the evaluator can tell a worker busy with a long
+ * batch from a lost one.
+ *
+ * @param <T> Type of the fitness measurement
+ * @see FitnessWorkerMain
+ */
+public class FitnessWorker<T extends Comparable<T>> implements AutoCloseable {
+	public static final Logger logger = LogManager.getLogger(FitnessWorker.class);
+
+	private final SocketAddress evaluatorAddress;
+	private final GenotypeCodec genotypeCodec;
+	private final Fitness<T> fitness;
+	private final FitnessSerializer<T> fitnessSerializer;
+	private final int parallelism;
+
+	private final Object writeLock = new Object();
+
+	private volatile SocketChannel socketChannel = null;
+	private volatile boolean closed = false;
+
+	public FitnessWorker(final SocketAddress _evaluatorAddress, final GenotypeCodec _genotypeCodec,
+			final Fitness<T> _fitness, final FitnessSerializer<T> _fitnessSerializer, final int _parallelism) {
+		Validate.notNull(_evaluatorAddress);
+		Validate.notNull(_genotypeCodec);
+		Validate.notNull(_fitness);
+		Validate.notNull(_fitnessSerializer);
+		Validate.isTrue(_parallelism > 0);
+
+		this.evaluatorAddress = _evaluatorAddress;
+		this.genotypeCodec = _genotypeCodec;
+		this.fitness = _fitness;
+		this.fitnessSerializer = _fitnessSerializer;
+		this.parallelism = _parallelism;
+	}
+
+	public static <U extends Comparable<U>> FitnessWorker<U> of(final SocketAddress evaluatorAddress,
+			final FitnessWorkerDefinition<U> fitnessWorkerDefinition, final int parallelism) {
+		Validate.notNull(fitnessWorkerDefinition);
+
+		final var eaConfiguration = fitnessWorkerDefinition.eaConfiguration();
+		return new FitnessWorker<>(evaluatorAddress,
+				GenotypeCodec.of(eaConfiguration),
+				eaConfiguration.fitness(),
+				fitnessWorkerDefinition.fitnessSerializer(),
+				parallelism);
+	}
+
+	private static String workerName() {
+		String hostName;
+		try {
+			hostName = InetAddress.getLocalHost()
+					.getHostName();
+		} catch (UnknownHostException e) {
+			hostName = "unknown";
+		}
+		return hostName + "/" + ProcessHandle.current()
+				.pid() + "/"
+				+ Thread.currentThread()
+						.getName();
+	}
+
+	private void send(final byte type, final ByteBuffer... parts) throws IOException {
+		synchronized (writeLock) {
+			Protocol.write(socketChannel, type, parts);
+		}
+	}
+
+	private List<T> evaluate(final List<Genotype> genotypes, final ExecutorService executorService) {
+		final List<T> fitnesses = new ArrayList<>(genotypes.size());
+
+		if (executorService == null || genotypes.size() < 2) {
+			for (final Genotype genotype : genotypes) {
+				fitnesses.add(fitness.compute(genotype));
+			}
+			return fitnesses;
+		}
+
+		final int numPartitions = Math.min(parallelism, genotypes.size());
+		final int partitionSize = (genotypes.size() + numPartitions - 1) / numPartitions;
+		final List<CompletableFuture<List<T>>> tasks = new ArrayList<>(numPartitions);
+		for (int from = 0; from < genotypes.size(); from += partitionSize) {
+			final List<Genotype> partition = genotypes.subList(from, Math.min(from + partitionSize, genotypes.size()));
+			tasks.add(CompletableFuture.supplyAsync(() -> {
+				final List<T> partitionFitnesses = new ArrayList<>(partition.size());
+				for (final Genotype genotype : partition) {
+					partitionFitnesses.add(fitness.compute(genotype));
+				}
+				return partitionFitnesses;
+			}, executorService));
+		}
+
+		for (final CompletableFuture<List<T>> task : tasks) {
+			fitnesses.addAll(task.join());
+		}
+		return fitnesses;
+	}
+
+	private void handleBatch(final ByteBuffer payload, final ExecutorService executorService) throws IOException {
+		final long batchId = VarInts.getVarLong(payload);
+		final long generation = VarInts.getVarLong(payload);
+		final int numGenotypes = VarInts.getVarInt(payload);
+
+		final ByteBuffer header = ByteBuffer.allocate(VarInts.MAX_VAR_LONG_SIZE);
+		VarInts.putVarLong(header, batchId);
+		header.flip();
+
+		try {
+			final List<Genotype> genotypes = new ArrayList<>(numGenotypes);
+			for (int i = 0; i < numGenotypes; i++) {
+				genotypes.add(genotypeCodec.decode(payload));
+			}
+
+			logger.trace("Evaluating batch {} of generation {} with {} genotypes", batchId, generation, numGenotypes);
+			final List<T> fitnesses = evaluate(genotypes, executorService);
+
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+			for (final T fitnessValue : fitnesses) {
+				fitnessSerializer.write(dataOutputStream, fitnessValue);
+			}
+			dataOutputStream.flush();
+
+			send(Protocol.RESULT, header, ByteBuffer.wrap(byteArrayOutputStream.toByteArray()));
+		} catch (RuntimeException e) {
+			logger.warn("Failed to evaluate batch {} of generation {}", batchId, generation, e);
+
+			final String message = String.valueOf(e);
+			final ByteBuffer messageBuffer = ByteBuffer.allocate(VarInts.maxSizeOfString(message));
+			VarInts.putString(messageBuffer, message);
+			send(Protocol.ERROR, header, messageBuffer.flip());
+		}
+	}
+
+	/**
+	 * Connects to the evaluator and evaluates batches until the evaluator shuts the worker down, the connection is lost
+	 * or the worker is closed
+	 *
+	 * @throws IOException if the connection could not be established or was lost
+	 */
+	public void serve() throws IOException {
+		Validate.validState(socketChannel == null, "Worker has already been started");
+
+		socketChannel = SocketChannel.open(evaluatorAddress);
+		if (socketChannel.supportedOptions()
+				.contains(StandardSocketOptions.TCP_NODELAY)) {
+			socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+		}
+
+		final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "fitness-worker-heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+		final ExecutorService executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+
+		try {
+			final String name = workerName();
+			final ByteBuffer hello = ByteBuffer
+					.allocate(2 * VarInts.MAX_VAR_INT_SIZE + VarInts.maxSizeOfString(name));
+			VarInts.putVarInt(hello, Protocol.VERSION);
+			VarInts.putString(hello, name);
+			VarInts.putVarInt(hello, parallelism);
+			send(Protocol.HELLO, hello.flip());
+
+			final Protocol.Frame welcome = Protocol.read(socketChannel);
+			if (welcome.type() != Protocol.WELCOME) {
+				throw new IOException("Unexpected frame type " + welcome.type() + " during handshake");
+			}
+			final long heartbeatIntervalMillis = VarInts.getVarLong(welcome.payload());
+
+			logger.info("Connected to evaluator {} as {}", evaluatorAddress, name);
+
+			heartbeatExecutor.scheduleAtFixedRate(() -> {
+				try {
+					send(Protocol.HEARTBEAT);
+				} catch (IOException e) {
+					logger.debug("Could not send heartbeat", e);
+				}
+			}, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+
+			while (true) {
+				final Protocol.Frame frame = Protocol.read(socketChannel);
+				switch (frame.type()) {
+					case Protocol.BATCH -> handleBatch(frame.payload(), executorService);
+					case Protocol.SHUTDOWN -> {
+						logger.info("Shutdown requested by the evaluator");
+						return;
+					}
+					default -> throw new IOException("Unexpected frame type " + frame.type());
+				}
+			}
+		} catch (IOException e) {
+			if (closed == false) {
+				throw e;
+			}
+		} finally {
+			heartbeatExecutor.shutdownNow();
+			if (executorService != null) {
+				executorService.shutdownNow();
+			}
+			socketChannel.close();
+		}
+	}
+
+	/**
+	 * Stops the worker by closing its connection
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+
+		final SocketChannel currentSocketChannel = socketChannel;
+		if (currentSocketChannel != null) {
+			currentSocketChannel.close();
+		}
+	}
+}
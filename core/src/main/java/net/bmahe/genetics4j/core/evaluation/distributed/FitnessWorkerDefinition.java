@@ -0,0 +1,20 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import net.bmahe.genetics4j.core.checkpoint.FitnessSerializer;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+
+/**
+ * Describes what a {@link FitnessWorker} started through {@link FitnessWorkerMain} evaluates
+ * <p>
+ * Implementations must have a public no-arg constructor. The configuration is typically the same as the one used by
+ * the evolution, so the worker decodes the genotypes with the same chromosome specs and evaluates them with the same
+ * fitness function.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public interface FitnessWorkerDefinition<T extends Comparable<T>> {
+
+	EAConfiguration<T> eaConfiguration();
+
+	FitnessSerializer<T> fitnessSerializer();
+}
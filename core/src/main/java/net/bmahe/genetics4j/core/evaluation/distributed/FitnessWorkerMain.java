@@ -0,0 +1,74 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Starts a {@link FitnessWorker} in its own JVM
+ * <p>
+ * Usage: {@code FitnessWorkerMain <address> <definition class> [parallelism]}
+ * <ul>
+ * <li>address: {@code host:port} for TCP, or {@code unix:/path/to/socket} for a Unix domain socket</li>
+ * <li>definition class: fully qualified name of a {@link FitnessWorkerDefinition} implementation</li>
+ * <li>parallelism: number of threads evaluating each batch, the number of available processors by default</li>
+ * </ul>
+ */
+public class FitnessWorkerMain {
+	public static final Logger logger = LogManager.getLogger(FitnessWorkerMain.class);
+
+	public static final String UNIX_PREFIX = "unix:";
+
+	private FitnessWorkerMain() {
+	}
+
+	/**
+	 * Parses an address in the {@code host:port} or {@code unix:/path} format
+	 *
+	 * @param address address to parse
+	 * @return corresponding socket address
+	 */
+	public static SocketAddress parseAddress(final String address) {
+		Validate.notBlank(address);
+
+		if (address.startsWith(UNIX_PREFIX)) {
+			return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+		}
+
+		final int separatorIndex = address.lastIndexOf(':');
+		Validate.isTrue(separatorIndex > 0 && separatorIndex < address.length() - 1,
+				"Address must be host:port or unix:/path, got %s",
+				address);
+
+		final String host = address.substring(0, separatorIndex);
+		final int port = Integer.parseInt(address.substring(separatorIndex + 1));
+		return new InetSocketAddress(host, port);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static void main(final String[] args) throws Exception {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: " + FitnessWorkerMain.class.getName()
+					+ " <host:port|unix:/path> <definition class> [parallelism]");
+			System.exit(1);
+		}
+
+		final SocketAddress evaluatorAddress = parseAddress(args[0]);
+		final Class<?> definitionClass = Class.forName(args[1]);
+		final FitnessWorkerDefinition fitnessWorkerDefinition = (FitnessWorkerDefinition) definitionClass
+				.getConstructor()
+				.newInstance();
+		final int parallelism = args.length > 2 ? Integer.parseInt(args[2])
+				: Runtime.getRuntime()
+						.availableProcessors();
+
+		logger.info("Starting worker for {} with a parallelism of {}", evaluatorAddress, parallelism);
+		try (final FitnessWorker fitnessWorker = FitnessWorker.of(evaluatorAddress, fitnessWorkerDefinition, parallelism)) {
+			fitnessWorker.serve();
+		}
+	}
+}
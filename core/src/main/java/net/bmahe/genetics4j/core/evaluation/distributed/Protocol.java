@@ -0,0 +1,110 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Length-prefixed binary protocol between {@link FitnessEvaluatorDistributed} and its {@link FitnessWorker}
+ * <p>
+ * Each frame is made of its length as a 4 bytes integer, covering the type and the payload, followed by a 1 byte type
+ * and the payload:
+ * <ul>
+ * <li>HELLO, worker to evaluator: protocol version, worker name and parallelism</li>
+ * <li>WELCOME, evaluator to worker: heartbeat interval in milliseconds</li>
+ * <li>BATCH, evaluator to worker: batch id, generation, number of genotypes and the encoded genotypes</li>
+ * <li>RESULT, worker to evaluator: batch id and the serialized fitness of each genotype</li>
+ * <li>ERROR, worker to evaluator: batch id and error message</li>
+ * <li>HEARTBEAT, worker to evaluator: empty</li>
+ * <li>SHUTDOWN, evaluator to worker: empty</li>
+ * </ul>
+ * Frames are read and written directly on the channels rather than through streams, so a thread blocked reading does
+ * not prevent another one from writing.
+ */
+final class Protocol {
+
+	static final int VERSION = 1;
+
+	static final int MAX_FRAME_SIZE = 1 << 30;
+
+	static final byte HELLO = 1;
+	static final byte WELCOME = 2;
+	static final byte BATCH = 3;
+	static final byte RESULT = 4;
+	static final byte ERROR = 5;
+	static final byte HEARTBEAT = 6;
+	static final byte SHUTDOWN = 7;
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	record Frame(byte type, ByteBuffer payload) {
+	}
+
+	private Protocol() {
+	}
+
+	private static void readFully(final SocketChannel socketChannel, final ByteBuffer byteBuffer) throws IOException {
+		while (byteBuffer.hasRemaining()) {
+			if (socketChannel.read(byteBuffer) < 0) {
+				throw new EOFException("Connection closed");
+			}
+		}
+	}
+
+	static Frame read(final SocketChannel socketChannel) throws IOException {
+		Validate.notNull(socketChannel);
+
+		final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 1);
+		readFully(socketChannel, header);
+		header.flip();
+
+		final int length = header.getInt();
+		if (length < 1 || length > MAX_FRAME_SIZE) {
+			throw new IOException("Invalid frame length " + length);
+		}
+		final byte type = header.get();
+
+		final ByteBuffer payload = ByteBuffer.allocate(length - 1);
+		readFully(socketChannel, payload);
+		payload.flip();
+
+		return new Frame(type, payload);
+	}
+
+	/**
+	 * Writes a frame whose payload is the concatenation of the remaining bytes of the parts. Callers sharing a channel
+	 * across threads must synchronize the writes.
+	 */
+	static void write(final SocketChannel socketChannel, final byte type, final ByteBuffer... parts)
+			throws IOException {
+		Validate.notNull(socketChannel);
+		Validate.notNull(parts);
+
+		long length = 1;
+		for (final ByteBuffer part : parts) {
+			length += part.remaining();
+		}
+		if (length > MAX_FRAME_SIZE) {
+			throw new IOException("Frame too large: " + length + " bytes");
+		}
+
+		final ByteBuffer[] buffers = new ByteBuffer[parts.length + 1];
+		buffers[0] = ByteBuffer.allocate(Integer.BYTES + 1)
+				.putInt((int) length)
+				.put(type)
+				.flip();
+		System.arraycopy(parts, 0, buffers, 1, parts.length);
+
+		long remaining = Integer.BYTES + length;
+		while (remaining > 0) {
+			remaining -= socketChannel.write(buffers);
+		}
+	}
+
+	static void write(final SocketChannel socketChannel, final byte type) throws IOException {
+		write(socketChannel, type, EMPTY.duplicate());
+	}
+}
@@ -0,0 +1,91 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Connection from a {@link FitnessEvaluatorDistributed} to one of its workers
+ */
+final class WorkerConnection {
+
+	private final SocketChannel socketChannel;
+	private final String name;
+	private final int parallelism;
+
+	private final Object writeLock = new Object();
+
+	private volatile long lastSeenNanos;
+
+	/**
+	 * Measured round trip time per individual, only accessed from the evaluating thread
+	 */
+	private double nanosPerIndividual = Double.NaN;
+
+	WorkerConnection(final SocketChannel _socketChannel, final String _name, final int _parallelism) {
+		Validate.notNull(_socketChannel);
+		Validate.notNull(_name);
+		Validate.isTrue(_parallelism > 0);
+
+		this.socketChannel = _socketChannel;
+		this.name = _name;
+		this.parallelism = _parallelism;
+		this.lastSeenNanos = System.nanoTime();
+	}
+
+	SocketChannel socketChannel() {
+		return socketChannel;
+	}
+
+	String name() {
+		return name;
+	}
+
+	int parallelism() {
+		return parallelism;
+	}
+
+	long lastSeenNanos() {
+		return lastSeenNanos;
+	}
+
+	void seen() {
+		lastSeenNanos = System.nanoTime();
+	}
+
+	double nanosPerIndividual() {
+		return nanosPerIndividual;
+	}
+
+	void recordRoundTrip(final long elapsedNanos, final int numIndividuals) {
+		Validate.isTrue(numIndividuals > 0);
+
+		final double measured = (double) elapsedNanos / numIndividuals;
+		nanosPerIndividual = Double.isNaN(nanosPerIndividual) ? measured : (nanosPerIndividual + measured) / 2.0;
+	}
+
+	void send(final byte type, final ByteBuffer... parts) throws IOException {
+		synchronized (writeLock) {
+			Protocol.write(socketChannel, type, parts);
+		}
+	}
+
+	boolean isOpen() {
+		return socketChannel.isOpen();
+	}
+
+	void close() {
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+			FitnessEvaluatorDistributed.logger.debug("Could not close connection to {}", name, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.core.island;
+
+import java.util.List;
+import java.util.Queue;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
+import net.bmahe.genetics4j.core.selection.Selector;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.island.Migration;
+
+/**
+ * Evolution listener sending emigrants of an island to the inboxes of its destinations.
+ * 
+ * <p>The inboxes are lock-free queues: emigration never waits on the receiving islands, which will pick up the
+ * immigrants whenever they reach their next generation.
+ *
+ * @param <T> the type of fitness values
+ * @see ImmigrationProcessor
+ */
+public class EmigrationListener<T extends Comparable<T>> implements EvolutionListener<T> {
+	public static final Logger logger = LogManager.getLogger(EmigrationListener.class);
+
+	private final AbstractEAConfiguration<T> eaConfiguration;
+	private final Migration migration;
+	private final Selector<T> migrantSelector;
+	private final List<Queue<Individual<T>>> destinations;
+
+	public EmigrationListener(final AbstractEAConfiguration<T> _eaConfiguration, final Migration _migration,
+			final Selector<T> _migrantSelector, final List<Queue<Individual<T>>> _destinations) {
+		Validate.notNull(_eaConfiguration);
+		Validate.notNull(_migration);
+		Validate.notNull(_migrantSelector);
+		Validate.notNull(_destinations);
+
+		this.eaConfiguration = _eaConfiguration;
+		this.migration = _migration;
+		this.migrantSelector = _migrantSelector;
+		this.destinations = _destinations;
+	}
+
+	@Override
+	public void onEvolution(final long generation, final List<Genotype> population, final List<T> fitness,
+			final boolean isDone) {
+
+		if (isDone || generation == 0 || generation % migration.migrationInterval() != 0 || destinations.isEmpty()) {
+			return;
+		}
+
+		final Population<T> migrants = migrantSelector
+				.select(eaConfiguration, migration.numMigrants(), population, fitness);
+		logger.debug("Generation {} - Sending {} migrants to {} islands", generation, migrants.size(), destinations.size());
+
+		for (final Queue<Individual<T>> destination : destinations) {
+			for (final Individual<T> migrant : migrants) {
+				destination.offer(migrant);
+			}
+		}
+	}
+}
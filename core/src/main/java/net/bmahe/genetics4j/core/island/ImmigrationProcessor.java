@@ -0,0 +1,97 @@
+package net.bmahe.genetics4j.core.island;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
+
+/**
+ * Post evaluation processor merging the immigrants received by an island into its freshly evaluated offsprings.
+ * 
+ * <p>Immigrants then compete with the offsprings through the replacement strategy of the island. The initial
+ * population is left untouched so the island always starts with its configured population size. The processor tells
+ * the initial population apart from the offsprings by listening to the evolution of the island: it must therefore
+ * also be registered as one of its evolution listeners.
+ * 
+ * <p>If an island receives more immigrants than {@code maxImmigrants} between two generations, for instance
+ * because its neighbors are much faster, only the most recent ones are kept.
+ *
+ * @param <T> the type of fitness values
+ * @see EmigrationListener
+ */
+public class ImmigrationProcessor<T extends Comparable<T>>
+		implements Function<Population<T>, Population<T>>, EvolutionListener<T> {
+	public static final Logger logger = LogManager.getLogger(ImmigrationProcessor.class);
+
+	private final Optional<Function<Population<T>, Population<T>>> postEvaluationProcessor;
+	private final Queue<Individual<T>> inbox;
+	private final int maxImmigrants;
+
+	/**
+	 * Whether a generation of the current evolution has started. Populations processed before that are initial
+	 * populations
+	 */
+	private boolean isEvolving = false;
+
+	public ImmigrationProcessor(final Optional<Function<Population<T>, Population<T>>> _postEvaluationProcessor,
+			final Queue<Individual<T>> _inbox, final int _maxImmigrants) {
+		Validate.notNull(_postEvaluationProcessor);
+		Validate.notNull(_inbox);
+		Validate.isTrue(_maxImmigrants >= 0);
+
+		this.postEvaluationProcessor = _postEvaluationProcessor;
+		this.inbox = _inbox;
+		this.maxImmigrants = _maxImmigrants;
+	}
+
+	@Override
+	public void onEvolution(final long generation, final List<Genotype> population, final List<T> fitness,
+			final boolean isDone) {
+		isEvolving = isDone == false;
+	}
+
+	@Override
+	public Population<T> apply(final Population<T> population) {
+		Validate.notNull(population);
+
+		final Population<T> processed = postEvaluationProcessor.map(pep -> pep.apply(population))
+				.orElse(population);
+
+		if (isEvolving == false) {
+			return processed;
+		}
+
+		final Deque<Individual<T>> immigrants = new ArrayDeque<>();
+		Individual<T> immigrant;
+		while ((immigrant = inbox.poll()) != null) {
+			immigrants.addLast(immigrant);
+			if (immigrants.size() > maxImmigrants) {
+				immigrants.removeFirst();
+			}
+		}
+
+		if (immigrants.isEmpty()) {
+			return processed;
+		}
+
+		logger.debug("Merging {} immigrants", immigrants.size());
+		final Population<T> merged = Population.emptyLike(processed.getAllFitnesses());
+		merged.addAll(processed);
+		for (final Individual<T> individual : immigrants) {
+			merged.add(individual);
+		}
+
+		return merged;
+	}
+}
@@ -0,0 +1,79 @@
+package net.bmahe.genetics4j.core.island;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.bmahe.genetics4j.core.EASystem;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.island.Migration;
+
+/**
+ * Island model running several sub-populations in parallel and exchanging migrants between them.
+ * 
+ * <p>Each island is a regular {@link EASystem} evolving on its own dedicated thread. Migration happens through
+ * lock-free inboxes: an island publishes its emigrants every {@link Migration#migrationInterval()} generations and
+ * merges whatever immigrants have arrived at its next generation. Islands therefore never wait on each other and
+ * there is no global barrier between generations.
+ * 
+ * <p>Instances are created through
+ * {@link net.bmahe.genetics4j.core.EASystemFactory#islandsFrom(net.bmahe.genetics4j.core.spec.EAConfiguration, List, Migration, ExecutorService)}.
+ *
+ * @param <T> the type of fitness values
+ * @see Migration
+ * @see MigrationTopologies
+ */
+public class IslandEASystem<T extends Comparable<T>> {
+	public static final Logger logger = LogManager.getLogger(IslandEASystem.class);
+
+	private final List<EASystem<T>> islands;
+	private final Migration migration;
+
+	public IslandEASystem(final List<EASystem<T>> _islands, final Migration _migration) {
+		Validate.notNull(_islands);
+		Validate.isTrue(_islands.isEmpty() == false);
+		Validate.notNull(_migration);
+
+		this.islands = List.copyOf(_islands);
+		this.migration = _migration;
+	}
+
+	public List<EASystem<T>> getIslands() {
+		return islands;
+	}
+
+	public int getNumIslands() {
+		return islands.size();
+	}
+
+	public Migration getMigration() {
+		return migration;
+	}
+
+	/**
+	 * Evolves all the islands concurrently until each of them meets its termination criteria.
+	 * 
+	 * @return the evolution result of each island, in the same order as the islands
+	 */
+	public List<EvolutionResult<T>> evolve() {
+		logger.info("Starting evolution of {} islands", islands.size());
+
+		final ExecutorService islandExecutorService = Executors.newFixedThreadPool(islands.size());
+		try {
+			final List<CompletableFuture<EvolutionResult<T>>> islandEvolutions = islands.stream()
+					.map(island -> CompletableFuture.supplyAsync(island::evolve, islandExecutorService))
+					.toList();
+
+			return islandEvolutions.stream()
+					.map(CompletableFuture::join)
+					.toList();
+		} finally {
+			islandExecutorService.shutdown();
+		}
+	}
+}
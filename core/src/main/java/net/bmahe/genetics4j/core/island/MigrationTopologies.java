@@ -0,0 +1,89 @@
+package net.bmahe.genetics4j.core.island;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Common migration topologies for island models.
+ * 
+ * @see MigrationTopology
+ */
+public class MigrationTopologies {
+
+	private MigrationTopologies() {
+	}
+
+	/**
+	 * Unidirectional ring: island {@code i} sends its emigrants to island {@code (i + 1) % numIslands}.
+	 * 
+	 * @return a ring topology
+	 */
+	public static MigrationTopology ring() {
+		return (islandIndex, numIslands) -> {
+			Validate.isTrue(numIslands > 0);
+			Validate.inclusiveBetween(0, numIslands - 1, islandIndex);
+
+			if (numIslands == 1) {
+				return new int[0];
+			}
+
+			return new int[] { (islandIndex + 1) % numIslands };
+		};
+	}
+
+	/**
+	 * Two dimensional torus: islands are laid out row by row on a grid of {@code numColumns} columns with
+	 * wrap-around and each island sends its emigrants to its up, down, left and right neighbors.
+	 * 
+	 * @param numColumns number of columns of the grid. The number of islands must be a multiple of it
+	 * @return a torus topology
+	 */
+	public static MigrationTopology torus(final int numColumns) {
+		Validate.isTrue(numColumns > 0);
+
+		return (islandIndex, numIslands) -> {
+			Validate.isTrue(numIslands > 0);
+			Validate.inclusiveBetween(0, numIslands - 1, islandIndex);
+			Validate.isTrue(numIslands % numColumns == 0,
+					"Number of islands (%d) must be a multiple of the number of columns (%d)",
+					numIslands,
+					numColumns);
+
+			final int numRows = numIslands / numColumns;
+			final int row = islandIndex / numColumns;
+			final int column = islandIndex % numColumns;
+
+			final int[] candidates = new int[] { ((row + numRows - 1) % numRows) * numColumns + column,
+					((row + 1) % numRows) * numColumns + column, row * numColumns + (column + numColumns - 1) % numColumns,
+					row * numColumns + (column + 1) % numColumns };
+
+			// Small grids wrap onto themselves, so we need to remove self loops and duplicates
+			return Arrays.stream(candidates)
+					.filter(destination -> destination != islandIndex)
+					.distinct()
+					.toArray();
+		};
+	}
+
+	/**
+	 * Fully connected: each island sends its emigrants to every other island.
+	 * 
+	 * @return a fully connected topology
+	 */
+	public static MigrationTopology fullyConnected() {
+		return (islandIndex, numIslands) -> {
+			Validate.isTrue(numIslands > 0);
+			Validate.inclusiveBetween(0, numIslands - 1, islandIndex);
+
+			final int[] destinations = new int[numIslands - 1];
+			int j = 0;
+			for (int i = 0; i < numIslands; i++) {
+				if (i != islandIndex) {
+					destinations[j++] = i;
+				}
+			}
+			return destinations;
+		};
+	}
+}
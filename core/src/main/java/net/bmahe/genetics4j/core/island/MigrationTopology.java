@@ -0,0 +1,22 @@
+package net.bmahe.genetics4j.core.island;
+
+/**
+ * Describes how islands are connected to each other in an island model.
+ * 
+ * <p>For a given island, the topology returns the indices of the islands receiving its emigrants.
+ * 
+ * @see MigrationTopologies
+ * @see IslandEASystem
+ */
+@FunctionalInterface
+public interface MigrationTopology {
+
+	/**
+	 * Computes the destinations of the emigrants of a given island.
+	 * 
+	 * @param islandIndex index of the island sending emigrants, in {@code [0, numIslands)}
+	 * @param numIslands  total number of islands
+	 * @return indices of the islands receiving the emigrants. Must not contain {@code islandIndex}
+	 */
+	int[] destinations(final int islandIndex, final int numIslands);
+}
@@ -40,7 +40,7 @@ public class DeleteNLastImpl<T extends Comparable<T>> implements ReplacementStra
 
 		final Comparator<T> populationComparator = eaConfiguration.fitnessComparator();
 
-		final Population<T> selected = new Population<>();
+		final Population<T> selected = Population.emptyLike(populationScores);
 
 		final int weakestN = (int) (numIndividuals * deleteNLastSpec.weakRatio());
 
@@ -65,7 +65,7 @@ public class ElitismImpl<T extends Comparable<T>> implements ReplacementStrategy
 				adjustedSurvivorNeeded,
 				adjustedOffspringNeeded);
 
-		final Population<T> selected = new Population<>();
+		final Population<T> selected = Population.emptyLike(offspringScores);
 
 		logger.info("Selecting {} offsprings", adjustedOffspringNeeded);
 		final Population<T> selectedOffspring = offspringSelector
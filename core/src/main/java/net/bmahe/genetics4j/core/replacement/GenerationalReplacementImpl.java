@@ -36,7 +36,7 @@ public class GenerationalReplacementImpl<T extends Comparable<T>> implements Rep
 		Validate.notNull(offspringScores);
 		Validate.isTrue(offsprings.size() == offspringScores.size());
 
-		final Population<T> selected = new Population<>();
+		final Population<T> selected = Population.emptyLike(offspringScores);
 
 		final Population<T> selectedOffspring = offspringSelector
 				.select(eaConfiguration, numIndividuals, offsprings, offspringScores);
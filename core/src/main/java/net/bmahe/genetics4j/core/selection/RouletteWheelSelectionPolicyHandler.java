@@ -1,18 +1,27 @@
 package net.bmahe.genetics4j.core.selection;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.random.RandomGenerator;
 
 import org.apache.commons.lang3.Validate;
 
+import net.bmahe.genetics4j.core.DoubleFitnessList;
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
 import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.Optimization;
 import net.bmahe.genetics4j.core.spec.selection.RouletteWheel;
 import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
 
+/**
+ * Fitness proportionate selection.
+ * <p>
+ * Each draw performs a binary search over the cumulative scores, so selecting {@code n} individuals out of a
+ * population of size {@code m} costs {@code O(m + n log m)}.
+ *
+ * @param <T> Type of the fitness measurement
+ */
 public class RouletteWheelSelectionPolicyHandler<T extends Number & Comparable<T>>
 		implements SelectionPolicyHandler<T>
 {
@@ -49,40 +58,13 @@ public class RouletteWheelSelectionPolicyHandler<T extends Number & Comparable<T
 				Validate.isTrue(numIndividuals > 0);
 				Validate.isTrue(population.size() == fitnessScore.size());
 
-				final Population<T> selectedIndividuals = new Population<>();
-
-				final double minFitness = fitnessScore.stream()
-						.map(Number::doubleValue)
-						.min(Comparator.naturalOrder())
-						.orElseThrow();
-				final double maxFitness = fitnessScore.stream()
-						.map(Number::doubleValue)
-						.max(Comparator.naturalOrder())
-						.orElseThrow();
-				final double reversedBase = minFitness + maxFitness; // Used as a base when minimizing
-
-				double sumFitness = 0.0;
-				final double[] probabilities = new double[population.size()];
-
-				for (int i = 0; i < population.size(); i++) {
-					final double score = switch (eaConfiguration.optimization()) {
-						case MAXIMIZE -> fitnessScore.get(i)
-								.doubleValue();
-						case MINIMIZE -> reversedBase - fitnessScore.get(i)
-								.doubleValue();
-					};
-
-					sumFitness += score;
-					probabilities[i] = sumFitness;
-				}
+				final double[] probabilities = cumulativeScores(eaConfiguration.optimization(), fitnessScore);
+				final double sumFitness = probabilities[probabilities.length - 1];
 
+				final Population<T> selectedIndividuals = Population.emptyLike(fitnessScore);
 				for (int i = 0; i < numIndividuals; i++) {
 					final double targetScore = randomGenerator.nextDouble() * sumFitness;
-
-					int index = 0;
-					while (probabilities[index] < targetScore) {
-						index++;
-					}
+					final int index = lowerBound(probabilities, targetScore);
 
 					selectedIndividuals.add(population.get(index), fitnessScore.get(index));
 				}
@@ -91,4 +73,77 @@ public class RouletteWheelSelectionPolicyHandler<T extends Number & Comparable<T
 			}
 		};
 	}
+
+	/**
+	 * Computes the running sum of the scores of each individual. Scores are the fitness values when maximizing, and
+	 * mirrored around the middle of the fitness range when minimizing.
+	 *
+	 * @param <U>          Type of the fitness measurement
+	 * @param optimization whether we are maximizing or minimizing
+	 * @param fitnessScore fitness of the individuals
+	 * @return cumulative scores, with the total sum as last element
+	 */
+	static <U extends Number & Comparable<U>> double[] cumulativeScores(final Optimization optimization,
+			final List<U> fitnessScore) {
+		Validate.notNull(optimization);
+		Validate.notNull(fitnessScore);
+		Validate.isTrue(fitnessScore.isEmpty() == false);
+
+		final int size = fitnessScore.size();
+		final double[] scores = new double[size];
+		if (fitnessScore instanceof DoubleFitnessList doubleFitnessList) {
+			for (int i = 0; i < size; i++) {
+				scores[i] = doubleFitnessList.getDouble(i);
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				scores[i] = fitnessScore.get(i)
+						.doubleValue();
+			}
+		}
+
+		double minFitness = scores[0];
+		double maxFitness = scores[0];
+		for (int i = 1; i < size; i++) {
+			minFitness = Math.min(minFitness, scores[i]);
+			maxFitness = Math.max(maxFitness, scores[i]);
+		}
+		final double reversedBase = minFitness + maxFitness; // Used as a base when minimizing
+
+		double sumFitness = 0.0;
+		for (int i = 0; i < size; i++) {
+			final double score = switch (optimization) {
+				case MAXIMIZE -> scores[i];
+				case MINIMIZE -> reversedBase - scores[i];
+			};
+
+			sumFitness += score;
+			scores[i] = sumFitness;
+		}
+
+		return scores;
+	}
+
+	/**
+	 * Binary search of the first index whose cumulative score is greater or equal to the target score
+	 *
+	 * @param cumulativeScores cumulative scores, in ascending order
+	 * @param targetScore      target score
+	 * @return first index whose cumulative score is greater or equal to the target score, or the last index if none
+	 */
+	static int lowerBound(final double[] cumulativeScores, final double targetScore) {
+		int low = 0;
+		int high = cumulativeScores.length - 1;
+
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (cumulativeScores[middle] < targetScore) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
 }
\ No newline at end of file
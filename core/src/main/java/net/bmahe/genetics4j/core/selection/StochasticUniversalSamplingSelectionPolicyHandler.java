@@ -0,0 +1,94 @@
+package net.bmahe.genetics4j.core.selection;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.core.spec.selection.StochasticUniversalSampling;
+
+/**
+ * Selection handler for {@link StochasticUniversalSampling}.
+ * <p>
+ * All the individuals are selected with a single pass over the cumulative scores, in {@code O(m + n)} for {@code n}
+ * individuals selected out of a population of size {@code m}. Since the pointers are processed in order, the selected
+ * individuals are then shuffled so consecutive individuals are not systematically paired together for combination.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class StochasticUniversalSamplingSelectionPolicyHandler<T extends Number & Comparable<T>>
+		implements SelectionPolicyHandler<T>
+{
+
+	private final RandomGenerator randomGenerator;
+
+	public StochasticUniversalSamplingSelectionPolicyHandler(final RandomGenerator _randomGenerator) {
+		Validate.notNull(_randomGenerator);
+
+		this.randomGenerator = _randomGenerator;
+	}
+
+	@Override
+	public boolean canHandle(final SelectionPolicy selectionPolicy) {
+		Validate.notNull(selectionPolicy);
+		return selectionPolicy instanceof StochasticUniversalSampling;
+	}
+
+	@Override
+	public Selector<T> resolve(AbstractEAExecutionContext<T> eaExecutionContext,
+			AbstractEAConfiguration<T> eaConfiguration, SelectionPolicyHandlerResolver<T> selectionPolicyHandlerResolver,
+			SelectionPolicy selectionPolicy) {
+		Validate.notNull(selectionPolicy);
+		Validate.isInstanceOf(StochasticUniversalSampling.class, selectionPolicy);
+
+		return new Selector<T>() {
+
+			@Override
+			public Population<T> select(final AbstractEAConfiguration<T> eaConfiguration, final int numIndividuals,
+					final List<Genotype> population, final List<T> fitnessScore) {
+				Validate.notNull(eaConfiguration);
+				Validate.notNull(population);
+				Validate.notNull(fitnessScore);
+				Validate.isTrue(numIndividuals > 0);
+				Validate.isTrue(population.size() == fitnessScore.size());
+
+				final double[] cumulativeScores = RouletteWheelSelectionPolicyHandler
+						.cumulativeScores(eaConfiguration.optimization(), fitnessScore);
+				final double sumFitness = cumulativeScores[cumulativeScores.length - 1];
+
+				final double step = sumFitness / numIndividuals;
+				final double start = randomGenerator.nextDouble() * step;
+
+				final int[] selectedIndices = new int[numIndividuals];
+				int index = 0;
+				for (int i = 0; i < numIndividuals; i++) {
+					final double pointer = start + i * step;
+					while (index < cumulativeScores.length - 1 && cumulativeScores[index] < pointer) {
+						index++;
+					}
+					selectedIndices[i] = index;
+				}
+
+				// Fisher-Yates shuffle
+				for (int i = numIndividuals - 1; i > 0; i--) {
+					final int j = randomGenerator.nextInt(i + 1);
+					final int tmp = selectedIndices[i];
+					selectedIndices[i] = selectedIndices[j];
+					selectedIndices[j] = tmp;
+				}
+
+				final Population<T> selectedIndividuals = Population.emptyLike(fitnessScore);
+				for (final int selectedIndex : selectedIndices) {
+					selectedIndividuals.add(population.get(selectedIndex), fitnessScore.get(selectedIndex));
+				}
+
+				return selectedIndividuals;
+			}
+		};
+	}
+}
@@ -8,10 +8,13 @@ import org.apache.commons.lang3.Validate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import net.bmahe.genetics4j.core.DoubleFitnessList;
+import net.bmahe.genetics4j.core.DoublePopulation;
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.Individual;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.Optimization;
 import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
 import net.bmahe.genetics4j.core.spec.selection.Tournament;
 
@@ -30,6 +33,86 @@ public class TournamentSelector<T extends Comparable<T>> implements Selector<T>
 		this.randomGenerator = _randomGenerator;
 	}
 
+	/**
+	 * Tournaments based on the natural ordering of the fitness values.
+	 * <p>
+	 * Candidates are tracked by index and their fitness compared directly, so the only allocations are for the selected
+	 * population. Candidates are drawn in the same order as the generic implementation.
+	 */
+	private Population<T> selectByFitness(final Optimization optimization, final int numCandidates,
+			final int numIndividuals, final List<Genotype> population, final List<T> fitnessScore) {
+
+		final boolean maximize = optimization == Optimization.MAXIMIZE;
+		final int populationSize = fitnessScore.size();
+
+		final Population<T> selectedIndividuals = Population.emptyLike(fitnessScore);
+		while (selectedIndividuals.size() < numIndividuals) {
+
+			int bestIndex = -1;
+			T bestFitness = null;
+
+			for (int i = 0; i < numCandidates; i++) {
+				final int candidateIndex = randomGenerator.nextInt(populationSize);
+				final T candidateFitness = fitnessScore.get(candidateIndex);
+
+				if (bestIndex < 0) {
+					bestIndex = candidateIndex;
+					bestFitness = candidateFitness;
+				} else {
+					final int comparison = maximize ? bestFitness.compareTo(candidateFitness)
+							: candidateFitness.compareTo(bestFitness);
+					if (comparison < 0) {
+						bestIndex = candidateIndex;
+						bestFitness = candidateFitness;
+					}
+				}
+			}
+
+			selectedIndividuals.add(population.get(bestIndex), bestFitness);
+		}
+
+		return selectedIndividuals;
+	}
+
+	/**
+	 * Same as {@link #selectByFitness(Optimization, int, int, List, List)} but over primitive fitness values, which
+	 * also avoids unboxing them.
+	 */
+	private DoublePopulation selectDoubles(final Optimization optimization, final int numCandidates,
+			final int numIndividuals, final List<Genotype> population, final DoubleFitnessList fitnessScore) {
+
+		final boolean maximize = optimization == Optimization.MAXIMIZE;
+		final int populationSize = fitnessScore.size();
+
+		final DoublePopulation selectedIndividuals = new DoublePopulation();
+		while (selectedIndividuals.size() < numIndividuals) {
+
+			int bestIndex = -1;
+			double bestFitness = 0.0d;
+
+			for (int i = 0; i < numCandidates; i++) {
+				final int candidateIndex = randomGenerator.nextInt(populationSize);
+				final double candidateFitness = fitnessScore.getDouble(candidateIndex);
+
+				if (bestIndex < 0) {
+					bestIndex = candidateIndex;
+					bestFitness = candidateFitness;
+				} else {
+					final int comparison = maximize ? Double.compare(bestFitness, candidateFitness)
+							: Double.compare(candidateFitness, bestFitness);
+					if (comparison < 0) {
+						bestIndex = candidateIndex;
+						bestFitness = candidateFitness;
+					}
+				}
+			}
+
+			selectedIndividuals.add(population.get(bestIndex), bestFitness);
+		}
+
+		return selectedIndividuals;
+	}
+
 	@Override
 	public Population<T> select(final AbstractEAConfiguration<T> eaConfiguration, final int numIndividuals,
 			final List<Genotype> population, final List<T> fitnessScore) {
@@ -42,14 +125,32 @@ public class TournamentSelector<T extends Comparable<T>> implements Selector<T>
 		@SuppressWarnings("unchecked")
 		final Tournament<T> tournamentSelection = (Tournament<T>) selectionPolicy;
 
+		logger.debug("Selecting {} individuals", numIndividuals);
+
+		if (tournamentSelection.comparator() == Tournament.<T>fitnessComparator()) {
+			if (fitnessScore instanceof DoubleFitnessList doubleFitnessList) {
+				@SuppressWarnings("unchecked")
+				final Population<T> selectedIndividuals = (Population<T>) selectDoubles(eaConfiguration.optimization(),
+						tournamentSelection.numCandidates(),
+						numIndividuals,
+						population,
+						doubleFitnessList);
+				return selectedIndividuals;
+			}
+
+			return selectByFitness(eaConfiguration.optimization(),
+					tournamentSelection.numCandidates(),
+					numIndividuals,
+					population,
+					fitnessScore);
+		}
+
 		final Comparator<Individual<T>> baseComparator = tournamentSelection.comparator();
 		final Comparator<Individual<T>> comparator = switch (eaConfiguration.optimization()) {
 			case MAXIMIZE -> baseComparator;
 			case MINIMIZE -> baseComparator.reversed();
 		};
 
-		logger.debug("Selecting {} individuals", numIndividuals);
-
 		final Population<T> selectedIndividuals = new Population<>();
 		while (selectedIndividuals.size() < numIndividuals) {
 
@@ -290,4 +290,32 @@ public abstract class AbstractEAExecutionContext<T extends Comparable<T>> {
 	public List<EvolutionListener<T>> evolutionListeners() {
 		return Collections.emptyList();
 	}
+
+	/////////////////////////////////////////
+
+	/**
+	 * Whether offsprings are evaluated while they are being created.
+	 * <p>
+	 * When enabled and the fitness evaluator is a
+	 * {@link net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator}, offsprings are submitted for evaluation in
+	 * micro-batches of {@link #pipelineBatchSize()} as soon as they are created, so creating the next offsprings
+	 * overlaps with evaluating the previous ones. Parent selection and replacement still operate on whole generations.
+	 * Defaults to false.
+	 * 
+	 * @return whether offspring creation and evaluation are pipelined
+	 */
+	@Value.Default
+	public boolean pipelinedEvaluation() {
+		return false;
+	}
+
+	/**
+	 * Number of offsprings per micro-batch when {@link #pipelinedEvaluation()} is enabled.
+	 * 
+	 * @return number of offsprings per micro-batch
+	 */
+	@Value.Default
+	public int pipelineBatchSize() {
+		return 64;
+	}
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package net.bmahe.genetics4j.core.spec;
 
+import org.apache.commons.lang3.Validate;
 import org.immutables.value.Value;
 
 /**
@@ -18,6 +19,41 @@ public abstract class EAExecutionContext<T extends Comparable<T>> extends Abstra
 				.availableProcessors();
 	}
 
+	/**
+	 * Number of partitions used to create the offsprings of each generation.
+	 * <p>
+	 * With more than one partition, the selected parents are split into chunks which are combined and mutated
+	 * concurrently. Each partition uses its own random generator, split from {@link #randomGenerator()}, so runs
+	 * remain reproducible for a given random generator. Defaults to 1, ie. sequential offspring creation.
+	 * 
+	 * @return number of partitions used to create offsprings
+	 */
+	@Value.Default
+	public int numberOfOffspringPartitions() {
+		return 1;
+	}
+
+	/**
+	 * Whether the fitness evaluation should balance the work dynamically across the partitions.
+	 * <p>
+	 * By default, the population is split into {@link #numberOfPartitions()} partitions of equal size, which is the
+	 * cheapest approach when the cost of the fitness function is uniform. When it varies a lot between individuals, a
+	 * single slow partition can hold up the whole generation. With work stealing, {@link #numberOfPartitions()} workers
+	 * instead repeatedly claim small chunks of individuals, whose size adapts to the measured evaluation latency.
+	 * 
+	 * @return whether fitness evaluation uses work stealing
+	 */
+	@Value.Default
+	public boolean workStealingEvaluation() {
+		return false;
+	}
+
+	@Value.Check
+	protected void check() {
+		Validate.isTrue(numberOfPartitions() > 0);
+		Validate.isTrue(numberOfOffspringPartitions() > 0);
+	}
+
 	public static <U extends Comparable<U>> ImmutableEAExecutionContext.Builder<U> builder() {
 		return ImmutableEAExecutionContext.builder();
 	}
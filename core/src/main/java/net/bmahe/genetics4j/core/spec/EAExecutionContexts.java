@@ -3,6 +3,7 @@ package net.bmahe.genetics4j.core.spec;
 import org.apache.commons.lang3.Validate;
 
 import net.bmahe.genetics4j.core.selection.RouletteWheelSelectionPolicyHandler;
+import net.bmahe.genetics4j.core.selection.StochasticUniversalSamplingSelectionPolicyHandler;
 import net.bmahe.genetics4j.core.spec.ImmutableEAExecutionContext.Builder;
 
 /**
@@ -34,6 +35,8 @@ public class EAExecutionContexts {
 
 		builder.addSelectionPolicyHandlerFactories(
 				gsd -> new RouletteWheelSelectionPolicyHandler<T>(gsd.randomGenerator()));
+		builder.addSelectionPolicyHandlerFactories(
+				gsd -> new StochasticUniversalSamplingSelectionPolicyHandler<T>(gsd.randomGenerator()));
 		return builder;
 	}
 
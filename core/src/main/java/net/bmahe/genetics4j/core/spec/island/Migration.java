@@ -0,0 +1,85 @@
+package net.bmahe.genetics4j.core.spec.island;
+
+import org.apache.commons.lang3.Validate;
+import org.immutables.value.Value;
+
+import net.bmahe.genetics4j.core.island.MigrationTopologies;
+import net.bmahe.genetics4j.core.island.MigrationTopology;
+import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+
+/**
+ * Describes how individuals migrate between the islands of an island model.
+ * 
+ * <p>Every {@link #migrationInterval()} generations, each island selects {@link #numMigrants()} individuals with
+ * {@link #migrantSelectionPolicy()} and sends a copy of them to the islands designated by {@link #topology()}.
+ * Immigrants are merged with the offsprings of the receiving island and go through its replacement strategy.
+ * 
+ * @see net.bmahe.genetics4j.core.island.IslandEASystem
+ */
+@Value.Immutable
+public interface Migration {
+
+	static final int DEFAULT_MIGRATION_INTERVAL = 10;
+	static final int DEFAULT_NUM_MIGRANTS = 2;
+
+	/**
+	 * Number of generations between two migrations
+	 * 
+	 * @return
+	 */
+	@Value.Default
+	default int migrationInterval() {
+		return DEFAULT_MIGRATION_INTERVAL;
+	}
+
+	/**
+	 * Number of individuals sent by an island to each of its destinations
+	 * 
+	 * @return
+	 */
+	@Value.Default
+	default int numMigrants() {
+		return DEFAULT_NUM_MIGRANTS;
+	}
+
+	/**
+	 * Describe how to select the emigrants
+	 * 
+	 * @return
+	 */
+	@Value.Default
+	default SelectionPolicy migrantSelectionPolicy() {
+		return Tournament.of(3);
+	}
+
+	/**
+	 * Describe which islands receive the emigrants of a given island
+	 * 
+	 * @return
+	 */
+	@Value.Default
+	default MigrationTopology topology() {
+		return MigrationTopologies.ring();
+	}
+
+	@Value.Check
+	default void check() {
+		Validate.isTrue(migrationInterval() > 0);
+		Validate.isTrue(numMigrants() > 0);
+	}
+
+	class Builder extends ImmutableMigration.Builder {
+	}
+
+	static Builder builder() {
+		return new Builder();
+	}
+
+	static Migration of(final int migrationInterval, final int numMigrants, final MigrationTopology topology) {
+		return builder().migrationInterval(migrationInterval)
+				.numMigrants(numMigrants)
+				.topology(topology)
+				.build();
+	}
+}
@@ -19,6 +19,7 @@ package net.bmahe.genetics4j.core.spec.selection;
  * <ul>
  * <li>{@link Tournament}: Tournament selection with configurable tournament size</li>
  * <li>{@link RouletteWheel}: Fitness-proportionate selection (roulette wheel)</li>
+ * <li>{@link StochasticUniversalSampling}: Fitness-proportionate selection of all the individuals in a single pass</li>
  * <li>{@link RandomSelection}: Uniform random selection without fitness bias</li>
  * <li>{@link DoubleTournament}: Two-stage tournament for multi-objective optimization</li>
  * <li>{@link ProportionalTournament}: Tournament with proportional selection pressure</li>
@@ -81,6 +82,7 @@ package net.bmahe.genetics4j.core.spec.selection;
  * @see net.bmahe.genetics4j.core.selection.SelectionPolicyHandler
  * @see Tournament
  * @see RouletteWheel
+ * @see StochasticUniversalSampling
  * @see RandomSelection
  * @see DoubleTournament
  * @see ProportionalTournament
@@ -0,0 +1,24 @@
+package net.bmahe.genetics4j.core.spec.selection;
+
+import org.immutables.value.Value;
+
+/**
+ * Stochastic universal sampling, a fitness proportionate selection drawing all the individuals at once.
+ * <p>
+ * Where {@link RouletteWheel} spins the wheel once per selected individual, stochastic universal sampling spins it a
+ * single time and uses equally spaced pointers to select all the individuals in a single pass. The number of copies
+ * of each individual is then as close as possible to its expected value, which reduces the variance of the selection
+ * compared to a roulette wheel.
+ * <p>
+ * Fitness values must be scalar and non-negative.
+ *
+ * @see RouletteWheel
+ */
+@Value.Immutable
+public abstract class StochasticUniversalSampling implements SelectionPolicy {
+
+	public static StochasticUniversalSampling build() {
+		return new StochasticUniversalSampling() {
+		};
+	}
+}
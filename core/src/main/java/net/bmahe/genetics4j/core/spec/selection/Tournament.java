@@ -13,9 +13,26 @@ public abstract class Tournament<T extends Comparable<T>> implements SelectionPo
 	@Value.Parameter
 	public abstract int numCandidates();
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static final Comparator<Individual> FITNESS_COMPARATOR = (a, b) -> a.fitness()
+			.compareTo(b.fitness());
+
 	@Value.Default
 	public Comparator<Individual<T>> comparator() {
-		return Comparator.comparing(Individual::fitness);
+		return fitnessComparator();
+	}
+
+	/**
+	 * Default comparator, based on the natural ordering of the fitness values.
+	 * <p>
+	 * The same instance is always returned, which lets selectors recognize it and compare fitness values directly.
+	 *
+	 * @param <U> Type of the fitness measurement
+	 * @return comparator of individuals based on their fitness
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static <U extends Comparable<U>> Comparator<Individual<U>> fitnessComparator() {
+		return (Comparator) FITNESS_COMPARATOR;
 	}
 
 	/*
@@ -74,4 +74,27 @@ public interface Termination<T extends Comparable<T>> {
 	 */
 	boolean isDone(final AbstractEAConfiguration<T> eaConfiguration, final long generation, final List<Genotype> population,
 			final List<T> fitness);
+
+	/**
+	 * Determines whether a single individual is enough for the evolutionary algorithm to terminate.
+	 * 
+	 * <p>When the fitness evaluator streams its results, this is checked as soon as the fitness of each offspring is
+	 * known. Once it returns {@code true}, the evaluation of the remaining offsprings of the generation is cancelled,
+	 * the generation completes with the offsprings evaluated so far and the evolution stops. That individual is part
+	 * of the final population, even if the replacement strategy did not retain it. Implementations should therefore
+	 * only return {@code true} when any population containing that individual would satisfy
+	 * {@link #isDone(AbstractEAConfiguration, long, List, List)}.
+	 * 
+	 * <p>By default, no single individual can terminate the evolution.
+	 * 
+	 * @param eaConfiguration the evolutionary algorithm configuration containing parameters
+	 * @param generation the current generation number (0-based)
+	 * @param genotype the newly evaluated individual
+	 * @param fitness the fitness of that individual
+	 * @return {@code true} if that individual alone satisfies the termination criteria
+	 */
+	default boolean isDoneWithIndividual(final AbstractEAConfiguration<T> eaConfiguration, final long generation,
+			final Genotype genotype, final T fitness) {
+		return false;
+	}
 }
\ No newline at end of file
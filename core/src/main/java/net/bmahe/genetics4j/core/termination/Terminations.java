@@ -159,6 +159,14 @@ public class Terminations {
 						.allMatch((termination) -> termination.isDone(eaConfiguration, generation, population, fitness));
 			}
 
+			@Override
+			public boolean isDoneWithIndividual(final AbstractEAConfiguration<T> eaConfiguration, final long generation,
+					final Genotype genotype, final T fitness) {
+				return Arrays.stream(terminations)
+						.allMatch((termination) -> termination
+								.isDoneWithIndividual(eaConfiguration, generation, genotype, fitness));
+			}
+
 		};
 	}
 
@@ -189,6 +197,14 @@ public class Terminations {
 						.anyMatch((termination) -> termination.isDone(eaConfiguration, generation, population, fitness));
 			}
 
+			@Override
+			public boolean isDoneWithIndividual(final AbstractEAConfiguration<T> eaConfiguration, final long generation,
+					final Genotype genotype, final T fitness) {
+				return Arrays.stream(terminations)
+						.anyMatch((termination) -> termination
+								.isDoneWithIndividual(eaConfiguration, generation, genotype, fitness));
+			}
+
 		};
 	}
 
@@ -216,6 +232,12 @@ public class Terminations {
 				return fitness.stream()
 						.anyMatch((fitnessValue) -> threshold.compareTo(fitnessValue) <= 0);
 			}
+
+			@Override
+			public boolean isDoneWithIndividual(final AbstractEAConfiguration<T> eaConfiguration, final long generation,
+					final Genotype genotype, final T fitness) {
+				return threshold.compareTo(fitness) <= 0;
+			}
 		};
 	}
 
@@ -243,6 +265,12 @@ public class Terminations {
 				return fitness.stream()
 						.anyMatch((fitnessValue) -> threshold.compareTo(fitnessValue) >= 0);
 			}
+
+			@Override
+			public boolean isDoneWithIndividual(final AbstractEAConfiguration<T> eaConfiguration, final long generation,
+					final Genotype genotype, final T fitness) {
+				return threshold.compareTo(fitness) >= 0;
+			}
 		};
 	}
 
@@ -0,0 +1,43 @@
+package net.bmahe.genetics4j.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import org.apache.commons.lang3.Validate;
+
+public class RandomGeneratorUtils {
+
+	private RandomGeneratorUtils() {
+	}
+
+	/**
+	 * Derive independent random generators from a root generator.
+	 * <p>
+	 * The derived generators only depend on the state of the root generator, which makes them suitable for
+	 * reproducible parallel work where each unit of work owns one of them.
+	 * <p>
+	 * If the root generator is a {@link SplittableGenerator}, it is split directly. Otherwise a
+	 * {@link SplittableRandom} seeded from the root generator is used as the source of the streams.
+	 *
+	 * @param randomGenerator root random generator
+	 * @param count           number of generators to derive
+	 * @return list of {@code count} independent random generators
+	 */
+	public static List<RandomGenerator> split(final RandomGenerator randomGenerator, final int count) {
+		Objects.requireNonNull(randomGenerator);
+		Validate.isTrue(count > 0);
+
+		final SplittableGenerator splittableGenerator = randomGenerator instanceof SplittableGenerator sg ? sg
+				: new SplittableRandom(randomGenerator.nextLong());
+
+		final List<RandomGenerator> randomGenerators = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			randomGenerators.add(splittableGenerator.split());
+		}
+		return randomGenerators;
+	}
+}
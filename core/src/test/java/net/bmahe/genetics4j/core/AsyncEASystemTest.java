@@ -0,0 +1,285 @@
+package net.bmahe.genetics4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.selection.SelectionPolicyHandler;
+import net.bmahe.genetics4j.core.selection.SelectionPolicyHandlerResolver;
+import net.bmahe.genetics4j.core.selection.Selector;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class AsyncEASystemTest {
+
+	private EAConfiguration<Integer> bitCountConfiguration(final int maxGeneration) {
+		return new EAConfiguration.Builder<Integer>().chromosomeSpecs(BitChromosomeSpec.of(8))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.1))
+				.fitness(genotype -> {
+					final BitChromosome chromosome = genotype.getChromosome(0, BitChromosome.class);
+					return chromosome.getBitSet()
+							.cardinality();
+				})
+				.termination(Terminations.ofMaxGeneration(maxGeneration))
+				.build();
+	}
+
+	@Test
+	@DisplayName("maxInFlight must be positive")
+	void maxInFlightMustBePositive() {
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.build();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> EASystemFactory.asyncFrom(bitCountConfiguration(3), context, Executors.newSingleThreadExecutor(), 0));
+	}
+
+	@Test
+	@DisplayName("evolve() should complete and maintain the population size")
+	void evolve() {
+		final int maxGeneration = 5;
+		final int populationSize = 20;
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(populationSize)
+				.build();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			final AsyncEASystem<Integer> system = EASystemFactory
+					.asyncFrom(bitCountConfiguration(maxGeneration), context, executorService, 4);
+			assertEquals(4, system.getMaxInFlight());
+			assertEquals(populationSize, system.getPopulationSize());
+
+			final EvolutionResult<Integer> result = system.evolve();
+
+			assertNotNull(result);
+			assertEquals(maxGeneration, result.generation());
+			assertEquals(populationSize,
+					result.population()
+							.size());
+			assertTrue(result.bestFitness() >= 0 && result.bestFitness() <= 8);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("evolve() should notify the evolution listeners once per replacement step")
+	void evolveNotifiesListeners() {
+		final int maxGeneration = 3;
+		final AtomicInteger numCalls = new AtomicInteger();
+		final AtomicInteger numDone = new AtomicInteger();
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.addEvolutionListeners((generation, population, fitness, isDone) -> {
+					numCalls.incrementAndGet();
+					if (isDone) {
+						numDone.incrementAndGet();
+					}
+				})
+				.build();
+
+		final AsyncEASystem<Integer> system = EASystemFactory.asyncFrom(bitCountConfiguration(maxGeneration), context);
+		final EvolutionResult<Integer> result = system.evolve();
+
+		assertEquals(maxGeneration, result.generation());
+		assertEquals(maxGeneration + 1, numCalls.get());
+		assertEquals(1, numDone.get());
+	}
+
+	@Test
+	@DisplayName("evolve() should stop immediately if the initial population is good enough")
+	void evolveWithImmediateTermination() {
+		final EAConfiguration<Integer> config = new EAConfiguration.Builder<Integer>()
+				.from(bitCountConfiguration(10))
+				.termination((eaConfig, generation, population, fitness) -> true)
+				.build();
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.build();
+
+		final EvolutionResult<Integer> result = EASystemFactory.asyncFrom(config, context)
+				.evolve();
+
+		assertEquals(0, result.generation());
+		assertEquals(10,
+				result.population()
+						.size());
+	}
+
+	@Test
+	@DisplayName("evolve() should go through the provided fitness evaluator")
+	void evolveWithFitnessEvaluator() {
+		final int maxGeneration = 3;
+		final EAConfiguration<Integer> config = bitCountConfiguration(maxGeneration);
+		final AtomicInteger numPreEvaluations = new AtomicInteger();
+		final AtomicInteger numPostEvaluations = new AtomicInteger();
+		final AtomicInteger numEvaluated = new AtomicInteger();
+
+		final FitnessEvaluator<Integer> fitnessEvaluator = new FitnessEvaluator<Integer>() {
+
+			@Override
+			public void preEvaluation() {
+				numPreEvaluations.incrementAndGet();
+			}
+
+			@Override
+			public void postEvaluation() {
+				numPostEvaluations.incrementAndGet();
+			}
+
+			@Override
+			public List<Integer> evaluate(final long generation, final List<Genotype> genotypes) {
+				numEvaluated.addAndGet(genotypes.size());
+				return genotypes.stream()
+						.map(config.fitness()::compute)
+						.toList();
+			}
+		};
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.build();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			final EvolutionResult<Integer> result = EASystemFactory
+					.asyncFrom(config, context, executorService, 2, fitnessEvaluator)
+					.evolve();
+
+			assertEquals(maxGeneration, result.generation());
+			assertEquals(1, numPreEvaluations.get());
+			assertEquals(1, numPostEvaluations.get());
+			assertTrue(numEvaluated.get() >= 10 + maxGeneration * 10 * config.offspringGeneratedRatio());
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("evolve() should cancel the evaluations in flight when one fails")
+	void evolveCancelsEvaluationsOnFailure() throws InterruptedException {
+		final EAConfiguration<Integer> config = bitCountConfiguration(10);
+		final AtomicInteger numOffspringEvaluations = new AtomicInteger();
+		final AtomicInteger numInterrupted = new AtomicInteger();
+
+		// First offspring evaluation fails while the other ones wait until interrupted
+		final FitnessEvaluator<Integer> fitnessEvaluator = (generation, genotypes) -> {
+			if (genotypes.size() == 1) {
+				if (numOffspringEvaluations.incrementAndGet() == 1) {
+					throw new IllegalArgumentException("Evaluation failed");
+				}
+
+				try {
+					Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+				} catch (InterruptedException e) {
+					numInterrupted.incrementAndGet();
+					throw new IllegalStateException(e);
+				}
+			}
+			return genotypes.stream()
+					.map(config.fitness()::compute)
+					.toList();
+		};
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.build();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			final AsyncEASystem<Integer> system = EASystemFactory
+					.asyncFrom(config, context, executorService, 4, fitnessEvaluator);
+			assertThrows(IllegalStateException.class, system::evolve);
+
+			executorService.shutdown();
+			assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+			// Evaluations cancelled before they started never run
+			assertEquals(numOffspringEvaluations.get() - 1, numInterrupted.get());
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("evolve() should select parents in batches rather than one pair at a time")
+	void evolveSelectsParentsInBatches() {
+		final int maxGeneration = 5;
+		final int populationSize = 20;
+		final AtomicInteger numSelections = new AtomicInteger();
+
+		final SelectionPolicy countingSelection = new SelectionPolicy() {
+		};
+		final SelectionPolicyHandler<Integer> countingSelectionHandler = new SelectionPolicyHandler<Integer>() {
+
+			@Override
+			public boolean canHandle(final SelectionPolicy selectionPolicy) {
+				return selectionPolicy == countingSelection;
+			}
+
+			@Override
+			public Selector<Integer> resolve(final AbstractEAExecutionContext<Integer> eaExecutionContext,
+					final AbstractEAConfiguration<Integer> eaConfiguration,
+					final SelectionPolicyHandlerResolver<Integer> selectionPolicyHandlerResolver,
+					final SelectionPolicy selectionPolicy) {
+				return (eaConfiguration2, numIndividuals, population, fitnessScore) -> {
+					numSelections.incrementAndGet();
+
+					final Population<Integer> selected = new Population<>();
+					for (int i = 0; i < numIndividuals; i++) {
+						final int index = eaExecutionContext.randomGenerator()
+								.nextInt(population.size());
+						selected.add(population.get(index), fitnessScore.get(index));
+					}
+					return selected;
+				};
+			}
+		};
+
+		final EAConfiguration<Integer> config = new EAConfiguration.Builder<Integer>()
+				.from(bitCountConfiguration(maxGeneration))
+				.parentSelectionPolicy(countingSelection)
+				.build();
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(populationSize)
+				.addSelectionPolicyHandlerFactories(ec -> countingSelectionHandler)
+				.build();
+
+		final EvolutionResult<Integer> result = EASystemFactory.asyncFrom(config, context)
+				.evolve();
+
+		final int offspringsPerGeneration = (int) (populationSize * config.offspringGeneratedRatio());
+		assertEquals(maxGeneration, result.generation());
+		// Selecting one pair at a time would take at least offspringsPerGeneration / 2 selections per generation
+		assertTrue(numSelections.get() <= 2 * (maxGeneration + 1));
+		assertTrue(numSelections.get() < maxGeneration * offspringsPerGeneration / 2);
+	}
+}
@@ -0,0 +1,103 @@
+package net.bmahe.genetics4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+
+public class DoublePopulationTest {
+
+	private static Genotype genotypeOf(final int value) {
+		return new Genotype(new IntChromosome(1, 0, 100, new int[] { value }));
+	}
+
+	@Test
+	public void ctorSizeMismatch() {
+		assertThrows(NullPointerException.class, () -> new DoublePopulation(null, new double[] { 1.0 }));
+		assertThrows(NullPointerException.class, () -> new DoublePopulation(List.of(genotypeOf(1)), null));
+		assertThrows(IllegalArgumentException.class,
+				() -> new DoublePopulation(List.of(genotypeOf(1)), new double[] { 1.0, 2.0 }));
+	}
+
+	@Test
+	public void simple() {
+		final DoublePopulation population = new DoublePopulation(List.of(genotypeOf(1), genotypeOf(2)),
+				new double[] { 1.5, 2.5 });
+		population.add(genotypeOf(3), 3.5);
+		population.add(genotypeOf(4), Double.valueOf(4.5));
+		population.add(Individual.of(genotypeOf(5), 5.5));
+
+		assertEquals(5, population.size());
+		assertEquals(genotypeOf(3), population.getGenotype(2));
+		assertEquals(3.5, population.getDoubleFitness(2));
+		assertEquals(Double.valueOf(4.5), population.getFitness(3));
+		assertArrayEquals(new double[] { 1.5, 2.5, 3.5, 4.5, 5.5 }, population.getAllDoubleFitnesses());
+		assertEquals(List.of(1.5, 2.5, 3.5, 4.5, 5.5), population.getAllFitnesses());
+		assertThrows(IllegalArgumentException.class, () -> population.getDoubleFitness(5));
+
+		final Population<Double> other = new Population<>();
+		other.add(genotypeOf(6), 6.5);
+		population.addAll(other);
+		population.addAll(new DoublePopulation(List.of(genotypeOf(7)), new double[] { 7.5 }));
+		assertEquals(7, population.size());
+		assertEquals(7.5, population.getDoubleFitness(6));
+	}
+
+	@Test
+	public void from() {
+		final List<Genotype> genotypes = List.of(genotypeOf(1), genotypeOf(2));
+		final DoublePopulation population = DoublePopulation.from(genotypes, Arrays.asList(1.0, 2.0));
+
+		assertEquals(genotypes, population.getAllGenotypes());
+		assertArrayEquals(new double[] { 1.0, 2.0 }, population.getAllDoubleFitnesses());
+
+		final DoublePopulation copy = DoublePopulation.from(genotypes, population.getAllFitnesses());
+		assertEquals(population, copy);
+	}
+
+	@Test
+	public void isDoubleFitness() {
+		assertTrue(DoublePopulation.isDoubleFitness(List.of(1.0, 2.0)));
+		assertTrue(DoublePopulation.isDoubleFitness(new DoubleFitnessList()));
+		assertFalse(DoublePopulation.isDoubleFitness(List.of()));
+		assertFalse(DoublePopulation.isDoubleFitness(List.of(1, 2)));
+		assertFalse(DoublePopulation.isDoubleFitness(Arrays.asList(1.0, null)));
+	}
+
+	@Test
+	public void emptyLike() {
+		assertTrue(Population.emptyLike(new DoubleFitnessList()) instanceof DoublePopulation);
+		assertFalse(Population.emptyLike(new ArrayList<Double>()) instanceof DoublePopulation);
+	}
+
+	@Test
+	public void doubleFitnessList() {
+		final DoubleFitnessList doubleFitnessList = new DoubleFitnessList(1);
+		for (int i = 0; i < 20; i++) {
+			doubleFitnessList.addDouble(i);
+		}
+		assertEquals(20, doubleFitnessList.size());
+
+		doubleFitnessList.add(0, -1.0);
+		doubleFitnessList.set(1, 42.0);
+		assertEquals(Double.valueOf(19.0), doubleFitnessList.remove(20));
+		assertEquals(20, doubleFitnessList.size());
+		assertEquals(-1.0, doubleFitnessList.getDouble(0));
+		assertEquals(42.0, doubleFitnessList.getDouble(1));
+		assertEquals(18.0, doubleFitnessList.getDouble(19));
+		assertThrows(IndexOutOfBoundsException.class, () -> doubleFitnessList.getDouble(20));
+		assertThrows(NullPointerException.class, () -> doubleFitnessList.add(null));
+
+		doubleFitnessList.clear();
+		assertTrue(doubleFitnessList.isEmpty());
+	}
+}
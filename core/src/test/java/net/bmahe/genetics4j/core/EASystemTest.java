@@ -2,11 +2,21 @@ package net.bmahe.genetics4j.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +24,10 @@ import org.junit.jupiter.api.Test;
 
 import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
 import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator;
+import net.bmahe.genetics4j.core.mutation.RandomMutationPolicyHandler;
+import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
 import net.bmahe.genetics4j.core.spec.EAConfiguration;
 import net.bmahe.genetics4j.core.spec.EAExecutionContext;
 import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
@@ -23,6 +37,7 @@ import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
 import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
 import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
 import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Termination;
 import net.bmahe.genetics4j.core.termination.Terminations;
 
 public class EASystemTest {
@@ -333,4 +348,281 @@ public class EASystemTest {
 		assertTrue(result.bestFitness() >= 0 && result.bestFitness() <= 8,
 				"Best fitness should be in expected range after post-processing");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("createOffsprings() over multiple partitions should be reproducible and keep the requested size")
+	void testCreateOffspringsWithPartitions() {
+		EAConfiguration<Integer> config = new EAConfiguration.Builder<Integer>().chromosomeSpecs(BitChromosomeSpec.of(16))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.2))
+				.fitness(genotype -> {
+					final BitChromosome chromosome = genotype.getChromosome(0, BitChromosome.class);
+					return chromosome.getBitSet()
+							.cardinality();
+				})
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final Population<Integer> population = new Population<>();
+		for (int i = 0; i < 20; i++) {
+			final BitSet bitSet = new BitSet(16);
+			bitSet.set(0, i % 16);
+			population.add(new Genotype(new BitChromosome(16, bitSet)), bitSet.cardinality());
+		}
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			final List<List<Genotype>> allOffsprings = new ArrayList<>();
+			for (int run = 0; run < 2; run++) {
+				EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+						.randomGenerator(new SplittableRandom(42))
+						.populationSize(20)
+						.numberOfOffspringPartitions(4)
+						.build();
+
+				EASystem<Integer> system = EASystemFactory.from(config, context, executorService);
+				final List<Genotype> offsprings = system.createOffsprings(population, 15);
+
+				// Each of the 15 selected parent pairs yields two offsprings with a single point crossover
+				assertEquals(30, offsprings.size(), "Should combine every selected parent pair");
+				allOffsprings.add(offsprings);
+			}
+
+			assertEquals(allOffsprings.get(0),
+					allOffsprings.get(1),
+					"Offsprings should only depend on the random generator");
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Overridden default handlers should be rejected with offspring partitions")
+	void testOffspringPartitionsRejectOverriddenDefaults() {
+		final EAConfiguration<Integer> config = bitCountConfiguration(1);
+
+		final Function<Integer, EAExecutionContext<Integer>> contextFactory = (
+				numberOfOffspringPartitions) -> EAExecutionContexts.<Integer>forScalarFitness()
+						.randomGenerator(new SplittableRandom(42))
+						.populationSize(20)
+						.numberOfOffspringPartitions(numberOfOffspringPartitions)
+						.defaultMutationPolicyHandlers(List.of(new RandomMutationPolicyHandler<>(new SplittableRandom(7))))
+						.build();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			assertThrows(IllegalArgumentException.class,
+					() -> EASystemFactory.from(config, contextFactory.apply(4), executorService));
+			assertNotNull(EASystemFactory.from(config, contextFactory.apply(1), executorService));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static EAConfiguration<Integer> bitCountConfiguration(final long maxGeneration) {
+		return new EAConfiguration.Builder<Integer>().chromosomeSpecs(BitChromosomeSpec.of(16))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.2))
+				.fitness(genotype -> genotype.getChromosome(0, BitChromosome.class)
+						.getBitSet()
+						.cardinality())
+				.termination(Terminations.ofMaxGeneration(maxGeneration))
+				.build();
+	}
+
+	@Test
+	@DisplayName("Pipelined evaluation should stream offsprings in micro-batches and be reproducible")
+	void testPipelinedEvaluation() {
+		final EAConfiguration<Integer> config = bitCountConfiguration(5);
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			for (final int numberOfOffspringPartitions : new int[] { 1, 3 }) {
+				final List<EvolutionResult<Integer>> results = new ArrayList<>();
+				for (int run = 0; run < 2; run++) {
+					final ConcurrentLinkedQueue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+					final StreamingFitnessEvaluator<Integer> fitnessEvaluator = (generation, genotypes) -> {
+						batchSizes.add(genotypes.size());
+						return CompletableFuture.supplyAsync(() -> genotypes.stream()
+								.map(config.fitness()::compute)
+								.toList(), executorService);
+					};
+
+					final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+							.randomGenerator(new SplittableRandom(42))
+							.populationSize(50)
+							.numberOfOffspringPartitions(numberOfOffspringPartitions)
+							.pipelinedEvaluation(true)
+							.pipelineBatchSize(8)
+							.build();
+
+					final EASystem<Integer> system = EASystemFactory
+							.from(config, context, executorService, fitnessEvaluator);
+					final EvolutionResult<Integer> result = system.evolve();
+
+					assertEquals(5, result.generation());
+					assertEquals(50,
+							result.population()
+									.size());
+					for (int i = 0; i < result.population()
+							.size(); i++) {
+						assertEquals(config.fitness()
+								.compute(result.population()
+										.get(i)),
+								result.fitness()
+										.get(i));
+					}
+
+					// Initial population in one batch, then micro-batches of offsprings
+					assertTrue(batchSizes.size() > 6, "Offsprings should be evaluated in several micro-batches");
+					assertTrue(batchSizes.stream()
+							.skip(1)
+							.allMatch(batchSize -> batchSize <= 8));
+
+					results.add(result);
+				}
+
+				assertEquals(results.get(0)
+						.population(),
+						results.get(1)
+								.population(),
+						"Evolution should only depend on the random generator");
+				assertEquals(results.get(0)
+						.fitness(),
+						results.get(1)
+								.fitness());
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Pipelined evaluation should fall back to whole generations for non streaming evaluators")
+	void testPipelinedEvaluationWithNonStreamingEvaluator() {
+		final EAConfiguration<Integer> config = bitCountConfiguration(3);
+
+		final ConcurrentLinkedQueue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+		final FitnessEvaluator<Integer> fitnessEvaluator = (generation, genotypes) -> {
+			batchSizes.add(genotypes.size());
+			return genotypes.stream()
+					.map(config.fitness()::compute)
+					.toList();
+		};
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.pipelinedEvaluation(true)
+				.pipelineBatchSize(4)
+				.build();
+
+		final EvolutionResult<Integer> result = EASystemFactory
+				.from(config, context, ForkJoinPool.commonPool(), fitnessEvaluator)
+				.evolve();
+
+		assertEquals(3, result.generation());
+		assertEquals(4, batchSizes.size(), "Each generation should be evaluated at once");
+	}
+
+	/**
+	 * Termination which only ends the evolution early, through the first individual of a generation after the first
+	 * one with a low fitness
+	 */
+	private static Termination<Integer> lowFitnessTermination(final AtomicReference<Genotype> terminatingGenotype) {
+		return new Termination<Integer>() {
+
+			@Override
+			public boolean isDone(final AbstractEAConfiguration<Integer> eaConfiguration, final long generation,
+					final List<Genotype> population, final List<Integer> fitness) {
+				return generation >= 50;
+			}
+
+			@Override
+			public boolean isDoneWithIndividual(final AbstractEAConfiguration<Integer> eaConfiguration,
+					final long generation, final Genotype genotype, final Integer fitness) {
+				return generation >= 1 && fitness <= 10 && terminatingGenotype.compareAndSet(null, genotype);
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("Early termination should stop the evolution and keep the terminating offspring")
+	void testEarlyTerminationKeepsTerminatingOffspring() {
+		for (final boolean pipelinedEvaluation : new boolean[] { false, true }) {
+			final AtomicReference<Genotype> terminatingGenotype = new AtomicReference<>();
+			final EAConfiguration<Integer> config = new EAConfiguration.Builder<Integer>()
+					.chromosomeSpecs(BitChromosomeSpec.of(16))
+					.parentSelectionPolicy(Tournament.of(2))
+					.combinationPolicy(SinglePointCrossover.build())
+					.mutationPolicies(RandomMutation.of(0.2))
+					.fitness(genotype -> genotype.getChromosome(0, BitChromosome.class)
+							.getBitSet()
+							.cardinality())
+					.termination(lowFitnessTermination(terminatingGenotype))
+					.build();
+
+			final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+					.randomGenerator(new SplittableRandom(42))
+					.populationSize(50)
+					.pipelinedEvaluation(pipelinedEvaluation)
+					.pipelineBatchSize(8)
+					.build();
+
+			final EvolutionResult<Integer> result = EASystemFactory.from(config, context, ForkJoinPool.commonPool())
+					.evolve();
+
+			assertNotNull(terminatingGenotype.get(), "An offspring should have satisfied the termination criteria");
+			assertEquals(2, result.generation(), "Evolution should stop after the generation of that offspring");
+			assertTrue(result.population()
+					.contains(terminatingGenotype.get()), "The terminating offspring should be in the final population");
+		}
+	}
+
+	@Test
+	@DisplayName("Early termination should propagate the evaluations which failed")
+	void testEarlyTerminationPropagatesFailures() {
+		final EAConfiguration<Integer> config = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(BitChromosomeSpec.of(16))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> 0)
+				.termination(Terminations.or(Terminations.ofMaxGeneration(10), Terminations.ofFitnessAtLeast(100)))
+				.build();
+
+		// First offspring fails, second one terminates and the others never complete
+		final StreamingFitnessEvaluator<Integer> fitnessEvaluator = new StreamingFitnessEvaluator<Integer>() {
+
+			@Override
+			public CompletableFuture<List<Integer>> evaluateAsync(final long generation, final List<Genotype> genotypes) {
+				return CompletableFuture.completedFuture(genotypes.stream()
+						.map(config.fitness()::compute)
+						.toList());
+			}
+
+			@Override
+			public List<CompletableFuture<Integer>> evaluateStream(final long generation,
+					final List<Genotype> genotypes) {
+				final List<CompletableFuture<Integer>> fitnessFutures = new ArrayList<>();
+				for (int i = 0; i < genotypes.size(); i++) {
+					fitnessFutures.add(new CompletableFuture<>());
+				}
+				fitnessFutures.get(0)
+						.completeExceptionally(new IllegalStateException("Evaluation failed"));
+				fitnessFutures.get(1)
+						.complete(100);
+				return fitnessFutures;
+			}
+		};
+
+		final EAExecutionContext<Integer> context = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.build();
+		final EASystem<Integer> system = EASystemFactory
+				.from(config, context, ForkJoinPool.commonPool(), fitnessEvaluator);
+
+		final CompletionException completionException = assertThrows(CompletionException.class, system::evolve);
+		assertTrue(completionException.getCause() instanceof IllegalStateException);
+	}
+}
@@ -7,12 +7,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
 import net.bmahe.genetics4j.core.chromosomes.Chromosome;
+import net.bmahe.genetics4j.core.chromosomes.DoubleChromosome;
 import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.chromosomes.TreeChromosome;
+import net.bmahe.genetics4j.core.chromosomes.TreeNode;
 
 public class GenotypeTest {
 
@@ -54,4 +58,28 @@ public class GenotypeTest {
 		assertEquals(bitChromosome, genotypeA.getChromosome(0));
 		assertEquals(intChromosome, genotypeA.getChromosome(1));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void hashCodeConsistency() {
+		final IntChromosome intChromosome = new IntChromosome(4, 0, 10, new int[] { 0, 1, 2, 3 });
+		final DoubleChromosome doubleChromosome = new DoubleChromosome(2, 0.0, 1.0, new double[] { 0.25, 0.5 });
+
+		final Genotype genotypeA = new Genotype(intChromosome, doubleChromosome);
+		final Genotype genotypeB = new Genotype(List.of(new IntChromosome(4, 0, 10, new int[] { 0, 1, 2, 3 }),
+				new DoubleChromosome(2, 0.0, 1.0, new double[] { 0.25, 0.5 })));
+		final Genotype genotypeC = new Genotype(intChromosome,
+				new DoubleChromosome(2, 0.0, 1.0, new double[] { 0.25, 0.75 }));
+
+		assertEquals(genotypeA, genotypeB);
+		assertEquals(genotypeA.hashCode(), genotypeB.hashCode());
+		assertEquals(genotypeA.hashCode(), genotypeA.hashCode());
+		assertNotEquals(genotypeA, genotypeC);
+
+		final TreeChromosome<Integer> treeChromosomeA = new TreeChromosome<>(
+				TreeNode.of(1, List.of(new TreeNode<>(2), new TreeNode<>(3))).freeze());
+		final TreeChromosome<Integer> treeChromosomeB = new TreeChromosome<>(
+				TreeNode.of(1, List.of(new TreeNode<>(2), new TreeNode<>(3))));
+		assertEquals(new Genotype(treeChromosomeA), new Genotype(treeChromosomeB));
+		assertEquals(new Genotype(treeChromosomeA).hashCode(), new Genotype(treeChromosomeB).hashCode());
+	}
+}
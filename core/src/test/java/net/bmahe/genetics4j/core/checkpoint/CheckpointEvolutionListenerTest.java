@@ -0,0 +1,142 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.bmahe.genetics4j.core.EASystem;
+import net.bmahe.genetics4j.core.EASystemFactory;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class CheckpointEvolutionListenerTest {
+
+	@TempDir
+	Path temporaryDirectory;
+
+	private static EAConfiguration<Integer> eaConfiguration(final long maxGeneration) {
+		return new EAConfiguration.Builder<Integer>().chromosomeSpecs(IntChromosomeSpec.of(4, 0, 100))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.1))
+				.fitness(genotype -> {
+					final IntChromosome intChromosome = genotype.getChromosome(0, IntChromosome.class);
+					int sum = 0;
+					for (int i = 0; i < intChromosome.getNumAlleles(); i++) {
+						sum += intChromosome.getAllele(i);
+					}
+					return sum;
+				})
+				.termination(Terminations.ofMaxGeneration(maxGeneration))
+				.build();
+	}
+
+	@Test
+	public void invalidParameters() {
+		final CheckpointSerializer<Integer> checkpointSerializer = CheckpointSerializer.of(eaConfiguration(5),
+				FitnessSerializers.INTEGER);
+		final Path path = temporaryDirectory.resolve("evolution.checkpoint");
+
+		assertThrows(NullPointerException.class, () -> new CheckpointEvolutionListener<Integer>(null, path, 1));
+		assertThrows(NullPointerException.class,
+				() -> new CheckpointEvolutionListener<Integer>(checkpointSerializer, null, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new CheckpointEvolutionListener<Integer>(checkpointSerializer, path, 0));
+	}
+
+	@Test
+	public void checkpointsAtInterval() throws IOException {
+		final CheckpointSerializer<Integer> checkpointSerializer = CheckpointSerializer.of(eaConfiguration(5),
+				FitnessSerializers.INTEGER);
+		final Path path = temporaryDirectory.resolve("evolution.checkpoint");
+
+		final List<Genotype> population = List.of(new Genotype(new IntChromosome(4, 0, 100, new int[] { 5, 0, 0, 0 })));
+		final List<Integer> fitness = List.of(5);
+
+		try (final var listener = new CheckpointEvolutionListener<>(checkpointSerializer, path, 3)) {
+			listener.onEvolution(1, population, fitness, false);
+			listener.onEvolution(2, population, fitness, false);
+			assertFalse(Files.exists(path));
+
+			listener.onEvolution(4, population, fitness, true);
+			assertEquals(4, checkpointSerializer.read(path)
+					.generation());
+		}
+
+		try (final var listener = new CheckpointEvolutionListener<>(checkpointSerializer, path, 3)) {
+			listener.onEvolution(6, population, fitness, false);
+			listener.close();
+
+			final Checkpoint<Integer> checkpoint = checkpointSerializer.read(path);
+			assertEquals(6, checkpoint.generation());
+			assertEquals(population, checkpoint.genotypes());
+			assertEquals(fitness, checkpoint.fitnesses());
+		}
+	}
+
+	@Test
+	public void resumeIsEquivalentToUninterruptedEvolution() throws IOException {
+		final CheckpointSerializer<Integer> checkpointSerializer = CheckpointSerializer.of(eaConfiguration(5),
+				FitnessSerializers.INTEGER);
+		final Path path = temporaryDirectory.resolve("evolution.checkpoint");
+
+		// Interrupted evolution, checkpointed once done
+		final Random random = new Random(42);
+		try (final var listener = new CheckpointEvolutionListener<Integer>(checkpointSerializer, path, 2, random)) {
+			final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(20)
+					.randomGenerator(random)
+					.addEvolutionListeners(listener)
+					.build();
+			EASystemFactory.from(eaConfiguration(5), eaExecutionContext)
+					.evolve();
+		}
+
+		final Checkpoint<Integer> checkpoint = checkpointSerializer.read(path);
+		assertEquals(5, checkpoint.generation());
+		assertTrue(checkpoint.randomGenerator()
+				.isPresent());
+
+		// Resumed evolution
+		final RandomGenerator resumedRandom = checkpoint.randomGenerator()
+				.get();
+		final EAExecutionContext<Integer> resumedExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.randomGenerator(resumedRandom)
+				.build();
+		final EASystem<Integer> resumedSystem = EASystemFactory.from(eaConfiguration(10), resumedExecutionContext);
+		final EvolutionResult<Integer> resumedResult = resumedSystem.resume(checkpoint);
+
+		// Uninterrupted evolution
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.randomGenerator(new Random(42))
+				.build();
+		final EvolutionResult<Integer> evolutionResult = EASystemFactory.from(eaConfiguration(10), eaExecutionContext)
+				.evolve();
+
+		assertEquals(evolutionResult.generation(), resumedResult.generation());
+		assertEquals(evolutionResult.population(), resumedResult.population());
+		assertEquals(evolutionResult.fitness(), resumedResult.fitness());
+	}
+}
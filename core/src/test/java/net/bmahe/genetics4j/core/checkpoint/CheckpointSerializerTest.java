@@ -0,0 +1,161 @@
+package net.bmahe.genetics4j.core.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.chromosomes.DoubleChromosome;
+import net.bmahe.genetics4j.core.chromosomes.FloatChromosome;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodecProvider;
+import net.bmahe.genetics4j.core.chromosomes.codec.GenotypeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.IntChromosomeCodec;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.FloatChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class CheckpointSerializerTest {
+
+	private static final EAConfiguration<Double> EA_CONFIGURATION = new EAConfiguration.Builder<Double>()
+			.chromosomeSpecs(BitChromosomeSpec.of(100),
+					IntChromosomeSpec.of(3, 0, 10),
+					DoubleChromosomeSpec.of(2, 0.0, 1.0),
+					FloatChromosomeSpec.of(1, 0.0f, 1.0f))
+			.parentSelectionPolicy(Tournament.of(2))
+			.combinationPolicy(SinglePointCrossover.build())
+			.fitness(genotype -> 0.0)
+			.termination(Terminations.ofMaxGeneration(5))
+			.build();
+
+	@TempDir
+	Path temporaryDirectory;
+
+	private static Genotype genotype(final int seed) {
+		final BitSet bitSet = new BitSet();
+		bitSet.set(seed);
+		bitSet.set(70 + seed);
+
+		return new Genotype(new BitChromosome(100, bitSet),
+				new IntChromosome(3, 0, 10, new int[] { seed, 2, 3 }),
+				new DoubleChromosome(2, 0.0, 1.0, new double[] { 0.1 * seed, 0.2 }),
+				new FloatChromosome(1, 0.0f, 1.0f, new float[] { 0.5f }));
+	}
+
+	private static Checkpoint<Double> checkpoint(final Optional<RandomGenerator> randomGenerator) {
+		return new Checkpoint<>(7, List.of(genotype(1), genotype(2)), List.of(1.0, 2.0), randomGenerator);
+	}
+
+	@Test
+	public void invalidParameters() {
+		final GenotypeCodec genotypeCodec = GenotypeCodec.of(EA_CONFIGURATION);
+
+		assertThrows(NullPointerException.class, () -> new CheckpointSerializer<Double>(null, FitnessSerializers.DOUBLE));
+		assertThrows(NullPointerException.class, () -> new CheckpointSerializer<Double>(genotypeCodec, null));
+	}
+
+	@Test
+	public void roundTrip() throws IOException {
+		final CheckpointSerializer<Double> checkpointSerializer = CheckpointSerializer.of(EA_CONFIGURATION,
+				FitnessSerializers.DOUBLE);
+		final Checkpoint<Double> checkpoint = checkpoint(CheckpointSerializer.copyOf(new Random(42)));
+
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		checkpointSerializer.write(byteArrayOutputStream, checkpoint);
+
+		final Checkpoint<Double> read = checkpointSerializer
+				.read(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+
+		assertEquals(checkpoint.generation(), read.generation());
+		assertEquals(checkpoint.genotypes(), read.genotypes());
+		assertEquals(checkpoint.fitnesses(), read.fitnesses());
+		assertTrue(read.randomGenerator()
+				.isPresent());
+		assertEquals(new Random(42).nextLong(),
+				read.randomGenerator()
+						.get()
+						.nextLong());
+	}
+
+	@Test
+	public void copyOfRandomGenerator() {
+		final Random random = new Random(42);
+		random.nextInt();
+
+		final Optional<RandomGenerator> copy = CheckpointSerializer.copyOf(random);
+		assertTrue(copy.isPresent());
+		assertEquals(random.nextLong(),
+				copy.get()
+						.nextLong());
+
+		assertFalse(CheckpointSerializer.copyOf(RandomGenerator.of("L64X128MixRandom"))
+				.isPresent());
+	}
+
+	@Test
+	public void writeToFile() throws IOException {
+		final CheckpointSerializer<Double> checkpointSerializer = CheckpointSerializer.of(EA_CONFIGURATION,
+				FitnessSerializers.DOUBLE);
+		final Path path = temporaryDirectory.resolve("evolution.checkpoint");
+
+		checkpointSerializer.write(path, checkpoint(Optional.empty()));
+		checkpointSerializer.write(path, checkpoint(Optional.empty()));
+
+		try (final var files = Files.list(temporaryDirectory)) {
+			assertEquals(List.of(path), files.toList());
+		}
+
+		final Checkpoint<Double> read = checkpointSerializer.read(path);
+		assertEquals(checkpoint(Optional.empty()).genotypes(), read.genotypes());
+		assertFalse(read.randomGenerator()
+				.isPresent());
+	}
+
+	@Test
+	public void mismatchingConfiguration() throws IOException {
+		final CheckpointSerializer<Double> checkpointSerializer = CheckpointSerializer.of(EA_CONFIGURATION,
+				FitnessSerializers.DOUBLE);
+
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		checkpointSerializer.write(byteArrayOutputStream, checkpoint(Optional.empty()));
+
+		final GenotypeCodec intOnlyGenotypeCodec = new GenotypeCodec(List.of(IntChromosomeSpec.of(3, 0, 10)),
+				new ChromosomeCodecProvider(List.of(new IntChromosomeCodec())));
+		final CheckpointSerializer<Double> intOnlySerializer = new CheckpointSerializer<>(intOnlyGenotypeCodec,
+				FitnessSerializers.DOUBLE);
+		assertThrows(IllegalArgumentException.class,
+				() -> intOnlySerializer.write(new ByteArrayOutputStream(), checkpoint(Optional.empty())));
+		assertThrows(IOException.class,
+				() -> intOnlySerializer.read(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+	}
+
+	@Test
+	public void invalidContent() {
+		final CheckpointSerializer<Double> checkpointSerializer = CheckpointSerializer.of(EA_CONFIGURATION,
+				FitnessSerializers.DOUBLE);
+
+		assertThrows(IOException.class,
+				() -> checkpointSerializer.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 })));
+	}
+}
@@ -1,8 +1,12 @@
 package net.bmahe.genetics4j.core.chromosomes;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
@@ -68,4 +72,48 @@ public class TreeNodeTest {
 		assertEquals(Integer.valueOf(9), treeNode.getChildren().get(1).getChild(0).getData());
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void freeze() {
+		final TreeNode<Integer> treeNode = TreeNode.of(2,
+				List.of(TreeNode.of(4, List.of(new TreeNode<>(6), new TreeNode<>(1))),
+						TreeNode.of(7, List.of(new TreeNode<>(9)))));
+		final int hashCode = treeNode.hashCode();
+
+		assertFalse(treeNode.isFrozen());
+		assertSame(treeNode, treeNode.freeze());
+		assertTrue(treeNode.isFrozen());
+		assertTrue(treeNode.getChild(0)
+				.getChild(1)
+				.isFrozen());
+		assertEquals(hashCode, treeNode.hashCode());
+
+		assertThrows(IllegalStateException.class, () -> treeNode.addChild(new TreeNode<>(3)));
+		assertThrows(IllegalStateException.class, () -> treeNode.setChild(0, new TreeNode<>(3)));
+		assertThrows(IllegalStateException.class, () -> treeNode.addChildren(List.of(new TreeNode<>(3))));
+		assertThrows(IllegalStateException.class, () -> treeNode.getChild(1)
+				.addChild(new TreeNode<>(3)));
+		assertThrows(UnsupportedOperationException.class, () -> treeNode.getChildren()
+				.add(new TreeNode<>(3)));
+
+		// Freezing is idempotent
+		assertSame(treeNode, treeNode.freeze());
+	}
+
+	@Test
+	public void frozenEquality() {
+		final TreeNode<Integer> frozenNode = TreeNode.of(2, List.of(new TreeNode<>(3), new TreeNode<>(4)))
+				.freeze();
+		final TreeNode<Integer> mutableNode = TreeNode.of(2, List.of(new TreeNode<>(3), new TreeNode<>(4)));
+		final TreeNode<Integer> otherFrozenNode = TreeNode.of(2, List.of(new TreeNode<>(3), new TreeNode<>(4)))
+				.freeze();
+		final TreeNode<Integer> differentFrozenNode = TreeNode.of(2, List.of(new TreeNode<>(4), new TreeNode<>(3)))
+				.freeze();
+
+		assertEquals(frozenNode, mutableNode);
+		assertEquals(mutableNode, frozenNode);
+		assertEquals(frozenNode, otherFrozenNode);
+		assertEquals(frozenNode.hashCode(), mutableNode.hashCode());
+		assertNotEquals(frozenNode, differentFrozenNode);
+	}
+}
@@ -0,0 +1,127 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.chromosomes.DoubleChromosome;
+import net.bmahe.genetics4j.core.chromosomes.FloatChromosome;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.FloatChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+
+public class GenotypeCodecTest {
+
+	private static final List<ChromosomeSpec> CHROMOSOME_SPECS = List.of(BitChromosomeSpec.of(130),
+			IntChromosomeSpec.of(4, -10, 1_000),
+			DoubleChromosomeSpec.of(3, -1.0, 1.0),
+			FloatChromosomeSpec.of(2, 0.0f, 10.0f));
+
+	private static Genotype genotype() {
+		final BitSet bitSet = new BitSet();
+		bitSet.set(0);
+		bitSet.set(64);
+		bitSet.set(129);
+
+		return new Genotype(new BitChromosome(130, bitSet),
+				new IntChromosome(4, -10, 1_000, new int[] { -10, 0, 100, 999 }),
+				new DoubleChromosome(3, -1.0, 1.0, new double[] { -1.0, 0.123456789, Double.MIN_VALUE }),
+				new FloatChromosome(2, 0.0f, 10.0f, new float[] { 0.0f, 9.99f }));
+	}
+
+	@Test
+	public void providerLoadsCoreCodecs() {
+		final ChromosomeCodecProvider chromosomeCodecProvider = ChromosomeCodecProvider.load();
+
+		assertTrue(chromosomeCodecProvider.provideChromosomeCodec(BitChromosomeSpec.of(10)) instanceof BitChromosomeCodec);
+		assertTrue(chromosomeCodecProvider
+				.provideChromosomeCodec(IntChromosomeSpec.of(10, 0, 5)) instanceof IntChromosomeCodec);
+		assertTrue(chromosomeCodecProvider
+				.provideChromosomeCodec(DoubleChromosomeSpec.of(10, 0, 5)) instanceof DoubleChromosomeCodec);
+		assertTrue(chromosomeCodecProvider
+				.provideChromosomeCodec(FloatChromosomeSpec.of(10, 0, 5)) instanceof FloatChromosomeCodec);
+
+		final ChromosomeCodecProvider emptyProvider = new ChromosomeCodecProvider(List.of());
+		assertThrows(NullPointerException.class, () -> emptyProvider.provideChromosomeCodec(null));
+		assertThrows(IllegalStateException.class, () -> emptyProvider.provideChromosomeCodec(BitChromosomeSpec.of(10)));
+		assertThrows(IllegalStateException.class,
+				() -> new GenotypeCodec(CHROMOSOME_SPECS, emptyProvider));
+	}
+
+	@Test
+	public void roundTrip() {
+		final GenotypeCodec genotypeCodec = new GenotypeCodec(CHROMOSOME_SPECS, ChromosomeCodecProvider.load());
+		final Genotype genotype = genotype();
+
+		final ByteBuffer byteBuffer = genotypeCodec.encode(genotype);
+
+		// 3 words of bits, 1 + 1 + 2 + 2 bytes of ints, 3 doubles and 2 floats
+		assertEquals(3 * Long.BYTES + 6 + 3 * Double.BYTES + 2 * Float.BYTES, byteBuffer.remaining());
+
+		assertEquals(genotype, genotypeCodec.decode(byteBuffer));
+		assertFalse(byteBuffer.hasRemaining());
+	}
+
+	@Test
+	public void roundTripTrailingZeroWords() {
+		final GenotypeCodec genotypeCodec = new GenotypeCodec(List.of(BitChromosomeSpec.of(10), BitChromosomeSpec.of(130)),
+				ChromosomeCodecProvider.load());
+
+		final BitSet lowBitOnly = new BitSet(130);
+		lowBitOnly.set(3);
+
+		final List<Genotype> genotypes = List.of(
+				new Genotype(new BitChromosome(10, new BitSet(10)), new BitChromosome(130, new BitSet(130))),
+				new Genotype(new BitChromosome(10, new BitSet(10)), new BitChromosome(130, lowBitOnly)));
+
+		for (final Genotype genotype : genotypes) {
+			final ByteBuffer byteBuffer = genotypeCodec.encode(genotype);
+
+			assertEquals(genotype, genotypeCodec.decode(byteBuffer));
+			assertFalse(byteBuffer.hasRemaining());
+		}
+	}
+
+	@Test
+	public void encodeInPlace() {
+		final GenotypeCodec genotypeCodec = new GenotypeCodec(CHROMOSOME_SPECS, ChromosomeCodecProvider.load());
+		final Genotype genotype = genotype();
+
+		final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(3 * genotypeCodec.maxEncodedSize(genotype));
+		for (int i = 0; i < 3; i++) {
+			genotypeCodec.encode(genotype, byteBuffer);
+		}
+		byteBuffer.flip();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(genotype, genotypeCodec.decode(byteBuffer));
+		}
+		assertFalse(byteBuffer.hasRemaining());
+	}
+
+	@Test
+	public void mismatchingGenotype() {
+		final GenotypeCodec genotypeCodec = new GenotypeCodec(CHROMOSOME_SPECS, ChromosomeCodecProvider.load());
+
+		final Genotype tooShort = new Genotype(new BitChromosome(130, new BitSet(130)));
+		assertThrows(IllegalArgumentException.class, () -> genotypeCodec.encode(tooShort));
+
+		final Genotype wrongSize = new Genotype(new BitChromosome(64, new BitSet()),
+				new IntChromosome(4, -10, 1_000, new int[] { 0, 0, 0, 0 }),
+				new DoubleChromosome(3, -1.0, 1.0, new double[] { 0, 0, 0 }),
+				new FloatChromosome(2, 0.0f, 10.0f, new float[] { 0, 0 }));
+		assertThrows(IllegalArgumentException.class, () -> genotypeCodec.encode(wrongSize));
+	}
+}
@@ -0,0 +1,85 @@
+package net.bmahe.genetics4j.core.chromosomes.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class VarIntsTest {
+
+	@Test
+	public void varInt() {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(VarInts.MAX_VAR_INT_SIZE);
+
+		for (final int value : new int[] { 0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE }) {
+			byteBuffer.clear();
+			VarInts.putVarInt(byteBuffer, value);
+			assertEquals(VarInts.sizeOfVarInt(value), byteBuffer.position());
+
+			byteBuffer.flip();
+			assertEquals(value, VarInts.getVarInt(byteBuffer));
+		}
+
+		assertEquals(1, VarInts.sizeOfVarInt(127));
+		assertEquals(2, VarInts.sizeOfVarInt(128));
+		assertEquals(VarInts.MAX_VAR_INT_SIZE, VarInts.sizeOfVarInt(-1));
+	}
+
+	@Test
+	public void varLong() {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(VarInts.MAX_VAR_LONG_SIZE);
+
+		for (final long value : new long[] { 0, 1, 127, 128, Long.MAX_VALUE, -1, Long.MIN_VALUE }) {
+			byteBuffer.clear();
+			VarInts.putVarLong(byteBuffer, value);
+			assertEquals(VarInts.sizeOfVarLong(value), byteBuffer.position());
+
+			byteBuffer.flip();
+			assertEquals(value, VarInts.getVarLong(byteBuffer));
+
+			byteBuffer.clear();
+			VarInts.putSignedVarLong(byteBuffer, value);
+			byteBuffer.flip();
+			assertEquals(value, VarInts.getSignedVarLong(byteBuffer));
+		}
+	}
+
+	@Test
+	public void zigZag() {
+		assertEquals(0, VarInts.zigZag(0));
+		assertEquals(1, VarInts.zigZag(-1));
+		assertEquals(2, VarInts.zigZag(1));
+		assertEquals(3, VarInts.zigZag(-2));
+		assertEquals(-5, VarInts.unZigZag(VarInts.zigZag(-5)));
+	}
+
+	@Test
+	public void malformed() {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+		for (int i = 0; i < 16; i++) {
+			byteBuffer.put((byte) 0xFF);
+		}
+		byteBuffer.flip();
+
+		assertThrows(IllegalArgumentException.class, () -> VarInts.getVarInt(byteBuffer.duplicate()));
+		assertThrows(IllegalArgumentException.class, () -> VarInts.getVarLong(byteBuffer.duplicate()));
+	}
+
+	@Test
+	public void string() {
+		final String value = "Genetics4J – évolution";
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(VarInts.maxSizeOfString(value));
+
+		VarInts.putString(byteBuffer, value);
+		byteBuffer.flip();
+		assertEquals(value, VarInts.getString(byteBuffer));
+		assertEquals(0, byteBuffer.remaining());
+
+		final ByteBuffer truncated = ByteBuffer.allocate(2);
+		VarInts.putVarInt(truncated, 10);
+		truncated.flip();
+		assertThrows(IllegalArgumentException.class, () -> VarInts.getString(truncated));
+	}
+}
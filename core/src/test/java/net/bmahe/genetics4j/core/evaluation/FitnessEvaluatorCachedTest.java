@@ -0,0 +1,126 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.EASystem;
+import net.bmahe.genetics4j.core.EASystemFactory;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class FitnessEvaluatorCachedTest {
+
+	/**
+	 * Records every genotype it is asked to evaluate and returns its single int value as fitness
+	 */
+	private static class RecordingFitnessEvaluator implements FitnessEvaluator<Integer> {
+		final List<Genotype> evaluated = new ArrayList<>();
+
+		@Override
+		public List<Integer> evaluate(final long generation, final List<Genotype> genotypes) {
+			evaluated.addAll(genotypes);
+			return genotypes.stream()
+					.map(genotype -> genotype.getChromosome(0, IntChromosome.class)
+							.getAllele(0))
+					.toList();
+		}
+	}
+
+	private static Genotype genotypeOf(final int value) {
+		return new Genotype(new IntChromosome(1, 0, 100, new int[] { value }));
+	}
+
+	@Test
+	public void invalidParameters() {
+		assertThrows(NullPointerException.class, () -> new FitnessEvaluatorCached<Integer>(null, 10));
+		assertThrows(IllegalArgumentException.class,
+				() -> new FitnessEvaluatorCached<Integer>(new RecordingFitnessEvaluator(), 0));
+	}
+
+	@Test
+	public void evaluateOnlyUnseenGenotypes() {
+		final var recordingFitnessEvaluator = new RecordingFitnessEvaluator();
+		final var fitnessEvaluatorCached = new FitnessEvaluatorCached<>(recordingFitnessEvaluator, 10);
+
+		final List<Integer> firstFitnesses = fitnessEvaluatorCached
+				.evaluate(0, List.of(genotypeOf(1), genotypeOf(2), genotypeOf(1)));
+		assertEquals(List.of(1, 2, 1), firstFitnesses);
+		assertEquals(List.of(genotypeOf(1), genotypeOf(2)), recordingFitnessEvaluator.evaluated);
+		assertEquals(1, fitnessEvaluatorCached.getHitCount());
+		assertEquals(2, fitnessEvaluatorCached.getMissCount());
+
+		final List<Integer> secondFitnesses = fitnessEvaluatorCached
+				.evaluate(1, List.of(genotypeOf(3), genotypeOf(2), genotypeOf(1)));
+		assertEquals(List.of(3, 2, 1), secondFitnesses);
+		assertEquals(List.of(genotypeOf(1), genotypeOf(2), genotypeOf(3)), recordingFitnessEvaluator.evaluated);
+		assertEquals(3, fitnessEvaluatorCached.getHitCount());
+		assertEquals(3, fitnessEvaluatorCached.getMissCount());
+		assertEquals(0.5, fitnessEvaluatorCached.getHitRate(), 0.0001);
+		assertEquals(3, fitnessEvaluatorCached.size());
+
+		recordingFitnessEvaluator.evaluated.clear();
+		assertEquals(List.of(2, 2), fitnessEvaluatorCached.evaluate(2, List.of(genotypeOf(2), genotypeOf(2))));
+		assertTrue(recordingFitnessEvaluator.evaluated.isEmpty());
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final var recordingFitnessEvaluator = new RecordingFitnessEvaluator();
+		final var fitnessEvaluatorCached = new FitnessEvaluatorCached<>(recordingFitnessEvaluator, 2);
+
+		fitnessEvaluatorCached.evaluate(0, List.of(genotypeOf(1), genotypeOf(2)));
+		// Access 1 so 2 becomes the least recently used
+		fitnessEvaluatorCached.evaluate(1, List.of(genotypeOf(1)));
+		fitnessEvaluatorCached.evaluate(2, List.of(genotypeOf(3)));
+
+		assertEquals(2, fitnessEvaluatorCached.size());
+		assertEquals(1, fitnessEvaluatorCached.getEvictionCount());
+
+		recordingFitnessEvaluator.evaluated.clear();
+		fitnessEvaluatorCached.evaluate(3, List.of(genotypeOf(1), genotypeOf(2), genotypeOf(3)));
+		assertEquals(List.of(genotypeOf(2)), recordingFitnessEvaluator.evaluated);
+	}
+
+	@Test
+	public void cachedFrom() {
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(BitChromosomeSpec.of(4))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.1))
+				.fitness(genotype -> genotype.getChromosome(0, BitChromosome.class)
+						.getBitSet()
+						.cardinality())
+				.termination(Terminations.ofMaxGeneration(10))
+				.build();
+
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.build();
+
+		final EASystem<Integer> eaSystem = EASystemFactory.cachedFrom(eaConfiguration, eaExecutionContext, 100);
+		final EvolutionResult<Integer> evolutionResult = eaSystem.evolve();
+		assertEquals(10, evolutionResult.generation());
+
+		final var fitnessEvaluatorCached = (FitnessEvaluatorCached<Integer>) eaSystem.getFitnessEvaluator();
+		// Only 16 distinct genotypes exist for 4 bits
+		assertTrue(fitnessEvaluatorCached.getMissCount() <= 16);
+		assertTrue(fitnessEvaluatorCached.getHitCount() > 0);
+	}
+}
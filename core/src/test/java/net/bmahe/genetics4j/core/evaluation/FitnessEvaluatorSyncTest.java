@@ -0,0 +1,271 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class FitnessEvaluatorSyncTest {
+
+	private static final EAConfiguration<Integer> EA_CONFIGURATION = new EAConfiguration.Builder<Integer>()
+			.chromosomeSpecs(IntChromosomeSpec.of(1, 0, 1_000))
+			.parentSelectionPolicy(Tournament.of(2))
+			.combinationPolicy(SinglePointCrossover.build())
+			.fitness(genotype -> genotype.getChromosome(0, IntChromosome.class)
+					.getAllele(0))
+			.termination(Terminations.ofMaxGeneration(5))
+			.build();
+
+	private static List<Genotype> genotypes(final int size) {
+		final List<Genotype> genotypes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			genotypes.add(new Genotype(new IntChromosome(1, 0, 1_000, new int[] { i })));
+		}
+		return genotypes;
+	}
+
+	private static void assertEvaluatesInOrder(final EAExecutionContext<Integer> eaExecutionContext,
+			final int populationSize) {
+		final ExecutorService executorService = ForkJoinPool.commonPool();
+		final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext, EA_CONFIGURATION, executorService);
+
+		final List<Integer> fitnessScores = fitnessEvaluator.evaluate(0, genotypes(populationSize));
+		assertEquals(populationSize, fitnessScores.size());
+		for (int i = 0; i < populationSize; i++) {
+			assertEquals(Integer.valueOf(i), fitnessScores.get(i));
+		}
+	}
+
+	@Test
+	public void chunkSizeWithoutMeasurements() {
+		assertThrows(IllegalArgumentException.class, () -> FitnessEvaluatorSync.chunkSize(100, 0, 0, 0));
+
+		assertEquals(1, FitnessEvaluatorSync.chunkSize(100, 4, 0, 0));
+		assertEquals(1, FitnessEvaluatorSync.chunkSize(0, 4, 10, 10));
+	}
+
+	@Test
+	public void chunkSizeAdaptsToLatency() {
+		// Cheap fitness: bounded by the share of remaining individuals
+		assertEquals(125, FitnessEvaluatorSync.chunkSize(1_000, 4, 1_000, 1_000));
+
+		// 10µs per individual: bounded by the targeted chunk duration
+		assertEquals(100, FitnessEvaluatorSync.chunkSize(10_000, 4, 100, 100 * 10_000));
+
+		// Expensive fitness: one individual at a time
+		assertEquals(1, FitnessEvaluatorSync.chunkSize(10_000, 4, 10, 10 * 5_000_000L));
+
+		// Chunks shrink towards the end of the generation
+		assertEquals(1, FitnessEvaluatorSync.chunkSize(7, 4, 1_000, 1_000));
+	}
+
+	@Test
+	public void evaluateStaticPartitions() {
+		for (final int numberOfPartitions : new int[] { 1, 3, 4, 7, 64 }) {
+			final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(10)
+					.numberOfPartitions(numberOfPartitions)
+					.build();
+
+			assertEvaluatesInOrder(eaExecutionContext, 10);
+			assertEvaluatesInOrder(eaExecutionContext, 257);
+		}
+	}
+
+	@Test
+	public void evaluateWorkStealing() {
+		for (final int numberOfPartitions : new int[] { 1, 3, 4, 7, 64 }) {
+			final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(10)
+					.numberOfPartitions(numberOfPartitions)
+					.workStealingEvaluation(true)
+					.build();
+
+			assertEvaluatesInOrder(eaExecutionContext, 10);
+			assertEvaluatesInOrder(eaExecutionContext, 257);
+		}
+	}
+
+	@Test
+	public void evaluateAsync() {
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.numberOfPartitions(4)
+				.build();
+		final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext,
+				EA_CONFIGURATION,
+				ForkJoinPool.commonPool());
+
+		assertThrows(IllegalArgumentException.class, () -> fitnessEvaluator.evaluateAsync(0, List.of()));
+
+		final List<CompletableFuture<List<Integer>>> batches = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			batches.add(fitnessEvaluator.evaluateAsync(0, genotypes(17)));
+		}
+
+		for (final CompletableFuture<List<Integer>> batch : batches) {
+			final List<Integer> fitnessScores = batch.join();
+			assertEquals(17, fitnessScores.size());
+			for (int i = 0; i < 17; i++) {
+				assertEquals(Integer.valueOf(i), fitnessScores.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void evaluateStream() {
+		for (final boolean workStealingEvaluation : new boolean[] { false, true }) {
+			final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(10)
+					.numberOfPartitions(4)
+					.workStealingEvaluation(workStealingEvaluation)
+					.build();
+			final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext,
+					EA_CONFIGURATION,
+					ForkJoinPool.commonPool());
+
+			final List<CompletableFuture<Integer>> fitnessFutures = fitnessEvaluator.evaluateStream(0, genotypes(37));
+			assertEquals(37, fitnessFutures.size());
+			for (int i = 0; i < 37; i++) {
+				assertEquals(Integer.valueOf(i),
+						fitnessFutures.get(i)
+								.join());
+			}
+		}
+	}
+
+	@Test
+	public void evaluateStreamSkipsCancelledIndividuals() throws InterruptedException {
+		final AtomicInteger numEvaluations = new AtomicInteger();
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(IntChromosomeSpec.of(1, 0, 1_000))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> {
+					numEvaluations.incrementAndGet();
+					return genotype.getChromosome(0, IntChromosome.class)
+							.getAllele(0);
+				})
+				.termination(Terminations.ofMaxGeneration(5))
+				.build();
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.numberOfPartitions(1)
+				.build();
+
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext, eaConfiguration, executorService);
+
+			// Keep the only thread busy until the futures have been cancelled
+			final CountDownLatch release = new CountDownLatch(1);
+			executorService.submit(() -> {
+				release.await();
+				return null;
+			});
+
+			final List<CompletableFuture<Integer>> fitnessFutures = fitnessEvaluator.evaluateStream(0, genotypes(10));
+			for (int i = 5; i < 10; i++) {
+				fitnessFutures.get(i)
+						.cancel(false);
+			}
+			release.countDown();
+
+			for (int i = 0; i < 5; i++) {
+				assertEquals(Integer.valueOf(i),
+						fitnessFutures.get(i)
+								.join());
+			}
+			for (int i = 5; i < 10; i++) {
+				assertTrue(fitnessFutures.get(i)
+						.isCancelled());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(5, numEvaluations.get());
+	}
+
+	@Test
+	public void evaluateStreamCompletesFuturesOnErrors() {
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(IntChromosomeSpec.of(1, 0, 1_000))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> {
+					final int allele = genotype.getChromosome(0, IntChromosome.class)
+							.getAllele(0);
+					if (allele == 3) {
+						throw new AssertionError("Unexpected individual");
+					}
+					return allele;
+				})
+				.termination(Terminations.ofMaxGeneration(5))
+				.build();
+
+		for (final boolean workStealingEvaluation : new boolean[] { false, true }) {
+			final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(10)
+					.numberOfPartitions(2)
+					.workStealingEvaluation(workStealingEvaluation)
+					.build();
+			final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext,
+					eaConfiguration,
+					ForkJoinPool.commonPool());
+
+			final List<CompletableFuture<Integer>> fitnessFutures = fitnessEvaluator.evaluateStream(0, genotypes(10));
+			for (int i = 0; i < 10; i++) {
+				if (i == 3) {
+					final CompletionException completionException = assertThrows(CompletionException.class,
+							fitnessFutures.get(i)::join);
+					assertTrue(completionException.getCause() instanceof AssertionError);
+				} else {
+					assertEquals(Integer.valueOf(i),
+							fitnessFutures.get(i)
+									.join());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void evaluateStreamCompletesFuturesWhenSubmissionFails() {
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(10)
+				.numberOfPartitions(2)
+				.build();
+
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		executorService.shutdown();
+		final var fitnessEvaluator = new FitnessEvaluatorSync<>(eaExecutionContext, EA_CONFIGURATION, executorService);
+
+		final List<CompletableFuture<Integer>> fitnessFutures = fitnessEvaluator.evaluateStream(0, genotypes(10));
+		for (final CompletableFuture<Integer> fitnessFuture : fitnessFutures) {
+			assertTrue(fitnessFuture.isCompletedExceptionally());
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package net.bmahe.genetics4j.core.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.EASystem;
+import net.bmahe.genetics4j.core.EASystemFactory;
+import net.bmahe.genetics4j.core.Fitness;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class FitnessEvaluatorVirtualThreadTest {
+
+	private static EAConfiguration<Integer> eaConfiguration(final Fitness<Integer> fitness) {
+		return new EAConfiguration.Builder<Integer>().chromosomeSpecs(IntChromosomeSpec.of(1, 0, 100))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.1))
+				.fitness(fitness)
+				.termination(Terminations.ofMaxGeneration(5))
+				.build();
+	}
+
+	private static List<Genotype> genotypes(final int size) {
+		final List<Genotype> genotypes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			genotypes.add(new Genotype(new IntChromosome(1, 0, 100, new int[] { i % 100 })));
+		}
+		return genotypes;
+	}
+
+	private static int alleleOf(final Genotype genotype) {
+		return genotype.getChromosome(0, IntChromosome.class)
+				.getAllele(0);
+	}
+
+	@Test
+	public void invalidParameters() {
+		final var eaConfiguration = eaConfiguration(FitnessEvaluatorVirtualThreadTest::alleleOf);
+
+		assertThrows(NullPointerException.class, () -> new FitnessEvaluatorVirtualThread<Integer>(null, 10));
+		assertThrows(IllegalArgumentException.class, () -> new FitnessEvaluatorVirtualThread<>(eaConfiguration, 0));
+		assertThrows(IllegalArgumentException.class, () -> new FitnessEvaluatorVirtualThread<>(eaConfiguration, 10, 0));
+	}
+
+	@Test
+	public void evaluateKeepsOrder() {
+		final var eaConfiguration = eaConfiguration(FitnessEvaluatorVirtualThreadTest::alleleOf);
+
+		for (final int batchSize : new int[] { 1, 3, 100, 1_000 }) {
+			final var fitnessEvaluator = new FitnessEvaluatorVirtualThread<>(eaConfiguration, 16, batchSize);
+
+			final List<Genotype> genotypes = genotypes(250);
+			final List<Integer> fitnessScores = fitnessEvaluator.evaluate(0, genotypes);
+
+			assertEquals(genotypes.size(), fitnessScores.size());
+			for (int i = 0; i < genotypes.size(); i++) {
+				assertEquals(Integer.valueOf(i % 100), fitnessScores.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void concurrencyIsLimited() {
+		final int maxConcurrency = 4;
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+
+		final var eaConfiguration = eaConfiguration(genotype -> {
+			final int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+						.interrupt();
+			}
+			inFlight.decrementAndGet();
+			return alleleOf(genotype);
+		});
+
+		final var fitnessEvaluator = new FitnessEvaluatorVirtualThread<>(eaConfiguration, maxConcurrency);
+		fitnessEvaluator.evaluate(0, genotypes(64));
+
+		assertTrue(maxInFlight.get() <= maxConcurrency);
+		assertTrue(maxInFlight.get() > 1);
+	}
+
+	@Test
+	public void failuresArePropagated() {
+		final var eaConfiguration = eaConfiguration(genotype -> {
+			if (alleleOf(genotype) == 7) {
+				throw new IllegalStateException("Simulator unavailable");
+			}
+			return alleleOf(genotype);
+		});
+
+		final var fitnessEvaluator = new FitnessEvaluatorVirtualThread<>(eaConfiguration, 8);
+		final var exception = assertThrows(CompletionException.class, () -> fitnessEvaluator.evaluate(0, genotypes(20)));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+	}
+
+	@Test
+	public void virtualThreadsFrom() {
+		final var eaConfiguration = eaConfiguration(FitnessEvaluatorVirtualThreadTest::alleleOf);
+
+		final EAExecutionContext<Integer> eaExecutionContext = EAExecutionContexts.<Integer>forScalarFitness()
+				.populationSize(20)
+				.build();
+
+		final EASystem<Integer> eaSystem = EASystemFactory.virtualThreadsFrom(eaConfiguration, eaExecutionContext, 8);
+		assertTrue(eaSystem.getFitnessEvaluator() instanceof FitnessEvaluatorVirtualThread);
+
+		final EvolutionResult<Integer> evolutionResult = eaSystem.evolve();
+		assertEquals(5, evolutionResult.generation());
+	}
+}
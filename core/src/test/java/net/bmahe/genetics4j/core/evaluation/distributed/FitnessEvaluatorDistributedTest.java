@@ -0,0 +1,369 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.bmahe.genetics4j.core.Fitness;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.checkpoint.FitnessSerializers;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodecProvider;
+import net.bmahe.genetics4j.core.chromosomes.codec.GenotypeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.VarInts;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+
+public class FitnessEvaluatorDistributedTest {
+
+	private static final int NUM_ALLELES = 4;
+
+	private static final Fitness<Integer> SUM = genotype -> {
+		final IntChromosome intChromosome = genotype.getChromosome(0, IntChromosome.class);
+		int sum = 0;
+		for (int i = 0; i < intChromosome.getNumAlleles(); i++) {
+			sum += intChromosome.getAllele(i);
+		}
+		return sum;
+	};
+
+	@TempDir
+	Path temporaryDirectory;
+
+	private static GenotypeCodec genotypeCodec() {
+		return new GenotypeCodec(List.of(IntChromosomeSpec.of(NUM_ALLELES, 0, 100)), ChromosomeCodecProvider.load());
+	}
+
+	private static DistributedEvaluationSettings.Builder testSettings() {
+		final var builder = DistributedEvaluationSettings.builder();
+		builder.workerWaitTimeout(Duration.ofSeconds(10))
+				.heartbeatInterval(Duration.ofMillis(50))
+				.heartbeatTimeout(Duration.ofMillis(500))
+				.minStragglerDelay(Duration.ofMillis(200));
+		return builder;
+	}
+
+	private static SocketAddress loopback() {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+	}
+
+	private static List<Genotype> population(final Random random, final int size) {
+		final List<Genotype> population = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final int[] values = new int[NUM_ALLELES];
+			for (int j = 0; j < NUM_ALLELES; j++) {
+				values[j] = random.nextInt(101);
+			}
+			population.add(new Genotype(new IntChromosome(NUM_ALLELES, 0, 100, values)));
+		}
+		return population;
+	}
+
+	private static List<Integer> expectedFitness(final List<Genotype> population) {
+		return population.stream()
+				.map(SUM::compute)
+				.toList();
+	}
+
+	private static void startWorker(final SocketAddress address, final Fitness<Integer> fitness, final int parallelism) {
+		final var fitnessWorker = new FitnessWorker<>(address,
+				genotypeCodec(),
+				fitness,
+				FitnessSerializers.INTEGER,
+				parallelism);
+
+		final Thread thread = new Thread(() -> {
+			try {
+				fitnessWorker.serve();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Connects like a worker and returns once it received its first batch
+	 */
+	private static SocketChannel connectRawWorker(final SocketAddress address) throws IOException {
+		final SocketChannel socketChannel = SocketChannel.open(address);
+
+		final ByteBuffer hello = ByteBuffer.allocate(64);
+		VarInts.putVarInt(hello, Protocol.VERSION);
+		VarInts.putString(hello, "raw");
+		VarInts.putVarInt(hello, 1);
+		Protocol.write(socketChannel, Protocol.HELLO, hello.flip());
+
+		assertEquals(Protocol.WELCOME,
+				Protocol.read(socketChannel)
+						.type());
+		return socketChannel;
+	}
+
+	@Test
+	public void invalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> DistributedEvaluationSettings.builder()
+				.minWorkers(0)
+				.build());
+		assertThrows(IllegalArgumentException.class, () -> DistributedEvaluationSettings.builder()
+				.heartbeatInterval(Duration.ofSeconds(5))
+				.heartbeatTimeout(Duration.ofSeconds(1))
+				.build());
+		assertThrows(IllegalArgumentException.class, () -> DistributedEvaluationSettings.builder()
+				.stragglerFactor(0.5)
+				.build());
+	}
+
+	@Test
+	public void invalidParameters() {
+		final var settings = DistributedEvaluationSettings.ofDefaults();
+
+		assertThrows(NullPointerException.class,
+				() -> new FitnessEvaluatorDistributed<>(null, genotypeCodec(), FitnessSerializers.INTEGER, settings));
+		assertThrows(NullPointerException.class,
+				() -> new FitnessEvaluatorDistributed<>(loopback(), null, FitnessSerializers.INTEGER, settings));
+		assertThrows(NullPointerException.class,
+				() -> new FitnessEvaluatorDistributed<Integer>(loopback(), genotypeCodec(), null, settings));
+		assertThrows(NullPointerException.class,
+				() -> new FitnessEvaluatorDistributed<>(loopback(), genotypeCodec(), FitnessSerializers.INTEGER, null));
+	}
+
+	@Test
+	public void batchSize() {
+		final var settings = DistributedEvaluationSettings.builder()
+				.initialBatchSize(4)
+				.maxBatchSize(500)
+				.targetBatchDuration(Duration.ofMillis(200))
+				.build();
+
+		// Unknown throughput
+		assertEquals(4, FitnessEvaluatorDistributed.batchSize(Double.NaN, 1, 1000, 2, settings));
+		assertEquals(32, FitnessEvaluatorDistributed.batchSize(Double.NaN, 8, 1000, 2, settings));
+
+		// 1ms per individual
+		assertEquals(200, FitnessEvaluatorDistributed.batchSize(1_000_000, 1, 1000, 2, settings));
+
+		// Capped by the maximum batch size
+		assertEquals(500, FitnessEvaluatorDistributed.batchSize(1_000, 1, 100_000, 2, settings));
+
+		// Capped by the share of each worker
+		assertEquals(50, FitnessEvaluatorDistributed.batchSize(1_000, 1, 100, 2, settings));
+		assertEquals(1, FitnessEvaluatorDistributed.batchSize(1_000, 1, 1, 4, settings));
+
+		// Very slow individuals
+		assertEquals(1, FitnessEvaluatorDistributed.batchSize(10_000_000_000.0, 1, 1000, 2, settings));
+	}
+
+	@Test
+	public void evaluateWithSeveralWorkers() throws IOException {
+		final var settings = testSettings().minWorkers(3)
+				.build();
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+			startWorker(evaluator.getLocalAddress(), SUM, 2);
+			startWorker(evaluator.getLocalAddress(), SUM, 4);
+
+			final Random random = new Random(42);
+			for (int generation = 0; generation < 5; generation++) {
+				final List<Genotype> population = population(random, 250);
+				assertEquals(expectedFitness(population), evaluator.evaluate(generation, population));
+			}
+			assertEquals(3, evaluator.getNumWorkers());
+			assertEquals(List.of(), evaluator.evaluate(5, List.of()));
+		}
+	}
+
+	@Test
+	public void evaluateOverUnixDomainSocket() throws IOException {
+		final var address = UnixDomainSocketAddress.of(temporaryDirectory.resolve("evaluator.socket"));
+		final var settings = testSettings().minWorkers(2)
+				.build();
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(address,
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+
+			final List<Genotype> population = population(new Random(42), 100);
+			assertEquals(expectedFitness(population), evaluator.evaluate(0, population));
+		}
+	}
+
+	@Test
+	public void resubmitStragglers() throws IOException {
+		final var settings = testSettings().minWorkers(2)
+				.build();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+			startWorker(evaluator.getLocalAddress(), genotype -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread()
+							.interrupt();
+				}
+				return SUM.compute(genotype);
+			}, 1);
+
+			final List<Genotype> population = population(new Random(42), 40);
+			assertEquals(expectedFitness(population), evaluator.evaluate(0, population));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void resubmitBatchesOfDisconnectedWorkers() throws IOException, InterruptedException {
+		final var settings = testSettings().minWorkers(2)
+				.build();
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+
+			final Thread rawWorker = new Thread(() -> {
+				try (final SocketChannel socketChannel = connectRawWorker(evaluator.getLocalAddress())) {
+					assertEquals(Protocol.BATCH,
+							Protocol.read(socketChannel)
+									.type());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			rawWorker.start();
+
+			final List<Genotype> population = population(new Random(42), 40);
+			assertEquals(expectedFitness(population), evaluator.evaluate(0, population));
+			rawWorker.join();
+		}
+	}
+
+	@Test
+	public void resubmitBatchesOfSilentWorkers() throws IOException, InterruptedException {
+		final var settings = testSettings().minWorkers(2)
+				.build();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), SUM, 1);
+
+			// Receives a batch but never answers nor sends heartbeats
+			final Thread rawWorker = new Thread(() -> {
+				try (final SocketChannel socketChannel = connectRawWorker(evaluator.getLocalAddress())) {
+					Protocol.read(socketChannel);
+					release.await();
+				} catch (IOException e) {
+					// Expected once the evaluator gives up on this worker
+				} catch (InterruptedException e) {
+					Thread.currentThread()
+							.interrupt();
+				}
+			});
+			rawWorker.start();
+
+			final List<Genotype> population = population(new Random(42), 40);
+			assertEquals(expectedFitness(population), evaluator.evaluate(0, population));
+			assertEquals(1, evaluator.getNumWorkers());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void failAfterMaxAttempts() throws IOException {
+		final var settings = testSettings().maxAttempts(2)
+				.build();
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			startWorker(evaluator.getLocalAddress(), genotype -> {
+				throw new IllegalStateException("Broken fitness");
+			}, 1);
+
+			final List<Genotype> population = population(new Random(42), 10);
+			assertThrows(IllegalStateException.class, () -> evaluator.evaluate(0, population));
+		}
+	}
+
+	@Test
+	public void maxAttemptsCountsEveryAttempt() throws IOException {
+		final var settings = testSettings().maxAttempts(3)
+				.build();
+		final List<Genotype> population = population(new Random(42), 1);
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			// Only the last allowed attempt succeeds
+			final AtomicInteger attempts = new AtomicInteger();
+			startWorker(evaluator.getLocalAddress(), genotype -> {
+				if (attempts.incrementAndGet() < 3) {
+					throw new IllegalStateException("Flaky fitness");
+				}
+				return SUM.compute(genotype);
+			}, 1);
+
+			assertEquals(expectedFitness(population), evaluator.evaluate(0, population));
+			assertEquals(3, attempts.get());
+		}
+
+		try (final var evaluator = new FitnessEvaluatorDistributed<>(loopback(),
+				genotypeCodec(),
+				FitnessSerializers.INTEGER,
+				settings)) {
+
+			final AtomicInteger attempts = new AtomicInteger();
+			startWorker(evaluator.getLocalAddress(), genotype -> {
+				attempts.incrementAndGet();
+				throw new IllegalStateException("Broken fitness");
+			}, 1);
+
+			assertThrows(IllegalStateException.class, () -> evaluator.evaluate(0, population));
+			assertEquals(3, attempts.get());
+		}
+	}
+}
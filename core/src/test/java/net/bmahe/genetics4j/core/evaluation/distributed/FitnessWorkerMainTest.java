@@ -0,0 +1,30 @@
+package net.bmahe.genetics4j.core.evaluation.distributed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class FitnessWorkerMainTest {
+
+	@Test
+	public void parseAddress() {
+		assertEquals(new InetSocketAddress("localhost", 4242), FitnessWorkerMain.parseAddress("localhost:4242"));
+		assertEquals(new InetSocketAddress("::1", 4242), FitnessWorkerMain.parseAddress("::1:4242"));
+		assertEquals(UnixDomainSocketAddress.of(Path.of("/tmp/evaluator.socket")),
+				FitnessWorkerMain.parseAddress("unix:/tmp/evaluator.socket"));
+	}
+
+	@Test
+	public void invalidAddress() {
+		assertThrows(NullPointerException.class, () -> FitnessWorkerMain.parseAddress(null));
+		assertThrows(IllegalArgumentException.class, () -> FitnessWorkerMain.parseAddress(""));
+		assertThrows(IllegalArgumentException.class, () -> FitnessWorkerMain.parseAddress("localhost"));
+		assertThrows(IllegalArgumentException.class, () -> FitnessWorkerMain.parseAddress("localhost:"));
+		assertThrows(IllegalArgumentException.class, () -> FitnessWorkerMain.parseAddress("localhost:port"));
+	}
+}
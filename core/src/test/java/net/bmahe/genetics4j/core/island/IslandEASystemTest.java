@@ -0,0 +1,213 @@
+package net.bmahe.genetics4j.core.island;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.EASystemFactory;
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.BitChromosome;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
+import net.bmahe.genetics4j.core.spec.EvolutionResult;
+import net.bmahe.genetics4j.core.spec.chromosome.BitChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.island.Migration;
+import net.bmahe.genetics4j.core.spec.mutation.RandomMutation;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+
+public class IslandEASystemTest {
+
+	private static Genotype genotypeOf(final int value) {
+		return new Genotype(new IntChromosome(1, 0, 100, new int[] { value }));
+	}
+
+	@Test
+	public void immigrationProcessorSkipsInitialPopulation() {
+		final Queue<Individual<Integer>> inbox = new ConcurrentLinkedQueue<>();
+		final var immigrationProcessor = new ImmigrationProcessor<Integer>(Optional.empty(), inbox, 2);
+
+		inbox.add(Individual.of(genotypeOf(42), 42));
+
+		final Population<Integer> initialPopulation = Population.of(List.of(genotypeOf(1)), List.of(1));
+		assertEquals(1,
+				immigrationProcessor.apply(initialPopulation)
+						.size());
+		assertEquals(1, inbox.size());
+
+		immigrationProcessor.onEvolution(0, initialPopulation.getAllGenotypes(), initialPopulation.getAllFitnesses(), false);
+
+		final Population<Integer> offsprings = Population.of(List.of(genotypeOf(2)), List.of(2));
+		final Population<Integer> merged = immigrationProcessor.apply(offsprings);
+		assertEquals(2, merged.size());
+		assertEquals(genotypeOf(42), merged.getGenotype(1));
+		assertTrue(inbox.isEmpty());
+	}
+
+	@Test
+	public void immigrationProcessorSkipsInitialPopulationOfEveryEvolution() {
+		final Queue<Individual<Integer>> inbox = new ConcurrentLinkedQueue<>();
+		final var immigrationProcessor = new ImmigrationProcessor<Integer>(Optional.empty(), inbox, 2);
+
+		for (int evolution = 0; evolution < 2; evolution++) {
+			inbox.add(Individual.of(genotypeOf(42), 42));
+
+			final Population<Integer> initialPopulation = Population.of(List.of(genotypeOf(1)), List.of(1));
+			assertEquals(1,
+					immigrationProcessor.apply(initialPopulation)
+							.size());
+
+			immigrationProcessor
+					.onEvolution(0, initialPopulation.getAllGenotypes(), initialPopulation.getAllFitnesses(), false);
+			final Population<Integer> merged = immigrationProcessor
+					.apply(Population.of(List.of(genotypeOf(2)), List.of(2)));
+			assertEquals(2, merged.size());
+
+			immigrationProcessor.onEvolution(1, merged.getAllGenotypes(), merged.getAllFitnesses(), true);
+		}
+	}
+
+	@Test
+	public void immigrationProcessorMergesImmigrantsWhenResuming() {
+		final Queue<Individual<Integer>> inbox = new ConcurrentLinkedQueue<>();
+		final var immigrationProcessor = new ImmigrationProcessor<Integer>(Optional.empty(), inbox, 2);
+
+		inbox.add(Individual.of(genotypeOf(42), 42));
+
+		// A resumed evolution starts straight from a generation, without processing an initial population
+		final Population<Integer> checkpointPopulation = Population.of(List.of(genotypeOf(1)), List.of(1));
+		immigrationProcessor
+				.onEvolution(7, checkpointPopulation.getAllGenotypes(), checkpointPopulation.getAllFitnesses(), false);
+
+		final Population<Integer> merged = immigrationProcessor
+				.apply(Population.of(List.of(genotypeOf(2)), List.of(2)));
+		assertEquals(2, merged.size());
+		assertEquals(genotypeOf(42), merged.getGenotype(1));
+	}
+
+	@Test
+	public void immigrationProcessorKeepsMostRecentImmigrants() {
+		final Queue<Individual<Integer>> inbox = new ConcurrentLinkedQueue<>();
+		final var immigrationProcessor = new ImmigrationProcessor<Integer>(Optional.empty(), inbox, 2);
+		immigrationProcessor.onEvolution(0, List.of(genotypeOf(1)), List.of(1), false);
+
+		for (int i = 10; i < 15; i++) {
+			inbox.add(Individual.of(genotypeOf(i), i));
+		}
+
+		final Population<Integer> merged = immigrationProcessor
+				.apply(Population.of(List.of(genotypeOf(2)), List.of(2)));
+		assertEquals(3, merged.size());
+		assertEquals(Integer.valueOf(13), merged.getFitness(1));
+		assertEquals(Integer.valueOf(14), merged.getFitness(2));
+	}
+
+	@Test
+	public void emigrationListenerSendsMigrantsEveryInterval() {
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(BitChromosomeSpec.of(4))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> 1)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final Queue<Individual<Integer>> destination = new ConcurrentLinkedQueue<>();
+		final Migration migration = Migration.builder()
+				.migrationInterval(3)
+				.numMigrants(2)
+				.build();
+		final var emigrationListener = new EmigrationListener<Integer>(eaConfiguration,
+				migration,
+				(eaConfig, numIndividuals, population, fitness) -> {
+					final Population<Integer> selected = new Population<>();
+					for (int i = 0; i < numIndividuals; i++) {
+						selected.add(population.get(i), fitness.get(i));
+					}
+					return selected;
+				},
+				List.of(destination));
+
+		final List<Genotype> population = List.of(genotypeOf(1), genotypeOf(2), genotypeOf(3));
+		final List<Integer> fitness = List.of(1, 2, 3);
+
+		emigrationListener.onEvolution(0, population, fitness, false);
+		emigrationListener.onEvolution(1, population, fitness, false);
+		assertTrue(destination.isEmpty());
+
+		emigrationListener.onEvolution(3, population, fitness, false);
+		assertEquals(2, destination.size());
+
+		emigrationListener.onEvolution(6, population, fitness, true);
+		assertEquals(2, destination.size());
+	}
+
+	@Test
+	public void islandsFromRequiresContexts() {
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(BitChromosomeSpec.of(4))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> 1)
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> EASystemFactory.islandsFrom(eaConfiguration, List.of(), Migration.builder()
+						.build()));
+	}
+
+	@Test
+	public void evolve() {
+		final int numIslands = 4;
+		final int maxGeneration = 12;
+		final int populationSize = 20;
+
+		final EAConfiguration<Integer> eaConfiguration = new EAConfiguration.Builder<Integer>()
+				.chromosomeSpecs(BitChromosomeSpec.of(8))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.mutationPolicies(RandomMutation.of(0.1))
+				.fitness(genotype -> genotype.getChromosome(0, BitChromosome.class)
+						.getBitSet()
+						.cardinality())
+				.termination(Terminations.ofMaxGeneration(maxGeneration))
+				.build();
+
+		final List<EAExecutionContext<Integer>> islandExecutionContexts = new ArrayList<>();
+		for (int i = 0; i < numIslands; i++) {
+			islandExecutionContexts.add(EAExecutionContexts.<Integer>forScalarFitness()
+					.populationSize(populationSize)
+					.numberOfPartitions(1)
+					.build());
+		}
+
+		final Migration migration = Migration.of(3, 2, MigrationTopologies.torus(2));
+		final IslandEASystem<Integer> islandEASystem = EASystemFactory
+				.islandsFrom(eaConfiguration, islandExecutionContexts, migration);
+		assertEquals(numIslands, islandEASystem.getNumIslands());
+		assertEquals(migration, islandEASystem.getMigration());
+
+		final List<EvolutionResult<Integer>> results = islandEASystem.evolve();
+		assertEquals(numIslands, results.size());
+		for (final EvolutionResult<Integer> result : results) {
+			assertEquals(maxGeneration, result.generation());
+			assertEquals(populationSize,
+					result.population()
+							.size());
+		}
+	}
+}
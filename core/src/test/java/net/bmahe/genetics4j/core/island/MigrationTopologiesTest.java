@@ -0,0 +1,59 @@
+package net.bmahe.genetics4j.core.island;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class MigrationTopologiesTest {
+
+	@Test
+	public void ring() {
+		final MigrationTopology ring = MigrationTopologies.ring();
+
+		assertArrayEquals(new int[] { 1 }, ring.destinations(0, 4));
+		assertArrayEquals(new int[] { 3 }, ring.destinations(2, 4));
+		assertArrayEquals(new int[] { 0 }, ring.destinations(3, 4));
+		assertArrayEquals(new int[] {}, ring.destinations(0, 1));
+
+		assertThrows(IllegalArgumentException.class, () -> ring.destinations(4, 4));
+		assertThrows(IllegalArgumentException.class, () -> ring.destinations(-1, 4));
+	}
+
+	@Test
+	public void torus() {
+		assertThrows(IllegalArgumentException.class, () -> MigrationTopologies.torus(0));
+
+		final MigrationTopology torus = MigrationTopologies.torus(3);
+		assertThrows(IllegalArgumentException.class, () -> torus.destinations(0, 4));
+
+		/**
+		 * 0 1 2
+		 * 3 4 5
+		 * 6 7 8
+		 */
+		final int[] neighborsOfCenter = torus.destinations(4, 9);
+		Arrays.sort(neighborsOfCenter);
+		assertArrayEquals(new int[] { 1, 3, 5, 7 }, neighborsOfCenter);
+
+		final int[] neighborsOfCorner = torus.destinations(0, 9);
+		Arrays.sort(neighborsOfCorner);
+		assertArrayEquals(new int[] { 1, 2, 3, 6 }, neighborsOfCorner);
+
+		// Single row: up and down wrap onto the island itself
+		final int[] neighborsOnSingleRow = torus.destinations(1, 3);
+		Arrays.sort(neighborsOnSingleRow);
+		assertArrayEquals(new int[] { 0, 2 }, neighborsOnSingleRow);
+	}
+
+	@Test
+	public void fullyConnected() {
+		final MigrationTopology fullyConnected = MigrationTopologies.fullyConnected();
+
+		assertArrayEquals(new int[] { 0, 1, 3 }, fullyConnected.destinations(2, 4));
+		assertArrayEquals(new int[] { 1 }, fullyConnected.destinations(0, 2));
+		assertArrayEquals(new int[] {}, fullyConnected.destinations(0, 1));
+	}
+}
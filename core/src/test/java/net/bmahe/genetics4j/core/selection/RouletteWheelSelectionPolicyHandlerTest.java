@@ -1,5 +1,6 @@
 package net.bmahe.genetics4j.core.selection;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -147,4 +148,26 @@ public class RouletteWheelSelectionPolicyHandlerTest {
 		assertEquals(population.get(1), selected.getGenotype(1));
 		assertEquals(population.get(2), selected.getGenotype(2));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void lowerBound() {
+		final double[] cumulativeScores = new double[] { 0.0, 10.0, 10.0, 30.0, 60.0, 100.0 };
+
+		assertEquals(0, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 0.0));
+		assertEquals(1, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 5.0));
+		assertEquals(1, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 10.0));
+		assertEquals(3, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 10.5));
+		assertEquals(5, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 99.9));
+		assertEquals(5, RouletteWheelSelectionPolicyHandler.lowerBound(cumulativeScores, 100.0));
+	}
+
+	@Test
+	public void cumulativeScores() {
+		final List<Double> fitnessScore = List.of(0.0, 10.0, 20.0, 30.0, 40.0);
+
+		assertArrayEquals(new double[] { 0.0, 10.0, 30.0, 60.0, 100.0 },
+				RouletteWheelSelectionPolicyHandler.cumulativeScores(Optimization.MAXIMIZE, fitnessScore));
+		assertArrayEquals(new double[] { 40.0, 70.0, 90.0, 100.0, 100.0 },
+				RouletteWheelSelectionPolicyHandler.cumulativeScores(Optimization.MINIMIZE, fitnessScore));
+	}
+}
@@ -10,13 +10,17 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
 import java.util.random.RandomGenerator;
 
 import org.junit.jupiter.api.Test;
 
+import net.bmahe.genetics4j.core.DoubleFitnessList;
+import net.bmahe.genetics4j.core.DoublePopulation;
 import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.chromosomes.Chromosome;
 import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
@@ -151,4 +155,91 @@ public class TournamentSelectionPolicyHandlerTest {
 		assertEquals(population.get(1), selected.getGenotype(0));
 		assertEquals(population.get(0), selected.getGenotype(1));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void selectMaximizeDoubleFitness() {
+
+		final RandomGenerator random = mock(RandomGenerator.class);
+		when(random.nextInt(anyInt())).thenReturn(2, 1, 0, 3, 4);
+
+		final int populationSize = 5;
+		final List<Genotype> population = new ArrayList<Genotype>(populationSize);
+		final DoubleFitnessList fitnessScore = new DoubleFitnessList(populationSize);
+
+		for (int i = 0; i < populationSize; i++) {
+			final IntChromosome intChromosome = new IntChromosome(4, 0, 10, new int[] { i, i + 1, i + 2, i + 3 });
+			final Genotype genotype = new Genotype(new Chromosome[] { intChromosome });
+
+			population.add(genotype);
+			fitnessScore.addDouble(i * 10);
+		}
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.populationSize(100)
+				.build();
+
+		final SelectionPolicyHandlerResolver<Double> selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<>(
+				eaExecutionContext);
+
+		final TournamentSelectionPolicyHandler<Double> selectionPolicyHandler = new TournamentSelectionPolicyHandler<>(
+				random);
+		final Selector<Double> selector = selectionPolicyHandler.resolve(eaExecutionContext,
+				SIMPLE_MAXIMIZING_EA_CONFIGURATION,
+				selectionPolicyHandlerResolver,
+				Tournament.of(2));
+		final Population<Double> selected = selector
+				.select(SIMPLE_MAXIMIZING_EA_CONFIGURATION, 2, population, fitnessScore);
+
+		assertNotNull(selected);
+		assertTrue(selected instanceof DoublePopulation);
+		assertEquals(2, selected.size());
+		assertEquals(population.get(2), selected.getGenotype(0));
+		assertEquals(population.get(3), selected.getGenotype(1));
+		assertEquals(Double.valueOf(20.0), selected.getFitness(0));
+		assertEquals(Double.valueOf(30.0), selected.getFitness(1));
+	}
+
+	@Test
+	public void selectWithComparator() {
+
+		final RandomGenerator random = mock(RandomGenerator.class);
+		when(random.nextInt(anyInt())).thenReturn(2, 1, 0, 3, 4);
+
+		final int populationSize = 5;
+		final List<Genotype> population = new ArrayList<Genotype>(populationSize);
+		final List<Double> fitnessScore = new ArrayList<>(populationSize);
+
+		for (int i = 0; i < populationSize; i++) {
+			final IntChromosome intChromosome = new IntChromosome(4, 0, 10, new int[] { i, i + 1, i + 2, i + 3 });
+			final Genotype genotype = new Genotype(new Chromosome[] { intChromosome });
+
+			population.add(genotype);
+			fitnessScore.add((double) i * 10);
+		}
+
+		final EAExecutionContext<Double> eaExecutionContext = EAExecutionContexts.<Double>forScalarFitness()
+				.populationSize(100)
+				.build();
+
+		final SelectionPolicyHandlerResolver<Double> selectionPolicyHandlerResolver = new SelectionPolicyHandlerResolver<>(
+				eaExecutionContext);
+
+		final Comparator<Individual<Double>> reversedComparator = Comparator
+				.comparing((Individual<Double> individual) -> individual.fitness())
+				.reversed();
+
+		final TournamentSelectionPolicyHandler<Double> selectionPolicyHandler = new TournamentSelectionPolicyHandler<>(
+				random);
+		final Selector<Double> selector = selectionPolicyHandler.resolve(eaExecutionContext,
+				SIMPLE_MAXIMIZING_EA_CONFIGURATION,
+				selectionPolicyHandlerResolver,
+				Tournament.of(2, reversedComparator));
+		final Population<Double> selected = selector
+				.select(SIMPLE_MAXIMIZING_EA_CONFIGURATION, 2, population, fitnessScore);
+
+		assertNotNull(selected);
+		assertEquals(2, selected.size());
+		assertEquals(population.get(1), selected.getGenotype(0));
+		assertEquals(population.get(0), selected.getGenotype(1));
+	}
+}
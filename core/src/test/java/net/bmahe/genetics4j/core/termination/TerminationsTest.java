@@ -168,4 +168,44 @@ public class TerminationsTest {
 		assertTrue(stableFitnessMaximize.isDone(MAXIMIZING_EA_CONFIGURATION, generation, population, fitnessUp));
 		assertTrue(stableFitnessMinimize.isDone(MINIMIZING_EA_CONFIGURATION, generation, population, fitnessDown));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void isDoneWithIndividual() {
+		final var genotype = generatePopulation(1).get(0);
+
+		final var atLeast = Terminations.<Double>ofFitnessAtLeast(5.0);
+		assertFalse(atLeast.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 4.9));
+		assertTrue(atLeast.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 5.0));
+		assertTrue(atLeast.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 5.1));
+
+		final var atMost = Terminations.<Double>ofFitnessAtMost(5.0);
+		assertTrue(atMost.isDoneWithIndividual(MINIMIZING_EA_CONFIGURATION, 0, genotype, 4.9));
+		assertTrue(atMost.isDoneWithIndividual(MINIMIZING_EA_CONFIGURATION, 0, genotype, 5.0));
+		assertFalse(atMost.isDoneWithIndividual(MINIMIZING_EA_CONFIGURATION, 0, genotype, 5.1));
+
+		final var maxGeneration = Terminations.<Double>ofMaxGeneration(10);
+		assertFalse(maxGeneration.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 20, genotype, 100.0));
+
+		final var or = Terminations.or(maxGeneration, atLeast);
+		assertFalse(or.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 4.9));
+		assertTrue(or.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 5.1));
+
+		final var and = Terminations.and(maxGeneration, atLeast);
+		assertFalse(and.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 20, genotype, 5.1));
+	}
+
+	@Test
+	public void andIsDoneWithIndividual() {
+		final var genotype = generatePopulation(1).get(0);
+
+		final var and = Terminations.and(Terminations.<Double>ofFitnessAtLeast(5.0),
+				Terminations.<Double>ofFitnessAtMost(6.0));
+		assertFalse(and.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 4.9));
+		assertTrue(and.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 5.5));
+		assertFalse(and.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 6.1));
+
+		final var nested = Terminations.or(Terminations.<Double>ofMaxGeneration(10), and);
+		assertTrue(nested.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 0, genotype, 5.5));
+		assertFalse(nested.isDoneWithIndividual(MAXIMIZING_EA_CONFIGURATION, 20, genotype, 6.1));
+	}
+}
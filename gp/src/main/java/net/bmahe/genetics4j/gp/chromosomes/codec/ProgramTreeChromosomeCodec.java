@@ -0,0 +1,307 @@
+package net.bmahe.genetics4j.gp.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.TreeChromosome;
+import net.bmahe.genetics4j.core.chromosomes.TreeNode;
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.VarInts;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.gp.Operation;
+import net.bmahe.genetics4j.gp.OperationFactory;
+import net.bmahe.genetics4j.gp.math.CoefficientOperation;
+import net.bmahe.genetics4j.gp.math.ImmutableCoefficientOperation;
+import net.bmahe.genetics4j.gp.math.ImmutableInputOperation;
+import net.bmahe.genetics4j.gp.math.InputOperation;
+import net.bmahe.genetics4j.gp.program.Program;
+import net.bmahe.genetics4j.gp.spec.chromosome.ProgramTreeChromosomeSpec;
+
+/**
+ * Encodes program trees as a pre-order stream of opcodes
+ * <p>
+ * Opcodes index a table of operations local to the chromosome. The first occurrence of an operation uses the next
+ * free opcode and is followed by its definition, later occurrences only take the opcode. The children of a node
+ * directly follow it, their number being given by the arity of the operation.
+ * <p>
+ * Inputs and coefficients are restored from their definition. Other operations are restored by name and returned
+ * type from the operation factories of the {@link Program}, which are built once per program when first needed.
+ */
+public class ProgramTreeChromosomeCodec implements ChromosomeCodec<TreeChromosome<Operation<?>>> {
+
+	static final byte KIND_OPERATION = 0;
+	static final byte KIND_INPUT = 1;
+	static final byte KIND_COEFFICIENT = 2;
+
+	static final byte VALUE_DOUBLE = 0;
+	static final byte VALUE_FLOAT = 1;
+	static final byte VALUE_INTEGER = 2;
+	static final byte VALUE_LONG = 3;
+
+	private final Map<Program, Map<String, Operation<?>>> operationsByProgram = new ConcurrentHashMap<>();
+	private final Map<String, Class<?>> classesByName = new ConcurrentHashMap<>();
+
+	private static String operationKey(final String name, final String returnedTypeName) {
+		return name + '/' + returnedTypeName;
+	}
+
+	private static void checkArity(final TreeNode<Operation<?>> node) {
+		final Operation<?> operation = node.getData();
+		if (node.getChildren()
+				.size() != operation.getArity()) {
+			throw new IllegalArgumentException(
+					"Node " + operation.getName() + " has " + node.getChildren()
+							.size() + " children but an arity of " + operation.getArity());
+		}
+	}
+
+	private static int maxSizeOfValue(final Object value) {
+		if (value instanceof Double) {
+			return 1 + Double.BYTES;
+		} else if (value instanceof Float) {
+			return 1 + Float.BYTES;
+		} else if (value instanceof Integer || value instanceof Long) {
+			return 1 + VarInts.MAX_VAR_LONG_SIZE;
+		}
+		throw new IllegalArgumentException("Unsupported coefficient value type: " + value.getClass());
+	}
+
+	private static int maxSizeOfDefinition(final Operation<?> operation) {
+		int size = 1 + VarInts.maxSizeOfString(operation.getName()) + VarInts.maxSizeOfString(operation.returnedType()
+				.getName());
+
+		if (operation instanceof InputOperation<?> inputOperation) {
+			size += VarInts.maxSizeOfString(operation.getPrettyName());
+			size += VarInts.sizeOfVarInt(inputOperation.index());
+		} else if (operation instanceof CoefficientOperation<?> coefficientOperation) {
+			size += VarInts.maxSizeOfString(operation.getPrettyName());
+			size += maxSizeOfValue(coefficientOperation.value());
+		}
+		return size;
+	}
+
+	private static int maxSizeOf(final TreeNode<Operation<?>> node, final Map<Operation<?>, Integer> opcodes) {
+		checkArity(node);
+
+		final Operation<?> operation = node.getData();
+		final Integer opcode = opcodes.get(operation);
+
+		int size;
+		if (opcode != null) {
+			size = VarInts.sizeOfVarInt(opcode);
+		} else {
+			final int newOpcode = opcodes.size();
+			opcodes.put(operation, newOpcode);
+			size = VarInts.sizeOfVarInt(newOpcode) + maxSizeOfDefinition(operation);
+		}
+
+		for (final TreeNode<Operation<?>> child : node.getChildren()) {
+			size += maxSizeOf(child, opcodes);
+		}
+		return size;
+	}
+
+	private static void putValue(final ByteBuffer byteBuffer, final Object value) {
+		if (value instanceof Double doubleValue) {
+			byteBuffer.put(VALUE_DOUBLE);
+			byteBuffer.putDouble(doubleValue);
+		} else if (value instanceof Float floatValue) {
+			byteBuffer.put(VALUE_FLOAT);
+			byteBuffer.putFloat(floatValue);
+		} else if (value instanceof Integer integerValue) {
+			byteBuffer.put(VALUE_INTEGER);
+			VarInts.putSignedVarLong(byteBuffer, integerValue);
+		} else if (value instanceof Long longValue) {
+			byteBuffer.put(VALUE_LONG);
+			VarInts.putSignedVarLong(byteBuffer, longValue);
+		} else {
+			throw new IllegalArgumentException("Unsupported coefficient value type: " + value.getClass());
+		}
+	}
+
+	private static Object getValue(final ByteBuffer byteBuffer) {
+		final byte valueType = byteBuffer.get();
+		return switch (valueType) {
+			case VALUE_DOUBLE -> byteBuffer.getDouble();
+			case VALUE_FLOAT -> byteBuffer.getFloat();
+			case VALUE_INTEGER -> (int) VarInts.getSignedVarLong(byteBuffer);
+			case VALUE_LONG -> VarInts.getSignedVarLong(byteBuffer);
+			default -> throw new IllegalArgumentException("Unknown coefficient value type " + valueType);
+		};
+	}
+
+	private static void putDefinition(final ByteBuffer byteBuffer, final Operation<?> operation) {
+		if (operation instanceof InputOperation<?> inputOperation) {
+			byteBuffer.put(KIND_INPUT);
+			VarInts.putString(byteBuffer, operation.getName());
+			VarInts.putString(byteBuffer,
+					operation.returnedType()
+							.getName());
+			VarInts.putString(byteBuffer, operation.getPrettyName());
+			VarInts.putVarInt(byteBuffer, inputOperation.index());
+		} else if (operation instanceof CoefficientOperation<?> coefficientOperation) {
+			byteBuffer.put(KIND_COEFFICIENT);
+			VarInts.putString(byteBuffer, operation.getName());
+			VarInts.putString(byteBuffer,
+					operation.returnedType()
+							.getName());
+			VarInts.putString(byteBuffer, operation.getPrettyName());
+			putValue(byteBuffer, coefficientOperation.value());
+		} else {
+			byteBuffer.put(KIND_OPERATION);
+			VarInts.putString(byteBuffer, operation.getName());
+			VarInts.putString(byteBuffer,
+					operation.returnedType()
+							.getName());
+		}
+	}
+
+	private static void encode(final TreeNode<Operation<?>> node, final Map<Operation<?>, Integer> opcodes,
+			final ByteBuffer byteBuffer) {
+		checkArity(node);
+
+		final Operation<?> operation = node.getData();
+		final Integer opcode = opcodes.get(operation);
+
+		if (opcode != null) {
+			VarInts.putVarInt(byteBuffer, opcode);
+		} else {
+			final int newOpcode = opcodes.size();
+			opcodes.put(operation, newOpcode);
+			VarInts.putVarInt(byteBuffer, newOpcode);
+			putDefinition(byteBuffer, operation);
+		}
+
+		for (final TreeNode<Operation<?>> child : node.getChildren()) {
+			encode(child, opcodes, byteBuffer);
+		}
+	}
+
+	private Class<?> classForName(final String className) {
+		return classesByName.computeIfAbsent(className, name -> {
+			try {
+				return Class.forName(name);
+			} catch (ClassNotFoundException e) {
+				throw new IllegalArgumentException("Unknown returned type " + name, e);
+			}
+		});
+	}
+
+	/**
+	 * Operations of the program, by name and returned type. Inputs and coefficients are skipped since they are
+	 * restored from their definition.
+	 */
+	private Map<String, Operation<?>> operationsOf(final Program program) {
+		return operationsByProgram.computeIfAbsent(program, p -> {
+			final Map<String, Operation<?>> operations = new HashMap<>();
+
+			final List<OperationFactory> operationFactories = new ArrayList<>(p.functions());
+			operationFactories.addAll(p.terminal());
+			for (final OperationFactory operationFactory : operationFactories) {
+				final Operation<?> operation = operationFactory.build(p.inputSpec());
+				if (operation instanceof InputOperation == false && operation instanceof CoefficientOperation == false) {
+					operations.putIfAbsent(operationKey(operation.getName(),
+							operation.returnedType()
+									.getName()),
+							operation);
+				}
+			}
+			return operations;
+		});
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Operation<?> getDefinition(final Program program, final ByteBuffer byteBuffer) {
+		final byte kind = byteBuffer.get();
+		final String name = VarInts.getString(byteBuffer);
+		final String returnedTypeName = VarInts.getString(byteBuffer);
+
+		switch (kind) {
+			case KIND_INPUT:
+				return ImmutableInputOperation.builder()
+						.name(name)
+						.returnedType(classForName(returnedTypeName))
+						.prettyName(VarInts.getString(byteBuffer))
+						.index(VarInts.getVarInt(byteBuffer))
+						.build();
+			case KIND_COEFFICIENT:
+				final var coefficientBuilder = ImmutableCoefficientOperation.builder();
+				coefficientBuilder.name(name)
+						.returnedType(classForName(returnedTypeName))
+						.prettyName(VarInts.getString(byteBuffer))
+						.value(getValue(byteBuffer));
+				return coefficientBuilder.build();
+			case KIND_OPERATION:
+				final Operation<?> operation = operationsOf(program).get(operationKey(name, returnedTypeName));
+				if (operation == null) {
+					throw new IllegalArgumentException(
+							"Operation " + name + " returning " + returnedTypeName + " is not part of the program");
+				}
+				return operation;
+			default:
+				throw new IllegalArgumentException("Unknown operation kind " + kind);
+		}
+	}
+
+	private TreeNode<Operation<?>> decode(final Program program, final List<Operation<?>> operations,
+			final ByteBuffer byteBuffer) {
+		final int opcode = VarInts.getVarInt(byteBuffer);
+
+		final Operation<?> operation;
+		if (opcode >= 0 && opcode < operations.size()) {
+			operation = operations.get(opcode);
+		} else if (opcode == operations.size()) {
+			operation = getDefinition(program, byteBuffer);
+			operations.add(operation);
+		} else {
+			throw new IllegalArgumentException("Invalid opcode " + opcode);
+		}
+
+		final TreeNode<Operation<?>> node = new TreeNode<>(operation);
+		for (int i = 0; i < operation.getArity(); i++) {
+			node.addChild(decode(program, operations, byteBuffer));
+		}
+		return node;
+	}
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof ProgramTreeChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final TreeChromosome<Operation<?>> chromosome) {
+		Validate.isInstanceOf(ProgramTreeChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+
+		return maxSizeOf(chromosome.getRoot(), new HashMap<>());
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final TreeChromosome<Operation<?>> chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(ProgramTreeChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		encode(chromosome.getRoot(), new HashMap<>(), byteBuffer);
+	}
+
+	@Override
+	public TreeChromosome<Operation<?>> decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(ProgramTreeChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final Program program = ((ProgramTreeChromosomeSpec) chromosomeSpec).program();
+		final TreeNode<Operation<?>> root = decode(program, new ArrayList<>(), byteBuffer);
+		return new TreeChromosome<>(root.freeze());
+	}
+}
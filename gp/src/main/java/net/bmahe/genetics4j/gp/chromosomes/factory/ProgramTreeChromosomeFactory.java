@@ -36,6 +36,6 @@ public class ProgramTreeChromosomeFactory implements ChromosomeFactory<TreeChrom
 		final Program program = ptcs.program();
 
 		final TreeNode<Operation<?>> generatedProgram = programGenerator.generate(program);
-		return new TreeChromosome<Operation<?>>(generatedProgram);
+		return new TreeChromosome<Operation<?>>(generatedProgram.freeze());
 	}
 }
\ No newline at end of file
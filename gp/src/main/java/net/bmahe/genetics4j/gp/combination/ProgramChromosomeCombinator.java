@@ -155,14 +155,14 @@ final class ProgramChromosomeCombinator<T extends Comparable<T>> implements Chro
 					acceptableClasses,
 					returnedTypeToNode1,
 					returnedTypeToNode2);
-			final TreeChromosome<Operation<?>> child1Chromosome = new TreeChromosome<Operation<?>>(child1);
+			final TreeChromosome<Operation<?>> child1Chromosome = new TreeChromosome<Operation<?>>(child1.freeze());
 
 			final TreeNode<Operation<?>> child2 = mix(root2,
 					root1,
 					acceptableClasses,
 					returnedTypeToNode2,
 					returnedTypeToNode1);
-			final TreeChromosome<Operation<?>> child2Chromosome = new TreeChromosome<Operation<?>>(child2);
+			final TreeChromosome<Operation<?>> child2Chromosome = new TreeChromosome<Operation<?>>(child2.freeze());
 
 			children.add(child1Chromosome);
 			children.add(child2Chromosome);
@@ -174,7 +174,7 @@ public class NodeReplacementMutator implements Mutator {
 						cutPoint,
 						0);
 
-				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot);
+				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 				newChromosomes[chromosomeIndex] = newTreeChromosome;
 			} else {
 				newChromosomes[chromosomeIndex] = chromosome;
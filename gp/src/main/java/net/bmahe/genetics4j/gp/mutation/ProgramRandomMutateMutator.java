@@ -111,12 +111,12 @@ public class ProgramRandomMutateMutator implements Mutator {
 				final TreeNode<Operation<?>> root = treeChromosome.getRoot();
 				final TreeNode<Operation<?>> newRoot = duplicateAndMutate(programTreeChromosomeSpec
 						.program(), root, cutPoint, 0, 0);
-				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot);
+				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 				newChromosomes[chromosomeIndex] = newTreeChromosome;
 			} else {
 				final TreeNode<Operation<Object>> newRoot = programGenerator.generate(programTreeChromosomeSpec.program(),
 						programTreeChromosomeSpec.program().maxDepth());
-				final TreeChromosome<Operation<Object>> newTreeChromosome = new TreeChromosome<>(newRoot);
+				final TreeChromosome<Operation<Object>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 
 				newChromosomes[chromosomeIndex] = newTreeChromosome;
 			}
@@ -104,7 +104,7 @@ public class ProgramRandomPruneMutator implements Mutator {
 						root,
 						cutPoint,
 						0);
-				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot);
+				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 				newChromosomes[chromosomeIndex] = newTreeChromosome;
 			} else {
 				newChromosomes[chromosomeIndex] = chromosome;
@@ -108,7 +108,7 @@ public class ProgramRulesApplicatorMutator implements Mutator {
 			}
 
 			final TreeNode<Operation<?>> newRoot = duplicateAndApplyRule(programTreeChromosomeSpec.program(), root);
-			final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot);
+			final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 			newChromosomes[chromosomeIndex] = newTreeChromosome;
 
 		}
@@ -105,7 +105,7 @@ public class TrimTreeMutator implements Mutator {
 			if (treeChromosome.getRoot().getDepth() > maxDepthValue) {
 				final TreeNode<Operation<?>> root = treeChromosome.getRoot();
 				final TreeNode<Operation<?>> newRoot = duplicateAndMutate(program, root, maxDepthValue, 0);
-				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot);
+				final TreeChromosome<Operation<?>> newTreeChromosome = new TreeChromosome<>(newRoot.freeze());
 				newChromosomes[chromosomeIndex] = newTreeChromosome;
 			} else {
 				newChromosomes[chromosomeIndex] = chromosome;
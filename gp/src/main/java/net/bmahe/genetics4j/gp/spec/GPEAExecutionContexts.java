@@ -1,10 +1,14 @@
 package net.bmahe.genetics4j.gp.spec;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.random.RandomGenerator;
 
 import org.apache.commons.lang3.Validate;
 
 import net.bmahe.genetics4j.core.chromosomes.factory.ImmutableChromosomeFactoryProvider;
+import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
 import net.bmahe.genetics4j.core.spec.ImmutableEAExecutionContext;
 import net.bmahe.genetics4j.core.spec.ImmutableEAExecutionContext.Builder;
 import net.bmahe.genetics4j.gp.chromosomes.factory.ProgramTreeChromosomeFactory;
@@ -27,11 +31,31 @@ public class GPEAExecutionContexts {
 	private GPEAExecutionContexts() {
 	}
 
+	/**
+	 * Shared program helpers and program generators are bound to a single random
+	 * generator, which concurrent offspring partitions would race on. They are
+	 * therefore rejected for execution contexts with offspring partitions
+	 */
+	private static <T extends Comparable<T>, U> U shared(final AbstractEAExecutionContext<T> eaExecutionContext,
+			final U instance) {
+		if (eaExecutionContext instanceof EAExecutionContext<T> executionContext) {
+			Validate.isTrue(executionContext.numberOfOffspringPartitions() < 2,
+					"A shared ProgramHelper or ProgramGenerator cannot be used with offspring partitions");
+		}
+
+		return instance;
+	}
+
 	/**
 	 * Create a new EAExecutionContext pre-configured to support Genetic
 	 * Programming.
 	 * <p>
 	 * It adds support for some operators to select, mutate and combine programs.
+	 * <p>
+	 * The program helper and program generator are shared by all the operators,
+	 * so offspring partitions are not supported: building an execution context
+	 * with more than one offspring partition fails with an
+	 * {@link IllegalArgumentException}.
 	 * 
 	 * @param <T>              Type of the fitness measurement
 	 * @param randomGenerator  Random Generator
@@ -50,11 +74,11 @@ public class GPEAExecutionContexts {
 		builder.randomGenerator(randomGenerator);
 
 		builder.addMutationPolicyHandlerFactories(
-				gsd -> new ProgramRandomPrunePolicyHandler<>(gsd.randomGenerator(), programHelper),
-				gsd -> new ProgramRandomMutatePolicyHandler<>(gsd.randomGenerator(), programGenerator),
-				gsd -> new NodeReplacementPolicyHandler<>(randomGenerator, programHelper),
+				gsd -> new ProgramRandomPrunePolicyHandler<>(gsd.randomGenerator(), shared(gsd, programHelper)),
+				gsd -> new ProgramRandomMutatePolicyHandler<>(gsd.randomGenerator(), shared(gsd, programGenerator)),
+				gsd -> new NodeReplacementPolicyHandler<>(gsd.randomGenerator(), shared(gsd, programHelper)),
 				gsd -> new ProgramRulesApplicatorPolicyHandler<>(),
-				gsd -> new TrimTreePolicyHandler<>(randomGenerator, programGenerator));
+				gsd -> new TrimTreePolicyHandler<>(gsd.randomGenerator(), shared(gsd, programGenerator)));
 
 		builder.addChromosomeCombinatorHandlerFactories(gsd -> new ProgramRandomCombineHandler<T>(gsd.randomGenerator()));
 
@@ -67,12 +91,63 @@ public class GPEAExecutionContexts {
 		return builder;
 	}
 
+	/**
+	 * Create a new EAExecutionContext pre-configured to support Genetic
+	 * Programming.
+	 * <p>
+	 * It adds support for some operators to select, mutate and combine programs.
+	 * The program helper and program generator are created from the random
+	 * generator of each execution context, so that each offspring partition gets
+	 * its own.
+	 * 
+	 * @param <T>                     Type of the fitness measurement
+	 * @param randomGenerator         Random Generator
+	 * @param programHelperFactory    Create a ProgramHelper from a random generator
+	 * @param programGeneratorFactory Create a program generator from a random
+	 *                                generator and a ProgramHelper
+	 * @return A new instance of a EAExecutionContext
+	 */
+	public static <T extends Comparable<T>> Builder<T> forGP(final RandomGenerator randomGenerator,
+			final Function<RandomGenerator, ProgramHelper> programHelperFactory,
+			final BiFunction<RandomGenerator, ProgramHelper, ProgramGenerator> programGeneratorFactory) {
+		Validate.notNull(randomGenerator);
+		Validate.notNull(programHelperFactory);
+		Validate.notNull(programGeneratorFactory);
+
+		final Function<RandomGenerator, ProgramGenerator> programGeneratorOf = (rg) -> programGeneratorFactory
+				.apply(rg, programHelperFactory.apply(rg));
+
+		final var builder = ImmutableEAExecutionContext.<T>builder();
+		builder.randomGenerator(randomGenerator);
+
+		builder.addMutationPolicyHandlerFactories(
+				gsd -> new ProgramRandomPrunePolicyHandler<>(gsd.randomGenerator(),
+						programHelperFactory.apply(gsd.randomGenerator())),
+				gsd -> new ProgramRandomMutatePolicyHandler<>(gsd.randomGenerator(),
+						programGeneratorOf.apply(gsd.randomGenerator())),
+				gsd -> new NodeReplacementPolicyHandler<>(gsd.randomGenerator(),
+						programHelperFactory.apply(gsd.randomGenerator())),
+				gsd -> new ProgramRulesApplicatorPolicyHandler<>(),
+				gsd -> new TrimTreePolicyHandler<>(gsd.randomGenerator(), programGeneratorOf.apply(gsd.randomGenerator())));
+
+		builder.addChromosomeCombinatorHandlerFactories(gsd -> new ProgramRandomCombineHandler<T>(gsd.randomGenerator()));
+
+		final var chromosomeFactoryProviderBuilder = ImmutableChromosomeFactoryProvider.builder();
+		chromosomeFactoryProviderBuilder.randomGenerator(randomGenerator);
+		chromosomeFactoryProviderBuilder.addChromosomeFactoriesGenerator(
+				cdp -> new ProgramTreeChromosomeFactory(programGeneratorOf.apply(cdp.randomGenerator())));
+		builder.chromosomeFactoryProvider(chromosomeFactoryProviderBuilder.build());
+
+		return builder;
+	}
+
 	/**
 	 * Create a new EAExecutionContext pre-configured to support Genetic
 	 * Programming.
 	 * <p>
 	 * It adds support for some operators to select, mutate and combine programs. It
 	 * also configure a default program generation based on ramped hald and half.
+	 * Offspring partitions are supported.
 	 * 
 	 * @param <T>             Type of the fitness measurement
 	 * @param randomGenerator Random Generator
@@ -81,9 +156,6 @@ public class GPEAExecutionContexts {
 	public static <T extends Comparable<T>> Builder<T> forGP(final RandomGenerator randomGenerator) {
 		Validate.notNull(randomGenerator);
 
-		final var programHelper = new ProgramHelper(randomGenerator);
-		final var programGenerator = new RampedHalfAndHalfProgramGenerator(randomGenerator, programHelper);
-
-		return forGP(randomGenerator, programHelper, programGenerator);
+		return forGP(randomGenerator, ProgramHelper::new, RampedHalfAndHalfProgramGenerator::new);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+package net.bmahe.genetics4j.gp.chromosomes.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.chromosomes.TreeChromosome;
+import net.bmahe.genetics4j.core.chromosomes.TreeNode;
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodecProvider;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.gp.ImmutableInputSpec;
+import net.bmahe.genetics4j.gp.Operation;
+import net.bmahe.genetics4j.gp.math.Functions;
+import net.bmahe.genetics4j.gp.math.Terminals;
+import net.bmahe.genetics4j.gp.program.ImmutableProgram;
+import net.bmahe.genetics4j.gp.program.ImmutableProgram.Builder;
+import net.bmahe.genetics4j.gp.program.Program;
+import net.bmahe.genetics4j.gp.program.ProgramHelper;
+import net.bmahe.genetics4j.gp.program.StdProgramGenerator;
+import net.bmahe.genetics4j.gp.spec.chromosome.ProgramTreeChromosomeSpec;
+
+public class ProgramTreeChromosomeCodecTest {
+
+	private static Program program(final Random random) {
+		final Builder programBuilder = ImmutableProgram.builder();
+		programBuilder.addFunctions(Functions.ADD,
+				Functions.MUL,
+				Functions.DIV,
+				Functions.SUB,
+				Functions.COS,
+				Functions.SIN,
+				Functions.EXP);
+		programBuilder.addTerminal(Terminals.InputDouble(random),
+				Terminals.PI,
+				Terminals.E,
+				Terminals.Coefficient(random, -50, 100),
+				Terminals.CoefficientRounded(random, -25, 25));
+
+		programBuilder.inputSpec(ImmutableInputSpec.of(Arrays.asList(Double.class, Double.class)));
+		programBuilder.maxDepth(6);
+		return programBuilder.build();
+	}
+
+	private static TreeChromosome<Operation<?>> roundTrip(final ProgramTreeChromosomeCodec codec,
+			final ProgramTreeChromosomeSpec spec, final TreeChromosome<Operation<?>> chromosome) {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(codec.maxEncodedSize(spec, chromosome));
+		codec.encode(spec, chromosome, byteBuffer);
+		byteBuffer.flip();
+
+		final TreeChromosome<Operation<?>> decoded = codec.decode(spec, byteBuffer);
+		assertFalse(byteBuffer.hasRemaining());
+		return decoded;
+	}
+
+	@Test
+	public void canHandle() {
+		final ProgramTreeChromosomeCodec codec = new ProgramTreeChromosomeCodec();
+		final ProgramTreeChromosomeSpec spec = ProgramTreeChromosomeSpec.of(program(new Random()));
+
+		assertThrows(NullPointerException.class, () -> codec.canHandle(null));
+		assertTrue(codec.canHandle(spec));
+		assertFalse(codec.canHandle(IntChromosomeSpec.of(10, 0, 100)));
+
+		assertTrue(ChromosomeCodecProvider.load()
+				.provideChromosomeCodec(spec) instanceof ProgramTreeChromosomeCodec);
+	}
+
+	@Test
+	public void roundTripGeneratedPrograms() {
+		final Random random = new Random(42);
+		final ProgramHelper programHelper = new ProgramHelper(random);
+		final StdProgramGenerator stdProgramGenerator = new StdProgramGenerator(programHelper, random);
+
+		final Program program = program(random);
+		final ProgramTreeChromosomeSpec spec = ProgramTreeChromosomeSpec.of(program);
+		final ProgramTreeChromosomeCodec codec = new ProgramTreeChromosomeCodec();
+
+		for (int i = 0; i < 50; i++) {
+			final TreeChromosome<Operation<?>> chromosome = new TreeChromosome<>(stdProgramGenerator.generate(program));
+			final TreeChromosome<Operation<?>> decoded = roundTrip(codec, spec, chromosome);
+
+			assertEquals(chromosome, decoded);
+			assertEquals(chromosome.getSize(), decoded.getSize());
+		}
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void repeatedOperationsUseTheirOpcode() {
+		final Random random = new Random(42);
+		final Program program = program(random);
+		final ProgramTreeChromosomeSpec spec = ProgramTreeChromosomeSpec.of(program);
+		final ProgramTreeChromosomeCodec codec = new ProgramTreeChromosomeCodec();
+
+		final Operation add = Functions.ADD.build(program.inputSpec());
+		final Operation pi = Terminals.PI.build(program.inputSpec());
+
+		final TreeNode<Operation<?>> root = new TreeNode<>(add);
+		root.addChild(new TreeNode<>(pi));
+		root.addChild(new TreeNode<>(pi));
+		final TreeChromosome<Operation<?>> chromosome = new TreeChromosome<>(root);
+
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(codec.maxEncodedSize(spec, chromosome));
+		codec.encode(spec, chromosome, byteBuffer);
+
+		// Second occurrence of PI is a single byte opcode
+		assertEquals(1 + (1 + 1 + 3 + 1 + 16) + 1 + (1 + 1 + 2 + 1 + 16) + 1, byteBuffer.position());
+
+		byteBuffer.flip();
+		final TreeChromosome<Operation<?>> decoded = codec.decode(spec, byteBuffer);
+		assertEquals(chromosome, decoded);
+
+		final Operation decodedAdd = decoded.getRoot()
+				.getData();
+		assertEquals(Double.valueOf(2.0 * Math.PI), decodedAdd.apply(new Object[] {}, new Object[] { Math.PI, Math.PI }));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void unknownOperation() {
+		final Random random = new Random(42);
+		final Program program = program(random);
+		final ProgramTreeChromosomeSpec spec = ProgramTreeChromosomeSpec.of(program);
+		final ProgramTreeChromosomeCodec codec = new ProgramTreeChromosomeCodec();
+
+		final Operation pow = Functions.POW.build(program.inputSpec());
+		final Operation pi = Terminals.PI.build(program.inputSpec());
+
+		final TreeNode<Operation<?>> root = new TreeNode<>(pow);
+		root.addChild(new TreeNode<>(pi));
+		root.addChild(new TreeNode<>(pi));
+		final TreeChromosome<Operation<?>> chromosome = new TreeChromosome<>(root);
+
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(codec.maxEncodedSize(spec, chromosome));
+		codec.encode(spec, chromosome, byteBuffer);
+		byteBuffer.flip();
+
+		assertThrows(IllegalArgumentException.class, () -> codec.decode(spec, byteBuffer));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void invalidArity() {
+		final Program program = program(new Random(42));
+		final ProgramTreeChromosomeSpec spec = ProgramTreeChromosomeSpec.of(program);
+		final ProgramTreeChromosomeCodec codec = new ProgramTreeChromosomeCodec();
+
+		final Operation add = Functions.ADD.build(program.inputSpec());
+		final TreeNode<Operation<?>> root = new TreeNode<>(add);
+		root.addChild(new TreeNode<>(Terminals.PI.build(program.inputSpec())));
+		final TreeChromosome<Operation<?>> chromosome = new TreeChromosome<>(root);
+
+		assertThrows(IllegalArgumentException.class, () -> codec.maxEncodedSize(spec, chromosome));
+		assertThrows(IllegalArgumentException.class, () -> codec.encode(spec, chromosome, ByteBuffer.allocate(1024)));
+	}
+}
@@ -0,0 +1,50 @@
+package net.bmahe.genetics4j.gp.spec;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
+import net.bmahe.genetics4j.gp.program.ProgramHelper;
+import net.bmahe.genetics4j.gp.program.RampedHalfAndHalfProgramGenerator;
+
+public class GPEAExecutionContextsTest {
+
+	@Test
+	public void sharedInstancesRejectOffspringPartitions() {
+		final RandomGenerator randomGenerator = new SplittableRandom(42);
+		final ProgramHelper programHelper = new ProgramHelper(randomGenerator);
+		final var programGenerator = new RampedHalfAndHalfProgramGenerator(randomGenerator, programHelper);
+
+		final EAExecutionContext<Double> sequentialContext = GPEAExecutionContexts
+				.<Double>forGP(randomGenerator, programHelper, programGenerator)
+				.build();
+		for (final var factory : sequentialContext.mutationPolicyHandlerFactories()) {
+			assertNotNull(factory.apply(sequentialContext));
+		}
+
+		assertThrows(IllegalArgumentException.class,
+				() -> GPEAExecutionContexts.<Double>forGP(randomGenerator, programHelper, programGenerator)
+						.numberOfOffspringPartitions(2)
+						.build());
+	}
+
+	@Test
+	public void defaultSupportsOffspringPartitions() {
+		final EAExecutionContext<Double> partitionedContext = GPEAExecutionContexts
+				.<Double>forGP(new SplittableRandom(42))
+				.numberOfOffspringPartitions(2)
+				.build();
+
+		for (final var factory : partitionedContext.mutationPolicyHandlerFactories()) {
+			assertNotNull(factory.apply(partitionedContext));
+		}
+		for (final var factory : partitionedContext.chromosomeCombinatorHandlerFactories()) {
+			assertNotNull(factory.apply(partitionedContext));
+		}
+	}
+}
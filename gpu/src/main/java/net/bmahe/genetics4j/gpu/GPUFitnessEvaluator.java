@@ -3,12 +3,14 @@ package net.bmahe.genetics4j.gpu;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.ObjIntConsumer;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.io.IOUtils;
@@ -28,6 +30,7 @@ import org.jocl.cl_queue_properties;
 
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.evaluation.FitnessEvaluator;
+import net.bmahe.genetics4j.core.evaluation.StreamingFitnessEvaluator;
 import net.bmahe.genetics4j.gpu.opencl.DeviceReader;
 import net.bmahe.genetics4j.gpu.opencl.DeviceUtils;
 import net.bmahe.genetics4j.gpu.opencl.KernelInfoReader;
@@ -112,6 +115,14 @@ import net.bmahe.genetics4j.gpu.spec.Program;
  * <li><strong>Concurrency</strong>: Supports concurrent evaluation across multiple devices</li>
  * </ul>
  * 
+ * <p>Streaming evaluation:
+ * <ul>
+ * <li><strong>Batches</strong>: Batches submitted through {@link #evaluateAsync} are queued and dispatched one after
+ * the other, so that a device never evaluates two batches at the same time</li>
+ * <li><strong>Per-individual results</strong>: Futures returned by {@link #evaluateStream} complete as soon as the
+ * device partition of their individual completes</li>
+ * </ul>
+ * 
  * <p>Error handling:
  * <ul>
  * <li><strong>Device failures</strong>: Graceful degradation when devices become unavailable</li>
@@ -122,12 +133,13 @@ import net.bmahe.genetics4j.gpu.spec.Program;
  * 
  * @param <T> the type of fitness values produced, must be comparable for selection operations
  * @see FitnessEvaluator
+ * @see StreamingFitnessEvaluator
  * @see GPUEAConfiguration
  * @see GPUEAExecutionContext
  * @see OpenCLExecutionContext
  * @see net.bmahe.genetics4j.gpu.fitness.OpenCLFitness
  */
-public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEvaluator<T> {
+public class GPUFitnessEvaluator<T extends Comparable<T>> implements StreamingFitnessEvaluator<T> {
 	public static final Logger logger = LogManager.getLogger(GPUFitnessEvaluator.class);
 
 	private final GPUEAExecutionContext<T> gpuEAExecutionContext;
@@ -142,6 +154,13 @@ public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEval
 	final List<Map<String, cl_kernel>> clKernels = new ArrayList<>();
 	final List<OpenCLExecutionContext> clExecutionContexts = new ArrayList<>();
 
+	private final Object submissionLock = new Object();
+
+	/**
+	 * Completes once the last submitted batch has been evaluated
+	 */
+	private CompletableFuture<Void> lastSubmission = CompletableFuture.completedFuture(null);
+
 	/**
 	 * Constructs a GPU fitness evaluator with the specified configuration and execution context.
 	 * 
@@ -231,7 +250,7 @@ public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEval
 	@Override
 	public void preEvaluation() {
 		logger.trace("Init...");
-		FitnessEvaluator.super.preEvaluation();
+		StreamingFitnessEvaluator.super.preEvaluation();
 
 		final var platformReader = new PlatformReader();
 		final var deviceReader = new DeviceReader();
@@ -399,6 +418,90 @@ public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEval
 	 */
 	@Override
 	public List<T> evaluate(final long generation, final List<Genotype> genotypes) {
+		return evaluateAsync(generation, genotypes).join();
+	}
+
+	/**
+	 * Submits a batch of genotypes for evaluation on the GPU.
+	 * 
+	 * <p>The batch is dispatched across the available devices as described in {@link #evaluate(long, List)} once the
+	 * previously submitted batches have been evaluated.
+	 * 
+	 * @param generation the current generation number for context and logging
+	 * @param genotypes  the genotypes of the batch
+	 * @return a future completing with the fitness values, in the same order as the genotypes
+	 */
+	@Override
+	public CompletableFuture<List<T>> evaluateAsync(final long generation, final List<Genotype> genotypes) {
+		Validate.notNull(genotypes);
+
+		@SuppressWarnings("unchecked")
+		final T[] fitnesses = (T[]) new Comparable[genotypes.size()];
+		return submit(generation, genotypes, (partitionResults, offset) -> {
+			for (int i = 0; i < partitionResults.size(); i++) {
+				fitnesses[offset + i] = partitionResults.get(i);
+			}
+		}).thenApply(ignored -> Arrays.asList(fitnesses));
+	}
+
+	/**
+	 * Submits a batch of genotypes for evaluation on the GPU and returns one future per genotype.
+	 * 
+	 * <p>Each future completes as soon as the device partition containing its genotype has been evaluated.
+	 * 
+	 * @param generation the current generation number for context and logging
+	 * @param genotypes  the genotypes of the batch
+	 * @return the futures of the fitness values, in the same order as the genotypes
+	 */
+	@Override
+	public List<CompletableFuture<T>> evaluateStream(final long generation, final List<Genotype> genotypes) {
+		Validate.notNull(genotypes);
+
+		final List<CompletableFuture<T>> fitnessFutures = new ArrayList<>(genotypes.size());
+		for (int i = 0; i < genotypes.size(); i++) {
+			fitnessFutures.add(new CompletableFuture<>());
+		}
+
+		submit(generation, genotypes, (partitionResults, offset) -> {
+			for (int i = 0; i < partitionResults.size(); i++) {
+				fitnessFutures.get(offset + i)
+						.complete(partitionResults.get(i));
+			}
+		}).whenComplete((ignored, throwable) -> {
+			if (throwable != null) {
+				for (final CompletableFuture<T> fitnessFuture : fitnessFutures) {
+					fitnessFuture.completeExceptionally(throwable);
+				}
+			}
+		});
+
+		return fitnessFutures;
+	}
+
+	/**
+	 * Queues a batch behind the previously submitted ones so that devices are never shared between batches
+	 */
+	private CompletableFuture<Void> submit(final long generation, final List<Genotype> genotypes,
+			final ObjIntConsumer<List<T>> partitionConsumer) {
+
+		if (genotypes.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		synchronized (submissionLock) {
+			final CompletableFuture<Void> submission = lastSubmission.exceptionally(throwable -> null)
+					.thenCompose(ignored -> dispatchPartitions(generation, genotypes, partitionConsumer));
+			lastSubmission = submission;
+			return submission;
+		}
+	}
+
+	/**
+	 * Partitions the genotypes across the devices and hands over the results of each partition, along with the offset
+	 * of its first genotype, as soon as they are available
+	 */
+	private CompletableFuture<Void> dispatchPartitions(final long generation, final List<Genotype> genotypes,
+			final ObjIntConsumer<List<T>> partitionConsumer) {
 
 		final var fitness = gpuEAConfiguration.fitness();
 
@@ -415,32 +518,28 @@ public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEval
 			}
 		}
 
-		final List<CompletableFuture<List<T>>> subResultsCF = new ArrayList<>();
+		final List<CompletableFuture<Void>> subResultsCF = new ArrayList<>();
 		for (int i = 0; i < subGenotypes.size(); i++) {
 			final var openCLExecutionContext = clExecutionContexts.get(i % clExecutionContexts.size());
 			final var subGenotype = subGenotypes.get(i);
+			final int offset = i * partitionSize;
 
 			fitness.beforeEvaluation(generation, subGenotype);
 			fitness.beforeEvaluation(openCLExecutionContext, executorService, generation, subGenotype);
 
 			final var resultsCF = fitness.compute(openCLExecutionContext, executorService, generation, subGenotype)
-					.thenApply((results) -> {
+					.thenAccept((results) -> {
 
 						fitness.afterEvaluation(openCLExecutionContext, executorService, generation, subGenotype);
 						fitness.afterEvaluation(generation, subGenotype);
 
-						return results;
+						partitionConsumer.accept(results, offset);
 					});
 
 			subResultsCF.add(resultsCF);
 		}
 
-		final List<T> resultsEvaluation = new ArrayList<>(genotypes.size());
-		for (final CompletableFuture<List<T>> subResultCF : subResultsCF) {
-			final var fitnessResults = subResultCF.join();
-			resultsEvaluation.addAll(fitnessResults);
-		}
-		return resultsEvaluation;
+		return CompletableFuture.allOf(subResultsCF.toArray(new CompletableFuture[subResultsCF.size()]));
 	}
 
 	/**
@@ -514,6 +613,6 @@ public class GPUFitnessEvaluator<T extends Comparable<T>> implements FitnessEval
 		clExecutionContexts.clear();
 		selectedPlatformToDevice = null;
 
-		FitnessEvaluator.super.postEvaluation();
+		StreamingFitnessEvaluator.super.postEvaluation();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package net.bmahe.genetics4j.moo;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Fitness vector backed by primitive doubles
+ * <p>
+ * It follows the same dominance relation as a {@link FitnessVector} of
+ * {@link Double}, where each objective is either maximized with its natural
+ * order or minimized with its reverse order, without boxing the values nor
+ * going through comparators. The objectives are also kept as keys where greater
+ * is better, so dominance checks are a loop of primitive comparisons.
+ */
+public class DoubleFitnessVector implements Comparable<DoubleFitnessVector> {
+
+	private final double[] fitnesses;
+	private final boolean[] maximize;
+
+	/**
+	 * Fitnesses mapped to longs ordered like {@link Double#compare(double, double)}
+	 * and inverted for minimized objectives, so greater is always better
+	 */
+	private final long[] keys;
+
+	/**
+	 * Map a double to a long with the same ordering as
+	 * {@link Double#compare(double, double)}
+	 */
+	private static long sortableKey(final double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+
+	public DoubleFitnessVector(final double[] _vector, final boolean[] _maximize) {
+		Validate.notNull(_vector);
+		Validate.isTrue(_vector.length > 0);
+		Validate.notNull(_maximize);
+		Validate.isTrue(_vector.length == _maximize.length);
+
+		fitnesses = _vector.clone();
+		maximize = _maximize.clone();
+		keys = new long[fitnesses.length];
+		for (int i = 0; i < fitnesses.length; i++) {
+			final long key = sortableKey(fitnesses[i]);
+			keys[i] = maximize[i] ? key : ~key;
+		}
+	}
+
+	public DoubleFitnessVector(final double... _vector) {
+		this(_vector, allMaximized(_vector));
+	}
+
+	private static boolean[] allMaximized(final double[] vector) {
+		Validate.notNull(vector);
+
+		final boolean[] maximize = new boolean[vector.length];
+		Arrays.fill(maximize, true);
+		return maximize;
+	}
+
+	private long[] keysFor(final boolean[] directions) {
+		final long[] keysForDirections = new long[fitnesses.length];
+		for (int i = 0; i < fitnesses.length; i++) {
+			keysForDirections[i] = directions[i] == maximize[i] ? keys[i] : ~keys[i];
+		}
+		return keysForDirections;
+	}
+
+	public int dimensions() {
+		return fitnesses.length;
+	}
+
+	public double get(final int index) {
+		Validate.exclusiveBetween(-1, fitnesses.length, index);
+
+		return fitnesses[index];
+	}
+
+	/**
+	 * Copy of the objectives
+	 * 
+	 * @return the objectives
+	 */
+	public double[] toArray() {
+		return fitnesses.clone();
+	}
+
+	public boolean isMaximized(final int index) {
+		Validate.exclusiveBetween(-1, fitnesses.length, index);
+
+		return maximize[index];
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Arrays.hashCode(maximize);
+		result = prime * result + Arrays.hashCode(fitnesses);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		DoubleFitnessVector other = (DoubleFitnessVector) obj;
+		return Arrays.equals(maximize, other.maximize) && Arrays.equals(fitnesses, other.fitnesses);
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleFitnessVector [fitnesses=" + Arrays.toString(fitnesses) + "]";
+	}
+
+	@Override
+	public int compareTo(final DoubleFitnessVector o) {
+		return compare(this, o);
+	}
+
+	public static int compare(final DoubleFitnessVector fv1, final DoubleFitnessVector fv2) {
+		Validate.notNull(fv1);
+		Validate.notNull(fv2);
+
+		if (fv1.fitnesses.length != fv2.fitnesses.length) {
+			throw new IllegalArgumentException("Can't compare DoubleFitnessVector with different dimensions");
+		}
+
+		// Like FitnessVector, the directions of the first fitness vector prevail
+		final long[] keys1 = fv1.keys;
+		final long[] keys2 = fv1.maximize == fv2.maximize || Arrays.equals(fv1.maximize, fv2.maximize) ? fv2.keys
+				: fv2.keysFor(fv1.maximize);
+
+		boolean greater = false;
+		boolean lesser = false;
+
+		for (int i = 0; i < keys1.length; i++) {
+			greater |= keys1[i] > keys2[i];
+			lesser |= keys1[i] < keys2[i];
+		}
+
+		if (greater && lesser == false) {
+			return 1;
+		}
+		if (lesser && greater == false) {
+			return -1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Compute the euclidean distance between two fitness vectors in objective
+	 * space
+	 *
+	 * @param fv1 First fitness vector
+	 * @param fv2 Second fitness vector
+	 * @return Euclidean distance
+	 */
+	public static double euclideanDistance(final DoubleFitnessVector fv1, final DoubleFitnessVector fv2) {
+		Validate.notNull(fv1);
+		Validate.notNull(fv2);
+
+		final double[] fitnesses1 = fv1.fitnesses;
+		final double[] fitnesses2 = fv2.fitnesses;
+
+		if (fitnesses1.length != fitnesses2.length) {
+			throw new IllegalArgumentException("Can't compute distances of DoubleFitnessVector with different dimensions");
+		}
+
+		double sum = 0.0;
+		for (int i = 0; i < fitnesses1.length; i++) {
+			final double difference = fitnesses2[i] - fitnesses1[i];
+			sum += difference * difference;
+		}
+
+		return Math.sqrt(sum);
+	}
+}
@@ -0,0 +1,20 @@
+package net.bmahe.genetics4j.moo;
+
+/**
+ * Provide a method to extract the value of a fitness score along one objective
+ * as a primitive
+ *
+ * @param <T>
+ */
+@FunctionalInterface
+public interface ObjectiveValue<T> {
+
+	/**
+	 * Extract the value of a fitness score along one objective
+	 * 
+	 * @param fitness   Fitness score
+	 * @param objective Objective to extract
+	 * @return value of the objective
+	 */
+	double value(T fitness, int objective);
+}
@@ -0,0 +1,680 @@
+package net.bmahe.genetics4j.moo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.evolutionlisteners.EvolutionListener;
+import net.bmahe.genetics4j.core.spec.Optimization;
+
+/**
+ * Bounded archive of mutually non-dominated individuals
+ * <p>
+ * Individuals are kept in an ND-tree, where each node tracks approximations of
+ * the ideal and nadir points of the individuals below it. An insertion only
+ * visits the nodes whose bounds may hold individuals dominating or dominated by
+ * the new one, which is about O(log N) for 2 or 3 objectives. Dominated
+ * individuals are removed and individuals equal to or dominated by an archived
+ * one are rejected.
+ * <p>
+ * Once the archive exceeds its capacity, the individual with the lowest
+ * crowding distance is evicted. From then on, the individuals are also kept
+ * sorted on each objective and crowding distances are only recomputed for the
+ * neighbours of the inserted and removed individuals, which costs O(M log N) per
+ * change. The crowding distances of the whole archive are only recomputed when
+ * the range of an objective changes, as they are normalized by it.
+ * <p>
+ * The archive can be registered as an {@link EvolutionListener} to collect the
+ * non-dominated individuals met along an evolution, and its content used as a
+ * {@link Population}, for instance as the archive input of a replacement
+ * strategy.
+ *
+ * @param <T> Type of the fitness measurement
+ */
+public class ParetoArchive<T extends Comparable<T>> implements EvolutionListener<T> {
+
+	/**
+	 * Maximum number of individuals in a leaf before it gets split
+	 */
+	private static final int MAX_LEAF_SIZE = 20;
+
+	private static class Entry<U extends Comparable<U>> {
+		/**
+		 * Insertion order, used to break ties between entries
+		 */
+		private final long id;
+		private final Individual<U> individual;
+		private final double[] objectives;
+		private Node<U> leaf;
+
+		/**
+		 * Crowding distance as of the last refresh. It must not change while the
+		 * entry is in {@link ParetoArchive#byCrowdingDistance}
+		 */
+		private double crowdingDistance;
+
+		private Entry(final long _id, final Individual<U> _individual, final double[] _objectives) {
+			this.id = _id;
+			this.individual = _individual;
+			this.objectives = _objectives;
+		}
+	}
+
+	private static class Node<U extends Comparable<U>> {
+		private Node<U> parent;
+		private final List<Node<U>> children = new ArrayList<>();
+		private final List<Entry<U>> entries = new ArrayList<>();
+
+		/**
+		 * Best value of each objective below this node. It is not updated upon
+		 * removals and may therefore be better than the actual one
+		 */
+		private double[] ideal;
+
+		/**
+		 * Worst value of each objective below this node. It is not updated upon
+		 * removals and may therefore be worse than the actual one
+		 */
+		private double[] nadir;
+
+		private boolean isLeaf() {
+			return children.isEmpty();
+		}
+
+		private boolean isEmpty() {
+			return children.isEmpty() && entries.isEmpty();
+		}
+
+		private void updateBounds(final double[] objectives) {
+			if (ideal == null) {
+				ideal = objectives.clone();
+				nadir = objectives.clone();
+			} else {
+				for (int m = 0; m < objectives.length; m++) {
+					ideal[m] = Math.max(ideal[m], objectives[m]);
+					nadir[m] = Math.min(nadir[m], objectives[m]);
+				}
+			}
+		}
+	}
+
+	private final int capacity;
+	private final Function<T, double[]> objectives;
+
+	private Node<T> root = new Node<>();
+	private int size = 0;
+	private int numberObjectives = -1;
+	private long nextId = 0;
+
+	/**
+	 * Archived entries sorted on each objective, to find their neighbours. It is
+	 * only populated once the archive first exceeds its capacity
+	 */
+	private final List<TreeSet<Entry<T>>> sortedByObjective = new ArrayList<>();
+	private boolean isIndexed = false;
+
+	/**
+	 * Archived entries sorted by crowding distance. It is only refreshed upon
+	 * eviction
+	 */
+	private final TreeSet<Entry<T>> byCrowdingDistance = new TreeSet<>(
+			Comparator.<Entry<T>>comparingDouble(entry -> entry.crowdingDistance)
+					.thenComparingLong(entry -> entry.id));
+
+	/**
+	 * Entries whose neighbours changed since the last refresh
+	 */
+	private final Set<Entry<T>> staleEntries = new HashSet<>();
+
+	/**
+	 * Whether the range of an objective changed since the last refresh, in which
+	 * case all the crowding distances are stale
+	 */
+	private boolean rangesChanged = false;
+
+	/**
+	 * Create an archive
+	 *
+	 * @param _capacity   Maximum number of individuals
+	 * @param _objectives Extract the objectives of a fitness, where greater is
+	 *                    better for all of them
+	 */
+	public ParetoArchive(final int _capacity, final Function<T, double[]> _objectives) {
+		Validate.isTrue(_capacity > 0);
+		Validate.notNull(_objectives);
+
+		this.capacity = _capacity;
+		this.objectives = _objectives;
+	}
+
+	/**
+	 * Whether a is at least as good as b on all the objectives
+	 */
+	private static boolean weaklyDominates(final double[] a, final double[] b) {
+		for (int m = 0; m < a.length; m++) {
+			if (Double.compare(a[m], b[m]) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether a is at least as good as b on all the objectives and better on one
+	 */
+	private static boolean dominates(final double[] a, final double[] b) {
+		boolean isBetter = false;
+		for (int m = 0; m < a.length; m++) {
+			final int comparison = Double.compare(a[m], b[m]);
+			if (comparison < 0) {
+				return false;
+			}
+			isBetter |= comparison > 0;
+		}
+		return isBetter;
+	}
+
+	private static double squaredDistanceToMiddle(final Node<?> node, final double[] objectives) {
+		double sum = 0.0;
+		for (int m = 0; m < objectives.length; m++) {
+			final double difference = objectives[m] - (node.ideal[m] + node.nadir[m]) / 2.0;
+			sum += difference * difference;
+		}
+		return sum;
+	}
+
+	private static double squaredDistance(final double[] a, final double[] b) {
+		double sum = 0.0;
+		for (int m = 0; m < a.length; m++) {
+			sum += (b[m] - a[m]) * (b[m] - a[m]);
+		}
+		return sum;
+	}
+
+	private void markStale(final Entry<T> entry) {
+		if (entry != null && rangesChanged == false) {
+			staleEntries.add(entry);
+		}
+	}
+
+	private void markRangesChanged() {
+		rangesChanged = true;
+		staleEntries.clear();
+	}
+
+	/**
+	 * Add an entry to the objective orderings and mark its neighbours as stale
+	 */
+	private void index(final Entry<T> entry) {
+		if (isIndexed == false) {
+			return;
+		}
+
+		markStale(entry);
+		for (final TreeSet<Entry<T>> sorted : sortedByObjective) {
+			sorted.add(entry);
+			if (sorted.first() == entry || sorted.last() == entry) {
+				markRangesChanged();
+			} else {
+				markStale(sorted.lower(entry));
+				markStale(sorted.higher(entry));
+			}
+		}
+	}
+
+	/**
+	 * Remove an entry from the objective orderings and mark its former neighbours
+	 * as stale
+	 */
+	private void unindex(final Entry<T> entry) {
+		size--;
+		if (isIndexed == false) {
+			return;
+		}
+
+		byCrowdingDistance.remove(entry);
+		staleEntries.remove(entry);
+		for (final TreeSet<Entry<T>> sorted : sortedByObjective) {
+			if (sorted.first() == entry || sorted.last() == entry) {
+				markRangesChanged();
+			} else {
+				markStale(sorted.lower(entry));
+				markStale(sorted.higher(entry));
+			}
+			sorted.remove(entry);
+		}
+	}
+
+	/**
+	 * Same crowding distance as
+	 * {@link net.bmahe.genetics4j.moo.nsga2.impl.NSGA2Utils#crowdingDistanceAssignment(double[][], boolean)},
+	 * computed from the neighbours of the entry
+	 */
+	private double crowdingDistance(final Entry<T> entry) {
+		double distance = 0.0;
+		for (int m = 0; m < numberObjectives; m++) {
+			final TreeSet<Entry<T>> sorted = sortedByObjective.get(m);
+			final Entry<T> lower = sorted.lower(entry);
+			final Entry<T> higher = sorted.higher(entry);
+			if (lower == null || higher == null) {
+				return Double.POSITIVE_INFINITY;
+			}
+
+			final double range = sorted.last().objectives[m] - sorted.first().objectives[m];
+			if (range > 0.0) {
+				distance += (higher.objectives[m] - lower.objectives[m]) / range;
+			}
+		}
+		return distance;
+	}
+
+	private void refresh(final Entry<T> entry) {
+		byCrowdingDistance.remove(entry);
+		entry.crowdingDistance = crowdingDistance(entry);
+		byCrowdingDistance.add(entry);
+	}
+
+	private void refreshCrowdingDistances() {
+		if (rangesChanged) {
+			byCrowdingDistance.clear();
+			for (final Entry<T> entry : sortedByObjective.get(0)) {
+				entry.crowdingDistance = crowdingDistance(entry);
+				byCrowdingDistance.add(entry);
+			}
+			rangesChanged = false;
+		} else {
+			for (final Entry<T> entry : staleEntries) {
+				refresh(entry);
+			}
+		}
+		staleEntries.clear();
+	}
+
+	/**
+	 * Detach a node, and then its ancestors as long as they become empty
+	 */
+	private void detach(final Node<T> node) {
+		Node<T> current = node;
+		while (current.parent != null && current.isEmpty()) {
+			current.parent.children.remove(current);
+			current = current.parent;
+		}
+	}
+
+	/**
+	 * Check whether some individual below the node is equal to or dominates the
+	 * objectives, and otherwise remove the individuals they dominate
+	 *
+	 * @return true if the objectives are covered by an archived individual
+	 */
+	private boolean isCoveredOrRemoveDominated(final Node<T> node, final double[] candidate) {
+		if (weaklyDominates(node.nadir, candidate)) {
+			return true;
+		}
+
+		if (dominates(candidate, node.ideal)) {
+			final List<Entry<T>> dominated = new ArrayList<>();
+			collectEntries(node, dominated);
+			for (final Entry<T> entry : dominated) {
+				unindex(entry);
+			}
+			node.children.clear();
+			node.entries.clear();
+			return false;
+		}
+
+		// Individuals below the node can neither dominate nor be dominated
+		if (weaklyDominates(node.ideal, candidate) == false && weaklyDominates(candidate, node.nadir) == false) {
+			return false;
+		}
+
+		if (node.isLeaf()) {
+			for (int i = node.entries.size() - 1; i >= 0; i--) {
+				final double[] entryObjectives = node.entries.get(i).objectives;
+
+				if (weaklyDominates(entryObjectives, candidate)) {
+					return true;
+				}
+
+				if (dominates(candidate, entryObjectives)) {
+					unindex(node.entries.remove(i));
+				}
+			}
+		} else {
+			for (int i = node.children.size() - 1; i >= 0; i--) {
+				final Node<T> child = node.children.get(i);
+
+				if (isCoveredOrRemoveDominated(child, candidate)) {
+					return true;
+				}
+
+				if (child.isEmpty()) {
+					node.children.remove(i);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Pick the entry with the largest average distance to the given entries
+	 */
+	private int farthestEntry(final List<Entry<T>> entries, final List<Entry<T>> from) {
+		int farthest = 0;
+		double farthestDistance = -1.0;
+		for (int i = 0; i < entries.size(); i++) {
+			double sumDistances = 0.0;
+			for (final Entry<T> entry : from) {
+				sumDistances += Math.sqrt(squaredDistance(entries.get(i).objectives, entry.objectives));
+			}
+
+			if (sumDistances > farthestDistance) {
+				farthest = i;
+				farthestDistance = sumDistances;
+			}
+		}
+		return farthest;
+	}
+
+	private void split(final Node<T> leaf) {
+		final List<Entry<T>> entries = new ArrayList<>(leaf.entries);
+		leaf.entries.clear();
+
+		final int numChildren = Math.min(numberObjectives + 1, entries.size());
+		final List<Entry<T>> seeds = new ArrayList<>(numChildren);
+		seeds.add(entries.remove(farthestEntry(entries, entries)));
+		while (seeds.size() < numChildren) {
+			seeds.add(entries.remove(farthestEntry(entries, seeds)));
+		}
+
+		for (final Entry<T> seed : seeds) {
+			final Node<T> child = new Node<>();
+			child.parent = leaf;
+			child.entries.add(seed);
+			child.updateBounds(seed.objectives);
+			seed.leaf = child;
+			leaf.children.add(child);
+		}
+
+		for (final Entry<T> entry : entries) {
+			final Node<T> child = closestChild(leaf, entry.objectives);
+			child.entries.add(entry);
+			child.updateBounds(entry.objectives);
+			entry.leaf = child;
+		}
+	}
+
+	private Node<T> closestChild(final Node<T> node, final double[] objectives) {
+		Node<T> closest = null;
+		double closestDistance = Double.POSITIVE_INFINITY;
+		for (final Node<T> child : node.children) {
+			final double distance = squaredDistanceToMiddle(child, objectives);
+			if (closest == null || distance < closestDistance) {
+				closest = child;
+				closestDistance = distance;
+			}
+		}
+		return closest;
+	}
+
+	private void insert(final Entry<T> entry) {
+		Node<T> node = root;
+		node.updateBounds(entry.objectives);
+		while (node.isLeaf() == false) {
+			node = closestChild(node, entry.objectives);
+			node.updateBounds(entry.objectives);
+		}
+
+		node.entries.add(entry);
+		entry.leaf = node;
+		index(entry);
+		size++;
+
+		if (node.entries.size() > MAX_LEAF_SIZE) {
+			split(node);
+		}
+	}
+
+	private void collectEntries(final Node<T> node, final List<Entry<T>> collected) {
+		collected.addAll(node.entries);
+		for (final Node<T> child : node.children) {
+			collectEntries(child, collected);
+		}
+	}
+
+	private void evictMostCrowded() {
+		if (isIndexed == false) {
+			final List<Entry<T>> entries = new ArrayList<>(size);
+			collectEntries(root, entries);
+			for (final TreeSet<Entry<T>> sorted : sortedByObjective) {
+				sorted.addAll(entries);
+			}
+			isIndexed = true;
+			markRangesChanged();
+		}
+		refreshCrowdingDistances();
+
+		final Entry<T> evictedEntry = byCrowdingDistance.first();
+		evictedEntry.leaf.entries.remove(evictedEntry);
+		detach(evictedEntry.leaf);
+		unindex(evictedEntry);
+	}
+
+	/**
+	 * Offer an individual to the archive
+	 *
+	 * @param genotype Genotype of the individual
+	 * @param fitness  Fitness of the individual
+	 * @return true if the individual was added, false if it is equal to or
+	 *         dominated by an archived individual. It may still get evicted right
+	 *         away if the archive is over capacity
+	 */
+	public synchronized boolean add(final Genotype genotype, final T fitness) {
+		Validate.notNull(genotype);
+		Validate.notNull(fitness);
+
+		final double[] candidate = objectives.apply(fitness);
+		Validate.notNull(candidate);
+		if (numberObjectives < 0) {
+			Validate.isTrue(candidate.length > 0);
+			numberObjectives = candidate.length;
+			for (int m = 0; m < numberObjectives; m++) {
+				final int objective = m;
+				sortedByObjective.add(new TreeSet<>(Comparator.<Entry<T>>comparingDouble(entry -> entry.objectives[objective])
+						.thenComparingLong(entry -> entry.id)));
+			}
+		}
+		Validate.isTrue(candidate.length == numberObjectives,
+				"Expected %d objectives but got %d",
+				numberObjectives,
+				candidate.length);
+
+		if (size > 0) {
+			if (isCoveredOrRemoveDominated(root, candidate)) {
+				return false;
+			}
+
+			if (root.isEmpty()) {
+				root = new Node<>();
+			}
+		}
+
+		insert(new Entry<>(nextId++, Individual.of(genotype, fitness), candidate.clone()));
+
+		if (size > capacity) {
+			evictMostCrowded();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Offer all the individuals of a population to the archive
+	 *
+	 * @param population Genotypes of the individuals
+	 * @param fitness    Fitness of the individuals
+	 */
+	public synchronized void addAll(final List<Genotype> population, final List<T> fitness) {
+		Validate.notNull(population);
+		Validate.notNull(fitness);
+		Validate.isTrue(population.size() == fitness.size());
+
+		for (int i = 0; i < population.size(); i++) {
+			add(population.get(i), fitness.get(i));
+		}
+	}
+
+	@Override
+	public void onEvolution(final long generation, final List<Genotype> population, final List<T> fitness,
+			final boolean isDone) {
+		addAll(population, fitness);
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	public synchronized void clear() {
+		root = new Node<>();
+		size = 0;
+		for (final TreeSet<Entry<T>> sorted : sortedByObjective) {
+			sorted.clear();
+		}
+		byCrowdingDistance.clear();
+		staleEntries.clear();
+		rangesChanged = false;
+		isIndexed = false;
+	}
+
+	/**
+	 * Archived individuals, in no particular order
+	 *
+	 * @return a copy of the archived individuals
+	 */
+	public synchronized List<Individual<T>> individuals() {
+		final List<Entry<T>> entries = new ArrayList<>(size);
+		collectEntries(root, entries);
+
+		final List<Individual<T>> individuals = new ArrayList<>(entries.size());
+		for (final Entry<T> entry : entries) {
+			individuals.add(entry.individual);
+		}
+		return Collections.unmodifiableList(individuals);
+	}
+
+	/**
+	 * Archived individuals as a population, in no particular order
+	 *
+	 * @return a new population with the archived individuals
+	 */
+	public synchronized Population<T> toPopulation() {
+		final List<Individual<T>> individuals = individuals();
+
+		final List<Genotype> genotypes = new ArrayList<>(individuals.size());
+		final List<T> fitnesses = new ArrayList<>(individuals.size());
+		for (final Individual<T> individual : individuals) {
+			genotypes.add(individual.genotype());
+			fitnesses.add(individual.fitness());
+		}
+		return new Population<>(genotypes, fitnesses);
+	}
+
+	/**
+	 * Factory method to instantiate an archive when fitness is defined as a
+	 * FitnessVector of a Number
+	 * <p>
+	 * Objectives compared with a reverse order comparator are considered
+	 * minimized and objectives compared with any other comparator are considered
+	 * maximized.
+	 *
+	 * @param <U>          Type of the fitness measurement
+	 * @param capacity     Maximum number of individuals
+	 * @param optimization Whether the dominance relation is reversed, as when the
+	 *                     evolution minimizes its fitness
+	 * @return A new instance of ParetoArchive
+	 */
+	public static <U extends Number & Comparable<U>> ParetoArchive<FitnessVector<U>> ofFitnessVector(
+			final int capacity, final Optimization optimization) {
+		Validate.notNull(optimization);
+
+		final double sign = optimization == Optimization.MAXIMIZE ? 1.0 : -1.0;
+		final Comparator<U> reverseOrder = Comparator.reverseOrder();
+
+		return new ParetoArchive<>(capacity, (fitnessVector) -> {
+			final double[] values = new double[fitnessVector.dimensions()];
+			for (int m = 0; m < values.length; m++) {
+				final double direction = fitnessVector.getComparator(m) == reverseOrder ? -sign : sign;
+				values[m] = direction * fitnessVector.get(m)
+						.doubleValue();
+			}
+			return values;
+		});
+	}
+
+	/**
+	 * Factory method to instantiate an archive when fitness is defined as a
+	 * FitnessVector of a Number and the evolution maximizes it
+	 *
+	 * @param <U>      Type of the fitness measurement
+	 * @param capacity Maximum number of individuals
+	 * @return A new instance of ParetoArchive
+	 */
+	public static <U extends Number & Comparable<U>> ParetoArchive<FitnessVector<U>> ofFitnessVector(
+			final int capacity) {
+		return ofFitnessVector(capacity, Optimization.MAXIMIZE);
+	}
+
+	/**
+	 * Factory method to instantiate an archive when fitness is defined as a
+	 * DoubleFitnessVector
+	 *
+	 * @param capacity     Maximum number of individuals
+	 * @param optimization Whether the dominance relation is reversed, as when the
+	 *                     evolution minimizes its fitness
+	 * @return A new instance of ParetoArchive
+	 */
+	public static ParetoArchive<DoubleFitnessVector> ofDoubleFitnessVector(final int capacity,
+			final Optimization optimization) {
+		Validate.notNull(optimization);
+
+		final double sign = optimization == Optimization.MAXIMIZE ? 1.0 : -1.0;
+
+		return new ParetoArchive<>(capacity, (fitnessVector) -> {
+			final double[] values = fitnessVector.toArray();
+			for (int m = 0; m < values.length; m++) {
+				values[m] *= fitnessVector.isMaximized(m) ? sign : -sign;
+			}
+			return values;
+		});
+	}
+
+	/**
+	 * Factory method to instantiate an archive when fitness is defined as a
+	 * DoubleFitnessVector and the evolution maximizes it
+	 *
+	 * @param capacity Maximum number of individuals
+	 * @return A new instance of ParetoArchive
+	 */
+	public static ParetoArchive<DoubleFitnessVector> ofDoubleFitnessVector(final int capacity) {
+		return ofDoubleFitnessVector(capacity, Optimization.MAXIMIZE);
+	}
+}
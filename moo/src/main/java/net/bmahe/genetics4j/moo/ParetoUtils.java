@@ -1,11 +1,11 @@
 package net.bmahe.genetics4j.moo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.Validate;
@@ -16,69 +16,418 @@ public class ParetoUtils {
 
 	}
 
-	public static <T> List<Set<Integer>> rankedPopulation(final Comparator<T> dominance, final List<T> fitnessScore) {
-		Validate.notNull(dominance);
-		Validate.notNull(fitnessScore);
-		Validate.isTrue(fitnessScore.isEmpty() == false);
+	/**
+	 * Map a double to a long with the same ordering as {@link Double#compare(double, double)}
+	 */
+	private static long sortableKey(final double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns 1 for the natural order, -1 for the reverse order and 0 for any other comparator
+	 */
+	private static int orderSign(final Comparator<?> comparator) {
+		if (comparator == Comparator.naturalOrder()) {
+			return 1;
+		}
+
+		if (comparator == Collections.reverseOrder()) {
+			return -1;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Extract the objectives as keys where greater is better, so that {@code dominance} can be evaluated on primitives.
+	 * <p>
+	 * This is only possible when {@code dominance} is the natural or reverse order of {@link FitnessVector} and all the
+	 * fitness vectors have the same dimensions, hold {@link Double}, {@link Float}, {@link Integer}, {@link Short} or
+	 * {@link Byte} and agree on natural or reverse order comparators for each objective. The same applies to
+	 * {@link DoubleFitnessVector} agreeing on their dimensions and directions.
+	 *
+	 * @return the keys, indexed by individual first, or null if the dominance cannot be evaluated on primitives
+	 */
+	private static <T> long[][] objectiveKeys(final Comparator<T> dominance, final List<T> fitnessScore) {
+		final int dominanceSign = orderSign(dominance);
+		if (dominanceSign == 0) {
+			return null;
+		}
+
+		if (fitnessScore.get(0) instanceof DoubleFitnessVector) {
+			return doubleFitnessVectorKeys(dominanceSign, fitnessScore);
+		}
+
+		if (fitnessScore.get(0) instanceof FitnessVector<?> == false) {
+			return null;
+		}
+
+		final FitnessVector<?> firstFitnessVector = (FitnessVector<?>) fitnessScore.get(0);
+		final int numberObjectives = firstFitnessVector.dimensions();
+
+		final int[] objectiveSigns = new int[numberObjectives];
+		for (int m = 0; m < numberObjectives; m++) {
+			objectiveSigns[m] = dominanceSign * orderSign(firstFitnessVector.getComparator(m));
+			if (objectiveSigns[m] == 0) {
+				return null;
+			}
+		}
+
+		final long[][] keys = new long[fitnessScore.size()][numberObjectives];
+		for (int i = 0; i < fitnessScore.size(); i++) {
+			if (fitnessScore.get(i) instanceof FitnessVector<?> == false) {
+				return null;
+			}
+
+			final FitnessVector<?> fitnessVector = (FitnessVector<?>) fitnessScore.get(i);
+			if (fitnessVector.dimensions() != numberObjectives) {
+				return null;
+			}
+
+			for (int m = 0; m < numberObjectives; m++) {
+				if (objectiveSigns[m] != dominanceSign * orderSign(fitnessVector.getComparator(m))) {
+					return null;
+				}
+
+				final Object value = fitnessVector.get(m);
+				if (value instanceof Double == false && value instanceof Float == false && value instanceof Integer == false
+						&& value instanceof Short == false && value instanceof Byte == false) {
+					return null;
+				}
 
-		final Map<Integer, Set<Integer>> dominating = new HashMap<>();
-		final Map<Integer, Integer> dominatedCount = new HashMap<>();
+				final long key = sortableKey(((Number) value).doubleValue());
+				keys[i][m] = objectiveSigns[m] > 0 ? key : ~key;
+			}
+		}
+
+		return keys;
+	}
 
-		final List<Set<Integer>> rankedPopulation = new ArrayList<>();
-		rankedPopulation.add(new HashSet<>());
-		final Set<Integer> firstFront = rankedPopulation.get(0);
+	/**
+	 * Extract the objectives of {@link DoubleFitnessVector} as keys where greater is better, or null if the fitness
+	 * vectors do not agree on their dimensions and directions
+	 */
+	private static <T> long[][] doubleFitnessVectorKeys(final int dominanceSign, final List<T> fitnessScore) {
+		final DoubleFitnessVector firstFitnessVector = (DoubleFitnessVector) fitnessScore.get(0);
+		final int numberObjectives = firstFitnessVector.dimensions();
 
+		final int[] objectiveSigns = new int[numberObjectives];
+		for (int m = 0; m < numberObjectives; m++) {
+			objectiveSigns[m] = firstFitnessVector.isMaximized(m) ? dominanceSign : -dominanceSign;
+		}
+
+		final long[][] keys = new long[fitnessScore.size()][numberObjectives];
 		for (int i = 0; i < fitnessScore.size(); i++) {
+			if (fitnessScore.get(i) instanceof DoubleFitnessVector == false) {
+				return null;
+			}
+
+			final DoubleFitnessVector fitnessVector = (DoubleFitnessVector) fitnessScore.get(i);
+			if (fitnessVector.dimensions() != numberObjectives) {
+				return null;
+			}
+
+			for (int m = 0; m < numberObjectives; m++) {
+				final int objectiveSign = fitnessVector.isMaximized(m) ? dominanceSign : -dominanceSign;
+				if (objectiveSign != objectiveSigns[m]) {
+					return null;
+				}
+
+				final long key = sortableKey(fitnessVector.get(m));
+				keys[i][m] = objectiveSign > 0 ? key : ~key;
+			}
+		}
+
+		return keys;
+	}
+
+	private static int compareLexicographically(final long[] a, final long[] b) {
+		for (int m = 0; m < a.length; m++) {
+			final int comparison = Long.compare(a[m], b[m]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Merge sort of the indices of {@code keys} in decreasing lexicographic order
+	 */
+	private static void sortIndices(final long[][] keys, final int[] indices, final int[] buffer, final int from,
+			final int to) {
+		if (to - from < 2) {
+			return;
+		}
+
+		final int middle = (from + to) >>> 1;
+		sortIndices(keys, indices, buffer, from, middle);
+		sortIndices(keys, indices, buffer, middle, to);
 
+		if (compareLexicographically(keys[indices[middle - 1]], keys[indices[middle]]) >= 0) {
+			return;
+		}
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int k = from; k < to; k++) {
+			if (right >= to
+					|| (left < middle && compareLexicographically(keys[buffer[left]], keys[buffer[right]]) >= 0)) {
+				indices[k] = buffer[left++];
+			} else {
+				indices[k] = buffer[right++];
+			}
+		}
+	}
+
+	private static int[] sortedIndices(final long[][] keys) {
+		final int[] indices = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			indices[i] = i;
+		}
+		sortIndices(keys, indices, new int[keys.length], 0, keys.length);
+		return indices;
+	}
+
+	/**
+	 * Rank individuals with two objectives in O(N log N).
+	 * <p>
+	 * Once sorted in decreasing lexicographic order, an individual can only be dominated by a distinct individual seen
+	 * before it, which happens if and only if its second objective is not greater. The best second objective of each
+	 * front is non increasing with the front index, so the front of an individual can be found by binary search.
+	 */
+	private static int[] rankTwoObjectives(final long[][] keys) {
+		final int[] sortedIndices = sortedIndices(keys);
+		final int[] ranks = new int[keys.length];
+
+		final long[] bestSecondObjective = new long[keys.length];
+		int numFronts = 0;
+
+		int i = 0;
+		while (i < sortedIndices.length) {
+			final long[] key = keys[sortedIndices[i]];
+
+			int low = 0;
+			int high = numFronts;
+			while (low < high) {
+				final int middle = (low + high) >>> 1;
+				if (bestSecondObjective[middle] >= key[1]) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+
+			if (low == numFronts) {
+				numFronts++;
+			}
+			bestSecondObjective[low] = key[1];
+
+			// Identical individuals do not dominate each other and share the same front
+			do {
+				ranks[sortedIndices[i]] = low;
+				i++;
+			} while (i < sortedIndices.length && Arrays.equals(keys[sortedIndices[i]], key));
+		}
+
+		return ranks;
+	}
+
+	private static boolean isDominatedByFront(final long[][] keys, final int[] front, final int frontSize,
+			final long[] key) {
+
+		// Most recently added members are the most likely to dominate
+		for (int k = frontSize - 1; k >= 0; k--) {
+			final long[] candidate = keys[front[k]];
+
+			/**
+			 * The candidate has been seen before and is distinct, so it is lexicographically greater and at least as
+			 * good on the first objective
+			 */
+			boolean isDominating = true;
+			for (int m = 1; m < key.length && isDominating; m++) {
+				isDominating = candidate[m] >= key[m];
+			}
+
+			if (isDominating) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Rank individuals with the Efficient Non-dominated Sort with binary search (ENS-BS).
+	 * <p>
+	 * Individuals are processed in decreasing lexicographic order, so that all the individuals dominating one have
+	 * already been assigned a front. If an individual is dominated by a member of a front, it is also dominated by a
+	 * member of every previous front, so its front can be found by binary search.
+	 */
+	private static int[] rankEfficientNonDominatedSort(final long[][] keys) {
+		final int[] sortedIndices = sortedIndices(keys);
+		final int[] ranks = new int[keys.length];
+
+		final int[][] fronts = new int[keys.length][];
+		final int[] frontSizes = new int[keys.length];
+		int numFronts = 0;
+
+		int i = 0;
+		while (i < sortedIndices.length) {
+			final int index = sortedIndices[i];
+			final long[] key = keys[index];
+
+			int low = 0;
+			int high = numFronts;
+			while (low < high) {
+				final int middle = (low + high) >>> 1;
+				if (isDominatedByFront(keys, fronts[middle], frontSizes[middle], key)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+
+			if (low == numFronts) {
+				fronts[low] = new int[8];
+				numFronts++;
+			} else if (frontSizes[low] == fronts[low].length) {
+				fronts[low] = Arrays.copyOf(fronts[low], frontSizes[low] * 2);
+			}
+			fronts[low][frontSizes[low]++] = index;
+
+			// Identical individuals do not dominate each other and share the same front
+			do {
+				ranks[sortedIndices[i]] = low;
+				i++;
+			} while (i < sortedIndices.length && Arrays.equals(keys[sortedIndices[i]], key));
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Rank individuals with any dominance comparator, comparing each pair of individuals once
+	 */
+	private static <T> int[] rankWithComparator(final Comparator<T> dominance, final List<T> fitnessScore) {
+		final int populationSize = fitnessScore.size();
+
+		final int[][] dominating = new int[populationSize][];
+		final int[] dominatingSize = new int[populationSize];
+		final int[] dominatedCount = new int[populationSize];
+
+		for (int i = 0; i < populationSize; i++) {
 			final T individualFitness = fitnessScore.get(i);
-			int dominated = 0;
-
-			for (int otherIndex = 0; otherIndex < fitnessScore.size(); otherIndex++) {
-				if (otherIndex != i) {
-					final T otherFitness = fitnessScore.get(otherIndex);
-
-					final int comparison = dominance.compare(individualFitness, otherFitness);
-					if (comparison > 0) {
-						dominating.computeIfAbsent(i, (k) -> new HashSet<>());
-						dominating.get(i)
-								.add(otherIndex);
-					} else if (comparison < 0) {
-						dominated++;
+
+			for (int otherIndex = i + 1; otherIndex < populationSize; otherIndex++) {
+				final T otherFitness = fitnessScore.get(otherIndex);
+
+				final int comparison = dominance.compare(individualFitness, otherFitness);
+				if (comparison != 0) {
+					final int dominatingIndex = comparison > 0 ? i : otherIndex;
+					final int dominatedIndex = comparison > 0 ? otherIndex : i;
+
+					if (dominating[dominatingIndex] == null) {
+						dominating[dominatingIndex] = new int[8];
+					} else if (dominatingSize[dominatingIndex] == dominating[dominatingIndex].length) {
+						dominating[dominatingIndex] = Arrays.copyOf(dominating[dominatingIndex],
+								dominatingSize[dominatingIndex] * 2);
 					}
+					dominating[dominatingIndex][dominatingSize[dominatingIndex]++] = dominatedIndex;
+					dominatedCount[dominatedIndex]++;
 				}
 			}
-			dominatedCount.put(i, dominated);
+		}
 
-			// it dominates everything -> it is part of the first front
-			if (dominated == 0) {
-				firstFront.add(i);
+		// Individuals caught in a dominance cycle are never ranked
+		final int[] ranks = new int[populationSize];
+		Arrays.fill(ranks, -1);
+
+		int[] currentFront = new int[populationSize];
+		int currentFrontSize = 0;
+		for (int i = 0; i < populationSize; i++) {
+			// it is not dominated by anything -> it is part of the first front
+			if (dominatedCount[i] == 0) {
+				currentFront[currentFrontSize++] = i;
 			}
 		}
 
-		int frontIndex = 0;
-		while (frontIndex < rankedPopulation.size() && rankedPopulation.get(frontIndex)
-				.isEmpty() == false) {
-			final Set<Integer> currentFront = rankedPopulation.get(frontIndex);
+		int[] nextFront = new int[populationSize];
+		int rank = 0;
+		while (currentFrontSize > 0) {
+			int nextFrontSize = 0;
 
-			final Set<Integer> nextFront = new HashSet<>();
+			for (int k = 0; k < currentFrontSize; k++) {
+				final int i = currentFront[k];
+				ranks[i] = rank;
 
-			for (final int i : currentFront) {
-				if (dominating.containsKey(i)) {
-					for (final Integer dominatedByI : dominating.get(i)) {
-						final Integer updatedDominatedCount = dominatedCount.computeIfPresent(dominatedByI, (k, v) -> v - 1);
+				for (int d = 0; d < dominatingSize[i]; d++) {
+					final int dominatedByI = dominating[i][d];
+					dominatedCount[dominatedByI]--;
 
-						if (updatedDominatedCount != null && updatedDominatedCount == 0) {
-							nextFront.add(dominatedByI);
-						}
+					if (dominatedCount[dominatedByI] == 0) {
+						nextFront[nextFrontSize++] = dominatedByI;
 					}
-
 				}
 			}
 
-			rankedPopulation.add(nextFront);
-			frontIndex++;
+			final int[] swap = currentFront;
+			currentFront = nextFront;
+			nextFront = swap;
+			currentFrontSize = nextFrontSize;
+			rank++;
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Rank a population into its successive non dominated fronts.
+	 * <p>
+	 * When {@code dominance} is the natural or reverse order of {@link FitnessVector} holding numbers, fronts are
+	 * computed on primitives with an O(N log N) sweep for two objectives and with the Efficient Non-dominated Sort
+	 * otherwise. Any other dominance comparator is evaluated once per pair of individuals.
+	 *
+	 * @param <T>          type of the fitness
+	 * @param dominance    dominance comparator, where a positive value means the first fitness dominates the second
+	 * @param fitnessScore fitness of each individual
+	 * @return the indices of the individuals of each front, starting with the non dominated one and followed by an
+	 *         empty set
+	 */
+	public static <T> List<Set<Integer>> rankedPopulation(final Comparator<T> dominance, final List<T> fitnessScore) {
+		Validate.notNull(dominance);
+		Validate.notNull(fitnessScore);
+		Validate.isTrue(fitnessScore.isEmpty() == false);
+
+		final long[][] keys = objectiveKeys(dominance, fitnessScore);
+
+		final int[] ranks;
+		if (keys == null) {
+			ranks = rankWithComparator(dominance, fitnessScore);
+		} else if (keys[0].length == 2) {
+			ranks = rankTwoObjectives(keys);
+		} else {
+			ranks = rankEfficientNonDominatedSort(keys);
+		}
+
+		int numFronts = 0;
+		for (final int rank : ranks) {
+			numFronts = Math.max(numFronts, rank + 1);
+		}
+
+		final List<Set<Integer>> rankedPopulation = new ArrayList<>(numFronts + 1);
+		for (int f = 0; f <= numFronts; f++) {
+			rankedPopulation.add(new HashSet<>());
+		}
+
+		for (int i = 0; i < ranks.length; i++) {
+			if (ranks[i] >= 0) {
+				rankedPopulation.get(ranks[i])
+						.add(i);
+			}
 		}
 
 		return rankedPopulation;
 	}
-}
\ No newline at end of file
+}
@@ -16,6 +16,7 @@ import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.selection.Selector;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.Optimization;
 import net.bmahe.genetics4j.moo.ObjectiveDistance;
 import net.bmahe.genetics4j.moo.ParetoUtils;
 import net.bmahe.genetics4j.moo.nsga2.spec.NSGA2Selection;
@@ -91,10 +92,14 @@ public class NSGA2Selector<T extends Comparable<T>> implements Selector<T> {
 				individuals.getAllFitnesses());
 
 		logger.debug("Computing crowding distance assignment");
-		double[] crowdingDistanceAssignment = NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
-				individuals.getAllFitnesses(),
-				objectiveComparator,
-				objectiveDistance);
+		final double[] crowdingDistanceAssignment = nsga2Selection.objectiveValue()
+				.map(objectiveValue -> NSGA2Utils.crowdingDistanceAssignment(
+						NSGA2Utils.objectiveMatrix(numberObjectives, individuals.getAllFitnesses(), objectiveValue),
+						eaConfiguration.optimization() == Optimization.MINIMIZE))
+				.orElseGet(() -> NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
+						individuals.getAllFitnesses(),
+						objectiveComparator,
+						objectiveDistance));
 
 		logger.debug("Selecting individuals");
 		final Population<T> selectedIndividuals = new Population<>();
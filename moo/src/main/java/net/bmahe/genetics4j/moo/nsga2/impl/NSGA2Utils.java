@@ -8,6 +8,7 @@ import java.util.stream.IntStream;
 import org.apache.commons.lang3.Validate;
 
 import net.bmahe.genetics4j.moo.ObjectiveDistance;
+import net.bmahe.genetics4j.moo.ObjectiveValue;
 
 public class NSGA2Utils {
 
@@ -46,11 +47,143 @@ public class NSGA2Utils {
 				final T nextFitness = fitnessScore.get(sortedIndexes[i + 1]);
 
 				if (maxDistance > 0.0) {
-					distances[i] += objectiveDistance.distance(previousFitness, nextFitness, m) / maxDistance;
+					distances[sortedIndexes[i]] += objectiveDistance.distance(previousFitness, nextFitness, m)
+							/ maxDistance;
 				}
 			}
 		}
 
 		return distances;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Extract the objectives of a population as a matrix
+	 *
+	 * @param <T>              Type of the fitness measurement
+	 * @param numberObjectives Number of objectives
+	 * @param fitnessScore     Fitness of each individual
+	 * @param objectiveValue   Extraction of the value of an objective
+	 * @return the objectives, indexed by objective first and individual second
+	 */
+	public static <T> double[][] objectiveMatrix(final int numberObjectives, final List<T> fitnessScore,
+			final ObjectiveValue<T> objectiveValue) {
+		Validate.isTrue(numberObjectives > 0);
+		Validate.notNull(fitnessScore);
+		Validate.notNull(objectiveValue);
+
+		final double[][] objectives = new double[numberObjectives][fitnessScore.size()];
+		for (int i = 0; i < fitnessScore.size(); i++) {
+			final T fitness = fitnessScore.get(i);
+			for (int m = 0; m < numberObjectives; m++) {
+				objectives[m][i] = objectiveValue.value(fitness, m);
+			}
+		}
+
+		return objectives;
+	}
+
+	/**
+	 * Map a double to a long with the same ordering as {@link Double#compare(double, double)}
+	 */
+	private static long sortableKey(final double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * Stable merge sort of indices by increasing key
+	 */
+	private static void sortIndices(final long[] keys, final int[] indices, final int[] buffer, final int from,
+			final int to) {
+		if (to - from < 2) {
+			return;
+		}
+
+		final int middle = (from + to) >>> 1;
+		sortIndices(keys, indices, buffer, from, middle);
+		sortIndices(keys, indices, buffer, middle, to);
+
+		if (keys[indices[middle - 1]] <= keys[indices[middle]]) {
+			return;
+		}
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int k = from; k < to; k++) {
+			if (right >= to || (left < middle && keys[buffer[left]] <= keys[buffer[right]])) {
+				indices[k] = buffer[left++];
+			} else {
+				indices[k] = buffer[right++];
+			}
+		}
+	}
+
+	/**
+	 * Compute the contribution of a single objective to the crowding distances
+	 */
+	private static double[] objectiveCrowdingDistances(final double[] values, final boolean descending) {
+		final int populationSize = values.length;
+
+		final long[] keys = new long[populationSize];
+		final int[] sortedIndexes = new int[populationSize];
+		for (int i = 0; i < populationSize; i++) {
+			final long key = sortableKey(values[i]);
+			keys[i] = descending ? ~key : key;
+			sortedIndexes[i] = i;
+		}
+		sortIndices(keys, sortedIndexes, new int[populationSize], 0, populationSize);
+
+		final double[] distances = new double[populationSize];
+		distances[sortedIndexes[0]] = Double.POSITIVE_INFINITY;
+		distances[sortedIndexes[populationSize - 1]] = Double.POSITIVE_INFINITY;
+
+		final double maxDistance = Math.abs(values[sortedIndexes[populationSize - 1]] - values[sortedIndexes[0]]);
+		if (maxDistance > 0.0) {
+			for (int i = 1; i < populationSize - 1; i++) {
+				final double distance = Math.abs(values[sortedIndexes[i + 1]] - values[sortedIndexes[i - 1]]);
+				distances[sortedIndexes[i]] = distance / maxDistance;
+			}
+		}
+
+		return distances;
+	}
+
+	/**
+	 * Compute the crowding distances of a population from its objective matrix.
+	 * <p>
+	 * Each objective is sorted on primitive arrays, in parallel across objectives. The result is the same as
+	 * {@link #crowdingDistanceAssignment(int, List, Function, ObjectiveDistance)} with objective comparators ordering by
+	 * {@link Double#compare(double, double)}, reversed if {@code descending} is set, and the absolute difference as the
+	 * distance.
+	 *
+	 * @param objectives Objectives, indexed by objective first and individual second
+	 * @param descending Whether the objectives are sorted in descending order, such as when minimizing
+	 * @return the crowding distance of each individual
+	 */
+	public static double[] crowdingDistanceAssignment(final double[][] objectives, final boolean descending) {
+		Validate.notNull(objectives);
+		Validate.isTrue(objectives.length > 0);
+		Validate.isTrue(objectives[0].length > 0);
+
+		final int populationSize = objectives[0].length;
+		for (final double[] values : objectives) {
+			Validate.isTrue(values.length == populationSize);
+		}
+
+		final double[][] objectiveDistances = IntStream.range(0, objectives.length)
+				.parallel()
+				.mapToObj(m -> objectiveCrowdingDistances(objectives[m], descending))
+				.toArray(double[][]::new);
+
+		// Summing up in the objectives order keeps the result deterministic
+		final double[] distances = new double[populationSize];
+		for (final double[] objectiveDistance : objectiveDistances) {
+			for (int i = 0; i < populationSize; i++) {
+				distances[i] += objectiveDistance[i];
+			}
+		}
+
+		return distances;
+	}
+}
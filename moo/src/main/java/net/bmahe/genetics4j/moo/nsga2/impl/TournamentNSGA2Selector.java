@@ -15,6 +15,7 @@ import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.selection.Selector;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.core.spec.Optimization;
 import net.bmahe.genetics4j.moo.ObjectiveDistance;
 import net.bmahe.genetics4j.moo.ParetoUtils;
 import net.bmahe.genetics4j.moo.nsga2.spec.TournamentNSGA2Selection;
@@ -115,10 +116,14 @@ public class TournamentNSGA2Selector<T extends Comparable<T>> implements Selecto
 			}
 		}
 		logger.debug("Computing crowding distance assignment");
-		final double[] crowdingDistanceAssignment = NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
-				individuals.getAllFitnesses(),
-				objectiveComparator,
-				objectiveDistance);
+		final double[] crowdingDistanceAssignment = tournamentNSGA2Selection.objectiveValue()
+				.map(objectiveValue -> NSGA2Utils.crowdingDistanceAssignment(
+						NSGA2Utils.objectiveMatrix(numberObjectives, individuals.getAllFitnesses(), objectiveValue),
+						eaConfiguration.optimization() == Optimization.MINIMIZE))
+				.orElseGet(() -> NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
+						individuals.getAllFitnesses(),
+						objectiveComparator,
+						objectiveDistance));
 
 		logger.debug("Performing tournaments");
 		final Population<T> selectedIndividuals = new Population<>();
@@ -8,8 +8,10 @@ import org.immutables.value.Value;
 
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
 import net.bmahe.genetics4j.moo.FitnessVector;
 import net.bmahe.genetics4j.moo.ObjectiveDistance;
+import net.bmahe.genetics4j.moo.ObjectiveValue;
 
 /**
  * NSGA2 Selection specification
@@ -40,7 +42,7 @@ public abstract class NSGA2Selection<T extends Comparable<T>> implements Selecti
 	 */
 	@Value.Default
 	public Comparator<T> dominance() {
-		return (a, b) -> a.compareTo(b);
+		return Comparator.naturalOrder();
 	}
 
 	/**
@@ -71,6 +73,18 @@ public abstract class NSGA2Selection<T extends Comparable<T>> implements Selecti
 	@Value.Parameter
 	public abstract ObjectiveDistance<T> distance();
 
+	/**
+	 * Extract the value of the objectives as primitives
+	 * <p>
+	 * When specified, crowding distances are computed on primitive arrays instead
+	 * of going through {@link #objectiveComparator()} and {@link #distance()}. The
+	 * values must then be ordered like {@link #objectiveComparator()} and their
+	 * absolute difference must match {@link #distance()}
+	 * 
+	 * @return Objective value extraction method
+	 */
+	public abstract Optional<ObjectiveValue<T>> objectiveValue();
+
 	public static class Builder<T extends Comparable<T>> extends ImmutableNSGA2Selection.Builder<T> {
 	}
 
@@ -93,9 +107,12 @@ public abstract class NSGA2Selection<T extends Comparable<T>> implements Selecti
 			ofFitnessVector(final int numberObjectives, final Comparator<Genotype> deduplicate) {
 
 		final var builder = new Builder<FitnessVector<U>>();
+		final ObjectiveValue<FitnessVector<U>> objectiveValue = (fitnessVector, m) -> fitnessVector.get(m)
+				.doubleValue();
 
 		builder.objectiveComparator((m) -> (a, b) -> Double.compare(a.get(m).doubleValue(), b.get(m).doubleValue()))
 				.distance((a, b, m) -> Math.abs(b.get(m).doubleValue() - a.get(m).doubleValue()))
+				.objectiveValue(Optional.of(objectiveValue))
 				.numberObjectives(numberObjectives)
 				.deduplicate(Optional.ofNullable(deduplicate));
 
@@ -116,4 +133,42 @@ public abstract class NSGA2Selection<T extends Comparable<T>> implements Selecti
 
 		return ofFitnessVector(numberObjectives, null);
 	}
+
+	/**
+	 * Factory method to instantiate a NSGA2Selection when fitness is defined as a
+	 * DoubleFitnessVector
+	 * 
+	 * @param numberObjectives Number of objectives and dimensions of the
+	 *                         DoubleFitnessVector
+	 * @param deduplicate      Deduplicator comparator. Null value with disable
+	 *                         deduplication
+	 * @return A new instance of NSGA2Selection
+	 */
+	public static NSGA2Selection<DoubleFitnessVector> ofDoubleFitnessVector(final int numberObjectives,
+			final Comparator<Genotype> deduplicate) {
+
+		final var builder = new Builder<DoubleFitnessVector>();
+		final ObjectiveValue<DoubleFitnessVector> objectiveValue = DoubleFitnessVector::get;
+
+		builder.objectiveComparator((m) -> (a, b) -> Double.compare(a.get(m), b.get(m)))
+				.distance((a, b, m) -> Math.abs(b.get(m) - a.get(m)))
+				.objectiveValue(Optional.of(objectiveValue))
+				.numberObjectives(numberObjectives)
+				.deduplicate(Optional.ofNullable(deduplicate));
+
+		return builder.build();
+	}
+
+	/**
+	 * Factory method to instantiate a NSGA2Selection when fitness is defined as a
+	 * DoubleFitnessVector
+	 * 
+	 * @param numberObjectives Number of objectives and dimensions of the
+	 *                         DoubleFitnessVector
+	 * @return A new instance of NSGA2Selection
+	 */
+	public static NSGA2Selection<DoubleFitnessVector> ofDoubleFitnessVector(final int numberObjectives) {
+
+		return ofDoubleFitnessVector(numberObjectives, null);
+	}
 }
\ No newline at end of file
@@ -8,8 +8,10 @@ import org.immutables.value.Value;
 
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.spec.selection.SelectionPolicy;
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
 import net.bmahe.genetics4j.moo.FitnessVector;
 import net.bmahe.genetics4j.moo.ObjectiveDistance;
+import net.bmahe.genetics4j.moo.ObjectiveValue;
 
 /**
  * Tournament based NSGA2 selection
@@ -41,7 +43,7 @@ public abstract class TournamentNSGA2Selection<T extends Comparable<T>> implemen
 	 */
 	@Value.Default
 	public Comparator<T> dominance() {
-		return (a, b) -> a.compareTo(b);
+		return Comparator.naturalOrder();
 	}
 
 	/**
@@ -72,6 +74,18 @@ public abstract class TournamentNSGA2Selection<T extends Comparable<T>> implemen
 	@Value.Parameter
 	public abstract ObjectiveDistance<T> distance();
 
+	/**
+	 * Extract the value of the objectives as primitives
+	 * <p>
+	 * When specified, crowding distances are computed on primitive arrays instead
+	 * of going through {@link #objectiveComparator()} and {@link #distance()}. The
+	 * values must then be ordered like {@link #objectiveComparator()} and their
+	 * absolute difference must match {@link #distance()}
+	 * 
+	 * @return Objective value extraction method
+	 */
+	public abstract Optional<ObjectiveValue<T>> objectiveValue();
+
 	/**
 	 * Number of candidates in each tournament
 	 * 
@@ -103,9 +117,12 @@ public abstract class TournamentNSGA2Selection<T extends Comparable<T>> implemen
 			final int numberObjectives, final int numberCandidates, final Comparator<Genotype> deduplicate) {
 
 		final var builder = new Builder<FitnessVector<U>>();
+		final ObjectiveValue<FitnessVector<U>> objectiveValue = (fitnessVector, m) -> fitnessVector.get(m)
+				.doubleValue();
 
 		builder.objectiveComparator((m) -> (a, b) -> Double.compare(a.get(m).doubleValue(), b.get(m).doubleValue()))
 				.distance((a, b, m) -> Math.abs(b.get(m).doubleValue() - a.get(m).doubleValue()))
+				.objectiveValue(Optional.of(objectiveValue))
 				.numberObjectives(numberObjectives)
 				.numCandidates(numberCandidates)
 				.deduplicate(Optional.ofNullable(deduplicate));
@@ -129,4 +146,46 @@ public abstract class TournamentNSGA2Selection<T extends Comparable<T>> implemen
 		return ofFitnessVector(numberObjectives, numberCandidates, null);
 	}
 
+	/**
+	 * Factory method to instantiate a Tournament based NSGA2 selection when fitness
+	 * is defined as a DoubleFitnessVector
+	 * 
+	 * @param numberObjectives Number of objectives and dimensions of the
+	 *                         DoubleFitnessVector
+	 * @param numberCandidates Number of candidates in each tournament
+	 * @param deduplicate      Deduplicator comparator. Null value with disable
+	 *                         deduplication
+	 * @return A new instance of TournamentNSGA2Selection
+	 */
+	public static TournamentNSGA2Selection<DoubleFitnessVector> ofDoubleFitnessVector(final int numberObjectives,
+			final int numberCandidates, final Comparator<Genotype> deduplicate) {
+
+		final var builder = new Builder<DoubleFitnessVector>();
+		final ObjectiveValue<DoubleFitnessVector> objectiveValue = DoubleFitnessVector::get;
+
+		builder.objectiveComparator((m) -> (a, b) -> Double.compare(a.get(m), b.get(m)))
+				.distance((a, b, m) -> Math.abs(b.get(m) - a.get(m)))
+				.objectiveValue(Optional.of(objectiveValue))
+				.numberObjectives(numberObjectives)
+				.numCandidates(numberCandidates)
+				.deduplicate(Optional.ofNullable(deduplicate));
+
+		return builder.build();
+	}
+
+	/**
+	 * Factory method to instantiate a Tournament based NSGA2 selection when fitness
+	 * is defined as a DoubleFitnessVector
+	 * 
+	 * @param numberObjectives Number of objectives and dimensions of the
+	 *                         DoubleFitnessVector
+	 * @param numberCandidates Number of candidates in each tournament
+	 * @return A new instance of TournamentNSGA2Selection
+	 */
+	public static TournamentNSGA2Selection<DoubleFitnessVector> ofDoubleFitnessVector(final int numberObjectives,
+			final int numberCandidates) {
+
+		return ofDoubleFitnessVector(numberObjectives, numberCandidates, null);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Nearest neighbors search evaluating the distance to every eligible individual
+ * <p>
+ * Only the k closest neighbors are kept in a bounded heap, so memory stays
+ * proportional to k regardless of the population size.
+ */
+public class BruteForceNeighborSearch implements NeighborSearch {
+
+	/**
+	 * Distance between two individuals, by index
+	 */
+	@FunctionalInterface
+	public interface Distance {
+		double distance(int i, int j);
+	}
+
+	private final int size;
+	private final Distance distance;
+
+	public BruteForceNeighborSearch(final int _size, final Distance _distance) {
+		Validate.isTrue(_size > 0);
+		Validate.notNull(_distance);
+
+		this.size = _size;
+		this.distance = _distance;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int nearest(final int index, final int k, final boolean[] active, final int[] neighbors,
+			final double[] distances) {
+		Validate.inclusiveBetween(0, size - 1, index);
+		Validate.isTrue(k > 0);
+
+		final NeighborHeap neighborHeap = new NeighborHeap(k);
+		for (int j = 0; j < size; j++) {
+			if (j != index && (active == null || active[j])) {
+				neighborHeap.offer(j, distance.distance(index, j));
+			}
+		}
+
+		return neighborHeap.drain(neighbors, distances);
+	}
+}
@@ -0,0 +1,220 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Nearest neighbors search with a KD-tree over the objectives, using the
+ * euclidean distance
+ * <p>
+ * The tree is split at the median of the objective with the widest spread and
+ * stored implicitly, with the points laid out in tree order. Queries cost about
+ * O(log N) for low dimensional objectives, but degrade towards a linear scan as
+ * the number of objectives grows.
+ * <p>
+ * All the coordinates are expected to be finite.
+ */
+public class KDTreeNeighborSearch implements NeighborSearch {
+
+	/**
+	 * Ranges at most this large are scanned instead of being split further
+	 */
+	private static final int LEAF_SIZE = 8;
+
+	private final int size;
+	private final int dimensions;
+
+	/**
+	 * Coordinates of the points, flattened in tree order
+	 */
+	private final double[] points;
+
+	/**
+	 * Individual at each position of the tree
+	 */
+	private final int[] indices;
+
+	/**
+	 * Position of each individual in the tree
+	 */
+	private final int[] positions;
+
+	/**
+	 * Split objective of the node at each position
+	 */
+	private final int[] splitDimensions;
+
+	public KDTreeNeighborSearch(final double[][] coordinates) {
+		Validate.notNull(coordinates);
+		Validate.isTrue(coordinates.length > 0);
+
+		this.size = coordinates.length;
+		this.dimensions = coordinates[0].length;
+		Validate.isTrue(dimensions > 0);
+		for (final double[] coordinate : coordinates) {
+			Validate.isTrue(coordinate.length == dimensions);
+		}
+
+		this.indices = new int[size];
+		for (int i = 0; i < size; i++) {
+			indices[i] = i;
+		}
+		this.splitDimensions = new int[size];
+		build(coordinates, 0, size);
+
+		this.points = new double[size * dimensions];
+		this.positions = new int[size];
+		for (int position = 0; position < size; position++) {
+			positions[indices[position]] = position;
+			System.arraycopy(coordinates[indices[position]], 0, points, position * dimensions, dimensions);
+		}
+	}
+
+	private void swap(final int i, final int j) {
+		final int index = indices[i];
+		indices[i] = indices[j];
+		indices[j] = index;
+	}
+
+	/**
+	 * Partially sort [from, to) so that the element at position nth is the one it
+	 * would be if sorted along the dimension, with smaller elements before it and
+	 * greater after
+	 */
+	private void select(final double[][] coordinates, final int dimension, final int nth, final int from,
+			final int to) {
+		int lo = from;
+		int hi = to;
+
+		while (hi - lo > 1) {
+			final double pivot = coordinates[indices[(lo + hi) >>> 1]][dimension];
+
+			// [lo, lt) < pivot, [lt, i) == pivot, [gt, hi) > pivot
+			int lt = lo;
+			int i = lo;
+			int gt = hi;
+			while (i < gt) {
+				final int comparison = Double.compare(coordinates[indices[i]][dimension], pivot);
+				if (comparison < 0) {
+					swap(lt++, i++);
+				} else if (comparison > 0) {
+					swap(i, --gt);
+				} else {
+					i++;
+				}
+			}
+
+			if (nth < lt) {
+				hi = lt;
+			} else if (nth >= gt) {
+				lo = gt;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void build(final double[][] coordinates, final int from, final int to) {
+		if (to - from <= LEAF_SIZE) {
+			return;
+		}
+
+		int splitDimension = 0;
+		double widestSpread = -1.0;
+		for (int d = 0; d < dimensions; d++) {
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for (int i = from; i < to; i++) {
+				final double value = coordinates[indices[i]][d];
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+
+			if (max - min > widestSpread) {
+				widestSpread = max - min;
+				splitDimension = d;
+			}
+		}
+
+		final int middle = (from + to) >>> 1;
+		select(coordinates, splitDimension, middle, from, to);
+		splitDimensions[middle] = splitDimension;
+
+		build(coordinates, from, middle);
+		build(coordinates, middle + 1, to);
+	}
+
+	private double squaredDistance(final int queryPosition, final int position) {
+		final int queryOffset = queryPosition * dimensions;
+		final int offset = position * dimensions;
+
+		double sum = 0.0;
+		for (int d = 0; d < dimensions; d++) {
+			final double difference = points[queryOffset + d] - points[offset + d];
+			sum += difference * difference;
+		}
+		return sum;
+	}
+
+	private void offer(final NeighborHeap neighborHeap, final int queryPosition, final int position,
+			final boolean[] active) {
+		final int index = indices[position];
+		if (position != queryPosition && (active == null || active[index])) {
+			final double squaredDistance = squaredDistance(queryPosition, position);
+			if (squaredDistance <= neighborHeap.worstDistance()) {
+				neighborHeap.offer(index, squaredDistance);
+			}
+		}
+	}
+
+	private void search(final NeighborHeap neighborHeap, final int queryPosition, final boolean[] active,
+			final int from, final int to) {
+		if (to - from <= LEAF_SIZE) {
+			for (int position = from; position < to; position++) {
+				offer(neighborHeap, queryPosition, position, active);
+			}
+			return;
+		}
+
+		final int middle = (from + to) >>> 1;
+		final int splitDimension = splitDimensions[middle];
+		final double difference = points[queryPosition * dimensions + splitDimension]
+				- points[middle * dimensions + splitDimension];
+
+		offer(neighborHeap, queryPosition, middle, active);
+
+		// A single objective never contributes more than the whole squared distance,
+		// so the far side can be skipped once it is farther than the worst neighbor
+		if (difference < 0) {
+			search(neighborHeap, queryPosition, active, from, middle);
+			if (difference * difference <= neighborHeap.worstDistance()) {
+				search(neighborHeap, queryPosition, active, middle + 1, to);
+			}
+		} else {
+			search(neighborHeap, queryPosition, active, middle + 1, to);
+			if (difference * difference <= neighborHeap.worstDistance()) {
+				search(neighborHeap, queryPosition, active, from, middle);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int nearest(final int index, final int k, final boolean[] active, final int[] neighbors,
+			final double[] distances) {
+		Validate.inclusiveBetween(0, size - 1, index);
+		Validate.isTrue(k > 0);
+
+		final NeighborHeap neighborHeap = new NeighborHeap(k);
+		search(neighborHeap, positions[index], active, 0, size);
+
+		final int count = neighborHeap.drain(neighbors, distances);
+		for (int i = 0; i < count; i++) {
+			distances[i] = Math.sqrt(distances[i]);
+		}
+		return count;
+	}
+}
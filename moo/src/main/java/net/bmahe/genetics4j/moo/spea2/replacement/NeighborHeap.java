@@ -0,0 +1,121 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded max-heap keeping the closest neighbors offered to it
+ * <p>
+ * Neighbors are ordered by distance, as per
+ * {@link Double#compare(double, double)}, then by index.
+ */
+public class NeighborHeap {
+
+	private final int[] indices;
+	private final double[] distances;
+	private int size = 0;
+
+	public NeighborHeap(final int capacity) {
+		Validate.isTrue(capacity > 0);
+
+		this.indices = new int[capacity];
+		this.distances = new double[capacity];
+	}
+
+	private static int compare(final double distance1, final int index1, final double distance2, final int index2) {
+		final int comparison = Double.compare(distance1, distance2);
+		return comparison != 0 ? comparison : Integer.compare(index1, index2);
+	}
+
+	private void swap(final int i, final int j) {
+		final int index = indices[i];
+		indices[i] = indices[j];
+		indices[j] = index;
+
+		final double distance = distances[i];
+		distances[i] = distances[j];
+		distances[j] = distance;
+	}
+
+	private void siftDown(final int from, final int to) {
+		int parent = from;
+		int child = 2 * parent + 1;
+		while (child < to) {
+			if (child + 1 < to
+					&& compare(distances[child + 1], indices[child + 1], distances[child], indices[child]) > 0) {
+				child++;
+			}
+
+			if (compare(distances[child], indices[child], distances[parent], indices[parent]) <= 0) {
+				return;
+			}
+
+			swap(parent, child);
+			parent = child;
+			child = 2 * parent + 1;
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isFull() {
+		return size == indices.length;
+	}
+
+	/**
+	 * Distance of the farthest neighbor kept, or positive infinity as long as the
+	 * heap is not full
+	 * 
+	 * @return Distance a neighbor must not exceed to be kept
+	 */
+	public double worstDistance() {
+		return isFull() ? distances[0] : Double.POSITIVE_INFINITY;
+	}
+
+	public void offer(final int index, final double distance) {
+		if (size < indices.length) {
+			int child = size++;
+			indices[child] = index;
+			distances[child] = distance;
+
+			while (child > 0) {
+				final int parent = (child - 1) / 2;
+				if (compare(distances[child], indices[child], distances[parent], indices[parent]) <= 0) {
+					return;
+				}
+				swap(parent, child);
+				child = parent;
+			}
+		} else if (compare(distance, index, distances[0], indices[0]) < 0) {
+			indices[0] = index;
+			distances[0] = distance;
+			siftDown(0, size);
+		}
+	}
+
+	/**
+	 * Move the neighbors to the outputs, by increasing distance, and empty the
+	 * heap
+	 * 
+	 * @param outIndices   Output of the neighbors
+	 * @param outDistances Output of the distances to the neighbors
+	 * @return Number of neighbors
+	 */
+	public int drain(final int[] outIndices, final double[] outDistances) {
+		Validate.isTrue(outIndices.length >= size);
+		Validate.isTrue(outDistances.length >= size);
+
+		final int count = size;
+		for (int end = count - 1; end > 0; end--) {
+			swap(0, end);
+			siftDown(0, end);
+		}
+
+		System.arraycopy(indices, 0, outIndices, 0, count);
+		System.arraycopy(distances, 0, outDistances, 0, count);
+		size = 0;
+
+		return count;
+	}
+}
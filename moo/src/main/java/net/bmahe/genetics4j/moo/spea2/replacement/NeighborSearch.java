@@ -0,0 +1,32 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+/**
+ * Nearest neighbors search over the individuals of a population, in objective
+ * space
+ * <p>
+ * Implementations must be safe to query concurrently.
+ */
+public interface NeighborSearch {
+
+	/**
+	 * Number of individuals
+	 * 
+	 * @return Number of individuals
+	 */
+	int size();
+
+	/**
+	 * Find the nearest neighbors of an individual, which is never its own neighbor
+	 * 
+	 * @param index     Individual whose neighbors are searched
+	 * @param k         Maximum number of neighbors to find
+	 * @param active    Individuals eligible as neighbors, or null if they all are
+	 * @param neighbors Output of the neighbors, by increasing distance. Must hold
+	 *                  at least k elements
+	 * @param distances Output of the distances to the neighbors. Must hold at least
+	 *                  k elements
+	 * @return Number of neighbors found, which is lower than k only when there are
+	 *         not enough eligible individuals
+	 */
+	int nearest(int index, int k, boolean[] active, int[] neighbors, double[] distances);
+}
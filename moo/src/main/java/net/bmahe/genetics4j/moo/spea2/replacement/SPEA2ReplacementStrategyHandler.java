@@ -1,5 +1,8 @@
 package net.bmahe.genetics4j.moo.spea2.replacement;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
 import org.apache.commons.lang3.Validate;
 
 import net.bmahe.genetics4j.core.replacement.ReplacementStrategyHandler;
@@ -12,6 +15,29 @@ import net.bmahe.genetics4j.moo.spea2.spec.replacement.SPEA2Replacement;
 
 public class SPEA2ReplacementStrategyHandler<T extends Comparable<T>> implements ReplacementStrategyHandler<T> {
 
+	private final ExecutorService executorService;
+
+	/**
+	 * Create a handler whose SPEA2 replacements compute the individuals fitness on
+	 * the given executor service
+	 * 
+	 * @param _executorService Executor service
+	 */
+	public SPEA2ReplacementStrategyHandler(final ExecutorService _executorService) {
+		Validate.notNull(_executorService);
+
+		this.executorService = _executorService;
+	}
+
+	/**
+	 * Create a handler whose SPEA2 replacements compute the individuals fitness on
+	 * the common fork join pool, which is also the default executor service of
+	 * {@link net.bmahe.genetics4j.core.EASystemFactory}
+	 */
+	public SPEA2ReplacementStrategyHandler() {
+		this(ForkJoinPool.commonPool());
+	}
+
 	@Override
 	public boolean canHandle(final ReplacementStrategy replacementStrategy) {
 		Validate.notNull(replacementStrategy);
@@ -33,7 +59,7 @@ public class SPEA2ReplacementStrategyHandler<T extends Comparable<T>> implements
 		@SuppressWarnings("unchecked")
 		final SPEA2Replacement<T> spea2Replacement = (SPEA2Replacement<T>) replacementStrategy;
 
-		return new SPEA2ReplacementStrategyImplementor<T>(spea2Replacement);
+		return new SPEA2ReplacementStrategyImplementor<T>(spea2Replacement, executorService);
 	}
 
 }
\ No newline at end of file
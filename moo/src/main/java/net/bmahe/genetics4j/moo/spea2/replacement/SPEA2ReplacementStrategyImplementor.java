@@ -1,21 +1,19 @@
 package net.bmahe.genetics4j.moo.spea2.replacement;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.time.DurationFormatUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,103 +21,123 @@ import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.Population;
 import net.bmahe.genetics4j.core.replacement.ReplacementStrategyImplementor;
 import net.bmahe.genetics4j.core.spec.AbstractEAConfiguration;
+import net.bmahe.genetics4j.moo.spea2.spec.replacement.EuclideanDistance;
 import net.bmahe.genetics4j.moo.spea2.spec.replacement.SPEA2Replacement;
 
 public class SPEA2ReplacementStrategyImplementor<T extends Comparable<T>> implements ReplacementStrategyImplementor<T> {
 	final static public Logger logger = LogManager.getLogger(SPEA2ReplacementStrategyImplementor.class);
 
+	/**
+	 * Beyond this number of objectives, a KD-tree prunes too little to beat
+	 * evaluating every distance
+	 */
+	public static final int MAX_KDTREE_DIMENSIONS = 12;
+
 	private final SPEA2Replacement<T> spea2Replacement;
+	private final ExecutorService executorService;
+
+	public SPEA2ReplacementStrategyImplementor(final SPEA2Replacement<T> _spea2Replacement,
+			final ExecutorService _executorService) {
+		Validate.notNull(_spea2Replacement);
+		Validate.notNull(_executorService);
 
-	public SPEA2ReplacementStrategyImplementor(final SPEA2Replacement<T> _spea2Replacement) {
 		this.spea2Replacement = _spea2Replacement;
+		this.executorService = _executorService;
 	}
 
-	protected double[] computeStrength(final Comparator<T> dominance, final Population<T> population) {
-		Validate.notNull(dominance);
-		Validate.notNull(population);
-		Validate.isTrue(population.size() > 0);
-
-		final double[] strengths = new double[population.size()];
-		for (int i = 0; i < population.size(); i++) {
-			final T fitness = population.getFitness(i);
-
-			strengths[i] = SPEA2Utils.strength(dominance, i, fitness, population);
-		}
-
-		return strengths;
+	public SPEA2ReplacementStrategyImplementor(final SPEA2Replacement<T> _spea2Replacement) {
+		this(_spea2Replacement, ForkJoinPool.commonPool());
 	}
 
-	protected double[][] computeObjectiveDistances(final BiFunction<T, T, Double> distance,
+	protected StrengthRawFitness computeStrengthRawFitness(final Comparator<T> dominance,
 			final Population<T> population) {
-		Validate.notNull(distance);
+		Validate.notNull(dominance);
 		Validate.notNull(population);
 		Validate.isTrue(population.size() > 0);
 
-		final double[][] distanceObjectives = new double[population.size()][population.size()];
+		return SPEA2Utils.strengthRawFitness(dominance, population.getAllFitnesses(), executorService);
+	}
 
-		for (int i = 0; i < population.size(); i++) {
-			for (int j = 0; j < i; j++) {
-				final Double distanceMeasure = distance.apply(population.getFitness(i), population.getFitness(j));
-				distanceObjectives[i][j] = distanceMeasure;
-				distanceObjectives[j][i] = distanceMeasure;
+	/**
+	 * Nearest neighbors search over the objectives of the population, through a
+	 * KD-tree when they are finite and few enough
+	 */
+	private NeighborSearch euclideanNeighborSearch(final Function<T, double[]> objectives, final List<T> fitnesses) {
+		final double[][] coordinates = new double[fitnesses.size()][];
+		boolean isFinite = true;
+		for (int i = 0; i < fitnesses.size(); i++) {
+			coordinates[i] = objectives.apply(fitnesses.get(i));
+
+			for (final double coordinate : coordinates[i]) {
+				isFinite &= Double.isFinite(coordinate);
 			}
-
-			distanceObjectives[i][i] = 0.0;
 		}
-		return distanceObjectives;
-	}
 
-	protected double[] computeRawFitness(final Comparator<T> dominance, final double[] strengths,
-			final Population<T> population) {
-		Validate.notNull(dominance);
-		Validate.notNull(strengths);
-		Validate.notNull(population);
-		Validate.isTrue(population.size() == strengths.length);
-		Validate.isTrue(population.size() > 0);
+		if (isFinite && coordinates[0].length <= MAX_KDTREE_DIMENSIONS) {
+			return new KDTreeNeighborSearch(coordinates);
+		}
 
-		final double[] rawFitness = new double[population.size()];
-		for (int i = 0; i < population.size(); i++) {
-			final T fitness = population.getFitness(i);
+		return new BruteForceNeighborSearch(coordinates.length, (i, j) -> {
+			final double[] coordinatesI = coordinates[i];
+			final double[] coordinatesJ = coordinates[j];
 
-			rawFitness[i] = SPEA2Utils.rawFitness(dominance, strengths, i, fitness, population);
-		}
+			double sum = 0.0;
+			for (int d = 0; d < coordinatesI.length; d++) {
+				sum += (coordinatesJ[d] - coordinatesI[d]) * (coordinatesJ[d] - coordinatesI[d]);
+			}
 
-		return rawFitness;
+			return Math.sqrt(sum);
+		});
 	}
 
-	protected List<List<Pair<Integer, Double>>> computeSortedDistances(final double[][] distanceObjectives,
-			final Population<T> population) {
-		Validate.notNull(distanceObjectives);
+	/**
+	 * Build the nearest neighbors search over the population.
+	 * <p>
+	 * A KD-tree is only used when the distance is an {@link EuclideanDistance},
+	 * such as the one set by the factory methods of {@link SPEA2Replacement}, and
+	 * its objectives are finite and few enough. Otherwise the distances to every
+	 * individual are evaluated, so a user supplied distance is always honored
+	 */
+	protected NeighborSearch neighborSearch(final BiFunction<T, T, Double> distance, final Population<T> population) {
+		Validate.notNull(distance);
 		Validate.notNull(population);
-		Validate.isTrue(population.size() == distanceObjectives.length); // won't test all the rows
 		Validate.isTrue(population.size() > 0);
 
-		final List<List<Pair<Integer, Double>>> distances = new ArrayList<>();
-		for (int i = 0; i < population.size(); i++) {
-			final T fitness = population.getFitness(i);
-
-			final List<Pair<Integer, Double>> kthDistances = SPEA2Utils
-					.kthDistances(distanceObjectives, i, fitness, population);
-			distances.add(kthDistances);
+		final List<T> fitnesses = population.getAllFitnesses();
 
+		if (distance instanceof EuclideanDistance<T> euclideanDistance) {
+			return euclideanNeighborSearch(euclideanDistance.objectives(), fitnesses);
 		}
-		return distances;
+
+		return new BruteForceNeighborSearch(fitnesses.size(),
+				(i, j) -> distance.apply(fitnesses.get(i), fitnesses.get(j)));
 	}
 
-	protected double[] computeDensity(final List<List<Pair<Integer, Double>>> distances, final int k,
+	/**
+	 * Compute the density of each individual from the distance to its k-th nearest
+	 * neighbor
+	 */
+	protected double[] computeDensity(final NeighborSearch neighborSearch, final int k,
 			final Population<T> population) {
-		Validate.notNull(distances);
-		Validate.isTrue(population.size() == distances.size());
+		Validate.notNull(neighborSearch);
 		Validate.isTrue(k > 0);
 		Validate.notNull(population);
 		Validate.isTrue(population.size() > 0);
+		Validate.isTrue(population.size() == neighborSearch.size());
 
 		final double[] density = new double[population.size()];
-		for (int i = 0; i < population.size(); i++) {
-			density[i] = 1.0d / (distances.get(i)
-					.get(k)
-					.getRight() + 2);
-		}
+		SPEA2Utils.forEachRange(population.size(), executorService, (from, to) -> {
+			final int[] neighbors = new int[k];
+			final double[] distances = new double[k];
+
+			for (int i = from; i < to; i++) {
+				final int numNeighbors = neighborSearch.nearest(i, k, null, neighbors, distances);
+
+				// Without any neighbor, the individual is as isolated as can be
+				final double kthDistance = numNeighbors > 0 ? distances[numNeighbors - 1] : Double.POSITIVE_INFINITY;
+				density[i] = 1.0d / (kthDistance + 2);
+			}
+		});
 
 		return density;
 	}
@@ -141,20 +159,6 @@ public class SPEA2ReplacementStrategyImplementor<T extends Comparable<T>> implem
 		return finalFitness;
 	}
 
-	protected int skipNull(final List<Pair<Integer, Double>> distances, final int i) {
-		Validate.notNull(distances);
-		Validate.isTrue(i >= 0);
-		Validate.isTrue(i <= distances.size());
-
-		int j = i;
-
-		while (j < distances.size() && distances.get(j) == null) {
-			j++;
-		}
-
-		return j;
-	}
-
 	protected List<Integer> computeAdditionalIndividuals(final Set<Integer> selectedIndex, final double[] rawFitness,
 			final Population<T> population, final int numIndividuals) {
 		Validate.notNull(selectedIndex);
@@ -177,106 +181,18 @@ public class SPEA2ReplacementStrategyImplementor<T extends Comparable<T>> implem
 		return additionalIndividuals;
 	}
 
-	protected void truncatePopulation(final List<List<Pair<Integer, Double>>> distances, final Population<T> population,
+	protected void truncatePopulation(final NeighborSearch neighborSearch, final Population<T> population,
 			final int numIndividuals, final Set<Integer> selectedIndex) {
+		Validate.notNull(neighborSearch);
+		Validate.notNull(population);
+		Validate.isTrue(population.size() == neighborSearch.size());
+		Validate.notNull(selectedIndex);
 
-		final Map<Integer, List<Pair<Integer, Double>>> selectedDistances = new HashMap<>();
-		final Map<Integer, Map<Integer, Integer>> selectedDistancesIndex = new HashMap<>();
-
-		/**
-		 * The goal here is two fold:
-		 * - Build selectedDistances, which is a map of individual index -> ordered list
-		 * of nearest neighbors, with only the individuals from selectedIndex. This will
-		 * prevent the unnecessary processing of ignored individuals
-		 * 
-		 * - Build an inverted index selectedDistancesIndex so that we know where to
-		 * delete entries in selectedDistances whenever an individual has been removed
-		 * The index is in the form: individual -> key in selectedDistance -> Which
-		 * position in the nearest neighbors
-		 */
-		for (final int index : selectedIndex) {
-
-			final List<Pair<Integer, Double>> kthDistances = distances.get(index)
-					.stream()
-					.filter(p -> selectedIndex.contains(p.getLeft()))
-					.collect(Collectors.toList());
-
-			Validate.isTrue(kthDistances.size() == selectedIndex.size());
-			selectedDistances.put(index, kthDistances);
-
-			for (int i = 0; i < kthDistances.size(); i++) {
-				final Pair<Integer, Double> pair = kthDistances.get(i);
-
-				if (selectedDistancesIndex.containsKey(pair.getKey()) == false) {
-					selectedDistancesIndex.put(pair.getKey(), new HashMap<>());
-				}
-
-				selectedDistancesIndex.get(pair.getKey())
-						.put(index, i);
-			}
-		}
-
-		while (selectedIndex.size() > numIndividuals) {
-
-			int minIndex = -1;
-			List<Pair<Integer, Double>> minDistances = null;
-			for (final int candidateIndex : selectedIndex) {
-
-				if (minIndex < 0) {
-					minIndex = candidateIndex;
-					minDistances = selectedDistances.get(candidateIndex);
-				} else {
-					final List<Pair<Integer, Double>> distancesCandidate = selectedDistances.get(candidateIndex);
-					Validate.isTrue(minDistances.size() == distancesCandidate.size());
-
-					int result = 0;
-					int j = skipNull(minDistances, 0);
-					int l = skipNull(distancesCandidate, 0);
-
-					while (result == 0 && j < minDistances.size() && l < distancesCandidate.size()) {
-
-						result = Double.compare(minDistances.get(j)
-								.getRight(),
-								distancesCandidate.get(l)
-										.getRight());
-
-						j++;
-						j = skipNull(minDistances, j);
-
-						l++;
-						l = skipNull(distancesCandidate, l);
-					}
-
-					if (result > 0) {
-						minIndex = candidateIndex;
-						minDistances = distancesCandidate;
-					}
-				}
-			}
-
-			/**
-			 * We cannot just remove it. We have to set the entry to 'null' as to not mess
-			 * up the positions recorded in selectedDistancesIndex.
-			 */
-			final Map<Integer, Integer> reverseIndex = selectedDistancesIndex.get(minIndex);
-			for (Entry<Integer, Integer> entry : reverseIndex.entrySet()) {
-				final List<Pair<Integer, Double>> distancesToClean = selectedDistances.get(entry.getKey());
-				distancesToClean.set((int) entry.getValue(), null);
-			}
-			for (Map<Integer, Integer> map : selectedDistancesIndex.values()) {
-				map.remove(minIndex);
-			}
-
-			selectedDistancesIndex.remove(minIndex);
-			selectedDistances.remove(minIndex);
-			selectedIndex.remove(minIndex);
-		}
-
+		SPEA2Truncation.truncate(neighborSearch, selectedIndex, numIndividuals);
 	}
 
-	protected Set<Integer> environmentalSelection(final List<List<Pair<Integer, Double>>> distances,
-			final double[] rawFitness, final double[] finalFitness, final Population<T> population,
-			final int numIndividuals) {
+	protected Set<Integer> environmentalSelection(final NeighborSearch neighborSearch, final double[] rawFitness,
+			final double[] finalFitness, final Population<T> population, final int numIndividuals) {
 
 		final Set<Integer> selectedIndex = IntStream.range(0, population.size())
 				.boxed()
@@ -299,7 +215,7 @@ public class SPEA2ReplacementStrategyImplementor<T extends Comparable<T>> implem
 		if (selectedIndex.size() > numIndividuals) {
 			logger.trace("Need to remove {} individuals", selectedIndex.size() - numIndividuals);
 
-			truncatePopulation(distances, population, numIndividuals, selectedIndex);
+			truncatePopulation(neighborSearch, population, numIndividuals, selectedIndex);
 		}
 
 		return selectedIndex;
@@ -378,22 +294,18 @@ public class SPEA2ReplacementStrategyImplementor<T extends Comparable<T>> implem
 		Validate.isTrue(k > 0);
 
 		///////////////// Fitness computation //////////////////////
-		final double[] strengths = computeStrength(dominance, combinedPopulation);
-
-		final double[][] distanceObjectives = computeObjectiveDistances(spea2Replacement.distance(), combinedPopulation);
-
-		final double[] rawFitness = computeRawFitness(dominance, strengths, combinedPopulation);
+		final StrengthRawFitness strengthRawFitness = computeStrengthRawFitness(dominance, combinedPopulation);
+		final double[] rawFitness = strengthRawFitness.rawFitness();
 
-		final List<List<Pair<Integer, Double>>> distances = computeSortedDistances(distanceObjectives,
-				combinedPopulation);
+		final NeighborSearch neighborSearch = neighborSearch(spea2Replacement.distance(), combinedPopulation);
 
-		final double[] density = computeDensity(distances, k, combinedPopulation);
+		final double[] density = computeDensity(neighborSearch, k, combinedPopulation);
 
 		final double[] finalFitness = computeFinalFitness(rawFitness, density, combinedPopulation);
 
 		///////////////// Environmental Selection //////////////////
 
-		final Set<Integer> selectedIndex = environmentalSelection(distances,
+		final Set<Integer> selectedIndex = environmentalSelection(neighborSearch,
 				rawFitness,
 				finalFitness,
 				combinedPopulation,
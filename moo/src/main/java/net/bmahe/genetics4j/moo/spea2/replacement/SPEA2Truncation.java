@@ -0,0 +1,213 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * SPEA2 archive truncation
+ * <p>
+ * Individuals are iteratively removed from the selection, picking each time the
+ * one with the lexicographically smallest sorted distances to the other
+ * selected individuals. Ties are broken in favor of removing the lowest index.
+ * <p>
+ * Rather than sorting the distances to every selected individual, each
+ * individual only keeps its closest neighbors, fetched from a
+ * {@link NeighborSearch} and extended on demand whenever a comparison needs to
+ * look further. The selected individuals are kept ordered and, upon each
+ * removal, only the individuals having the removed one as a known neighbor are
+ * updated.
+ */
+public class SPEA2Truncation {
+
+	/**
+	 * Number of neighbors fetched at first for each individual
+	 */
+	private static final int INITIAL_NEIGHBORS = 8;
+
+	private final NeighborSearch neighborSearch;
+	private final boolean[] active;
+	private int numActive;
+
+	/**
+	 * Known closest neighbors among the active individuals, by increasing distance
+	 */
+	private final int[][] neighbors;
+	private final double[][] distances;
+	private final int[] numNeighbors;
+
+	/**
+	 * Whether the known neighbors are all the other active individuals
+	 */
+	private final boolean[] complete;
+
+	/**
+	 * Individuals which have fetched a given individual as a neighbor. May contain
+	 * duplicates and stale entries
+	 */
+	private final int[][] reverseNeighbors;
+	private final int[] numReverseNeighbors;
+
+	/**
+	 * Individuals taken out of the candidates while removing an individual
+	 */
+	private final boolean[] detached;
+
+	private final TreeSet<Integer> candidates;
+
+	private SPEA2Truncation(final NeighborSearch _neighborSearch, final Set<Integer> selectedIndex) {
+		this.neighborSearch = _neighborSearch;
+
+		final int size = neighborSearch.size();
+		this.active = new boolean[size];
+		for (final int index : selectedIndex) {
+			Validate.inclusiveBetween(0, size - 1, index);
+			active[index] = true;
+		}
+		this.numActive = selectedIndex.size();
+
+		this.neighbors = new int[size][];
+		this.distances = new double[size][];
+		this.numNeighbors = new int[size];
+		this.complete = new boolean[size];
+		this.reverseNeighbors = new int[size][];
+		this.numReverseNeighbors = new int[size];
+
+		this.detached = new boolean[size];
+		this.candidates = new TreeSet<>(this::compare);
+	}
+
+	private void addReverseNeighbor(final int index, final int reverseNeighbor) {
+		if (reverseNeighbors[index] == null) {
+			reverseNeighbors[index] = new int[INITIAL_NEIGHBORS];
+		} else if (numReverseNeighbors[index] == reverseNeighbors[index].length) {
+			reverseNeighbors[index] = Arrays.copyOf(reverseNeighbors[index], 2 * numReverseNeighbors[index]);
+		}
+
+		reverseNeighbors[index][numReverseNeighbors[index]++] = reverseNeighbor;
+	}
+
+	/**
+	 * Fetch more neighbors for an individual. The ones already known remain the
+	 * first ones since neighbors are ordered by distance and then by index
+	 */
+	private void fetchNeighbors(final int index) {
+		final int capacity = neighbors[index] == null ? INITIAL_NEIGHBORS : 2 * neighbors[index].length;
+		final int k = Math.max(1, Math.min(capacity, numActive - 1));
+
+		neighbors[index] = new int[k];
+		distances[index] = new double[k];
+		numNeighbors[index] = neighborSearch.nearest(index, k, active, neighbors[index], distances[index]);
+		complete[index] = numNeighbors[index] == numActive - 1;
+
+		for (int i = 0; i < numNeighbors[index]; i++) {
+			addReverseNeighbor(neighbors[index][i], index);
+		}
+	}
+
+	/**
+	 * Ensure the neighbor at the given rank is known, unless there is none
+	 */
+	private boolean hasNeighbor(final int index, final int rank) {
+		while (numNeighbors[index] <= rank && complete[index] == false) {
+			fetchNeighbors(index);
+		}
+
+		return rank < numNeighbors[index];
+	}
+
+	private int compare(final int a, final int b) {
+		if (a == b) {
+			return 0;
+		}
+
+		for (int rank = 0; hasNeighbor(a, rank) && hasNeighbor(b, rank); rank++) {
+			final int comparison = Double.compare(distances[a][rank], distances[b][rank]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+
+		return Integer.compare(a, b);
+	}
+
+	private boolean removeNeighbor(final int index, final int neighbor) {
+		final int[] indexNeighbors = neighbors[index];
+		final int count = numNeighbors[index];
+
+		int position = 0;
+		while (position < count && indexNeighbors[position] != neighbor) {
+			position++;
+		}
+
+		if (position == count) {
+			return false;
+		}
+
+		System.arraycopy(indexNeighbors, position + 1, indexNeighbors, position, count - position - 1);
+		System.arraycopy(distances[index], position + 1, distances[index], position, count - position - 1);
+		numNeighbors[index]--;
+		return true;
+	}
+
+	private void remove(final int removed) {
+		/**
+		 * The ordering of the individuals knowing the removed one as a neighbor is
+		 * about to change. They have to be taken out of the candidates before the
+		 * removal, while their ordering is still consistent. Taking them out can
+		 * trigger more neighbor fetches, hence the size being re-evaluated
+		 */
+		for (int i = 0; i < numReverseNeighbors[removed]; i++) {
+			final int index = reverseNeighbors[removed][i];
+			if (active[index] && detached[index] == false) {
+				candidates.remove(index);
+				detached[index] = true;
+			}
+		}
+
+		active[removed] = false;
+		numActive--;
+		neighbors[removed] = null;
+		distances[removed] = null;
+
+		for (int i = 0; i < numReverseNeighbors[removed]; i++) {
+			final int index = reverseNeighbors[removed][i];
+			if (detached[index]) {
+				removeNeighbor(index, removed);
+				candidates.add(index);
+				detached[index] = false;
+			}
+		}
+		reverseNeighbors[removed] = null;
+	}
+
+	/**
+	 * Truncate the selected individuals down to the requested number
+	 * 
+	 * @param neighborSearch Nearest neighbors search over the whole population
+	 * @param selectedIndex  Selected individuals, which get updated in place
+	 * @param numIndividuals Number of individuals to keep
+	 */
+	public static void truncate(final NeighborSearch neighborSearch, final Set<Integer> selectedIndex,
+			final int numIndividuals) {
+		Validate.notNull(neighborSearch);
+		Validate.notNull(selectedIndex);
+		Validate.isTrue(numIndividuals > 0);
+
+		if (selectedIndex.size() <= numIndividuals) {
+			return;
+		}
+
+		final SPEA2Truncation truncation = new SPEA2Truncation(neighborSearch, selectedIndex);
+		truncation.candidates.addAll(selectedIndex);
+
+		while (truncation.numActive > numIndividuals) {
+			final int removed = truncation.candidates.pollFirst();
+
+			truncation.remove(removed);
+			selectedIndex.remove(removed);
+		}
+	}
+}
@@ -1,7 +1,10 @@
 package net.bmahe.genetics4j.moo.spea2.replacement;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -13,9 +16,207 @@ import net.bmahe.genetics4j.core.Population;
 
 public class SPEA2Utils {
 
+	/**
+	 * Population size up to which the dominance relation is kept in memory as
+	 * bitset matrices, which take 64MB at most
+	 */
+	public static final int MAX_BITSET_POPULATION_SIZE = 16_384;
+
+	/**
+	 * Number of individuals compared against a block of rows at once when the
+	 * dominance relation is not kept in memory
+	 */
+	private static final int COLUMN_BLOCK_SIZE = 1_024;
+
 	private SPEA2Utils() {
 	}
 
+	@FunctionalInterface
+	interface RangeTask {
+		void run(int from, int to);
+	}
+
+	/**
+	 * Split [0, size) into contiguous ranges processed on the executor service and
+	 * wait for their completion
+	 */
+	static void forEachRange(final int size, final ExecutorService executorService, final RangeTask task) {
+		final int numRanges = Math.min(size, 4 * Runtime.getRuntime()
+				.availableProcessors());
+		final int rangeSize = (size + numRanges - 1) / numRanges;
+
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>(numRanges);
+		for (int from = 0; from < size; from += rangeSize) {
+			final int rangeStart = from;
+			final int rangeEnd = Math.min(size, from + rangeSize);
+			tasks.add(CompletableFuture.runAsync(() -> task.run(rangeStart, rangeEnd), executorService));
+		}
+
+		CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()]))
+				.join();
+	}
+
+	/**
+	 * Compare an individual with all the ones following it, assuming the dominance
+	 * relation is antisymmetric
+	 */
+	private static <T> void compareFollowing(final Comparator<T> dominance, final List<T> fitnesses, final int i,
+			final long[] dominates, final long[] dominatedBy) {
+		final T fitness = fitnesses.get(i);
+
+		for (int j = i + 1; j < fitnesses.size(); j++) {
+			final int comparison = dominance.compare(fitness, fitnesses.get(j));
+			if (comparison > 0) {
+				dominates[j >>> 6] |= 1L << j;
+			} else if (comparison < 0) {
+				dominatedBy[j >>> 6] |= 1L << j;
+			}
+		}
+	}
+
+	/**
+	 * Compute the strength and raw fitness of every individual, in parallel
+	 * <p>
+	 * For populations of up to {@link #MAX_BITSET_POPULATION_SIZE} individuals,
+	 * each pair of individuals is compared once and the dominance relation is kept
+	 * as bitset matrices. For larger populations, it is evaluated in two passes over
+	 * blocks of individuals, one for the strengths and one for the raw fitness.
+	 * <p>
+	 * The dominance relation is expected to be antisymmetric and individuals never
+	 * dominate themselves.
+	 * 
+	 * @param <T>             Type of the fitness measurement
+	 * @param dominance       Dominance relation
+	 * @param fitnesses       Fitness of each individual
+	 * @param executorService Executor service running the computations
+	 * @return the strength and raw fitness of each individual
+	 */
+	public static <T extends Comparable<T>> StrengthRawFitness strengthRawFitness(final Comparator<T> dominance,
+			final List<T> fitnesses, final ExecutorService executorService) {
+		return strengthRawFitness(dominance, fitnesses, executorService, MAX_BITSET_POPULATION_SIZE);
+	}
+
+	static <T extends Comparable<T>> StrengthRawFitness strengthRawFitness(final Comparator<T> dominance,
+			final List<T> fitnesses, final ExecutorService executorService, final int maxBitsetPopulationSize) {
+		Validate.notNull(dominance);
+		Validate.notNull(fitnesses);
+		Validate.isTrue(fitnesses.isEmpty() == false);
+		Validate.notNull(executorService);
+
+		final int size = fitnesses.size();
+		final double[] strengths = new double[size];
+		final double[] rawFitness = new double[size];
+
+		if (size <= maxBitsetPopulationSize) {
+			/**
+			 * Each pair is compared once, by the individual with the lowest index.
+			 * dominates[i] records which of the following individuals i dominates, while
+			 * dominatedBy[i] records which of them dominate i
+			 */
+			final int numWords = (size + 63) >>> 6;
+			final long[][] dominates = new long[size][numWords];
+			final long[][] dominatedBy = new long[size][numWords];
+
+			// Rows are folded, pairing the first with the last, so every range holds as
+			// many comparisons
+			forEachRange((size + 1) / 2, executorService, (from, to) -> {
+				for (int row = from; row < to; row++) {
+					compareFollowing(dominance, fitnesses, row, dominates[row], dominatedBy[row]);
+
+					final int foldedRow = size - 1 - row;
+					if (foldedRow != row) {
+						compareFollowing(dominance, fitnesses, foldedRow, dominates[foldedRow], dominatedBy[foldedRow]);
+					}
+				}
+			});
+
+			forEachRange(size, executorService, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					int dominatedCount = 0;
+					for (final long bits : dominates[i]) {
+						dominatedCount += Long.bitCount(bits);
+					}
+					for (int k = 0; k < i; k++) {
+						dominatedCount += (int) (dominatedBy[k][i >>> 6] >>> i) & 1;
+					}
+					strengths[i] = dominatedCount;
+				}
+			});
+
+			forEachRange(size, executorService, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					final long[] dominatedByI = dominatedBy[i];
+
+					double sum = 0;
+					for (int word = 0; word < dominatedByI.length; word++) {
+						long bits = dominatedByI[word];
+						while (bits != 0) {
+							sum += strengths[(word << 6) + Long.numberOfTrailingZeros(bits)];
+							bits &= bits - 1;
+						}
+					}
+					for (int k = 0; k < i; k++) {
+						if (((dominates[k][i >>> 6] >>> i) & 1) != 0) {
+							sum += strengths[k];
+						}
+					}
+					rawFitness[i] = sum;
+				}
+			});
+		} else {
+			forEachRange(size, executorService, (from, to) -> {
+				for (int blockStart = 0; blockStart < size; blockStart += COLUMN_BLOCK_SIZE) {
+					final int blockEnd = Math.min(size, blockStart + COLUMN_BLOCK_SIZE);
+
+					for (int i = from; i < to; i++) {
+						final T fitness = fitnesses.get(i);
+
+						int dominatedCount = 0;
+						for (int j = blockStart; j < blockEnd; j++) {
+							if (dominance.compare(fitness, fitnesses.get(j)) > 0) {
+								dominatedCount++;
+							}
+						}
+						strengths[i] += dominatedCount;
+					}
+				}
+			});
+
+			forEachRange(size, executorService, (from, to) -> {
+				for (int blockStart = 0; blockStart < size; blockStart += COLUMN_BLOCK_SIZE) {
+					final int blockEnd = Math.min(size, blockStart + COLUMN_BLOCK_SIZE);
+
+					for (int i = from; i < to; i++) {
+						final T fitness = fitnesses.get(i);
+
+						double sum = 0;
+						for (int j = blockStart; j < blockEnd; j++) {
+							if (i != j && dominance.compare(fitness, fitnesses.get(j)) < 0) {
+								sum += strengths[j];
+							}
+						}
+						rawFitness[i] += sum;
+					}
+				}
+			});
+		}
+
+		return new StrengthRawFitness(strengths, rawFitness);
+	}
+
+	/**
+	 * Count the individuals dominated by the one at index
+	 * 
+	 * @param <T>        Type of the fitness measurement
+	 * @param dominance  Dominance relation
+	 * @param index      Individual whose strength is computed
+	 * @param fitness    Fitness of the individual
+	 * @param population Population of the individuals
+	 * @return the strength of the individual
+	 * @deprecated Use {@link #strengthRawFitness(Comparator, List, ExecutorService)},
+	 *             which computes the strength of every individual at once
+	 */
+	@Deprecated
 	public static <T extends Comparable<T>> int strength(final Comparator<T> dominance, final int index,
 			final T fitness, final Population<T> population) {
 		Validate.isTrue(index >= 0);
@@ -38,6 +239,20 @@ public class SPEA2Utils {
 		return dominatedCount;
 	}
 
+	/**
+	 * Sum the strengths of the individuals dominating the one at index
+	 * 
+	 * @param <T>        Type of the fitness measurement
+	 * @param dominance  Dominance relation
+	 * @param strengths  Strength of each individual
+	 * @param index      Individual whose raw fitness is computed
+	 * @param fitness    Fitness of the individual
+	 * @param population Population of the individuals
+	 * @return the raw fitness of the individual
+	 * @deprecated Use {@link #strengthRawFitness(Comparator, List, ExecutorService)},
+	 *             which computes the raw fitness of every individual at once
+	 */
+	@Deprecated
 	public static <T extends Comparable<T>> int rawFitness(final Comparator<T> dominance, final double[] strengths,
 			final int index, final T fitness, final Population<T> population) {
 		Validate.isTrue(index >= 0);
@@ -64,6 +279,21 @@ public class SPEA2Utils {
 		return rawFitness;
 	}
 
+	/**
+	 * Sort all the individuals by distance to the one at index, itself included
+	 * 
+	 * @param <T>                Type of the fitness measurement
+	 * @param distanceObjectives Distance matrix between all the individuals
+	 * @param index              Individual whose distances are sorted
+	 * @param fitness            Fitness of the individual
+	 * @param combinedPopulation Population of the individuals
+	 * @return the index of each individual and its distance, by increasing
+	 *         distance then index
+	 * @deprecated SPEA2 replacement no longer builds a distance matrix and uses a
+	 *             {@link NeighborSearch}, which only looks at the neighbors it
+	 *             needs
+	 */
+	@Deprecated
 	public static <T extends Comparable<T>> List<Pair<Integer, Double>> kthDistances(
 			final double[][] distanceObjectives, final int index, final T fitness,
 			final Population<T> combinedPopulation) {
@@ -82,5 +312,4 @@ public class SPEA2Utils {
 				.collect(Collectors.toList());
 
 	}
-
-}
\ No newline at end of file
+}
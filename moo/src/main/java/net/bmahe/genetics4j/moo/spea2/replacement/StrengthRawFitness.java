@@ -0,0 +1,11 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+/**
+ * SPEA2 strength and raw fitness of each individual of a population
+ * 
+ * @param strengths  Number of individuals dominated by each individual
+ * @param rawFitness Sum of the strengths of the individuals dominating each
+ *                   individual
+ */
+public record StrengthRawFitness(double[] strengths, double[] rawFitness) {
+}
@@ -0,0 +1,38 @@
+package net.bmahe.genetics4j.moo.spea2.spec.replacement;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Euclidean distance between the objectives of two fitnesses
+ * <p>
+ * When used as {@link SPEA2Replacement#distance()}, nearest neighbors are found
+ * through a spatial index over the objectives instead of evaluating the
+ * distance between every pair of individuals.
+ *
+ * @param <T>        Type of the fitness measurement
+ * @param objectives Extract the objectives of a fitness as coordinates in
+ *                   objective space
+ */
+public record EuclideanDistance<T>(Function<T, double[]> objectives) implements BiFunction<T, T, Double> {
+
+	public EuclideanDistance {
+		Validate.notNull(objectives);
+	}
+
+	@Override
+	public Double apply(final T a, final T b) {
+		final double[] objectivesA = objectives.apply(a);
+		final double[] objectivesB = objectives.apply(b);
+		Validate.isTrue(objectivesA.length == objectivesB.length);
+
+		double sum = 0.0;
+		for (int i = 0; i < objectivesA.length; i++) {
+			sum += (objectivesB[i] - objectivesA[i]) * (objectivesB[i] - objectivesA[i]);
+		}
+
+		return Math.sqrt(sum);
+	}
+}
@@ -8,6 +8,7 @@ import org.immutables.value.Value;
 
 import net.bmahe.genetics4j.core.Genotype;
 import net.bmahe.genetics4j.core.spec.replacement.ReplacementStrategy;
+import net.bmahe.genetics4j.moo.DoubleFitnessVector;
 import net.bmahe.genetics4j.moo.FitnessVector;
 
 @Value.Immutable
@@ -49,6 +50,10 @@ public abstract class SPEA2Replacement<T extends Comparable<T>> implements Repla
 
 	/**
 	 * Define how to compute distances in objective space between two solutions
+	 * <p>
+	 * When it is an {@link EuclideanDistance}, as set by the factory methods,
+	 * nearest neighbors are found through a spatial index over its objectives.
+	 * Any other distance is evaluated between every pair of individuals
 	 * 
 	 * @return Distance
 	 */
@@ -77,20 +82,13 @@ public abstract class SPEA2Replacement<T extends Comparable<T>> implements Repla
 		final var builder = new Builder<FitnessVector<U>>();
 		builder.deduplicate(Optional.ofNullable(deduplicate));
 
-		builder.distance((fv1, fv2) -> {
-
-			final int dimensions = fv1.dimensions();
-
-			double sum = 0.0;
-			for (int i = 0; i < dimensions; i++) {
-				final double v1 = fv1.get(i).doubleValue();
-				final double v2 = fv2.get(i).doubleValue();
-
-				sum += (v2 - v1) * (v2 - v1);
+		builder.distance(new EuclideanDistance<FitnessVector<U>>((fitnessVector) -> {
+			final double[] values = new double[fitnessVector.dimensions()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = fitnessVector.get(i).doubleValue();
 			}
-
-			return Math.sqrt(sum);
-		});
+			return values;
+		}));
 
 		return builder.build();
 	}
@@ -106,4 +104,32 @@ public abstract class SPEA2Replacement<T extends Comparable<T>> implements Repla
 
 		return ofFitnessVector(null);
 	}
+
+	/**
+	 * Factory method to instantiate a SPEA2Selection when fitness is defined as a
+	 * DoubleFitnessVector
+	 * 
+	 * @param deduplicate Deduplicator comparator. Null value with disable
+	 *                    deduplication
+	 * @return A new instance of SPEA2Replacement
+	 */
+	public static SPEA2Replacement<DoubleFitnessVector> ofDoubleFitnessVector(final Comparator<Genotype> deduplicate) {
+
+		final var builder = new Builder<DoubleFitnessVector>();
+		builder.deduplicate(Optional.ofNullable(deduplicate));
+		builder.distance(new EuclideanDistance<DoubleFitnessVector>(DoubleFitnessVector::toArray));
+
+		return builder.build();
+	}
+
+	/**
+	 * Factory method to instantiate a SPEA2Selection when fitness is defined as a
+	 * DoubleFitnessVector
+	 * 
+	 * @return A new instance of SPEA2Replacement
+	 */
+	public static SPEA2Replacement<DoubleFitnessVector> ofDoubleFitnessVector() {
+
+		return ofDoubleFitnessVector(null);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package net.bmahe.genetics4j.moo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleFitnessVectorTest {
+
+	@Test
+	public void ctorNoArg() {
+		assertThrows(NullPointerException.class, () -> new DoubleFitnessVector((double[]) null));
+	}
+
+	@Test
+	public void ctorEmptyArg() {
+		assertThrows(IllegalArgumentException.class, () -> new DoubleFitnessVector());
+	}
+
+	@Test
+	public void ctorNoDirectionArg() {
+		assertThrows(NullPointerException.class, () -> new DoubleFitnessVector(new double[] { 2.0d }, null));
+	}
+
+	@Test
+	public void ctorNotSameSizeDirectionArg() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new DoubleFitnessVector(new double[] { 2.0d }, new boolean[] { true, false }));
+	}
+
+	@Test
+	public void negativeGetIndex() {
+		final DoubleFitnessVector fv1 = new DoubleFitnessVector(1, 2, 3, 4);
+
+		assertThrows(IllegalArgumentException.class, () -> fv1.get(-10));
+		assertThrows(IllegalArgumentException.class, () -> fv1.isMaximized(-10));
+	}
+
+	@Test
+	public void outOfBoundGetIndex() {
+		final DoubleFitnessVector fv1 = new DoubleFitnessVector(1, 2, 3, 4);
+
+		assertThrows(IllegalArgumentException.class, () -> fv1.get(10));
+		assertThrows(IllegalArgumentException.class, () -> fv1.isMaximized(10));
+	}
+
+	@Test
+	public void simpleChecks() {
+		final double[] values = { 1, 2, 3, 4 };
+		final DoubleFitnessVector fv1 = new DoubleFitnessVector(values);
+		values[0] = 10;
+
+		assertEquals(4, fv1.dimensions());
+		assertEquals(1.0d, fv1.get(0));
+		assertEquals(2.0d, fv1.get(1));
+		assertEquals(3.0d, fv1.get(2));
+		assertEquals(4.0d, fv1.get(3));
+		assertTrue(fv1.isMaximized(0));
+
+		final DoubleFitnessVector fv2 = new DoubleFitnessVector(1, 2, 3, 4);
+		assertEquals(0, fv1.compareTo(fv2));
+		assertEquals(fv1, fv2);
+		assertEquals(fv1.hashCode(), fv2.hashCode());
+		assertNotEquals(fv1, null);
+		assertNotEquals(fv1, new DoubleFitnessVector(1, 2, 3, 4, 5));
+		assertNotEquals(fv1, new DoubleFitnessVector(1, 2, 3, 5));
+		assertNotEquals(fv1, new DoubleFitnessVector(new double[] { 1, 2, 3, 4 },
+				new boolean[] { true, true, true, false }));
+	}
+
+	@Test
+	public void dominanceChecks() {
+		assertEquals(1, new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(0, 2)));
+		assertEquals(0, new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(1, 2)));
+		assertEquals(0, new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(0, 3)));
+		assertEquals(-1, new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(2, 2)));
+		assertEquals(-1, new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(3, 2)));
+
+		final DoubleFitnessVector minimized = new DoubleFitnessVector(new double[] { 1, 2 },
+				new boolean[] { false, false });
+		assertFalse(minimized.isMaximized(0));
+		assertEquals(1, minimized.compareTo(new DoubleFitnessVector(3, 2)));
+		assertEquals(-1, minimized.compareTo(new DoubleFitnessVector(0, 2)));
+	}
+
+	@Test
+	public void dominanceCheckDifferentDimensions() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new DoubleFitnessVector(1, 2).compareTo(new DoubleFitnessVector(0, 2, 3)));
+	}
+
+	@Test
+	public void dominanceMatchesFitnessVector() {
+		final Random random = new Random(42);
+		final boolean[] maximize = { true, false, true };
+		final List<Comparator<Double>> comparators = List.of(Comparator.naturalOrder(),
+				Comparator.reverseOrder(),
+				Comparator.naturalOrder());
+
+		for (int i = 0; i < 1000; i++) {
+			final double[] values1 = new double[maximize.length];
+			final double[] values2 = new double[maximize.length];
+			final List<Double> boxedValues1 = new ArrayList<>();
+			final List<Double> boxedValues2 = new ArrayList<>();
+			for (int m = 0; m < maximize.length; m++) {
+				values1[m] = random.nextInt(3);
+				values2[m] = random.nextInt(3);
+				boxedValues1.add(values1[m]);
+				boxedValues2.add(values2[m]);
+			}
+
+			assertEquals(
+					FitnessVector.compare(new FitnessVector<>(boxedValues1, comparators),
+							new FitnessVector<>(boxedValues2, comparators)),
+					DoubleFitnessVector.compare(new DoubleFitnessVector(values1, maximize),
+							new DoubleFitnessVector(values2, maximize)));
+		}
+	}
+
+	@Test
+	public void euclideanDistance() {
+		assertEquals(5.0d, DoubleFitnessVector.euclideanDistance(new DoubleFitnessVector(1, 2),
+				new DoubleFitnessVector(4, 6)));
+		assertThrows(IllegalArgumentException.class,
+				() -> DoubleFitnessVector.euclideanDistance(new DoubleFitnessVector(1, 2),
+						new DoubleFitnessVector(0, 2, 3)));
+	}
+}
@@ -0,0 +1,271 @@
+package net.bmahe.genetics4j.moo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Individual;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.Optimization;
+import net.bmahe.genetics4j.moo.nsga2.impl.NSGA2Utils;
+
+public class ParetoArchiveTest {
+
+	private static Genotype genotype(final int value) {
+		return new Genotype(new IntChromosome(1, 0, Integer.MAX_VALUE, new int[] { value }));
+	}
+
+	private static Set<DoubleFitnessVector> fitnesses(final ParetoArchive<DoubleFitnessVector> paretoArchive) {
+		final Set<DoubleFitnessVector> fitnesses = new HashSet<>();
+		for (final Individual<DoubleFitnessVector> individual : paretoArchive.individuals()) {
+			fitnesses.add(individual.fitness());
+		}
+		return fitnesses;
+	}
+
+	private static Set<DoubleFitnessVector> naiveNonDominated(final List<DoubleFitnessVector> fitnesses) {
+		final Set<DoubleFitnessVector> nonDominated = new HashSet<>();
+		for (final DoubleFitnessVector candidate : fitnesses) {
+			boolean isDominated = false;
+			for (final DoubleFitnessVector other : fitnesses) {
+				if (candidate.compareTo(other) < 0) {
+					isDominated = true;
+					break;
+				}
+			}
+			if (isDominated == false) {
+				nonDominated.add(candidate);
+			}
+		}
+		return nonDominated;
+	}
+
+	@Test
+	public void invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new ParetoArchive<DoubleFitnessVector>(0, fv -> fv.toArray()));
+		assertThrows(NullPointerException.class, () -> new ParetoArchive<DoubleFitnessVector>(10, null));
+
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(10);
+		assertThrows(NullPointerException.class, () -> paretoArchive.add(null, new DoubleFitnessVector(1.0)));
+		assertThrows(NullPointerException.class, () -> paretoArchive.add(genotype(0), null));
+
+		paretoArchive.add(genotype(0), new DoubleFitnessVector(1.0, 2.0));
+		assertThrows(IllegalArgumentException.class,
+				() -> paretoArchive.add(genotype(1), new DoubleFitnessVector(1.0, 2.0, 3.0)));
+	}
+
+	@Test
+	public void simple() {
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(10);
+		assertTrue(paretoArchive.isEmpty());
+
+		assertTrue(paretoArchive.add(genotype(0), new DoubleFitnessVector(1.0, 1.0)));
+		assertTrue(paretoArchive.add(genotype(1), new DoubleFitnessVector(0.0, 3.0)));
+		assertFalse(paretoArchive.add(genotype(2), new DoubleFitnessVector(0.5, 0.5)));
+		assertFalse(paretoArchive.add(genotype(3), new DoubleFitnessVector(1.0, 1.0)));
+		assertEquals(2, paretoArchive.size());
+
+		assertTrue(paretoArchive.add(genotype(4), new DoubleFitnessVector(2.0, 3.0)));
+		assertEquals(1, paretoArchive.size());
+		assertEquals(genotype(4),
+				paretoArchive.individuals()
+						.get(0)
+						.genotype());
+
+		paretoArchive.clear();
+		assertTrue(paretoArchive.isEmpty());
+		assertTrue(paretoArchive.add(genotype(2), new DoubleFitnessVector(0.5, 0.5)));
+	}
+
+	@Test
+	public void directions() {
+		final ParetoArchive<DoubleFitnessVector> maximizingArchive = ParetoArchive.ofDoubleFitnessVector(10);
+		final ParetoArchive<DoubleFitnessVector> minimizingArchive = ParetoArchive.ofDoubleFitnessVector(10,
+				Optimization.MINIMIZE);
+
+		final boolean[] maximize = new boolean[] { true, false };
+		final DoubleFitnessVector fv1 = new DoubleFitnessVector(new double[] { 2.0, 1.0 }, maximize);
+		final DoubleFitnessVector fv2 = new DoubleFitnessVector(new double[] { 1.0, 2.0 }, maximize);
+
+		for (final ParetoArchive<DoubleFitnessVector> paretoArchive : List.of(maximizingArchive, minimizingArchive)) {
+			paretoArchive.add(genotype(1), fv1);
+			paretoArchive.add(genotype(2), fv2);
+			assertEquals(1, paretoArchive.size());
+		}
+		assertEquals(Set.of(fv1), fitnesses(maximizingArchive));
+		assertEquals(Set.of(fv2), fitnesses(minimizingArchive));
+
+		final ParetoArchive<FitnessVector<Double>> fitnessVectorArchive = ParetoArchive.ofFitnessVector(10);
+		final FitnessVector<Double> fv3 = new FitnessVector<>(List.of(2.0, 1.0),
+				List.of(Double::compare, Collections.reverseOrder()));
+		final FitnessVector<Double> fv4 = new FitnessVector<>(List.of(1.0, 2.0),
+				List.of(Double::compare, Collections.reverseOrder()));
+		fitnessVectorArchive.add(genotype(3), fv3);
+		fitnessVectorArchive.add(genotype(4), fv4);
+		assertEquals(1, fitnessVectorArchive.size());
+		assertEquals(fv3,
+				fitnessVectorArchive.individuals()
+						.get(0)
+						.fitness());
+	}
+
+	@Test
+	public void matchesNaiveNonDominatedFilter() {
+		final Random random = new Random(42);
+
+		for (int numberObjectives = 2; numberObjectives <= 4; numberObjectives++) {
+			final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(100_000);
+			final List<DoubleFitnessVector> offered = new ArrayList<>();
+
+			for (int i = 0; i < 3_000; i++) {
+				final double[] objectives = new double[numberObjectives];
+				double norm = 0.0;
+				for (int m = 0; m < numberObjectives; m++) {
+					// Few distinct values, so equal and weakly dominated individuals do occur
+					objectives[m] = random.nextInt(50);
+					norm += objectives[m] * objectives[m];
+				}
+				if (norm > 50.0 * 50.0) {
+					continue;
+				}
+
+				final DoubleFitnessVector fitness = new DoubleFitnessVector(objectives);
+				offered.add(fitness);
+				paretoArchive.add(genotype(i), fitness);
+
+				if (i % 500 == 0) {
+					assertEquals(naiveNonDominated(offered), fitnesses(paretoArchive));
+				}
+			}
+
+			final Set<DoubleFitnessVector> expected = naiveNonDominated(offered);
+			assertEquals(expected, fitnesses(paretoArchive));
+			assertEquals(expected.size(), paretoArchive.size());
+		}
+	}
+
+	@Test
+	public void evictsMostCrowded() {
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(4);
+
+		paretoArchive.add(genotype(0), new DoubleFitnessVector(0.0, 10.0));
+		paretoArchive.add(genotype(1), new DoubleFitnessVector(3.0, 7.0));
+		paretoArchive.add(genotype(2), new DoubleFitnessVector(3.5, 6.5));
+		paretoArchive.add(genotype(3), new DoubleFitnessVector(6.0, 4.0));
+		assertEquals(4, paretoArchive.size());
+
+		paretoArchive.add(genotype(4), new DoubleFitnessVector(10.0, 0.0));
+		assertEquals(4, paretoArchive.size());
+		assertEquals(Set.of(new DoubleFitnessVector(0.0, 10.0),
+				new DoubleFitnessVector(3.0, 7.0),
+				new DoubleFitnessVector(6.0, 4.0),
+				new DoubleFitnessVector(10.0, 0.0)), fitnesses(paretoArchive));
+	}
+
+	@Test
+	public void boundedArchiveStaysNonDominated() {
+		final Random random = new Random(7);
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(50);
+
+		for (int i = 0; i < 2_000; i++) {
+			final double angle = random.nextDouble() * Math.PI / 2.0;
+			final double radius = 1.0 - random.nextDouble() * 0.1;
+			final DoubleFitnessVector fitness = new DoubleFitnessVector(radius * Math.cos(angle),
+					radius * Math.sin(angle));
+			paretoArchive.add(genotype(i), fitness);
+			assertTrue(paretoArchive.size() <= 50);
+		}
+
+		final Set<DoubleFitnessVector> archived = fitnesses(paretoArchive);
+		assertEquals(50, archived.size());
+		assertEquals(archived, naiveNonDominated(new ArrayList<>(archived)));
+	}
+
+	@Test
+	public void insertsAtCapacityMatchFullCrowdingRecomputation() {
+		final Random random = new Random(11);
+
+		for (int numberObjectives = 2; numberObjectives <= 3; numberObjectives++) {
+			final int capacity = 20;
+			final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(capacity);
+
+			// Reference archive, in insertion order, recomputing all the crowding distances upon eviction
+			final List<DoubleFitnessVector> expected = new ArrayList<>();
+
+			for (int i = 0; i < 2_000; i++) {
+				final double[] objectives = new double[numberObjectives];
+				double norm = 0.0;
+				for (int m = 0; m < numberObjectives; m++) {
+					objectives[m] = random.nextDouble();
+					norm += objectives[m] * objectives[m];
+				}
+				// Close to the unit sphere, so most of the individuals are non-dominated
+				final double radius = (1.0 - random.nextDouble() * 0.05) / Math.sqrt(norm);
+				for (int m = 0; m < numberObjectives; m++) {
+					objectives[m] *= radius;
+				}
+				final DoubleFitnessVector fitness = new DoubleFitnessVector(objectives);
+
+				final boolean isCovered = expected.stream()
+						.anyMatch(archived -> archived.equals(fitness) || archived.compareTo(fitness) > 0);
+				if (isCovered == false) {
+					expected.removeIf(archived -> fitness.compareTo(archived) > 0);
+					expected.add(fitness);
+
+					if (expected.size() > capacity) {
+						final double[][] objectiveMatrix = new double[numberObjectives][expected.size()];
+						for (int j = 0; j < expected.size(); j++) {
+							for (int m = 0; m < numberObjectives; m++) {
+								objectiveMatrix[m][j] = expected.get(j)
+										.get(m);
+							}
+						}
+						final double[] crowdingDistances = NSGA2Utils.crowdingDistanceAssignment(objectiveMatrix, false);
+
+						int evicted = 0;
+						for (int j = 1; j < expected.size(); j++) {
+							if (crowdingDistances[j] < crowdingDistances[evicted]) {
+								evicted = j;
+							}
+						}
+						expected.remove(evicted);
+					}
+				}
+
+				assertEquals(isCovered == false, paretoArchive.add(genotype(i), fitness));
+				assertEquals(new HashSet<>(expected), fitnesses(paretoArchive));
+			}
+		}
+	}
+
+	@Test
+	public void evolutionListener() {
+		final ParetoArchive<DoubleFitnessVector> paretoArchive = ParetoArchive.ofDoubleFitnessVector(10);
+
+		paretoArchive.onEvolution(0,
+				List.of(genotype(0), genotype(1)),
+				List.of(new DoubleFitnessVector(1.0, 0.0), new DoubleFitnessVector(0.0, 1.0)),
+				false);
+		paretoArchive.onEvolution(1,
+				List.of(genotype(2), genotype(3)),
+				List.of(new DoubleFitnessVector(0.0, 0.5), new DoubleFitnessVector(1.0, 1.0)),
+				true);
+
+		final Population<DoubleFitnessVector> population = paretoArchive.toPopulation();
+		assertEquals(1, population.size());
+		assertEquals(genotype(3), population.getGenotype(0));
+		assertEquals(new DoubleFitnessVector(1.0, 1.0), population.getFitness(0));
+	}
+}
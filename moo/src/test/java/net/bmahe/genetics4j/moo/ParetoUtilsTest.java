@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
@@ -60,4 +63,86 @@ public class ParetoUtilsTest {
 		assertNotNull(rankedPopulation);
 		assertEquals(5, rankedPopulation.size());
 	}
+
+	private static List<FitnessVector<Double>> randomFitnessVectors(final Random random, final int size,
+			final int numberObjectives) {
+		final List<FitnessVector<Double>> fitnessVectors = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final List<Double> values = new ArrayList<>(numberObjectives);
+			for (int m = 0; m < numberObjectives; m++) {
+				// Few distinct values so there are plenty of ties and duplicates
+				final int value = random.nextInt(6);
+				values.add(switch (value) {
+					case 0 -> Double.NaN;
+					case 1 -> -0.0d;
+					default -> (double) value;
+				});
+			}
+			fitnessVectors.add(new FitnessVector<>(values));
+		}
+		return fitnessVectors;
+	}
+
+	@Test
+	public void specializedRankingMatchesComparator() {
+		final Random random = new Random(42);
+
+		for (int run = 0; run < 80; run++) {
+			final int numberObjectives = 1 + run % 5;
+			final var fitnessScore = randomFitnessVectors(random, 1 + random.nextInt(300), numberObjectives);
+
+			final Comparator<FitnessVector<Double>> naturalOrder = Comparator.naturalOrder();
+			final Comparator<FitnessVector<Double>> naturalOrderLambda = (a, b) -> a.compareTo(b);
+			assertEquals(ParetoUtils.rankedPopulation(naturalOrderLambda, fitnessScore),
+					ParetoUtils.rankedPopulation(naturalOrder, fitnessScore));
+
+			final Comparator<FitnessVector<Double>> reverseOrder = Collections.reverseOrder();
+			final Comparator<FitnessVector<Double>> reverseOrderLambda = (a, b) -> b.compareTo(a);
+			assertEquals(ParetoUtils.rankedPopulation(reverseOrderLambda, fitnessScore),
+					ParetoUtils.rankedPopulation(reverseOrder, fitnessScore));
+		}
+	}
+
+	@Test
+	public void specializedRankingWithMixedObjectiveComparators() {
+		final Random random = new Random(42);
+		final List<Comparator<Integer>> comparators = List.of(Comparator.naturalOrder(),
+				Comparator.reverseOrder(),
+				Comparator.naturalOrder());
+
+		final List<FitnessVector<Integer>> fitnessScore = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			fitnessScore.add(new FitnessVector<>(
+					List.of(random.nextInt(10), random.nextInt(10), random.nextInt(10)),
+					comparators));
+		}
+
+		final Comparator<FitnessVector<Integer>> naturalOrder = Comparator.naturalOrder();
+		final Comparator<FitnessVector<Integer>> naturalOrderLambda = (a, b) -> a.compareTo(b);
+		assertEquals(ParetoUtils.rankedPopulation(naturalOrderLambda, fitnessScore),
+				ParetoUtils.rankedPopulation(naturalOrder, fitnessScore));
+	}
+
+	@Test
+	public void specializedRankingWithDoubleFitnessVector() {
+		final Random random = new Random(42);
+		final boolean[] maximize = { true, false, true };
+
+		final List<DoubleFitnessVector> fitnessScore = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			fitnessScore.add(new DoubleFitnessVector(
+					new double[] { random.nextInt(10), random.nextInt(10), random.nextInt(10) },
+					maximize));
+		}
+
+		final Comparator<DoubleFitnessVector> naturalOrder = Comparator.naturalOrder();
+		final Comparator<DoubleFitnessVector> naturalOrderLambda = (a, b) -> a.compareTo(b);
+		assertEquals(ParetoUtils.rankedPopulation(naturalOrderLambda, fitnessScore),
+				ParetoUtils.rankedPopulation(naturalOrder, fitnessScore));
+
+		final Comparator<DoubleFitnessVector> reverseOrder = Collections.reverseOrder();
+		final Comparator<DoubleFitnessVector> reverseOrderLambda = (a, b) -> b.compareTo(a);
+		assertEquals(ParetoUtils.rankedPopulation(reverseOrderLambda, fitnessScore),
+				ParetoUtils.rankedPopulation(reverseOrder, fitnessScore));
+	}
 }
\ No newline at end of file
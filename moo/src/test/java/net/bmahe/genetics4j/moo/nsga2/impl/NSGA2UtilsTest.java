@@ -1,7 +1,11 @@
 package net.bmahe.genetics4j.moo.nsga2.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,4 +34,57 @@ public class NSGA2UtilsTest {
 		logger.info("fitnessScore: {}", fitnessScore);
 		logger.info("CrowdingDistanceAssignment: {}", crowdingDistanceAssignment);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void distancesAreAssignedToTheSortedIndividuals() {
+		final List<FitnessVector<Integer>> fitnessScore = List.of(new FitnessVector<Integer>(2, 2),
+				new FitnessVector<Integer>(0, 4),
+				new FitnessVector<Integer>(4, 0),
+				new FitnessVector<Integer>(1, 3));
+
+		final double[] crowdingDistanceAssignment = NSGA2Utils.crowdingDistanceAssignment(2,
+				fitnessScore,
+				(m) -> Comparator.comparing(fitnessVector -> fitnessVector.get(m)),
+				(a, b, m) -> b.get(m) - a.get(m));
+
+		assertArrayEquals(new double[] { 1.5, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1.0 },
+				crowdingDistanceAssignment);
+	}
+
+	@Test
+	public void objectiveMatrixMatchesComparators() {
+		final Random random = new Random(42);
+
+		for (int run = 0; run < 40; run++) {
+			final int numberObjectives = 1 + run % 5;
+			final int populationSize = 1 + random.nextInt(200);
+
+			final List<FitnessVector<Double>> fitnessScore = new ArrayList<>(populationSize);
+			for (int i = 0; i < populationSize; i++) {
+				final List<Double> values = new ArrayList<>(numberObjectives);
+				for (int m = 0; m < numberObjectives; m++) {
+					// Few distinct values so there are plenty of ties
+					values.add((double) random.nextInt(8));
+				}
+				fitnessScore.add(new FitnessVector<>(values));
+			}
+
+			final double[][] objectives = NSGA2Utils
+					.objectiveMatrix(numberObjectives, fitnessScore, (fitnessVector, m) -> fitnessVector.get(m));
+
+			assertArrayEquals(
+					NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
+							fitnessScore,
+							(m) -> (a, b) -> Double.compare(a.get(m), b.get(m)),
+							(a, b, m) -> Math.abs(b.get(m) - a.get(m))),
+					NSGA2Utils.crowdingDistanceAssignment(objectives, false));
+
+			assertArrayEquals(
+					NSGA2Utils.crowdingDistanceAssignment(numberObjectives,
+							fitnessScore,
+							(m) -> (a, b) -> Double.compare(b.get(m), a.get(m)),
+							(a, b, m) -> Math.abs(b.get(m) - a.get(m))),
+					NSGA2Utils.crowdingDistanceAssignment(objectives, true));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KDTreeNeighborSearchTest {
+
+	private static double[][] randomCoordinates(final Random random, final int size, final int dimensions) {
+		final double[][] coordinates = new double[size][dimensions];
+		for (int i = 0; i < size; i++) {
+			for (int d = 0; d < dimensions; d++) {
+				// Few distinct values so there are plenty of ties and duplicates
+				coordinates[i][d] = random.nextInt(5) / 4.0d;
+			}
+		}
+		return coordinates;
+	}
+
+	private static double euclideanDistance(final double[] a, final double[] b) {
+		double sum = 0.0;
+		for (int d = 0; d < a.length; d++) {
+			sum += (b[d] - a[d]) * (b[d] - a[d]);
+		}
+		return Math.sqrt(sum);
+	}
+
+	@Test
+	public void ctorNoArg() {
+		assertThrows(NullPointerException.class, () -> new KDTreeNeighborSearch(null));
+		assertThrows(IllegalArgumentException.class, () -> new KDTreeNeighborSearch(new double[0][]));
+		assertThrows(IllegalArgumentException.class,
+				() -> new KDTreeNeighborSearch(new double[][] { { 1.0 }, { 1.0, 2.0 } }));
+	}
+
+	@Test
+	public void matchesBruteForce() {
+		final Random random = new Random(42);
+
+		for (int run = 0; run < 40; run++) {
+			final int size = 1 + random.nextInt(300);
+			final int dimensions = 1 + run % 5;
+			final double[][] coordinates = randomCoordinates(random, size, dimensions);
+
+			final var kdTreeNeighborSearch = new KDTreeNeighborSearch(coordinates);
+			final var bruteForceNeighborSearch = new BruteForceNeighborSearch(size,
+					(i, j) -> euclideanDistance(coordinates[i], coordinates[j]));
+			assertEquals(size, kdTreeNeighborSearch.size());
+
+			final boolean[] active = new boolean[size];
+			for (int i = 0; i < size; i++) {
+				active[i] = random.nextInt(4) > 0;
+			}
+
+			for (int i = 0; i < size; i++) {
+				final int k = 1 + random.nextInt(20);
+				for (final boolean[] eligible : new boolean[][] { null, active }) {
+					final int[] expectedNeighbors = new int[k];
+					final double[] expectedDistances = new double[k];
+					final int expectedCount = bruteForceNeighborSearch
+							.nearest(i, k, eligible, expectedNeighbors, expectedDistances);
+
+					final int[] neighbors = new int[k];
+					final double[] distances = new double[k];
+					final int count = kdTreeNeighborSearch.nearest(i, k, eligible, neighbors, distances);
+
+					assertEquals(expectedCount, count);
+					assertArrayEquals(Arrays.copyOf(expectedDistances, expectedCount), Arrays.copyOf(distances, count));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void neighborsAreSortedAndExcludeItself() {
+		final double[][] coordinates = { { 0.0, 0.0 }, { 3.0, 4.0 }, { 1.0, 0.0 }, { 0.0, 0.0 } };
+		final var kdTreeNeighborSearch = new KDTreeNeighborSearch(coordinates);
+
+		final int[] neighbors = new int[5];
+		final double[] distances = new double[5];
+		assertEquals(3, kdTreeNeighborSearch.nearest(0, 5, null, neighbors, distances));
+		assertArrayEquals(new int[] { 3, 2, 1 }, Arrays.copyOf(neighbors, 3));
+		assertArrayEquals(new double[] { 0.0, 1.0, 5.0 }, Arrays.copyOf(distances, 3));
+
+		assertEquals(1,
+				kdTreeNeighborSearch
+						.nearest(0, 5, new boolean[] { true, true, false, false }, neighbors, distances));
+		assertEquals(1, neighbors[0]);
+		assertEquals(5.0, distances[0]);
+	}
+}
@@ -0,0 +1,66 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.core.spec.EAConfiguration;
+import net.bmahe.genetics4j.core.spec.chromosome.IntChromosomeSpec;
+import net.bmahe.genetics4j.core.spec.combination.SinglePointCrossover;
+import net.bmahe.genetics4j.core.spec.selection.Tournament;
+import net.bmahe.genetics4j.core.termination.Terminations;
+import net.bmahe.genetics4j.moo.FitnessVector;
+import net.bmahe.genetics4j.moo.spea2.spec.replacement.ImmutableSPEA2Replacement;
+import net.bmahe.genetics4j.moo.spea2.spec.replacement.SPEA2Replacement;
+
+public class SPEA2ReplacementStrategyImplementorTest {
+
+	@Test
+	public void userSuppliedDistanceIsHonored() {
+		final Random random = new Random(42);
+
+		final List<Genotype> genotypes = new ArrayList<>();
+		final List<FitnessVector<Double>> fitnesses = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			genotypes.add(new Genotype(new IntChromosome(1, 0, 100, new int[] { i })));
+			final double angle = random.nextDouble() * Math.PI / 2.0;
+			fitnesses.add(new FitnessVector<>(Math.cos(angle), Math.sin(angle)));
+		}
+
+		final AtomicLong distanceCalls = new AtomicLong();
+		final SPEA2Replacement<FitnessVector<Double>> spea2Replacement = ImmutableSPEA2Replacement
+				.copyOf(SPEA2Replacement.<Double>ofFitnessVector())
+				.withDistance((a, b) -> {
+					distanceCalls.incrementAndGet();
+					return Math.abs(a.get(0) - b.get(0));
+				});
+
+		final var eaConfiguration = new EAConfiguration.Builder<FitnessVector<Double>>()
+				.chromosomeSpecs(IntChromosomeSpec.of(1, 0, 100))
+				.parentSelectionPolicy(Tournament.of(2))
+				.combinationPolicy(SinglePointCrossover.build())
+				.fitness(genotype -> new FitnessVector<>(0.0, 0.0))
+				.termination(Terminations.ofMaxGeneration(1))
+				.build();
+
+		final Population<FitnessVector<Double>> selected = new SPEA2ReplacementStrategyImplementor<>(spea2Replacement)
+				.select(eaConfiguration,
+						10,
+						genotypes.subList(0, 20),
+						fitnesses.subList(0, 20),
+						genotypes.subList(20, 40),
+						fitnesses.subList(20, 40));
+
+		assertEquals(10, selected.size());
+		assertTrue(distanceCalls.get() > 0, "The distance of the specification should be used");
+	}
+}
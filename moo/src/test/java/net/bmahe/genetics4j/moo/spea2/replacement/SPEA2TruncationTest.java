@@ -0,0 +1,108 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class SPEA2TruncationTest {
+
+	private static double euclideanDistance(final double[] a, final double[] b) {
+		double sum = 0.0;
+		for (int d = 0; d < a.length; d++) {
+			sum += (b[d] - a[d]) * (b[d] - a[d]);
+		}
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Reference truncation, sorting the distances to every selected individual at
+	 * each step
+	 */
+	private static Set<Integer> naiveTruncate(final double[][] coordinates, final Set<Integer> selectedIndex,
+			final int numIndividuals) {
+		final Set<Integer> selected = new TreeSet<>(selectedIndex);
+
+		while (selected.size() > numIndividuals) {
+			int minIndex = -1;
+			List<Double> minDistances = null;
+
+			for (final int candidate : selected) {
+				final List<Double> distances = new ArrayList<>();
+				for (final int other : selected) {
+					distances.add(euclideanDistance(coordinates[candidate], coordinates[other]));
+				}
+				distances.sort(Double::compare);
+
+				int comparison = 0;
+				for (int i = 0; minDistances != null && comparison == 0 && i < distances.size(); i++) {
+					comparison = Double.compare(distances.get(i), minDistances.get(i));
+				}
+
+				if (minDistances == null || comparison < 0) {
+					minIndex = candidate;
+					minDistances = distances;
+				}
+			}
+
+			selected.remove(minIndex);
+		}
+
+		return selected;
+	}
+
+	@Test
+	public void matchesNaiveTruncation() {
+		final Random random = new Random(42);
+
+		for (int run = 0; run < 30; run++) {
+			final int size = 2 + random.nextInt(120);
+			final int dimensions = 1 + run % 4;
+
+			final double[][] coordinates = new double[size][dimensions];
+			for (int i = 0; i < size; i++) {
+				for (int d = 0; d < dimensions; d++) {
+					// Mix of duplicates and distinct values to exercise the tie breaks
+					coordinates[i][d] = run % 2 == 0 ? random.nextInt(6) : random.nextDouble();
+				}
+			}
+
+			final Set<Integer> selectedIndex = new HashSet<>();
+			for (int i = 0; i < size; i++) {
+				if (random.nextInt(5) > 0) {
+					selectedIndex.add(i);
+				}
+			}
+			if (selectedIndex.size() < 2) {
+				continue;
+			}
+			final int numIndividuals = 1 + random.nextInt(selectedIndex.size() - 1);
+
+			final Set<Integer> expected = naiveTruncate(coordinates, selectedIndex, numIndividuals);
+
+			final Set<Integer> kdTreeSelected = new HashSet<>(selectedIndex);
+			SPEA2Truncation.truncate(new KDTreeNeighborSearch(coordinates), kdTreeSelected, numIndividuals);
+			assertEquals(expected, kdTreeSelected);
+
+			final Set<Integer> bruteForceSelected = new HashSet<>(selectedIndex);
+			SPEA2Truncation.truncate(new BruteForceNeighborSearch(size,
+					(i, j) -> euclideanDistance(coordinates[i], coordinates[j])), bruteForceSelected, numIndividuals);
+			assertEquals(expected, bruteForceSelected);
+		}
+	}
+
+	@Test
+	public void nothingToTruncate() {
+		final double[][] coordinates = { { 0.0 }, { 1.0 }, { 2.0 } };
+		final Set<Integer> selectedIndex = new HashSet<>(Set.of(0, 2));
+
+		SPEA2Truncation.truncate(new KDTreeNeighborSearch(coordinates), selectedIndex, 2);
+		assertEquals(Set.of(0, 2), selectedIndex);
+	}
+}
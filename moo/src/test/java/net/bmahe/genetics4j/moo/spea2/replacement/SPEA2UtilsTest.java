@@ -0,0 +1,155 @@
+package net.bmahe.genetics4j.moo.spea2.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.Genotype;
+import net.bmahe.genetics4j.core.Population;
+import net.bmahe.genetics4j.core.chromosomes.IntChromosome;
+import net.bmahe.genetics4j.moo.FitnessVector;
+
+public class SPEA2UtilsTest {
+
+	private final ExecutorService executorService = ForkJoinPool.commonPool();
+
+	@Test
+	public void strengthRawFitnessNoArg() {
+		final Comparator<FitnessVector<Integer>> dominance = Comparator.naturalOrder();
+		final List<FitnessVector<Integer>> fitnesses = List.of(new FitnessVector<>(1, 2));
+
+		assertThrows(NullPointerException.class, () -> SPEA2Utils.strengthRawFitness(null, fitnesses, executorService));
+		assertThrows(NullPointerException.class, () -> SPEA2Utils.strengthRawFitness(dominance, null, executorService));
+		assertThrows(IllegalArgumentException.class,
+				() -> SPEA2Utils.strengthRawFitness(dominance, List.of(), executorService));
+		assertThrows(NullPointerException.class, () -> SPEA2Utils.strengthRawFitness(dominance, fitnesses, null));
+	}
+
+	@Test
+	public void simple() {
+		final Comparator<FitnessVector<Integer>> dominance = Comparator.naturalOrder();
+		final List<FitnessVector<Integer>> fitnesses = List.of(new FitnessVector<>(3, 3),
+				new FitnessVector<>(2, 2),
+				new FitnessVector<>(1, 1),
+				new FitnessVector<>(0, 4));
+
+		final StrengthRawFitness strengthRawFitness = SPEA2Utils
+				.strengthRawFitness(dominance, fitnesses, executorService);
+
+		assertArrayEquals(new double[] { 2, 1, 0, 0 }, strengthRawFitness.strengths());
+		assertArrayEquals(new double[] { 0, 2, 3, 0 }, strengthRawFitness.rawFitness());
+	}
+
+	@Test
+	public void bitsetAndBlockedPassesMatchNaive() {
+		final Random random = new Random(42);
+		final Comparator<FitnessVector<Integer>> dominance = Comparator.naturalOrder();
+
+		for (int run = 0; run < 20; run++) {
+			final int size = 1 + random.nextInt(2_500);
+
+			final List<FitnessVector<Integer>> fitnesses = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				fitnesses.add(new FitnessVector<>(random.nextInt(10), random.nextInt(10), random.nextInt(10)));
+			}
+
+			final double[] expectedStrengths = new double[size];
+			final double[] expectedRawFitness = new double[size];
+			for (int i = 0; i < size; i++) {
+				for (int j = 0; j < size; j++) {
+					if (dominance.compare(fitnesses.get(i), fitnesses.get(j)) > 0) {
+						expectedStrengths[i]++;
+					}
+				}
+			}
+			for (int i = 0; i < size; i++) {
+				for (int j = 0; j < size; j++) {
+					if (i != j && dominance.compare(fitnesses.get(i), fitnesses.get(j)) < 0) {
+						expectedRawFitness[i] += expectedStrengths[j];
+					}
+				}
+			}
+
+			final StrengthRawFitness bitset = SPEA2Utils.strengthRawFitness(dominance, fitnesses, executorService);
+			assertArrayEquals(expectedStrengths, bitset.strengths());
+			assertArrayEquals(expectedRawFitness, bitset.rawFitness());
+
+			final StrengthRawFitness blocked = SPEA2Utils.strengthRawFitness(dominance, fitnesses, executorService, 0);
+			assertArrayEquals(expectedStrengths, blocked.strengths());
+			assertArrayEquals(expectedRawFitness, blocked.rawFitness());
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void strengthAndRawFitnessMatchStrengthRawFitness() {
+		final Random random = new Random(42);
+		final Comparator<FitnessVector<Integer>> dominance = Comparator.naturalOrder();
+		final int size = 200;
+
+		final Population<FitnessVector<Integer>> population = new Population<>();
+		for (int i = 0; i < size; i++) {
+			population.add(new Genotype(new IntChromosome(1, 0, 10, new int[] { i })),
+					new FitnessVector<>(random.nextInt(10), random.nextInt(10), random.nextInt(10)));
+		}
+
+		final StrengthRawFitness strengthRawFitness = SPEA2Utils
+				.strengthRawFitness(dominance, population.getAllFitnesses(), executorService);
+
+		final double[] strengths = new double[size];
+		for (int i = 0; i < size; i++) {
+			strengths[i] = SPEA2Utils.strength(dominance, i, population.getFitness(i), population);
+		}
+		assertArrayEquals(strengthRawFitness.strengths(), strengths);
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(strengthRawFitness.rawFitness()[i],
+					SPEA2Utils.rawFitness(dominance, strengths, i, population.getFitness(i), population));
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void kthDistancesMatchesSortedDistances() {
+		final Random random = new Random(42);
+		final int size = 50;
+
+		final Population<FitnessVector<Integer>> population = new Population<>();
+		for (int i = 0; i < size; i++) {
+			population.add(new Genotype(new IntChromosome(1, 0, 10, new int[] { i })), new FitnessVector<>(i));
+		}
+
+		// Few distinct distances, so ties do occur
+		final double[][] distanceObjectives = new double[size][size];
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < size; j++) {
+				distanceObjectives[i][j] = i == j ? 0.0 : random.nextInt(10);
+			}
+		}
+
+		for (int index = 0; index < size; index++) {
+			final double[] distances = distanceObjectives[index];
+			final List<Pair<Integer, Double>> expected = IntStream.range(0, size)
+					.boxed()
+					.sorted((a, b) -> Double.compare(distances[a], distances[b]))
+					.map(i -> ImmutablePair.of(i, distances[i]))
+					.collect(Collectors.toList());
+
+			assertEquals(expected,
+					SPEA2Utils.kthDistances(distanceObjectives, index, population.getFitness(index), population));
+		}
+	}
+}
@@ -6,6 +6,8 @@ import org.apache.commons.lang3.Validate;
 
 import net.bmahe.genetics4j.core.chromosomes.factory.ChromosomeFactoryProvider;
 import net.bmahe.genetics4j.core.chromosomes.factory.ImmutableChromosomeFactoryProvider;
+import net.bmahe.genetics4j.core.spec.AbstractEAExecutionContext;
+import net.bmahe.genetics4j.core.spec.EAExecutionContext;
 import net.bmahe.genetics4j.core.spec.EAExecutionContexts;
 import net.bmahe.genetics4j.core.spec.ImmutableEAExecutionContext.Builder;
 import net.bmahe.genetics4j.neat.chromosomes.factory.NeatConnectedChromosomeFactory;
@@ -106,6 +108,20 @@ public class NeatEAExecutionContexts {
 	private NeatEAExecutionContexts() {
 	}
 
+	/**
+	 * Innovation numbers are assigned in the order structural mutations happen. Offspring partitions would mutate
+	 * concurrently and make them depend on thread scheduling, so they are rejected.
+	 */
+	private static <T extends Comparable<T>> InnovationManager innovationManager(
+			final AbstractEAExecutionContext<T> eaExecutionContext, final InnovationManager innovationManager) {
+		if (eaExecutionContext instanceof EAExecutionContext<T> executionContext) {
+			Validate.isTrue(executionContext.numberOfOffspringPartitions() < 2,
+					"NEAT does not support offspring partitions as innovation numbers would depend on thread scheduling");
+		}
+
+		return innovationManager;
+	}
+
 	/**
 	 * Enriches an existing EA execution context builder with standard NEAT components.
 	 * 
@@ -140,6 +156,9 @@ public class NeatEAExecutionContexts {
 	 * necessary genetic operators and handlers. This is useful when you need custom innovation
 	 * tracking, species management, or initial network topology generation.
 	 * 
+	 * <p>Offspring partitions are not supported: building an execution context with more than one offspring partition
+	 * fails with an {@link IllegalArgumentException}.
+	 * 
 	 * @param <T> the fitness value type
 	 * @param builder the execution context builder to enrich
 	 * @param innovationManager custom innovation manager for structural mutation tracking
@@ -170,9 +189,10 @@ public class NeatEAExecutionContexts {
 						ec -> new NeatChromosomeSwitchStateHandler(ec.randomGenerator()),
 						ec -> new NeatChromosomeCreepMutationHandler(ec.randomGenerator()),
 						ec -> new NeatChromosomeRandomMutationHandler(ec.randomGenerator()),
-						ec -> new NeatChromosomeAddNodeMutationHandler(ec.randomGenerator(), innovationManager),
+						ec -> new NeatChromosomeAddNodeMutationHandler(ec.randomGenerator(),
+								innovationManager(ec, innovationManager)),
 						ec -> new NeatChromosomeDeleteNodeMutationHandler(ec.randomGenerator()),
-						ec -> new NeatChromosomeAddConnection(ec.randomGenerator(), innovationManager),
+						ec -> new NeatChromosomeAddConnection(ec.randomGenerator(), innovationManager(ec, innovationManager)),
 						ec -> new NeatChromosomeDeleteConnection(ec.randomGenerator()),
 						ec -> new NeatChromosomeConnectionWeightMutationHandler(ec.randomGenerator()));
 
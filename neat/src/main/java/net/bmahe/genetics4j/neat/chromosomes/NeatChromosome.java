@@ -122,6 +122,8 @@ public class NeatChromosome implements Chromosome {
 	private final float maxWeightValue;
 	private final List<Connection> connections;
 
+	private final int hashCode;
+
 	/**
 	 * Constructs a new NEAT chromosome with the specified network topology and parameters.
 	 * 
@@ -159,6 +161,7 @@ public class NeatChromosome implements Chromosome {
 		final List<Connection> copyOfConnections = new ArrayList<>(_connections);
 		Collections.sort(copyOfConnections, Comparator.comparing(Connection::innovation));
 		this.connections = Collections.unmodifiableList(copyOfConnections);
+		this.hashCode = computeHashCode();
 	}
 
 	/**
@@ -301,9 +304,13 @@ public class NeatChromosome implements Chromosome {
 				.collect(Collectors.toSet());
 	}
 
+	private int computeHashCode() {
+		return Objects.hash(connections, maxWeightValue, minWeightValue, numInputs, numOutputs);
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(connections, maxWeightValue, minWeightValue, numInputs, numOutputs);
+		return hashCode;
 	}
 
 	@Override
@@ -315,6 +322,8 @@ public class NeatChromosome implements Chromosome {
 		if (getClass() != obj.getClass())
 			return false;
 		NeatChromosome other = (NeatChromosome) obj;
+		if (hashCode != other.hashCode)
+			return false;
 		return Objects.equals(connections, other.connections)
 				&& Float.floatToIntBits(maxWeightValue) == Float.floatToIntBits(other.maxWeightValue)
 				&& Float.floatToIntBits(minWeightValue) == Float.floatToIntBits(other.minWeightValue)
@@ -0,0 +1,103 @@
+package net.bmahe.genetics4j.neat.chromosomes.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.Validate;
+
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodec;
+import net.bmahe.genetics4j.core.chromosomes.codec.VarInts;
+import net.bmahe.genetics4j.core.spec.chromosome.ChromosomeSpec;
+import net.bmahe.genetics4j.neat.Connection;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+import net.bmahe.genetics4j.neat.spec.NeatChromosomeSpec;
+
+/**
+ * Encodes the connections of NEAT chromosomes
+ * <p>
+ * Connections are sorted by innovation number within a chromosome, so each innovation is written as a variable length
+ * delta from the previous one, combined with the enabled flag. Node indices are written as variable length integers
+ * and weights in their IEEE 754 representation.
+ */
+public class NeatChromosomeCodec implements ChromosomeCodec<NeatChromosome> {
+
+	private static final int MAX_CONNECTION_SIZE = 3 * VarInts.MAX_VAR_INT_SIZE + Float.BYTES;
+
+	@Override
+	public boolean canHandle(final ChromosomeSpec chromosomeSpec) {
+		Validate.notNull(chromosomeSpec);
+
+		return chromosomeSpec instanceof NeatChromosomeSpec;
+	}
+
+	@Override
+	public int maxEncodedSize(final ChromosomeSpec chromosomeSpec, final NeatChromosome chromosome) {
+		Validate.isInstanceOf(NeatChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+
+		final int numConnections = chromosome.getConnections()
+				.size();
+		return VarInts.sizeOfVarInt(numConnections) + numConnections * MAX_CONNECTION_SIZE;
+	}
+
+	@Override
+	public void encode(final ChromosomeSpec chromosomeSpec, final NeatChromosome chromosome,
+			final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(NeatChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(chromosome);
+		Validate.notNull(byteBuffer);
+
+		final NeatChromosomeSpec neatChromosomeSpec = (NeatChromosomeSpec) chromosomeSpec;
+		Validate.isTrue(chromosome.getNumInputs() == neatChromosomeSpec.numInputs());
+		Validate.isTrue(chromosome.getNumOutputs() == neatChromosomeSpec.numOutputs());
+		Validate.isTrue(chromosome.getMinWeightValue() == neatChromosomeSpec.minWeightValue());
+		Validate.isTrue(chromosome.getMaxWeightValue() == neatChromosomeSpec.maxWeightValue());
+
+		final List<Connection> connections = chromosome.getConnections();
+		VarInts.putVarInt(byteBuffer, connections.size());
+
+		int previousInnovation = 0;
+		for (final Connection connection : connections) {
+			final int innovationDelta = connection.innovation() - previousInnovation;
+			previousInnovation = connection.innovation();
+
+			VarInts.putVarInt(byteBuffer, (innovationDelta << 1) | (connection.isEnabled() ? 1 : 0));
+			VarInts.putVarInt(byteBuffer, connection.fromNodeIndex());
+			VarInts.putVarInt(byteBuffer, connection.toNodeIndex());
+			byteBuffer.putFloat(connection.weight());
+		}
+	}
+
+	@Override
+	public NeatChromosome decode(final ChromosomeSpec chromosomeSpec, final ByteBuffer byteBuffer) {
+		Validate.isInstanceOf(NeatChromosomeSpec.class, chromosomeSpec);
+		Validate.notNull(byteBuffer);
+
+		final NeatChromosomeSpec neatChromosomeSpec = (NeatChromosomeSpec) chromosomeSpec;
+
+		final int numConnections = VarInts.getVarInt(byteBuffer);
+		if (numConnections < 0 || numConnections > byteBuffer.remaining()) {
+			throw new IllegalArgumentException("Invalid number of connections " + numConnections);
+		}
+
+		final List<Connection> connections = new ArrayList<>(numConnections);
+		int innovation = 0;
+		for (int i = 0; i < numConnections; i++) {
+			final int innovationAndEnabled = VarInts.getVarInt(byteBuffer);
+			innovation += innovationAndEnabled >>> 1;
+
+			final int fromNodeIndex = VarInts.getVarInt(byteBuffer);
+			final int toNodeIndex = VarInts.getVarInt(byteBuffer);
+			final float weight = byteBuffer.getFloat();
+
+			connections.add(Connection.of(fromNodeIndex, toNodeIndex, weight, (innovationAndEnabled & 1) == 1, innovation));
+		}
+
+		return new NeatChromosome(neatChromosomeSpec.numInputs(),
+				neatChromosomeSpec.numOutputs(),
+				neatChromosomeSpec.minWeightValue(),
+				neatChromosomeSpec.maxWeightValue(),
+				connections);
+	}
+}
@@ -1,6 +1,7 @@
 package net.bmahe.genetics4j.neat;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -39,4 +40,18 @@ public class NeatEAExecutionContextsTest {
 
 		validate(eaExecutionContext);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void offspringPartitionsAreRejected() {
+		final EAExecutionContext<Integer> sequentialContext = NeatEAExecutionContexts.<Integer>standard()
+				.build();
+		for (final var factory : sequentialContext.chromosomeMutationPolicyHandlerFactories()) {
+			assertNotNull(factory.apply(sequentialContext));
+		}
+
+		assertThrows(IllegalArgumentException.class,
+				() -> NeatEAExecutionContexts.<Integer>standard()
+						.numberOfOffspringPartitions(2)
+						.build());
+	}
+}
@@ -0,0 +1,90 @@
+package net.bmahe.genetics4j.neat.chromosomes.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.bmahe.genetics4j.core.chromosomes.codec.ChromosomeCodecProvider;
+import net.bmahe.genetics4j.core.spec.chromosome.DoubleChromosomeSpec;
+import net.bmahe.genetics4j.neat.Connection;
+import net.bmahe.genetics4j.neat.InnovationManager;
+import net.bmahe.genetics4j.neat.chromosomes.NeatChromosome;
+import net.bmahe.genetics4j.neat.chromosomes.factory.NeatConnectedChromosomeFactory;
+import net.bmahe.genetics4j.neat.spec.NeatChromosomeSpec;
+
+public class NeatChromosomeCodecTest {
+
+	private static NeatChromosome roundTrip(final NeatChromosomeCodec codec, final NeatChromosomeSpec spec,
+			final NeatChromosome chromosome) {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(codec.maxEncodedSize(spec, chromosome));
+		codec.encode(spec, chromosome, byteBuffer);
+		byteBuffer.flip();
+
+		final NeatChromosome decoded = codec.decode(spec, byteBuffer);
+		assertFalse(byteBuffer.hasRemaining());
+		return decoded;
+	}
+
+	@Test
+	public void canHandle() {
+		final NeatChromosomeCodec codec = new NeatChromosomeCodec();
+		final NeatChromosomeSpec spec = NeatChromosomeSpec.of(3, 2, -5, 5);
+
+		assertThrows(NullPointerException.class, () -> codec.canHandle(null));
+		assertTrue(codec.canHandle(spec));
+		assertFalse(codec.canHandle(DoubleChromosomeSpec.of(10, 0, 10)));
+
+		assertTrue(ChromosomeCodecProvider.load()
+				.provideChromosomeCodec(spec) instanceof NeatChromosomeCodec);
+	}
+
+	@Test
+	public void roundTrip() {
+		final NeatChromosomeCodec codec = new NeatChromosomeCodec();
+		final NeatChromosomeSpec spec = NeatChromosomeSpec.of(3, 2, -5, 5);
+
+		final List<Connection> connections = List.of(Connection.of(0, 3, 1.5f, true, 0),
+				Connection.of(1, 4, -2.25f, false, 1),
+				Connection.of(2, 300, 4.0f, true, 7),
+				Connection.of(300, 3, -0.5f, true, 1_000_000));
+		final NeatChromosome chromosome = new NeatChromosome(3, 2, -5, 5, connections);
+
+		final NeatChromosome decoded = roundTrip(codec, spec, chromosome);
+		assertEquals(chromosome, decoded);
+		assertEquals(chromosome.getConnections(), decoded.getConnections());
+
+		final NeatChromosome empty = new NeatChromosome(3, 2, -5, 5, List.of());
+		assertEquals(empty, roundTrip(codec, spec, empty));
+	}
+
+	@Test
+	public void roundTripGenerated() {
+		final NeatChromosomeCodec codec = new NeatChromosomeCodec();
+		final NeatChromosomeSpec spec = NeatChromosomeSpec.of(10, 4, -5, 5);
+
+		final var neatConnectedChromosomeFactory = new NeatConnectedChromosomeFactory(new Random(42),
+				new InnovationManager());
+		for (int i = 0; i < 20; i++) {
+			final NeatChromosome chromosome = neatConnectedChromosomeFactory.generate(spec);
+			assertEquals(chromosome, roundTrip(codec, spec, chromosome));
+		}
+	}
+
+	@Test
+	public void mismatchingSpec() {
+		final NeatChromosomeCodec codec = new NeatChromosomeCodec();
+		final NeatChromosome chromosome = new NeatChromosome(3, 2, -5, 5, List.of());
+
+		assertThrows(IllegalArgumentException.class,
+				() -> codec.encode(NeatChromosomeSpec.of(4, 2, -5, 5), chromosome, ByteBuffer.allocate(64)));
+		assertThrows(IllegalArgumentException.class,
+				() -> codec.encode(DoubleChromosomeSpec.of(10, 0, 10), chromosome, ByteBuffer.allocate(64)));
+	}
+}